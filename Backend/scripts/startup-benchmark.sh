@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Startup benchmark: time until the first successful GET /api/health and
+# resident memory once idle, for the plain boot jar and the faststart mode
+# (AOT context + AppCDS archive + lazy non-critical beans).
+#
+# Usage (from Backend/):
+#   ./gradlew bootJar cdsArchive -Pfaststart
+#   DATABASE_URL=jdbc:postgresql://localhost:5432/postgres?user=postgres scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${BENCH_PORT:-18080}
+IDLE_SECONDS=${IDLE_SECONDS:-5}
+JAVA=${JAVA:-java}
+JAR_NAME=backend-0.0.1-SNAPSHOT.jar
+cd "$(dirname "$0")/.."
+
+if [ -z "${DATABASE_URL:-}" ]; then
+    echo "DATABASE_URL must point at a reachable Postgres" >&2
+    exit 1
+fi
+if [ ! -f build/faststart/app.jsa ]; then
+    echo "Missing build/faststart/app.jsa, run ./gradlew bootJar cdsArchive -Pfaststart first" >&2
+    exit 1
+fi
+
+now_ms() { date +%s%3N; }
+
+# Prints "<ms to first healthy response> <idle RSS in MB>"
+measure() {
+    local dir=$1; shift
+    local start pid ready rss
+    start=$(now_ms)
+    (cd "$dir" && exec env PORT="$PORT" "$JAVA" "$@" > /dev/null 2>&1) &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/api/health" > /dev/null 2>&1; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "backend exited before becoming healthy" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    ready=$(( $(now_ms) - start ))
+    sleep "$IDLE_SECONDS"
+    rss=$(awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$ready $rss"
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'; }
+
+report() {
+    local name=$1; shift
+    local dir=$1; shift
+    local times="" mems=""
+    for _ in $(seq "$RUNS"); do
+        read -r t m < <(measure "$dir" "$@")
+        times+="$t"$'\n'
+        mems+="$m"$'\n'
+    done
+    printf "%-10s first /api/health: %6s ms   idle RSS: %5s MB   (median of %d)\n" \
+        "$name" "$(printf '%s' "$times" | median)" "$(printf '%s' "$mems" | median)" "$RUNS"
+}
+
+report default build/libs -jar "$JAR_NAME"
+report faststart build/faststart \
+    -XX:SharedArchiveFile=app.jsa -Xlog:cds=off -Xlog:cds+dynamic=off \
+    -Dspring.aot.enabled=true -Dspring.profiles.active=faststart -jar "$JAR_NAME"
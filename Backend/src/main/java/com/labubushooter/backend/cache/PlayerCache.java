@@ -0,0 +1,129 @@
+package com.labubushooter.backend.cache;
+
+import com.labubushooter.backend.model.Player;
+import com.labubushooter.backend.sync.PlayerChangeListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local read-through cache of players by id.
+ *
+ * Each entry remembers the highest version seen for that player. An
+ * invalidation records a version floor for the player so that a slower
+ * database read of an older row, or a reordered older notification, can never
+ * overwrite newer knowledge.
+ *
+ * Floors live in their own map and are only dropped once they are older than
+ * the floor TTL, which is far longer than any database read. Evicting cached
+ * players to respect {@code maxEntries} therefore never forgets a floor.
+ */
+@Component
+public class PlayerCache implements PlayerChangeListener {
+
+    private static final long DEFAULT_FLOOR_TTL_MS = 60_000L;
+
+    private static final class Entry {
+        final Player player;
+        final long version;
+
+        Entry(Player player, long version) {
+            this.player = player;
+            this.version = version;
+        }
+    }
+
+    private static final class Floor {
+        final long version;
+        final long recordedAt;
+
+        Floor(long version, long recordedAt) {
+            this.version = version;
+            this.recordedAt = recordedAt;
+        }
+    }
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Floor> floors = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long floorTtlNanos;
+    private volatile long nextFloorSweep;
+
+    public PlayerCache(int maxEntries) {
+        this(maxEntries, DEFAULT_FLOOR_TTL_MS);
+    }
+
+    @Autowired
+    public PlayerCache(@Value("${playercache.max-entries:10000}") int maxEntries,
+                       @Value("${playercache.floor-ttl-ms:60000}") long floorTtlMs) {
+        this.maxEntries = maxEntries;
+        this.floorTtlNanos = TimeUnit.MILLISECONDS.toNanos(floorTtlMs);
+        this.nextFloorSweep = System.nanoTime();
+    }
+
+    public Optional<Player> get(UUID playerId) {
+        Entry entry = entries.get(playerId);
+        return entry != null ? Optional.ofNullable(entry.player) : Optional.empty();
+    }
+
+    public void put(Player player) {
+        if (player.getPlayerId() == null || player.getVersion() == null) {
+            return;
+        }
+        long version = player.getVersion();
+        Floor floor = floors.get(player.getPlayerId());
+        if (floor != null && floor.version > version) {
+            return;
+        }
+        entries.compute(player.getPlayerId(), (id, current) ->
+                current != null && current.version > version ? current : new Entry(player, version));
+        trim();
+    }
+
+    @Override
+    public void onPlayerChanged(UUID playerId, long version) {
+        long now = System.nanoTime();
+        floors.compute(playerId, (id, current) ->
+                current != null && current.version >= version ? current : new Floor(version, now));
+        entries.computeIfPresent(playerId, (id, current) -> current.version < version ? null : current);
+        if (floors.size() > maxEntries && now - nextFloorSweep >= 0) {
+            expireFloors(now);
+        }
+    }
+
+    @Override
+    public void onResync() {
+        entries.clear();
+        floors.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext() && entries.size() > maxEntries) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /**
+     * Drops floors past the TTL. Sweeps at most a few times per TTL, so a
+     * burst of invalidations does not rescan the map on every call.
+     */
+    private void expireFloors(long now) {
+        nextFloorSweep = now + floorTtlNanos / 4;
+        floors.values().removeIf(floor -> now - floor.recordedAt >= floorTtlNanos);
+    }
+}
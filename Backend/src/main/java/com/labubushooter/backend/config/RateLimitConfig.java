@@ -0,0 +1,61 @@
+package com.labubushooter.backend.config;
+
+import com.labubushooter.backend.ratelimit.RateLimitInterceptor;
+import com.labubushooter.backend.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableScheduling
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    @Value("${ratelimit.player.capacity:10}")
+    private int playerCapacity;
+
+    @Value("${ratelimit.player.refill-per-second:1}")
+    private double playerRefillPerSecond;
+
+    @Value("${ratelimit.ip.capacity:30}")
+    private int ipCapacity;
+
+    @Value("${ratelimit.ip.refill-per-second:5}")
+    private double ipRefillPerSecond;
+
+    @Value("${ratelimit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${ratelimit.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Bean
+    public RateLimiter playerRateLimiter() {
+        return new RateLimiter("player", playerCapacity, playerRefillPerSecond, maxKeys, idleTimeoutMs);
+    }
+
+    @Bean
+    public RateLimiter ipRateLimiter() {
+        return new RateLimiter("ip", ipCapacity, ipRefillPerSecond, maxKeys, idleTimeoutMs);
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor() {
+        return new RateLimitInterceptor(playerRateLimiter(), ipRateLimiter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor())
+                .addPathPatterns("/api/players/login", "/api/players/*/progress", "/api/players/*/reset");
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        playerRateLimiter().evictIdle();
+        ipRateLimiter().evictIdle();
+    }
+}
@@ -0,0 +1,23 @@
+package com.labubushooter.backend.config;
+
+import com.labubushooter.backend.controller.HealthController;
+import com.labubushooter.backend.controller.PlayerController;
+import com.labubushooter.backend.sync.PlayerInvalidationBus;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With the faststart profile everything is lazy except what the first
+     * login needs (the controllers pull in the service, JPA and the pool) and
+     * the invalidation listener, which must be running before any request.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter criticalBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                HealthController.class, PlayerController.class, PlayerInvalidationBus.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.labubushooter.backend.controller;
+
+import com.labubushooter.backend.ratelimit.RateLimitInterceptor;
+import com.labubushooter.backend.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private List<RateLimiter> rateLimiters;
+
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @GetMapping("/rate-limit")
+    public Map<String, Object> rateLimit() {
+        Map<String, Object> response = new HashMap<>();
+        for (RateLimiter limiter : rateLimiters) {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("allowed", limiter.getAllowedCount());
+            stats.put("limited", limiter.getLimitedCount());
+            stats.put("evicted", limiter.getEvictedCount());
+            stats.put("trackedKeys", limiter.getTrackedKeys());
+            response.put(limiter.getName(), stats);
+        }
+        response.put("limitedByRoute", rateLimitInterceptor.getLimitedByRoute());
+        return response;
+    }
+}
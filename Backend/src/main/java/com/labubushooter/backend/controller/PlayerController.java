@@ -26,6 +26,12 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.getAllPlayers());
     }
 
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<Player>> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        int clamped = Math.max(1, Math.min(limit, 100));
+        return ResponseEntity.ok(playerService.getLeaderboard(clamped));
+    }
+
     @GetMapping("/{playerId}")
     public ResponseEntity<?> getPlayerById(@PathVariable UUID playerId) {
         Optional<Player> player = playerService.getPlayerById(playerId);
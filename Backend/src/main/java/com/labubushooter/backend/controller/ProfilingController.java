@@ -0,0 +1,97 @@
+package com.labubushooter.backend.controller;
+
+import com.labubushooter.backend.profiling.JfrRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+/**
+ * Start/stop/dump of an on-demand JFR recording. Disabled unless
+ * {@code profiling.token} is set; callers must send it as
+ * {@code X-Profiling-Token}.
+ */
+@RestController
+@RequestMapping("/api/profiling/recording")
+public class ProfilingController {
+
+    @Autowired
+    private JfrRecorder jfrRecorder;
+
+    @Value("${profiling.token:}")
+    private String token;
+
+    @GetMapping
+    public ResponseEntity<?> status(@RequestHeader(value = "X-Profiling-Token", required = false) String auth) {
+        if (!authorized(auth)) return forbidden();
+        return ResponseEntity.ok(jfrRecorder.status());
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<?> start(
+            @RequestHeader(value = "X-Profiling-Token", required = false) String auth,
+            @RequestParam(defaultValue = "default") String settings,
+            @RequestParam(defaultValue = "600") long maxAgeSeconds) {
+        if (!authorized(auth)) return forbidden();
+        try {
+            return ResponseEntity.ok(jfrRecorder.start(settings, Duration.ofSeconds(maxAgeSeconds)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<?> stop(@RequestHeader(value = "X-Profiling-Token", required = false) String auth) {
+        if (!authorized(auth)) return forbidden();
+        try {
+            return ResponseEntity.ok(jfrRecorder.stop());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/dump")
+    public ResponseEntity<?> dump(@RequestHeader(value = "X-Profiling-Token", required = false) String auth) {
+        if (!authorized(auth)) return forbidden();
+        try {
+            Path file = jfrRecorder.dump();
+            byte[] data;
+            try (InputStream in = Files.newInputStream(file)) {
+                data = in.readAllBytes();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"labuboom.jfr\"")
+                    .body(data);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error: " + e.getMessage());
+        }
+    }
+
+    private boolean authorized(String auth) {
+        // Constant-time, so response timing does not reveal how much of the token matched
+        return !token.isEmpty() && auth != null
+                && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), auth.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResponseEntity<String> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Profiling endpoint is disabled or token is wrong");
+    }
+}
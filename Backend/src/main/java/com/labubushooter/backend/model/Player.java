@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
 @Table(name = "players")
@@ -38,6 +39,11 @@ public class Player {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Incremented on every write; also used to order cross-instance invalidations
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // Constructor
     public Player() {}
 
@@ -94,6 +100,14 @@ public class Player {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @PreUpdate
     public void setLastUpdate() {
         this.updatedAt = LocalDateTime.now();
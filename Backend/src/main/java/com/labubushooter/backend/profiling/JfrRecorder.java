@@ -0,0 +1,78 @@
+package com.labubushooter.backend.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Owns at most one on-demand flight recording. The LabuBoom events are
+ * enabled on top of the chosen JDK settings ("default" or "profile").
+ */
+@Component
+public class JfrRecorder {
+
+    private Recording recording;
+
+    public synchronized Map<String, Object> start(String settings, Duration maxAge) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        closeCurrent();
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName("labuboom-on-demand");
+        recording.setMaxAge(maxAge);
+        recording.setToDisk(true);
+        recording.enable(RequestEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(ServiceEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(RepositoryEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+        return status();
+    }
+
+    public synchronized Map<String, Object> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No recording is running");
+        }
+        recording.stop();
+        return status();
+    }
+
+    /**
+     * Writes everything recorded so far (running or stopped) to a temp file.
+     * The caller owns and deletes the file.
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            throw new IllegalStateException("Nothing has been recorded");
+        }
+        Path file = Files.createTempFile("labuboom-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startTime", String.valueOf(recording.getStartTime()));
+            status.put("maxAgeSeconds", recording.getMaxAge() != null ? recording.getMaxAge().getSeconds() : null);
+        }
+        return status;
+    }
+
+    private void closeCurrent() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
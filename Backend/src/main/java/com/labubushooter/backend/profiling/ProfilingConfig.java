@@ -0,0 +1,91 @@
+package com.labubushooter.backend.profiling;
+
+import com.labubushooter.backend.repository.PlayerStore;
+import com.labubushooter.backend.service.PlayerService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Wraps {@link PlayerService} and {@link PlayerStore} calls in JFR events.
+ * The advisors are infrastructure beans so the auto-proxy creator that
+ * already handles {@code @Transactional} applies them as well.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ProfilingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceEventAdvisor() {
+        MethodInterceptor interceptor = invocation -> {
+            ServiceEvent event = new ServiceEvent();
+            event.begin();
+            boolean failed = true;
+            try {
+                Object result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.method = invocation.getMethod().getName();
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        };
+        return new DefaultPointcutAdvisor(publicMethodsOf(PlayerService.class), interceptor);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryEventAdvisor() {
+        MethodInterceptor interceptor = invocation -> {
+            RepositoryEvent event = new RepositoryEvent();
+            event.begin();
+            Object result = null;
+            boolean failed = true;
+            try {
+                result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.query = invocation.getMethod().getName();
+                    event.rows = failed ? 0 : rowCount(result);
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        };
+        return new DefaultPointcutAdvisor(publicMethodsOf(PlayerStore.class), interceptor);
+    }
+
+    private static ComposablePointcut publicMethodsOf(Class<?> type) {
+        return new ComposablePointcut(new RootClassFilter(type));
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Boolean) {
+            return ((Boolean) result) ? 1 : 0;
+        }
+        // save/delete touch exactly one row
+        return 1;
+    }
+}
@@ -0,0 +1,22 @@
+package com.labubushooter.backend.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labuboom.Repository")
+@Label("Repository Call")
+@Category({"LabuBoom", "Repository"})
+@StackTrace(false)
+public class RepositoryEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    public String query;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,24 @@
+package com.labubushooter.backend.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labuboom.Request")
+@Label("HTTP Request")
+@Category({"LabuBoom", "HTTP"})
+@Description("One controller request, from filter entry to response")
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,19 @@
+package com.labubushooter.backend.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("labuboom.Service")
+@Label("Service Call")
+@Category({"LabuBoom", "Service"})
+@StackTrace(false)
+public class ServiceEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,101 @@
+package com.labubushooter.backend.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejects write-heavy player requests (login, progress, reset) with
+ * 429 Too Many Requests once either the caller's address or the target player
+ * has exhausted its bucket. A request only uses up a token when both allow it.
+ *
+ * Login carries the username in its JSON body rather than a {@code playerId}
+ * path variable, and the body cannot be read here without consuming it, so
+ * login is limited by address only.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter playerLimiter;
+    private final RateLimiter ipLimiter;
+    private final Map<String, LongAdder> limitedByRoute = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(RateLimiter playerLimiter, RateLimiter ipLimiter) {
+        this.playerLimiter = playerLimiter;
+        this.ipLimiter = ipLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
+        String address = clientAddress(request);
+        long wait = ipLimiter.tryAcquire(address);
+        if (wait == 0L) {
+            String playerId = pathVariable(request, "playerId");
+            if (playerId != null) {
+                wait = playerLimiter.tryAcquire(playerId);
+                if (wait != 0L) {
+                    // Rejected anyway; don't charge the caller's address for it
+                    ipLimiter.refund(address);
+                }
+            }
+        }
+        if (wait == 0L) {
+            return true;
+        }
+
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        limitedByRoute.computeIfAbsent(route != null ? route : request.getRequestURI(), r -> new LongAdder())
+                .increment();
+
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many requests, retry after " + retryAfterSeconds + "s");
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String pathVariable(HttpServletRequest request, String name) {
+        Object vars = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (vars instanceof Map) {
+            return ((Map<String, String>) vars).get(name);
+        }
+        return null;
+    }
+
+    /**
+     * Railway/Render terminate TLS in front of the app and append the address
+     * they saw to X-Forwarded-For. Everything before that last hop comes from
+     * the client and can be forged, so only the right-most entry is trusted.
+     */
+    static String clientAddress(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null) {
+            String lastHop = forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            if (!lastHop.isEmpty()) {
+                return lastHop;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    public Map<String, Long> getLimitedByRoute() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        limitedByRoute.forEach((route, count) -> counts.put(route, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,146 @@
+package com.labubushooter.backend.ratelimit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A family of {@link TokenBucket}s keyed by an arbitrary string (player id,
+ * remote address, ...).
+ *
+ * The map is bounded: idle buckets are swept periodically and whenever the map
+ * reaches {@code maxKeys}. If it is still full, the eighth of the buckets that
+ * refill soonest (the least recently or least heavily used) are dropped. A
+ * dropped key simply starts again with a full bucket, so flooding the map with
+ * new keys never locks out other callers.
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final double tokensPerSecond;
+    private final int maxKeys;
+    private final long idleNanos;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder limited = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public RateLimiter(String name, int capacity, double tokensPerSecond, int maxKeys, long idleMillis) {
+        this.name = name;
+        this.capacity = capacity;
+        this.tokensPerSecond = tokensPerSecond;
+        this.maxKeys = maxKeys;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+    }
+
+    /**
+     * @return 0 if the request may proceed, otherwise the wait in nanoseconds
+     *         before the caller should retry
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        long wait = bucketFor(key, now).tryAcquire(now);
+        if (wait == 0L) {
+            allowed.increment();
+        } else {
+            limited.increment();
+        }
+        return wait;
+    }
+
+    private TokenBucket bucketFor(String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictIdle(now);
+            if (buckets.size() >= maxKeys) {
+                evictOldest(Math.max(1, maxKeys / 8));
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, tokensPerSecond, now));
+    }
+
+    /**
+     * Returns a token admitted by {@link #tryAcquire(String)} for a request
+     * that was rejected elsewhere, so it does not count against the key.
+     */
+    public void refund(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.refund();
+            allowed.decrement();
+        }
+    }
+
+    /**
+     * Drops buckets that have been full for at least the idle timeout.
+     */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    private int evictIdle(long now) {
+        int removed = 0;
+        Iterator<TokenBucket> it = buckets.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isIdleSince(now, idleNanos)) {
+                it.remove();
+                removed++;
+            }
+        }
+        evicted.add(removed);
+        return removed;
+    }
+
+    /**
+     * Drops about {@code count} buckets with the oldest arrival time. Runs
+     * once per eighth of the map under key flooding, so the sort amortizes.
+     */
+    private synchronized void evictOldest(int count) {
+        if (buckets.size() < maxKeys) {
+            return; // another caller already made room
+        }
+        long[] arrivals = buckets.values().stream().mapToLong(TokenBucket::getTheoreticalArrival).toArray();
+        if (arrivals.length == 0) {
+            return;
+        }
+        Arrays.sort(arrivals);
+        long cutoff = arrivals[Math.min(count, arrivals.length) - 1];
+        int removed = 0;
+        Iterator<TokenBucket> it = buckets.values().iterator();
+        while (it.hasNext() && removed < count) {
+            if (it.next().getTheoreticalArrival() <= cutoff) {
+                it.remove();
+                removed++;
+            }
+        }
+        evicted.add(removed);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTrackedKeys() {
+        return buckets.size();
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getLimitedCount() {
+        return limited.sum();
+    }
+
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+}
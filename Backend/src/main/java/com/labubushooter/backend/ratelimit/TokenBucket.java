@@ -0,0 +1,71 @@
+package com.labubushooter.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * The whole bucket state is a single "theoretical arrival time" (GCRA form of
+ * the token bucket): a request is admitted when, after paying one token, the
+ * bucket would not be more than {@code capacity} tokens in debt. Admitting is a
+ * single CAS on an {@link AtomicLong}, so concurrent callers never block.
+ */
+public class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, double tokensPerSecond, long nowNanos) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refill rate must be positive");
+        }
+        this.nanosPerToken = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstNanos = nanosPerToken * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @return 0 if the request is admitted, otherwise the number of nanoseconds
+     *         until a token becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return debt - burstNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by a successful {@link #tryAcquire(long)}, e.g.
+     * when a later check rejected the request after all.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-nanosPerToken);
+    }
+
+    /**
+     * A bucket whose arrival time is in the past has fully refilled and is
+     * indistinguishable from a freshly created one, so it can be dropped.
+     */
+    public boolean isIdleSince(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() >= idleNanos;
+    }
+
+    /**
+     * Nanosecond time at which the bucket is full again; buckets with the
+     * oldest value carry the least limiting state.
+     */
+    public long getTheoreticalArrival() {
+        return theoreticalArrival.get();
+    }
+}
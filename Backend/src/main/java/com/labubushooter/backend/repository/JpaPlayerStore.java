@@ -0,0 +1,56 @@
+package com.labubushooter.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.labubushooter.backend.model.Player;
+
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaPlayerStore implements PlayerStore {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Override
+    public Optional<Player> findById(UUID playerId) {
+        return playerRepository.findById(playerId);
+    }
+
+    @Override
+    public Optional<Player> findByUsername(String username) {
+        return playerRepository.findByUsername(username);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return playerRepository.existsByUsername(username);
+    }
+
+    @Override
+    public List<Player> findAll() {
+        return playerRepository.findAll();
+    }
+
+    @Override
+    public List<Player> findTopByCoins(int limit) {
+        return playerRepository.findByOrderByTotalCoinsDesc(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Player save(Player player) {
+        // Flush so the @Version increment is visible to the caller
+        return playerRepository.saveAndFlush(player);
+    }
+
+    @Override
+    public void delete(Player player) {
+        playerRepository.delete(player);
+    }
+}
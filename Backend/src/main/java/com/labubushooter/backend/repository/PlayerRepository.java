@@ -1,8 +1,10 @@
 package com.labubushooter.backend.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +14,5 @@ import com.labubushooter.backend.model.Player;
 public interface PlayerRepository extends JpaRepository<Player, UUID> {
     Optional<Player> findByUsername(String username);
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+    List<Player> findByOrderByTotalCoinsDesc(Pageable pageable);
+}
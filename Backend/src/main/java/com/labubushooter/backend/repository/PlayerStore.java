@@ -0,0 +1,28 @@
+package com.labubushooter.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.labubushooter.backend.model.Player;
+
+/**
+ * Storage seam below {@code PlayerService}. The default implementation is the
+ * single-database JPA repository; a sharded implementation can be swapped in
+ * through configuration without touching the service.
+ */
+public interface PlayerStore {
+    Optional<Player> findById(UUID playerId);
+    Optional<Player> findByUsername(String username);
+    boolean existsByUsername(String username);
+    List<Player> findAll();
+    List<Player> findTopByCoins(int limit);
+
+    /**
+     * Inserts or updates the player and returns it with its new version
+     * already written.
+     */
+    Player save(Player player);
+
+    void delete(Player player);
+}
@@ -1,9 +1,12 @@
 package com.labubushooter.backend.service;
 
+import com.labubushooter.backend.cache.PlayerCache;
 import com.labubushooter.backend.model.Player;
-import com.labubushooter.backend.repository.PlayerRepository;
+import com.labubushooter.backend.repository.PlayerStore;
+import com.labubushooter.backend.sync.PlayerInvalidationBus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,40 +16,59 @@ import java.util.UUID;
 public class PlayerService {
 
     @Autowired
-    private PlayerRepository playerRepository;
+    private PlayerStore playerStore;
+
+    @Autowired
+    private PlayerCache playerCache;
+
+    @Autowired
+    private PlayerInvalidationBus invalidationBus;
 
     public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+        return playerStore.findAll();
+    }
+
+    public List<Player> getLeaderboard(int limit) {
+        return playerStore.findTopByCoins(limit);
     }
 
     public Optional<Player> getPlayerById(UUID playerId) {
-        return playerRepository.findById(playerId);
+        Optional<Player> cached = playerCache.get(playerId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<Player> player = playerStore.findById(playerId);
+        player.ifPresent(playerCache::put);
+        return player;
     }
 
     public Optional<Player> getPlayerByUsername(String username) {
-        return playerRepository.findByUsername(username);
+        return playerStore.findByUsername(username);
     }
 
+    @Transactional
     public Player createPlayer(String username) {
-        if (playerRepository.existsByUsername(username)) {
+        if (playerStore.existsByUsername(username)) {
             throw new RuntimeException("Username already exists: " + username);
         }
         Player player = new Player(username);
-        return playerRepository.save(player);
+        return saveAndPublish(player);
     }
 
+    @Transactional
     public Player loginOrCreate(String username) {
-        Optional<Player> existingPlayer = playerRepository.findByUsername(username);
+        Optional<Player> existingPlayer = playerStore.findByUsername(username);
         if (existingPlayer.isPresent()) {
             return existingPlayer.get();
         } else {
             Player newPlayer = new Player(username);
-            return playerRepository.save(newPlayer);
+            return saveAndPublish(newPlayer);
         }
     }
 
+    @Transactional
     public Player updatePlayerProgress(UUID playerId, Integer lastStage, Integer coinsCollected) {
-        Player player = playerRepository.findById(playerId)
+        Player player = playerStore.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found: " + playerId));
 
         if (lastStage != null) {
@@ -57,26 +79,37 @@ public class PlayerService {
             player.setTotalCoins(currentCoins + coinsCollected);
         }
 
-        return playerRepository.save(player);
+        return saveAndPublish(player);
     }
 
+    @Transactional
     public Player resetPlayerProgress(UUID playerId) {
-        Player player = playerRepository.findById(playerId)
+        Player player = playerStore.findById(playerId)
                 .orElseThrow(() -> new RuntimeException("Player not found: " + playerId));
 
         player.setLastStage(1);
         // Don't reset total coins - keep lifetime stats
-        return playerRepository.save(player);
+        return saveAndPublish(player);
     }
 
     public boolean isUsernameExists(String username) {
-        return playerRepository.existsByUsername(username);
+        return playerStore.existsByUsername(username);
     }
 
+    @Transactional
     public void deletePlayer(UUID playerId) {
-        if (!playerRepository.existsById(playerId)) {
-            throw new RuntimeException("Player not found: " + playerId);
-        }
-        playerRepository.deleteById(playerId);
+        Player player = playerStore.findById(playerId)
+                .orElseThrow(() -> new RuntimeException("Player not found: " + playerId));
+        playerStore.delete(player);
+        // A deleted row has no next version; bump past the last one so the delete wins
+        long version = player.getVersion() != null ? player.getVersion() + 1 : Long.MAX_VALUE;
+        invalidationBus.publish(playerId, version);
+    }
+
+    // The store returns the player with the version it actually wrote
+    private Player saveAndPublish(Player player) {
+        Player saved = playerStore.save(player);
+        invalidationBus.publish(saved.getPlayerId(), saved.getVersion());
+        return saved;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.labubushooter.backend.sharding;
+
+import java.util.UUID;
+
+/**
+ * Maps a player id to a shard index with jump consistent hashing
+ * (Lamping &amp; Veach), so growing from N to N+1 shards only moves about
+ * 1/(N+1) of the players.
+ */
+public final class ShardRouter {
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardFor(UUID playerId) {
+        return jumpHash(mix(playerId.getMostSignificantBits() ^ playerId.getLeastSignificantBits()), shardCount);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    static int jumpHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    // Finalizer from MurmurHash3, spreads UUID bits before the jump
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
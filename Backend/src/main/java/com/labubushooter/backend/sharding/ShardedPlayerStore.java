@@ -0,0 +1,210 @@
+package com.labubushooter.backend.sharding;
+
+import com.labubushooter.backend.model.Player;
+import com.labubushooter.backend.repository.PlayerStore;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * {@link PlayerStore} that spreads player rows over several databases.
+ *
+ * Rows live on the shard chosen by {@link ShardRouter} from the player id.
+ * Since the username is not the routing key, a small
+ * {@code player_directory(username, player_id, shard)} table on the directory
+ * database answers username lookups and enforces uniqueness. Reads that span
+ * players ({@link #findAll()}, {@link #findTopByCoins(int)}) query every shard
+ * in parallel and merge the results.
+ */
+public class ShardedPlayerStore implements PlayerStore {
+
+    private static final String PLAYER_COLUMNS =
+            "player_id, username, total_coins, last_stage, created_at, updated_at, version";
+
+    private static final RowMapper<Player> PLAYER_MAPPER = (rs, rowNum) -> {
+        Player player = new Player(rs.getString("username"));
+        player.setPlayerId(rs.getObject("player_id", UUID.class));
+        player.setTotalCoins(rs.getInt("total_coins"));
+        player.setLastStage(rs.getInt("last_stage"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        player.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        player.setUpdatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null);
+        player.setVersion(rs.getLong("version"));
+        return player;
+    };
+
+    private final List<JdbcTemplate> shards;
+    private final JdbcTemplate directory;
+    private final ShardRouter router;
+    private final ExecutorService scatterExecutor;
+
+    public ShardedPlayerStore(List<JdbcTemplate> shards, JdbcTemplate directory, ExecutorService scatterExecutor) {
+        this.shards = shards;
+        this.directory = directory;
+        this.router = new ShardRouter(shards.size());
+        this.scatterExecutor = scatterExecutor;
+    }
+
+    /**
+     * Creates the shard and directory tables if they are missing, mirroring
+     * what {@code ddl-auto=update} does for the single-database setup.
+     */
+    public void initializeSchema() {
+        for (JdbcTemplate shard : shards) {
+            shard.execute("CREATE TABLE IF NOT EXISTS players ("
+                    + "player_id uuid PRIMARY KEY, "
+                    + "username varchar(255) NOT NULL, "
+                    + "total_coins integer, "
+                    + "last_stage integer, "
+                    + "created_at timestamp, "
+                    + "updated_at timestamp, "
+                    + "version bigint NOT NULL DEFAULT 0)");
+            shard.execute("CREATE INDEX IF NOT EXISTS players_total_coins_idx ON players (total_coins DESC)");
+        }
+        directory.execute("CREATE TABLE IF NOT EXISTS player_directory ("
+                + "username varchar(255) PRIMARY KEY, "
+                + "player_id uuid NOT NULL, "
+                + "shard integer NOT NULL)");
+    }
+
+    public int shardFor(UUID playerId) {
+        return router.shardFor(playerId);
+    }
+
+    @Override
+    public Optional<Player> findById(UUID playerId) {
+        List<Player> rows = shardOf(playerId).query(
+                "SELECT " + PLAYER_COLUMNS + " FROM players WHERE player_id = ?", PLAYER_MAPPER, playerId);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Player> findByUsername(String username) {
+        List<UUID> ids = directory.queryForList(
+                "SELECT player_id FROM player_directory WHERE username = ?", UUID.class, username);
+        return ids.isEmpty() ? Optional.empty() : findById(ids.get(0));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        Integer count = directory.queryForObject(
+                "SELECT count(*) FROM player_directory WHERE username = ?", Integer.class, username);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<Player> findAll() {
+        List<Player> players = new ArrayList<>();
+        for (List<Player> part : scatter(shard -> shard.query(
+                "SELECT " + PLAYER_COLUMNS + " FROM players", PLAYER_MAPPER))) {
+            players.addAll(part);
+        }
+        return players;
+    }
+
+    @Override
+    public List<Player> findTopByCoins(int limit) {
+        // Each shard's top N is a superset of its share of the global top N
+        List<Player> candidates = new ArrayList<>();
+        for (List<Player> part : scatter(shard -> shard.query(
+                "SELECT " + PLAYER_COLUMNS + " FROM players ORDER BY total_coins DESC NULLS LAST LIMIT ?",
+                PLAYER_MAPPER, limit))) {
+            candidates.addAll(part);
+        }
+        candidates.sort(Comparator.comparing(Player::getTotalCoins,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    @Override
+    public Player save(Player player) {
+        return player.getPlayerId() == null ? insert(player) : update(player);
+    }
+
+    private Player insert(Player player) {
+        UUID playerId = UUID.randomUUID();
+        int shard = router.shardFor(playerId);
+        try {
+            directory.update("INSERT INTO player_directory (username, player_id, shard) VALUES (?, ?, ?)",
+                    player.getUsername(), playerId, shard);
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("Username already exists: " + player.getUsername());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            shards.get(shard).update("INSERT INTO players (" + PLAYER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, 0)",
+                    playerId, player.getUsername(), player.getTotalCoins(), player.getLastStage(),
+                    Timestamp.valueOf(now), null);
+        } catch (RuntimeException e) {
+            // Not atomic across databases: undo the directory claim so the name stays usable
+            directory.update("DELETE FROM player_directory WHERE username = ?", player.getUsername());
+            throw e;
+        }
+
+        player.setPlayerId(playerId);
+        player.setCreatedAt(now);
+        player.setVersion(0L);
+        return player;
+    }
+
+    private Player update(Player player) {
+        long version = player.getVersion() != null ? player.getVersion() : 0L;
+        LocalDateTime now = LocalDateTime.now();
+        int updated = shardOf(player.getPlayerId()).update(
+                "UPDATE players SET total_coins = ?, last_stage = ?, updated_at = ?, version = version + 1 "
+                        + "WHERE player_id = ? AND version = ?",
+                player.getTotalCoins(), player.getLastStage(), Timestamp.valueOf(now),
+                player.getPlayerId(), version);
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(
+                    "Player " + player.getPlayerId() + " was modified concurrently");
+        }
+        player.setUpdatedAt(now);
+        player.setVersion(version + 1);
+        return player;
+    }
+
+    @Override
+    public void delete(Player player) {
+        shardOf(player.getPlayerId()).update("DELETE FROM players WHERE player_id = ?", player.getPlayerId());
+        directory.update("DELETE FROM player_directory WHERE username = ?", player.getUsername());
+    }
+
+    private JdbcTemplate shardOf(UUID playerId) {
+        return shards.get(router.shardFor(playerId));
+    }
+
+    private <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (JdbcTemplate shard : shards) {
+            futures.add(scatterExecutor.submit(() -> query.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Shard query failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+}
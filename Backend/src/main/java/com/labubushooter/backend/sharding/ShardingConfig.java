@@ -0,0 +1,78 @@
+package com.labubushooter.backend.sharding;
+
+import com.labubushooter.backend.repository.PlayerStore;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Enabled with {@code sharding.enabled=true}. Shards are listed in
+ * {@code sharding.urls} (comma separated JDBC URLs with credentials inline,
+ * like {@code DATABASE_URL}); their order is part of the routing and must not
+ * change once data has been written. The username directory lives on
+ * {@code sharding.directory-url}, defaulting to the first shard.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Value("${sharding.urls}")
+    private List<String> shardUrls;
+
+    @Value("${sharding.directory-url:}")
+    private String directoryUrl;
+
+    @Value("${sharding.pool-size:5}")
+    private int poolSize;
+
+    // Pools built for the store; not beans themselves, so closed here on shutdown
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardScatterExecutor() {
+        return Executors.newFixedThreadPool(shardUrls.size(), r -> {
+            Thread thread = new Thread(r, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public PlayerStore shardedPlayerStore() {
+        List<JdbcTemplate> shards = new ArrayList<>();
+        for (int i = 0; i < shardUrls.size(); i++) {
+            shards.add(new JdbcTemplate(dataSource(shardUrls.get(i).trim(), "shard-" + i)));
+        }
+        JdbcTemplate directory = directoryUrl.isEmpty()
+                ? shards.get(0)
+                : new JdbcTemplate(dataSource(directoryUrl, "shard-directory"));
+
+        ShardedPlayerStore store = new ShardedPlayerStore(shards, directory, shardScatterExecutor());
+        store.initializeSchema();
+        return store;
+    }
+
+    private HikariDataSource dataSource(String url, String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(poolSize);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.labubushooter.backend.sync;
+
+import java.util.UUID;
+
+/**
+ * Implemented by any in-process structure derived from player rows (caches,
+ * leaderboard indexes, ...) that must follow writes made by other instances.
+ */
+public interface PlayerChangeListener {
+
+    /**
+     * A player row reached {@code version}. Implementations must ignore
+     * versions older than what they already hold, since notifications can
+     * arrive out of order.
+     */
+    void onPlayerChanged(UUID playerId, long version);
+
+    /**
+     * Notifications may have been missed (listener connection lost), so
+     * everything derived from player rows must be dropped.
+     */
+    void onResync();
+}
@@ -0,0 +1,197 @@
+package com.labubushooter.backend.sync;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Cross-instance invalidation for player-derived local state.
+ *
+ * Writes publish {@code player_changed} with payload {@code "<id>:<version>"}
+ * through {@code pg_notify}. Issued inside the writing transaction, Postgres
+ * only delivers the notification once that transaction commits. Every instance
+ * holds one dedicated connection that LISTENs on the channel and forwards each
+ * change to all {@link PlayerChangeListener}s, including its own writes, which
+ * the version checks make harmless.
+ */
+@Component
+public class PlayerInvalidationBus {
+
+    public static final String CHANNEL = "player_changed";
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerInvalidationBus.class);
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PlayerChangeListener> listeners;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final boolean enabled;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PlayerInvalidationBus(JdbcTemplate jdbcTemplate,
+                                 List<PlayerChangeListener> listeners,
+                                 @Value("${spring.datasource.url:}") String url,
+                                 @Value("${spring.datasource.username:}") String username,
+                                 @Value("${spring.datasource.password:}") String password,
+                                 @Value("${playersync.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.enabled = enabled && url.startsWith("jdbc:postgresql:");
+    }
+
+    /**
+     * Announces that {@code playerId} reached {@code version}. Local listeners
+     * are told after commit; remote instances through the notification.
+     */
+    public void publish(UUID playerId, long version) {
+        if (enabled) {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class,
+                    CHANNEL, playerId + ":" + version);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(playerId, version);
+                }
+            });
+        } else {
+            dispatch(playerId, version);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Player invalidation bus disabled, local caches are not shared");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "player-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        long backoffMs = 500L;
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                listenConnection = connection;
+                if (connectedBefore) {
+                    // Anything published while we were disconnected is lost
+                    listeners.forEach(PlayerChangeListener::onResync);
+                }
+                connectedBefore = true;
+                backoffMs = 500L;
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener connection lost, retrying in {} ms: {}", backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        Properties props = new Properties();
+        if (!username.isEmpty()) {
+            props.setProperty("user", username);
+        }
+        if (!password.isEmpty()) {
+            props.setProperty("password", password);
+        }
+        props.setProperty("ApplicationName", "labuboom-invalidation-listener");
+        Connection connection = DriverManager.getConnection(url, props);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        return connection;
+    }
+
+    void handle(String payload) {
+        int separator = payload != null ? payload.lastIndexOf(':') : -1;
+        if (separator <= 0) {
+            log.warn("Ignoring malformed invalidation payload: {}", payload);
+            return;
+        }
+        try {
+            UUID playerId = UUID.fromString(payload.substring(0, separator));
+            long version = Long.parseLong(payload.substring(separator + 1));
+            dispatch(playerId, version);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed invalidation payload: {}", payload);
+        }
+    }
+
+    private void dispatch(UUID playerId, long version) {
+        for (PlayerChangeListener listener : listeners) {
+            listener.onPlayerChanged(playerId, version);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+}
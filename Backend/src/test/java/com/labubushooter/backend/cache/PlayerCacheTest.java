@@ -0,0 +1,74 @@
+package com.labubushooter.backend.cache;
+
+import com.labubushooter.backend.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerCacheTest {
+
+    private static Player player(UUID id, long version, int stage) {
+        Player player = new Player("p");
+        player.setPlayerId(id);
+        player.setVersion(version);
+        player.setLastStage(stage);
+        return player;
+    }
+
+    @Test
+    void newerInvalidationEvicts() {
+        PlayerCache cache = new PlayerCache(100);
+        UUID id = UUID.randomUUID();
+        cache.put(player(id, 1, 2));
+        cache.onPlayerChanged(id, 2);
+        assertFalse(cache.get(id).isPresent());
+    }
+
+    @Test
+    void reorderedOlderInvalidationIsIgnored() {
+        PlayerCache cache = new PlayerCache(100);
+        UUID id = UUID.randomUUID();
+        cache.put(player(id, 3, 4));
+        cache.onPlayerChanged(id, 2);
+        cache.onPlayerChanged(id, 3);
+        assertTrue(cache.get(id).isPresent());
+    }
+
+    @Test
+    void staleReadCannotReplaceTombstone() {
+        PlayerCache cache = new PlayerCache(100);
+        UUID id = UUID.randomUUID();
+        cache.onPlayerChanged(id, 5);
+        cache.put(player(id, 4, 1));
+        assertFalse(cache.get(id).isPresent());
+        cache.put(player(id, 5, 3));
+        assertEquals(3, cache.get(id).get().getLastStage());
+    }
+
+    @Test
+    void staysBounded() {
+        PlayerCache cache = new PlayerCache(10);
+        for (int i = 0; i < 100; i++) {
+            cache.put(player(UUID.randomUUID(), 0, 1));
+        }
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    void evictionKeepsVersionFloor() {
+        PlayerCache cache = new PlayerCache(10);
+        UUID id = UUID.randomUUID();
+        cache.put(player(id, 4, 1));
+        cache.onPlayerChanged(id, 5);
+        for (int i = 0; i < 100; i++) {
+            cache.put(player(UUID.randomUUID(), 0, 1));
+            cache.onPlayerChanged(UUID.randomUUID(), 1);
+        }
+        cache.put(player(id, 4, 1));
+        assertFalse(cache.get(id).isPresent());
+    }
+}
@@ -0,0 +1,44 @@
+package com.labubushooter.backend.controller;
+
+import com.labubushooter.backend.profiling.JfrRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProfilingControllerTest {
+
+    private static MockMvc mockMvc(String token) {
+        ProfilingController controller = new ProfilingController();
+        ReflectionTestUtils.setField(controller, "jfrRecorder", new JfrRecorder());
+        ReflectionTestUtils.setField(controller, "token", token);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void emptyTokenDisablesEndpoint() throws Exception {
+        MockMvc mvc = mockMvc("");
+        mvc.perform(get("/api/profiling/recording")).andExpect(status().isForbidden());
+        mvc.perform(get("/api/profiling/recording").header("X-Profiling-Token", ""))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void wrongTokenIsForbidden() throws Exception {
+        MockMvc mvc = mockMvc("secret");
+        mvc.perform(get("/api/profiling/recording")).andExpect(status().isForbidden());
+        mvc.perform(get("/api/profiling/recording").header("X-Profiling-Token", "secreT"))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/profiling/recording").header("X-Profiling-Token", "secret-and-more"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void correctTokenIsAccepted() throws Exception {
+        mockMvc("secret").perform(get("/api/profiling/recording").header("X-Profiling-Token", "secret"))
+                .andExpect(status().isOk());
+    }
+}
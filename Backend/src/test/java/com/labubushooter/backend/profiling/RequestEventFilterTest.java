@@ -0,0 +1,54 @@
+package com.labubushooter.backend.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class RequestEventFilterTest {
+
+    @RestController
+    static class PingController {
+        @GetMapping("/ping/{id}")
+        String ping(@PathVariable String id) {
+            return id;
+        }
+    }
+
+    @Test
+    void emitsRequestEvent(@TempDir Path dir) throws Exception {
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new PingController())
+                .addFilters(new RequestEventFilter())
+                .build();
+
+        Path file = dir.resolve("request.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            mvc.perform(get("/ping/42"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("labuboom.Request"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("GET", events.get(0).getString("method"));
+        assertEquals("/ping/{id}", events.get(0).getString("route"));
+        assertEquals(200, events.get(0).getInt("status"));
+    }
+}
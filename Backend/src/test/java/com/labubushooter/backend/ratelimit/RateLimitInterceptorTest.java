@@ -0,0 +1,67 @@
+package com.labubushooter.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitInterceptorTest {
+
+    @Test
+    void keysOnProxyAppendedHop() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 203.0.113.7");
+        assertEquals("203.0.113.7", RateLimitInterceptor.clientAddress(request));
+    }
+
+    @Test
+    void fallsBackToRemoteAddress() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        assertEquals("10.0.0.1", RateLimitInterceptor.clientAddress(request));
+    }
+
+    @Test
+    void forgedFirstHopDoesNotBypassLimit() throws Exception {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(
+                new RateLimiter("player", 100, 1.0, 100, 60_000L),
+                new RateLimiter("ip", 1, 0.001, 100, 60_000L));
+
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", "/api/players/login");
+        first.addHeader("X-Forwarded-For", "forged-1, 203.0.113.7");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", "/api/players/login");
+        second.addHeader("X-Forwarded-For", "forged-2, 203.0.113.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(second, response, null));
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void playerRejectionDoesNotUseAddressBudget() throws Exception {
+        RateLimiter ipLimiter = new RateLimiter("ip", 1, 0.001, 100, 60_000L);
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(
+                new RateLimiter("player", 1, 0.001, 100, 60_000L), ipLimiter);
+        // The player bucket is already empty
+        interceptor.preHandle(progressRequest("p1", "10.0.0.9"), new MockHttpServletResponse(), null);
+
+        assertFalse(interceptor.preHandle(progressRequest("p1", "10.0.0.1"), new MockHttpServletResponse(), null));
+        // The address still has its token for another player
+        assertTrue(interceptor.preHandle(progressRequest("p2", "10.0.0.1"), new MockHttpServletResponse(), null));
+    }
+
+    private static MockHttpServletRequest progressRequest(String playerId, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/players/" + playerId + "/progress");
+        request.setRemoteAddr(address);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("playerId", playerId));
+        return request;
+    }
+}
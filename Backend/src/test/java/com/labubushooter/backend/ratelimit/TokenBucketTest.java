@@ -0,0 +1,68 @@
+package com.labubushooter.backend.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void admitsBurstThenLimits() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0L);
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(SECOND, bucket.tryAcquire(0L));
+    }
+
+    @Test
+    void refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 2.0, 0L);
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertTrue(bucket.tryAcquire(SECOND / 4) > 0L);
+        assertEquals(0L, bucket.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void fullBucketBecomesIdle() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0L);
+        bucket.tryAcquire(0L);
+        assertFalse(bucket.isIdleSince(SECOND, 5 * SECOND));
+        assertTrue(bucket.isIdleSince(10 * SECOND, 5 * SECOND));
+    }
+
+    @Test
+    void limiterKeepsKeysSeparate() {
+        RateLimiter limiter = new RateLimiter("test", 1, 0.001, 10, 60_000L);
+        assertEquals(0L, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0L);
+        assertEquals(0L, limiter.tryAcquire("b"));
+        assertEquals(1L, limiter.getLimitedCount());
+        assertEquals(2, limiter.getTrackedKeys());
+    }
+
+    @Test
+    void floodingDistinctKeysDoesNotLockOutNewCallers() {
+        RateLimiter limiter = new RateLimiter("test", 1, 0.001, 10, 60_000L);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0L, limiter.tryAcquire("fake-" + i));
+        }
+        assertTrue(limiter.getTrackedKeys() <= 10);
+        assertEquals(0L, limiter.tryAcquire("real"));
+        assertTrue(limiter.tryAcquire("real") > 0L);
+        assertEquals(1L, limiter.getLimitedCount());
+    }
+
+    @Test
+    void refundReturnsToken() {
+        TokenBucket bucket = new TokenBucket(1, 1.0, 0L);
+        assertEquals(0L, bucket.tryAcquire(0L));
+        bucket.refund();
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(SECOND, bucket.tryAcquire(0L));
+    }
+}
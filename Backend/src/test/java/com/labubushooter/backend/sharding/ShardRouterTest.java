@@ -0,0 +1,81 @@
+package com.labubushooter.backend.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardRouterTest {
+
+    private static UUID[] ids(int count) {
+        Random random = new Random(42L);
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        return ids;
+    }
+
+    @Test
+    void sameIdAlwaysRoutesToSameShard() {
+        ShardRouter first = new ShardRouter(4);
+        ShardRouter second = new ShardRouter(4);
+        for (UUID id : ids(1_000)) {
+            int shard = first.shardFor(id);
+            assertTrue(shard >= 0 && shard < 4);
+            assertEquals(shard, second.shardFor(id));
+        }
+    }
+
+    @Test
+    void singleShardTakesEverything() {
+        ShardRouter router = new ShardRouter(1);
+        for (UUID id : ids(100)) {
+            assertEquals(0, router.shardFor(id));
+        }
+    }
+
+    @Test
+    void spreadsEvenly() {
+        int shards = 4;
+        int players = 40_000;
+        int[] counts = new int[shards];
+        ShardRouter router = new ShardRouter(shards);
+        for (UUID id : ids(players)) {
+            counts[router.shardFor(id)]++;
+        }
+        for (int count : counts) {
+            assertTrue(Math.abs(count - players / shards) < players / shards / 10, "shard count " + count);
+        }
+    }
+
+    @Test
+    void addingShardOnlyMovesPlayersToIt() {
+        int players = 40_000;
+        for (int shards = 1; shards < 8; shards++) {
+            ShardRouter before = new ShardRouter(shards);
+            ShardRouter after = new ShardRouter(shards + 1);
+            int moved = 0;
+            for (UUID id : ids(players)) {
+                int from = before.shardFor(id);
+                int to = after.shardFor(id);
+                if (from != to) {
+                    assertEquals(shards, to);
+                    moved++;
+                }
+            }
+            // About 1/(N+1) of the players move
+            double expected = players / (double) (shards + 1);
+            assertTrue(Math.abs(moved - expected) < expected / 10, "moved " + moved);
+        }
+    }
+
+    @Test
+    void rejectsZeroShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0));
+    }
+}
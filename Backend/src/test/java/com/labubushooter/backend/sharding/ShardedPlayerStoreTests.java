@@ -0,0 +1,138 @@
+package com.labubushooter.backend.sharding;
+
+import com.labubushooter.backend.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against a real Postgres, e.g.
+ * {@code PG_TEST_URL=jdbc:postgresql://localhost:5432/postgres?user=postgres ./gradlew test}
+ *
+ * Each shard is a separate schema of that database, dropped after each test.
+ */
+@EnabledIfEnvironmentVariable(named = "PG_TEST_URL", matches = "jdbc:postgresql:.*")
+class ShardedPlayerStoreTests {
+
+    private static final int SHARDS = 3;
+
+    private final List<String> schemas = new ArrayList<>();
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private JdbcTemplate admin;
+    private ExecutorService scatter;
+    private ShardedPlayerStore store;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv("PG_TEST_URL");
+        admin = new JdbcTemplate(new DriverManagerDataSource(url));
+        String prefix = "shard_test_" + Long.toHexString(System.nanoTime()) + "_";
+        for (int i = 0; i < SHARDS; i++) {
+            String schema = prefix + i;
+            admin.execute("CREATE SCHEMA " + schema);
+            schemas.add(schema);
+            String separator = url.contains("?") ? "&" : "?";
+            shards.add(new JdbcTemplate(new DriverManagerDataSource(url + separator + "currentSchema=" + schema)));
+        }
+        scatter = Executors.newFixedThreadPool(SHARDS);
+        store = new ShardedPlayerStore(shards, shards.get(0), scatter);
+        store.initializeSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scatter.shutdownNow();
+        for (String schema : schemas) {
+            admin.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        }
+    }
+
+    private Player insert(String username, int coins) {
+        Player player = new Player(username);
+        player.setTotalCoins(coins);
+        return store.save(player);
+    }
+
+    @Test
+    void insertRoutesAndFindsByIdAndUsername() {
+        Player player = insert("alice", 5);
+
+        assertEquals(0L, player.getVersion());
+        assertEquals("alice", store.findById(player.getPlayerId()).orElseThrow().getUsername());
+        assertEquals(player.getPlayerId(), store.findByUsername("alice").orElseThrow().getPlayerId());
+        Integer rows = shards.get(store.shardFor(player.getPlayerId())).queryForObject(
+                "SELECT count(*) FROM players WHERE player_id = ?", Integer.class, player.getPlayerId());
+        assertEquals(1, rows);
+    }
+
+    @Test
+    void insertRejectsDuplicateUsername() {
+        insert("bob", 0);
+        assertThrows(RuntimeException.class, () -> insert("bob", 0));
+        assertEquals(1, store.findAll().size());
+    }
+
+    @Test
+    void failedShardWriteReleasesUsername() {
+        for (JdbcTemplate shard : shards) {
+            shard.execute("DROP TABLE players");
+        }
+        assertThrows(RuntimeException.class, () -> insert("carol", 0));
+        assertFalse(store.existsByUsername("carol"));
+    }
+
+    @Test
+    void staleUpdateFailsOptimisticLock() {
+        Player player = insert("dave", 0);
+        Player stale = store.findById(player.getPlayerId()).orElseThrow();
+
+        player.setTotalCoins(10);
+        store.save(player);
+        assertEquals(1L, player.getVersion());
+
+        stale.setTotalCoins(20);
+        assertThrows(OptimisticLockingFailureException.class, () -> store.save(stale));
+        assertEquals(10, store.findById(player.getPlayerId()).orElseThrow().getTotalCoins());
+    }
+
+    @Test
+    void deleteRemovesRowAndDirectoryEntry() {
+        Player player = insert("erin", 0);
+        store.delete(player);
+
+        assertFalse(store.findById(player.getPlayerId()).isPresent());
+        assertFalse(store.existsByUsername("erin"));
+        insert("erin", 0); // the name is free again
+    }
+
+    @Test
+    void topByCoinsMergesShardsInOrder() {
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            usedShards.add(store.shardFor(insert("p" + i, (i * 7) % 30).getPlayerId()));
+        }
+        assertTrue(usedShards.size() > 1);
+
+        List<Player> top = store.findTopByCoins(5);
+        assertEquals(5, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(29 - i, top.get(i).getTotalCoins());
+        }
+    }
+}
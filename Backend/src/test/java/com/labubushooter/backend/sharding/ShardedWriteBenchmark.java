@@ -0,0 +1,120 @@
+package com.labubushooter.backend.sharding;
+
+import com.labubushooter.backend.model.Player;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures progress-save throughput for 1..N shards.
+ *
+ * <pre>
+ * ./gradlew shardBenchmark -Pshard.urls=jdbc:postgresql://localhost:5432/postgres?user=postgres,jdbc:postgresql://localhost:5433/postgres?user=postgres
+ * </pre>
+ *
+ * Each round seeds players through the store, then a fixed number of client
+ * threads save progress for random players for a fixed duration. Benchmark
+ * rows are deleted afterwards.
+ *
+ * Give each shard its own host, or at least its own cores. Instances that
+ * share a CPU with each other and with this client compete for it, and the
+ * numbers then show no scaling at all.
+ */
+public class ShardedWriteBenchmark {
+
+    private static final int CLIENT_THREADS = Integer.getInteger("bench.threads", 32);
+    private static final int PLAYERS_PER_ROUND = Integer.getInteger("bench.players", 2000);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 10);
+
+    public static void main(String[] args) throws Exception {
+        String urls = System.getProperty("shard.urls", "");
+        if (urls.isEmpty()) {
+            System.err.println("Set -Pshard.urls to a comma separated list of JDBC URLs");
+            System.exit(1);
+        }
+        String[] shardUrls = urls.split(",");
+
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < shardUrls.length; i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(shardUrls[i].trim());
+            dataSource.setPoolName("bench-shard-" + i);
+            dataSource.setMaximumPoolSize(CLIENT_THREADS);
+            dataSources.add(dataSource);
+        }
+
+        System.out.printf("threads=%d players=%d duration=%ds%n", CLIENT_THREADS, PLAYERS_PER_ROUND, SECONDS);
+        System.out.println("shards  writes/s  speedup");
+        double baseline = 0;
+        ExecutorService scatter = Executors.newCachedThreadPool();
+        try {
+            for (int shardCount = 1; shardCount <= shardUrls.length; shardCount++) {
+                List<JdbcTemplate> shards = new ArrayList<>();
+                for (int i = 0; i < shardCount; i++) {
+                    shards.add(new JdbcTemplate(dataSources.get(i)));
+                }
+                double throughput = runRound(shards, scatter);
+                if (shardCount == 1) {
+                    baseline = throughput;
+                }
+                System.out.printf("%6d  %8.0f  %6.2fx%n", shardCount, throughput, throughput / baseline);
+            }
+        } finally {
+            scatter.shutdown();
+            dataSources.forEach(HikariDataSource::close);
+        }
+    }
+
+    private static double runRound(List<JdbcTemplate> shards, ExecutorService scatter) throws Exception {
+        ShardedPlayerStore store = new ShardedPlayerStore(shards, shards.get(0), scatter);
+        store.initializeSchema();
+
+        String prefix = "bench_" + System.nanoTime() + "_";
+        List<Player> players = new ArrayList<>(PLAYERS_PER_ROUND);
+        for (int i = 0; i < PLAYERS_PER_ROUND; i++) {
+            Player player = new Player(prefix + i);
+            player.setTotalCoins(0);
+            player.setLastStage(1);
+            players.add(store.save(player));
+        }
+
+        LongAdder writes = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        for (int t = 0; t < CLIENT_THREADS; t++) {
+            // Each client owns a disjoint slice so versions never conflict
+            final int slice = t;
+            clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int perClient = PLAYERS_PER_ROUND / CLIENT_THREADS;
+                while (running.get()) {
+                    Player player = players.get(slice * perClient + random.nextInt(perClient));
+                    player.setTotalCoins(player.getTotalCoins() + 1);
+                    player.setLastStage(1 + random.nextInt(5));
+                    store.save(player);
+                    writes.increment();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(SECONDS);
+        running.set(false);
+        clients.shutdown();
+        clients.awaitTermination(30, TimeUnit.SECONDS);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        for (JdbcTemplate shard : shards) {
+            shard.update("DELETE FROM players WHERE username LIKE ?", prefix + "%");
+        }
+        shards.get(0).update("DELETE FROM player_directory WHERE username LIKE ?", prefix + "%");
+        return writes.sum() / elapsed;
+    }
+}
@@ -0,0 +1,66 @@
+package com.labubushooter.backend.sync;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against a real Postgres, e.g.
+ * {@code PG_TEST_URL=jdbc:postgresql://localhost:5432/postgres?user=postgres ./gradlew test}
+ */
+@EnabledIfEnvironmentVariable(named = "PG_TEST_URL", matches = "jdbc:postgresql:.*")
+class PlayerInvalidationBusTests {
+
+    private static class RecordingListener implements PlayerChangeListener {
+        final ConcurrentHashMap<UUID, Long> versions = new ConcurrentHashMap<>();
+        final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void onPlayerChanged(UUID playerId, long version) {
+            versions.merge(playerId, version, Math::max);
+            received.countDown();
+        }
+
+        @Override
+        public void onResync() {
+            versions.clear();
+        }
+    }
+
+    private static PlayerInvalidationBus bus(String url, PlayerChangeListener listener) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url));
+        return new PlayerInvalidationBus(jdbcTemplate, List.of(listener), url, "", "", true);
+    }
+
+    @Test
+    void publishReachesOtherInstance() throws Exception {
+        String url = System.getenv("PG_TEST_URL");
+        RecordingListener local = new RecordingListener();
+        RecordingListener remote = new RecordingListener();
+        PlayerInvalidationBus writer = bus(url, local);
+        PlayerInvalidationBus reader = bus(url, remote);
+        reader.start();
+        try {
+            // Give the listener thread time to issue LISTEN
+            Thread.sleep(1000);
+            UUID id = UUID.randomUUID();
+            writer.publish(id, 7);
+
+            assertTrue(remote.received.await(10, TimeUnit.SECONDS));
+            assertEquals(7L, remote.versions.get(id));
+            assertEquals(7L, local.versions.get(id));
+        } finally {
+            reader.stop();
+        }
+    }
+}
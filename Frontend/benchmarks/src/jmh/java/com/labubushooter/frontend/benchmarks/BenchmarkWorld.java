@@ -0,0 +1,101 @@
+package com.labubushooter.frontend.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.RandomXS128;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.headless.HeadlessSimulation;
+import com.labubushooter.frontend.input.ScriptedInputSource;
+import com.labubushooter.frontend.objects.CommonEnemy;
+
+/**
+ * Shared setup for the benchmarks: a headless game world with stub textures.
+ *
+ * A HeadlessApplication is started once per JVM so Gdx.app, Gdx.files and
+ * the native libraries are available; it runs create() only and never renders.
+ * Worlds come from HeadlessSimulation, so every texture is a 1x1 stand-in and
+ * GL calls are no-ops.
+ */
+public final class BenchmarkWorld {
+
+    /** Simulation step used by every benchmark */
+    public static final float STEP = 1f / FixedTimestep.DEFAULT_STEP_HZ;
+
+    private static boolean started = false;
+
+    private BenchmarkWorld() {
+        // Static utility
+    }
+
+    /**
+     * Starts the headless backend (once) with logging disabled, so Gdx.app.log
+     * calls in hot paths cost only their argument evaluation.
+     */
+    public static synchronized void startHeadless() {
+        if (started) {
+            return;
+        }
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+        Gdx.app.setLogLevel(Application.LOG_NONE);
+        started = true;
+    }
+
+    /**
+     * Builds a world with the given level loaded and no player input.
+     *
+     * @param level Level number (1-5)
+     * @param seed Random seed for the world
+     * @return Simulation whose context holds the loaded level
+     */
+    public static HeadlessSimulation create(int level, long seed) {
+        startHeadless();
+        HeadlessSimulation simulation = new HeadlessSimulation(
+            new ScriptedInputSource(false), FixedTimestep.DEFAULT_STEP_HZ, seed);
+        simulation.loadLevel(level);
+        return simulation;
+    }
+
+    /**
+     * Replaces the level's enemies with {@code count} enemies spread evenly
+     * across the level, targeting the player.
+     *
+     * @param health Health to give each enemy (large values keep them alive)
+     */
+    public static void spawnEnemies(GameContext context, int count, float health) {
+        for (CommonEnemy enemy : context.activeEnemies) {
+            context.enemyPool.free(enemy);
+        }
+        context.activeEnemies.clear();
+
+        float spacing = context.currentLevelWidth / (count + 1);
+        for (int i = 0; i < count; i++) {
+            CommonEnemy enemy = context.enemyPool.obtain();
+            enemy.init(spacing * (i + 1), context.player, context.currentLevel);
+            enemy.health = health;
+            enemy.maxHealth = health;
+            context.activeEnemies.add(enemy);
+        }
+    }
+
+    /**
+     * Random positions inside the level, for projectile fills.
+     *
+     * @return Interleaved {x0, y0, x1, y1, ...}
+     */
+    public static float[] randomPoints(int count, float width, float height, long seed) {
+        RandomXS128 random = new RandomXS128(seed);
+        float[] points = new float[count * 2];
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = random.nextFloat() * width;
+            points[i * 2 + 1] = random.nextFloat() * height;
+        }
+        return points;
+    }
+}
@@ -0,0 +1,48 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.labubushooter.frontend.objects.Coin;
+import com.labubushooter.frontend.patterns.coins.LinePattern;
+
+/**
+ * LinePattern.spawn, including returning the coins to the pool so the pool
+ * stays warm and every call measures the steady-state path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CoinPatternBenchmark {
+
+    private LinePattern pattern;
+    private Pool<Coin> coinPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coinPool = BenchmarkWorld.create(1, 42L).getContext().coinPool;
+        pattern = new LinePattern();
+    }
+
+    @Benchmark
+    public int lineSpawn() {
+        Array<Coin> coins = pattern.spawn(coinPool, 400f, 150f);
+        int count = coins.size;
+        coinPool.freeAll(coins);
+        return count;
+    }
+}
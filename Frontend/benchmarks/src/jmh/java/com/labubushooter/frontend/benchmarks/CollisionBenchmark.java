@@ -0,0 +1,77 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.systems.CollisionSystem;
+
+/**
+ * CollisionSystem: player bullets against common enemies, at several scales.
+ *
+ * Bullets are scattered over the whole level and refilled inside every call,
+ * so each call sees the same mix of hits and misses. The calls take only
+ * microseconds, too short for a per-invocation @Setup, so refill() is also
+ * measured on its own as a baseline to subtract. Enemies have effectively
+ * infinite health and stay in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CollisionBenchmark {
+
+    @Param({"16", "128", "512"})
+    public int bullets;
+
+    @Param({"4", "16", "64"})
+    public int enemies;
+
+    private GameContext context;
+    private CollisionSystem collisionSystem;
+    private ProjectileStore store;
+    private float[] points;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkWorld.create(1, 42L).getContext();
+        BenchmarkWorld.spawnEnemies(context, enemies, Float.MAX_VALUE);
+        collisionSystem = CollisionSystem.getInstance();
+        store = new ProjectileStore(bullets, bullets);
+        points = BenchmarkWorld.randomPoints(bullets, context.currentLevelWidth, 300f, 7L);
+    }
+
+    private void fill() {
+        store.clear();
+        for (int i = 0; i < bullets; i++) {
+            store.spawnPlayerBullet(points[i * 2], points[i * 2 + 1], 1f, 0f, 750f, 1f,
+                context.bulletTex, 1200f, 2f);
+        }
+    }
+
+    @Benchmark
+    public int refill() {
+        fill();
+        return store.size();
+    }
+
+    @Benchmark
+    public int bulletsVsEnemies() {
+        fill();
+        collisionSystem.checkBulletTargetCollisions(context.activeEnemies, null, null, store);
+        return store.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.CommonEnemy;
+
+/**
+ * CommonEnemy.update (chase, gravity, platform collision) against the
+ * platforms of each LevelStrategy.
+ *
+ * Enemies keep walking for the whole trial, so the measurement covers a mix
+ * of grounded, falling and platform-landing steps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnemyUpdateBenchmark {
+
+    private static final int ENEMIES = 16;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    private GameContext context;
+    private Array<CommonEnemy> enemies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkWorld.create(level, 42L).getContext();
+        context.player.bounds.x = context.currentLevelWidth / 2f;
+        BenchmarkWorld.spawnEnemies(context, ENEMIES, 1000f);
+        enemies = context.activeEnemies;
+    }
+
+    @Benchmark
+    public float updateEnemies() {
+        GameClock.advance(BenchmarkWorld.STEP);
+        float sum = 0f;
+        for (int i = 0; i < enemies.size; i++) {
+            CommonEnemy enemy = enemies.get(i);
+            enemy.update(BenchmarkWorld.STEP, context.levelGeometry);
+            sum += enemy.bounds.x;
+        }
+        return sum;
+    }
+}
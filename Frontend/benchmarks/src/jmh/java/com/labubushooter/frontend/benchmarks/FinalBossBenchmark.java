@@ -0,0 +1,76 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.FinalBoss;
+import com.labubushooter.frontend.systems.PhysicsSystem;
+import com.labubushooter.frontend.systems.ProjectileLifetimeSystem;
+
+/**
+ * One level 5 step for the final boss: AI and movement, its bullet pattern,
+ * and the enemy bullet update and culling that follow in GameWorld.
+ *
+ * Each phase is reached by setting the boss's health below the phase
+ * threshold and stepping until the transition has happened; bullets fired
+ * during the trial are culled the same way the game culls them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FinalBossBenchmark {
+
+    private static final float[] PHASE_HEALTH = {1.0f, 0.45f, 0.2f};
+
+    @Param({"1", "2", "3"})
+    public int phase;
+
+    private GameContext context;
+    private FinalBoss boss;
+    private PhysicsSystem physicsSystem;
+    private ProjectileLifetimeSystem lifetimeSystem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkWorld.create(5, 42L).getContext();
+        boss = context.boss;
+        physicsSystem = PhysicsSystem.getInstance();
+        lifetimeSystem = ProjectileLifetimeSystem.getInstance();
+
+        boss.health = boss.maxHealth * PHASE_HEALTH[phase - 1];
+        // Phase transitions happen one per update
+        for (int i = 0; i < 3; i++) {
+            step();
+        }
+    }
+
+    @Benchmark
+    public int bossStep() {
+        step();
+        return context.enemyProjectiles.size();
+    }
+
+    private void step() {
+        GameClock.advance(BenchmarkWorld.STEP);
+        boss.update(BenchmarkWorld.STEP, context.levelGeometry, context.player,
+            context.enemyProjectiles);
+        physicsSystem.updateEnemyBullets(context.enemyProjectiles, BenchmarkWorld.STEP);
+        lifetimeSystem.update(context.enemyProjectiles, context.currentLevelWidth,
+            context.viewport.getWorldHeight(), context.gameWorld.getSimulationView());
+    }
+}
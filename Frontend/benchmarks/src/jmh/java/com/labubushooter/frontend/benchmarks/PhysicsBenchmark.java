@@ -0,0 +1,93 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.systems.PhysicsSystem;
+
+/**
+ * PhysicsSystem bullet integration.
+ *
+ * updateBullets also tests every bullet against the level's platforms and
+ * removes the ones that hit, so it refills its store inside every call; the
+ * calls are too short for a per-invocation @Setup. refillPlayerBullets measures
+ * the refill alone as a baseline to subtract. updateEnemyBullets only
+ * integrates and reuses one store for the whole trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PhysicsBenchmark {
+
+    @Param({"64", "256", "1024"})
+    public int bullets;
+
+    @Param({"1", "4"})
+    public int level;
+
+    private GameContext context;
+    private PhysicsSystem physicsSystem;
+    private ProjectileStore playerBullets;
+    private ProjectileStore enemyBullets;
+    private float[] points;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkWorld.create(level, 42L).getContext();
+        physicsSystem = PhysicsSystem.getInstance();
+        points = BenchmarkWorld.randomPoints(bullets, context.currentLevelWidth, 500f, 7L);
+
+        playerBullets = new ProjectileStore(bullets, bullets);
+        enemyBullets = new ProjectileStore(bullets, bullets);
+        for (int i = 0; i < bullets; i++) {
+            float angle = i * 2.4f;
+            enemyBullets.spawn(ProjectileStore.TYPE_ENEMY, points[i * 2], points[i * 2 + 1],
+                (float) Math.cos(angle) * 300f, (float) Math.sin(angle) * 300f,
+                15f, 15f, 1f, context.enemyBulletTex, 0f, 0f);
+        }
+    }
+
+    private void fillPlayerBullets() {
+        playerBullets.clear();
+        for (int i = 0; i < bullets; i++) {
+            float angle = i * 2.4f;
+            playerBullets.spawnPlayerBullet(points[i * 2], points[i * 2 + 1],
+                (float) Math.cos(angle), (float) Math.sin(angle), 750f, 4f,
+                context.bulletTex, 1200f, 2f);
+        }
+    }
+
+    @Benchmark
+    public int refillPlayerBullets() {
+        fillPlayerBullets();
+        return playerBullets.size();
+    }
+
+    @Benchmark
+    public int updateBullets() {
+        fillPlayerBullets();
+        physicsSystem.updateBullets(playerBullets, context.levelGeometry, BenchmarkWorld.STEP);
+        return playerBullets.size();
+    }
+
+    @Benchmark
+    public int updateEnemyBullets() {
+        physicsSystem.updateEnemyBullets(enemyBullets, BenchmarkWorld.STEP);
+        return enemyBullets.size();
+    }
+}
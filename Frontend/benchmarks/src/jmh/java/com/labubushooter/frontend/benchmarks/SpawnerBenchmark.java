@@ -0,0 +1,79 @@
+package com.labubushooter.frontend.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.systems.GameWorld;
+import com.labubushooter.frontend.systems.spawner.Level1Spawner;
+
+/**
+ * BaseEnemySpawner.calculateSpawnPosition: the rejection loop that picks an
+ * off-screen spawn point outside the player's safety zone.
+ *
+ * The player is placed near the left edge, the middle and the right edge of
+ * each level; near an edge one side has no room, so more attempts are rejected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SpawnerBenchmark {
+
+    /**
+     * Exposes the protected spawn position search. The search itself is
+     * shared by every level spawner.
+     */
+    static final class ProbeSpawner extends Level1Spawner {
+        float spawnPosition(Player player, float levelWidth, float cameraLeft, float cameraRight) {
+            return calculateSpawnPosition(player, levelWidth, cameraLeft, cameraRight);
+        }
+    }
+
+    @Param({"1", "2", "4"})
+    public int level;
+
+    /** Player position as a fraction of the level width */
+    @Param({"0.05", "0.5", "0.95"})
+    public float playerAt;
+
+    private ProbeSpawner spawner;
+    private Player player;
+    private float levelWidth;
+    private float cameraLeft;
+    private float cameraRight;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameContext context = BenchmarkWorld.create(level, 42L).getContext();
+        spawner = new ProbeSpawner();
+        spawner.setSeed(42L);
+        player = context.player;
+        levelWidth = context.currentLevelWidth;
+        player.bounds.x = levelWidth * playerAt;
+
+        float viewWidth = context.viewport.getWorldWidth();
+        float cameraX = GameWorld.followCameraX(
+            player.bounds.x + player.bounds.width / 2f, viewWidth, levelWidth);
+        cameraLeft = cameraX - viewWidth / 2f;
+        cameraRight = cameraX + viewWidth / 2f;
+    }
+
+    @Benchmark
+    public float spawnPosition() {
+        return spawner.spawnPosition(player, levelWidth, cameraLeft, cameraRight);
+    }
+}
@@ -1,5 +1,6 @@
 package com.labubushooter.frontend;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.labubushooter.frontend.services.PlayerApiService.PlayerData;
@@ -7,6 +8,8 @@ import com.labubushooter.frontend.services.PlayerApiService.PlayerData;
 /**
  * Debug Manager untuk skip menu dan backend checking
  * Aktifkan dengan: Right Ctrl + D
+ * Profiler overlay: Right Ctrl + P (works outside debug mode too)
+ * Trace recording: Right Ctrl + T starts it, pressed again dumps it
  */
 public class DebugManager {
     
@@ -19,6 +22,9 @@ public class DebugManager {
     
     // Track if debug was used this session (for re-activation after restart)
     private boolean debugUsedThisSession = false;
+
+    private boolean profilerKeyWasPressed = false;
+    private boolean traceKeyWasPressed = false;
     
     /**
      * Check if debug mode should be activated (Right Ctrl + D)
@@ -28,8 +34,9 @@ public class DebugManager {
         boolean rightCtrlHeld = Gdx.input.isKeyPressed(Input.Keys.CONTROL_RIGHT);
         boolean dPressed = Gdx.input.isKeyPressed(Input.Keys.D);
         
-        // Debug: Log key states occasionally
-        if (rightCtrlHeld || dPressed) {
+        // Debug: Log key states occasionally (D is also "move right", so skip the
+        // string building unless debug logging is on)
+        if ((rightCtrlHeld || dPressed) && Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
             Gdx.app.debug("DebugManager", "Keys: RCtrl=" + rightCtrlHeld + 
                          ", D=" + dPressed + 
                          ", wasPressed=" + debugKeyWasPressed +
@@ -54,6 +61,48 @@ public class DebugManager {
         return false;
     }
     
+    /**
+     * Check if the profiler overlay should be toggled (Right Ctrl + P)
+     * @return true if the overlay was just toggled
+     */
+    public boolean checkProfilerToggle() {
+        boolean rightCtrlHeld = Gdx.input.isKeyPressed(Input.Keys.CONTROL_RIGHT);
+        boolean pPressed = Gdx.input.isKeyPressed(Input.Keys.P);
+
+        if (rightCtrlHeld && pPressed && !profilerKeyWasPressed) {
+            profilerKeyWasPressed = true;
+            return true;
+        }
+
+        // Reset the key press flag when P is released
+        if (!pPressed) {
+            profilerKeyWasPressed = false;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check if the trace key was pressed (Right Ctrl + T)
+     * @return true once per press
+     */
+    public boolean checkTraceKey() {
+        boolean rightCtrlHeld = Gdx.input.isKeyPressed(Input.Keys.CONTROL_RIGHT);
+        boolean tPressed = Gdx.input.isKeyPressed(Input.Keys.T);
+
+        if (rightCtrlHeld && tPressed && !traceKeyWasPressed) {
+            traceKeyWasPressed = true;
+            return true;
+        }
+
+        // Reset the key press flag when T is released
+        if (!tPressed) {
+            traceKeyWasPressed = false;
+        }
+
+        return false;
+    }
+
     /**
      * Activate debug mode
      */
@@ -80,6 +129,8 @@ public class DebugManager {
         Gdx.app.log("Debug", "  F5 - Skip to Level 5 (Final Boss)");
         Gdx.app.log("Debug", "  K  - Insta-kill Boss");
         Gdx.app.log("Debug", "  1/2/3 - Switch weapons");
+        Gdx.app.log("Debug", "  RCtrl+P - Toggle profiler overlay");
+        Gdx.app.log("Debug", "  RCtrl+T - Start trace / dump trace");
         Gdx.app.log("Debug", "════════════════════════════════════════");
     }
     
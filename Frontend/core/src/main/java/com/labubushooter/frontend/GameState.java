@@ -3,6 +3,7 @@ package com.labubushooter.frontend;
 public enum GameState {
     USERNAME_INPUT,
     LOADING_PLAYER_DATA,
+    LOADING_ASSETS,
     CONTINUE_OR_NEW,
     PLAYING,
     PAUSED,
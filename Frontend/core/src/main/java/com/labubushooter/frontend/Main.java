@@ -2,17 +2,23 @@ package com.labubushooter.frontend;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.labubushooter.frontend.animation.PlayerAnimationStrategy;
+import com.labubushooter.frontend.core.FixedTimestep;
 import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.LiveInputSource;
 import com.labubushooter.frontend.objects.*;
 import com.labubushooter.frontend.patterns.CoinPattern;
 import com.labubushooter.frontend.patterns.IBackgroundRenderStrategy;
@@ -25,14 +31,29 @@ import com.labubushooter.frontend.patterns.levels.*;
 import com.labubushooter.frontend.patterns.weapons.Mac10Strategy;
 import com.labubushooter.frontend.patterns.weapons.PistolStrategy;
 import com.labubushooter.frontend.patterns.weapons.UnarmedStrategy;
+import com.labubushooter.frontend.replay.ReplayHeader;
+import com.labubushooter.frontend.replay.ReplayPlayer;
+import com.labubushooter.frontend.replay.ReplayRecorder;
+import com.labubushooter.frontend.replay.ReplaySession;
 import com.labubushooter.frontend.screens.*;
 import com.labubushooter.frontend.services.AssetManager;
 import com.labubushooter.frontend.services.BackgroundRenderer;
 import com.labubushooter.frontend.services.BackgroundStrategyResolver;
 import com.labubushooter.frontend.services.BackgroundTextureResolver;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.InstancedSpriteRenderer;
 import com.labubushooter.frontend.services.PlayerApiService;
+import com.labubushooter.frontend.services.ProfilerOverlay;
+import com.labubushooter.frontend.services.RenderQueue;
+import com.labubushooter.frontend.services.StaticLevelCache;
+import com.labubushooter.frontend.services.TintFlashShader;
+import com.labubushooter.frontend.services.TraceRecorder;
 import com.labubushooter.frontend.systems.GameWorld;
+import com.labubushooter.frontend.systems.LevelLoader;
 
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -55,10 +76,17 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
     private GameContext gameContext;
     private ScreenManager screenManager;
     private AssetManager assetManager;
+    private LevelLoader levelLoader;
+    private GamePlayScreen gamePlayScreen;
+    private LiveInputSource liveInput;
 
     // ==================== RESOURCES ====================
     private SpriteBatch batch;
+    private ShaderProgram tintFlashShader;
     private ShapeRenderer shapeRenderer;
+    private StaticLevelCache staticLevelCache;
+    private InstancedSpriteRenderer instancedRenderer;
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
     private OrthographicCamera camera;
     private Viewport viewport;
 
@@ -67,37 +95,37 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
     private BitmapFont smallFont;
     private GlyphLayout layout;
 
-    // Textures
-    private Texture playerTex, platformTex, groundTex, bulletTex, exitTex;
-    private Texture pistolTex, mac10Tex, debugTex, levelIndicatorTex, enemyTex;
-    private Texture levelIndicator1Tex, levelIndicator2Tex, levelIndicator3Tex;
-    private Texture levelIndicator4Tex, levelIndicator5Tex;
-    private Texture enemyFrame1Tex, enemyFrame2Tex;
-    private Texture bossTex, enemyBulletTex;
-    private Texture miniBossWalkFrame1Tex, miniBossWalkFrame2Tex;
-    private Texture miniBossCrouchTex, miniBossDashPrepTex, miniBossDashTex;
-    private Texture whiteFlashTex, redFlashTex, yellowFlashTex;
-    private Texture backgroundTex, buttonTex, buttonHoverTex;
+    // Textures (atlas regions; the background is a standalone texture)
+    private TextureRegion playerTex, platformTex, groundTex, bulletTex, exitTex;
+    private TextureRegion pistolTex, mac10Tex, debugTex, levelIndicatorTex, enemyTex;
+    private TextureRegion levelIndicator1Tex, levelIndicator2Tex, levelIndicator3Tex;
+    private TextureRegion levelIndicator4Tex, levelIndicator5Tex;
+    private TextureRegion enemyFrame1Tex, enemyFrame2Tex;
+    private TextureRegion bossTex, enemyBulletTex, coinTex;
+    private TextureRegion miniBossWalkFrame1Tex, miniBossWalkFrame2Tex;
+    private TextureRegion miniBossCrouchTex, miniBossDashPrepTex, miniBossDashTex;
+    private TextureRegion buttonTex, buttonHoverTex;
+    private Texture backgroundTex;
     
     // Player animation textures
-    private Texture playerWalkFrame1Tex, playerWalkFrame2Tex, playerCrouchTex;
+    private TextureRegion playerWalkFrame1Tex, playerWalkFrame2Tex, playerCrouchTex;
     
 
     // Pickup Textures
-    private Texture ammo9mmTex, ammo45CalTex, healthPotionTex;
+    private TextureRegion ammo9mmTex, ammo45CalTex, healthPotionTex;
 
     // Game Objects
     private Player player;
     private Array<Platform> platforms;
     private Array<Ground> grounds;
 
+    // Projectiles
+    private ProjectileStore playerProjectiles;
+    private ProjectileStore enemyProjectiles;
+
     // Object Pools
-    private Pool<Bullet> bulletPool;
-    private Array<Bullet> activeBullets;
     private Pool<CommonEnemy> enemyPool;
     private Array<CommonEnemy> activeEnemies;
-    private Pool<EnemyBullet> enemyBulletPool;
-    private Array<EnemyBullet> activeEnemyBullets;
     private Pool<Coin> coinPool;
     private Array<Coin> activeCoins;
 
@@ -117,16 +145,31 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
     private static final float VIEWPORT_WIDTH = 1066f;
     private static final float VIEWPORT_HEIGHT = 600f;
 
+    // Hard caps on live projectiles (oldest evicted first)
+    private static final int MAX_PLAYER_PROJECTILES = 256;
+    private static final int MAX_ENEMY_PROJECTILES = 512;
+
+    // Simulation rate override, e.g. -Dlabubu.simHz=60 on weak machines
+    private static final String SIM_HZ_PROPERTY = "labubu.simHz";
+
+    // Replays: -Dlabubu.recordDir=<dir> records every play session,
+    // -Dlabubu.replay=<file> plays one back and exits
+    private static final String RECORD_DIR_PROPERTY = "labubu.recordDir";
+    private static final String REPLAY_PROPERTY = "labubu.replay";
+
+    // Milliseconds per frame spent uploading textures while assets load
+    private static final int ASSET_UPLOAD_BUDGET_MS = 4;
+
     @Override
     public void create() {
-        // 1. Initialize AssetManager first (loads all textures and fonts)
+        // 1. Start AssetManager: fonts and UI textures now, sprites decode in the background
         assetManager = AssetManager.getInstance();
-        assetManager.initialize();
+        assetManager.startLoading();
 
-        // 2. Create all resources (pools, strategies, etc.)
+        // 2. Create the resources the menus need (rendering, pools, strategies, etc.)
         createResources();
 
-        // 3. Initialize GameContext with all resources
+        // 3. Initialize GameContext with those resources
         initializeGameContext();
 
         // 4. Set callback on context
@@ -135,6 +178,26 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         // 5. Initialize Screen Manager with all screens
         initializeScreenManager();
 
+        // 6. Gameplay objects are built in onAssetsLoaded() once the sprites are in
+        Gdx.app.log("Main", "Menus ready, loading game assets");
+    }
+
+    /**
+     * Called on the first frame on which every texture is loaded: builds
+     * the objects that need sprites and, if requested, starts replay playback.
+     */
+    private void onAssetsLoaded() {
+        loadGameTextures();
+        createGameObjects();
+        initializeGameObjects();
+        gameContext.assetsLoaded = true;
+
+        // Optional replay playback instead of live play
+        String replayPath = System.getProperty(REPLAY_PROPERTY);
+        if (replayPath != null) {
+            startReplay(replayPath);
+        }
+
         Gdx.app.log("Main", "Game initialized successfully");
     }
 
@@ -142,8 +205,10 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
 
     private void createResources() {
         // Core rendering
-        batch = new SpriteBatch();
+        batch = createBatch();
         shapeRenderer = new ShapeRenderer();
+        staticLevelCache = new StaticLevelCache();
+        instancedRenderer = createInstancedRenderer();
         camera = new OrthographicCamera();
         viewport = new ExtendViewport(VIEWPORT_WIDTH, VIEWPORT_HEIGHT, camera);
         viewport.apply();
@@ -155,64 +220,24 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         smallFont = assetManager.getSmallFont();
         layout = new GlyphLayout();
 
-        // Textures from AssetManager
-        playerTex = assetManager.getTexture(AssetManager.PLAYER);
-        playerWalkFrame1Tex = assetManager.getTexture(AssetManager.PLAYER_WALK_FRAME1);
-        playerWalkFrame2Tex = assetManager.getTexture(AssetManager.PLAYER_WALK_FRAME2);
-        playerCrouchTex = assetManager.getTexture(AssetManager.PLAYER_CROUCH);
-        platformTex = assetManager.getTexture(AssetManager.PLATFORM);
-        groundTex = assetManager.getTexture(AssetManager.GROUND_BASE);
-        exitTex = assetManager.getTexture(AssetManager.EXIT_DOOR);
-        enemyTex = assetManager.getTexture(AssetManager.ENEMY);
-        enemyFrame1Tex = assetManager.getTexture(AssetManager.ENEMY_FRAME1);
-        enemyFrame2Tex = assetManager.getTexture(AssetManager.ENEMY_FRAME2);
-        // Initialize with level 1 background as default
-        backgroundTex = assetManager.getTexture(AssetManager.BACKGROUND_LEVEL1);
-
-        // Boss textures from AssetManager
-        miniBossWalkFrame1Tex = assetManager.getTexture(AssetManager.MINI_BOSS_WALK_FRAME1);
-        miniBossWalkFrame2Tex = assetManager.getTexture(AssetManager.MINI_BOSS_WALK_FRAME2);
-        miniBossCrouchTex = assetManager.getTexture(AssetManager.MINI_BOSS_CROUCH);
-        miniBossDashPrepTex = assetManager.getTexture(AssetManager.MINI_BOSS_DASHPREP);
-        miniBossDashTex = assetManager.getTexture(AssetManager.MINI_BOSS_DASH);
-        bossTex = assetManager.getTexture(AssetManager.BOSS);
-
-        // Weapon textures from AssetManager
-        pistolTex = assetManager.getTexture(AssetManager.PISTOL);
-        mac10Tex = assetManager.getTexture(AssetManager.MAC10);
-
-        // Bullet texture from AssetManager
-        bulletTex = assetManager.getTexture(AssetManager.BULLET);
-
         // Generated textures from AssetManager
-        debugTex = assetManager.getTexture(AssetManager.DEBUG_LINE);
-        levelIndicatorTex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR);
-        levelIndicator1Tex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR_1);
-        levelIndicator2Tex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR_2);
-        levelIndicator3Tex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR_3);
-        levelIndicator4Tex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR_4);
-        levelIndicator5Tex = assetManager.getTexture(AssetManager.LEVEL_INDICATOR_5);
-        enemyBulletTex = assetManager.getTexture(AssetManager.ENEMY_BULLET);
-        whiteFlashTex = assetManager.getTexture(AssetManager.FLASH_WHITE);
-        redFlashTex = assetManager.getTexture(AssetManager.FLASH_RED);
-        yellowFlashTex = assetManager.getTexture(AssetManager.FLASH_YELLOW);
-        buttonTex = assetManager.getTexture(AssetManager.BUTTON);
-        buttonHoverTex = assetManager.getTexture(AssetManager.BUTTON_HOVER);
-
-        // Pickup Textures
-        ammo9mmTex = assetManager.getTexture(AssetManager.AMMO_9MM);
-        ammo45CalTex = assetManager.getTexture(AssetManager.AMMO_45CAL);
-        healthPotionTex = assetManager.getTexture(AssetManager.HEALTH_POTION);
+        debugTex = assetManager.getRegion(AssetManager.DEBUG_LINE);
+        levelIndicatorTex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR);
+        levelIndicator1Tex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR_1);
+        levelIndicator2Tex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR_2);
+        levelIndicator3Tex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR_3);
+        levelIndicator4Tex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR_4);
+        levelIndicator5Tex = assetManager.getRegion(AssetManager.LEVEL_INDICATOR_5);
+        enemyBulletTex = assetManager.getRegion(AssetManager.ENEMY_BULLET);
+        coinTex = assetManager.getRegion(AssetManager.COIN);
+        buttonTex = assetManager.getRegion(AssetManager.BUTTON);
+        buttonHoverTex = assetManager.getRegion(AssetManager.BUTTON_HOVER);
+
+        // Projectile stores (allocated at full size so gameplay never grows them)
+        playerProjectiles = new ProjectileStore(MAX_PLAYER_PROJECTILES, MAX_PLAYER_PROJECTILES);
+        enemyProjectiles = new ProjectileStore(MAX_ENEMY_PROJECTILES, MAX_ENEMY_PROJECTILES);
 
         // Object pools
-        bulletPool = new Pool<Bullet>() {
-            @Override
-            protected Bullet newObject() {
-                return new Bullet();
-            }
-        };
-        activeBullets = new Array<>();
-
         enemyPool = new Pool<CommonEnemy>() {
             @Override
             protected CommonEnemy newObject() {
@@ -221,14 +246,6 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         };
         activeEnemies = new Array<>();
 
-        enemyBulletPool = new Pool<EnemyBullet>() {
-            @Override
-            protected EnemyBullet newObject() {
-                return new EnemyBullet();
-            }
-        };
-        activeEnemyBullets = new Array<>();
-
         coinPool = new Pool<Coin>() {
             @Override
             protected Coin newObject() {
@@ -239,8 +256,6 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
 
         // Patterns & strategies
         coinPattern = new LinePattern();
-        pistolStrategy = new PistolStrategy(pistolTex);
-        mac10Strategy = new Mac10Strategy(mac10Tex);
         unarmedStrategy = new UnarmedStrategy();
 
         levelStrategies = new HashMap<>();
@@ -250,9 +265,65 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         levelStrategies.put(4, new Level4Strategy());
         levelStrategies.put(5, new Level5Strategy());
 
+        // Services
+        playerApi = new PlayerApiService();
+        debugManager = new DebugManager();
+        random = new Random();
+
+        // Initialize arrays
+        platforms = new Array<>();
+        grounds = new Array<>();
+    }
+
+    /**
+     * File-based sprites and backgrounds, available once AssetManager has
+     * finished loading.
+     */
+    private void loadGameTextures() {
+        // Textures from AssetManager
+        playerTex = assetManager.getRegion(AssetManager.PLAYER);
+        playerWalkFrame1Tex = assetManager.getRegion(AssetManager.PLAYER_WALK_FRAME1);
+        playerWalkFrame2Tex = assetManager.getRegion(AssetManager.PLAYER_WALK_FRAME2);
+        playerCrouchTex = assetManager.getRegion(AssetManager.PLAYER_CROUCH);
+        platformTex = assetManager.getRegion(AssetManager.PLATFORM);
+        groundTex = assetManager.getRegion(AssetManager.GROUND_BASE);
+        exitTex = assetManager.getRegion(AssetManager.EXIT_DOOR);
+        enemyTex = assetManager.getRegion(AssetManager.ENEMY);
+        enemyFrame1Tex = assetManager.getRegion(AssetManager.ENEMY_FRAME1);
+        enemyFrame2Tex = assetManager.getRegion(AssetManager.ENEMY_FRAME2);
+        // Initialize with level 1 background as default
+        backgroundTex = assetManager.getTexture(AssetManager.BACKGROUND_LEVEL1);
+
+        // Boss textures from AssetManager
+        miniBossWalkFrame1Tex = assetManager.getRegion(AssetManager.MINI_BOSS_WALK_FRAME1);
+        miniBossWalkFrame2Tex = assetManager.getRegion(AssetManager.MINI_BOSS_WALK_FRAME2);
+        miniBossCrouchTex = assetManager.getRegion(AssetManager.MINI_BOSS_CROUCH);
+        miniBossDashPrepTex = assetManager.getRegion(AssetManager.MINI_BOSS_DASHPREP);
+        miniBossDashTex = assetManager.getRegion(AssetManager.MINI_BOSS_DASH);
+        bossTex = assetManager.getRegion(AssetManager.BOSS);
+
+        // Weapon textures from AssetManager
+        pistolTex = assetManager.getRegion(AssetManager.PISTOL);
+        mac10Tex = assetManager.getRegion(AssetManager.MAC10);
+
+        // Bullet texture from AssetManager
+        bulletTex = assetManager.getRegion(AssetManager.BULLET);
+
+        // Pickup Textures
+        ammo9mmTex = assetManager.getRegion(AssetManager.AMMO_9MM);
+        ammo45CalTex = assetManager.getRegion(AssetManager.AMMO_45CAL);
+        healthPotionTex = assetManager.getRegion(AssetManager.HEALTH_POTION);
+    }
+
+    /**
+     * Weapons and the player, which hold sprite regions.
+     */
+    private void createGameObjects() {
+        pistolStrategy = new PistolStrategy(pistolTex);
+        mac10Strategy = new Mac10Strategy(mac10Tex);
+
         // Player
         player = new Player(playerTex);
-        player.camera = camera;
         player.setWeapon(null);
         
         // Setup player animation strategy
@@ -265,15 +336,38 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         player.setAnimationStrategy(playerAnimation);
         
         player.setWeapon(pistolStrategy); // Default to pistol
+    }
 
-        // Services
-        playerApi = new PlayerApiService();
-        debugManager = new DebugManager();
-        random = new Random();
+    /**
+     * SpriteBatch drawing with the tint/flash shader, or with the default
+     * shader (flashes become plain tints) if it fails to compile.
+     */
+    private SpriteBatch createBatch() {
+        try {
+            tintFlashShader = TintFlashShader.create();
+            return new SpriteBatch(1000, tintFlashShader);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Main", "Tint/flash shader disabled: " + e.getMessage());
+            tintFlashShader = null;
+            return new SpriteBatch();
+        }
+    }
 
-        // Initialize arrays
-        platforms = new Array<>();
-        grounds = new Array<>();
+    /**
+     * Instanced renderer for projectiles, coins and pickups, or null to draw
+     * them with the SpriteBatch (no GL30, or the shader failed to compile).
+     */
+    private InstancedSpriteRenderer createInstancedRenderer() {
+        if (!InstancedSpriteRenderer.isSupported()) {
+            Gdx.app.log("Main", "GL30 unavailable, sprites are drawn with SpriteBatch only");
+            return null;
+        }
+        try {
+            return new InstancedSpriteRenderer();
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Main", "Instanced rendering disabled: " + e.getMessage());
+            return null;
+        }
     }
 
     private void initializeGameContext() {
@@ -282,6 +376,13 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         // Core rendering
         gameContext.batch = batch;
         gameContext.shapeRenderer = shapeRenderer;
+        gameContext.staticLevelCache = staticLevelCache;
+        gameContext.renderQueue.setFlashShaderEnabled(tintFlashShader != null);
+        if (instancedRenderer != null) {
+            gameContext.renderQueue.setInstancedRenderer(instancedRenderer,
+                RenderQueue.LAYER_PLAYER_BULLETS, RenderQueue.LAYER_ENEMY_BULLETS,
+                RenderQueue.LAYER_PICKUPS, RenderQueue.LAYER_COINS);
+        }
         gameContext.camera = camera;
         gameContext.viewport = viewport;
 
@@ -290,14 +391,7 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         gameContext.smallFont = smallFont;
         gameContext.layout = layout;
 
-        // Textures
-        gameContext.playerTex = playerTex;
-        gameContext.platformTex = platformTex;
-        gameContext.groundTex = groundTex;
-        gameContext.bulletTex = bulletTex;
-        gameContext.exitTex = exitTex;
-        gameContext.pistolTex = pistolTex;
-        gameContext.mac10Tex = mac10Tex;
+        // Generated textures
         gameContext.debugTex = debugTex;
         gameContext.levelIndicatorTex = levelIndicatorTex;
         gameContext.levelIndicator1Tex = levelIndicator1Tex;
@@ -305,48 +399,28 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         gameContext.levelIndicator3Tex = levelIndicator3Tex;
         gameContext.levelIndicator4Tex = levelIndicator4Tex;
         gameContext.levelIndicator5Tex = levelIndicator5Tex;
-        gameContext.enemyTex = enemyTex;
-        gameContext.backgroundTex = backgroundTex;
-
-        // Initialize BackgroundRenderer with FIT_HEIGHT strategy and CENTER alignment
-        // Ensures full vertical height visible at any resolution, width naturally cropped
-        gameContext.backgroundRenderer = new BackgroundRenderer(
-            backgroundTex,
-            new StaticBackgroundStrategy(ScalingMode.FIT_HEIGHT, VerticalAlignment.CENTER)
-        );
-        
-        gameContext.bossTex = bossTex;
         gameContext.enemyBulletTex = enemyBulletTex;
-        gameContext.whiteFlashTex = whiteFlashTex;
-        gameContext.redFlashTex = redFlashTex;
-        gameContext.yellowFlashTex = yellowFlashTex;
+        gameContext.coinTex = coinTex;
         gameContext.buttonTex = buttonTex;
         gameContext.buttonHoverTex = buttonHoverTex;
 
-        // Pickup Textures
-        gameContext.ammo9mmTex = ammo9mmTex;
-        gameContext.ammo45CalTex = ammo45CalTex;
-        gameContext.healthPotionTex = healthPotionTex;
-
         // Game objects
-        gameContext.player = player;
         gameContext.platforms = platforms;
         gameContext.grounds = grounds;
 
         // Pools
-        gameContext.bulletPool = bulletPool;
-        gameContext.activeBullets = activeBullets;
+        gameContext.playerProjectiles = playerProjectiles;
+        gameContext.enemyProjectiles = enemyProjectiles;
+        gameContext.simulationClock = new FixedTimestep(
+            Integer.getInteger(SIM_HZ_PROPERTY, FixedTimestep.DEFAULT_STEP_HZ),
+            FixedTimestep.DEFAULT_MAX_SUB_STEPS);
         gameContext.enemyPool = enemyPool;
         gameContext.activeEnemies = activeEnemies;
-        gameContext.enemyBulletPool = enemyBulletPool;
-        gameContext.activeEnemyBullets = activeEnemyBullets;
         gameContext.coinPool = coinPool;
         gameContext.activeCoins = activeCoins;
 
         // Patterns
         gameContext.coinPattern = coinPattern;
-        gameContext.pistolStrategy = pistolStrategy;
-        gameContext.mac10Strategy = mac10Strategy;
         gameContext.unarmedStrategy = unarmedStrategy;
         gameContext.levelStrategies = levelStrategies;
 
@@ -355,16 +429,62 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         gameContext.debugManager = debugManager;
         gameContext.random = random;
 
+        // Keyboard and mouse drive the player
+        liveInput = new LiveInputSource(camera);
+        gameContext.inputSource = liveInput;
+    }
+
+    /**
+     * Adds the sprite-based resources to the GameContext and builds the
+     * systems that use them.
+     */
+    private void initializeGameObjects() {
+        // Textures
+        gameContext.playerTex = playerTex;
+        gameContext.platformTex = platformTex;
+        gameContext.groundTex = groundTex;
+        gameContext.bulletTex = bulletTex;
+        gameContext.exitTex = exitTex;
+        gameContext.pistolTex = pistolTex;
+        gameContext.mac10Tex = mac10Tex;
+        gameContext.enemyTex = enemyTex;
+        gameContext.backgroundTex = backgroundTex;
+
+        // Initialize BackgroundRenderer with FIT_HEIGHT strategy and CENTER alignment
+        // Ensures full vertical height visible at any resolution, width naturally cropped
+        gameContext.backgroundRenderer = new BackgroundRenderer(
+            backgroundTex,
+            new StaticBackgroundStrategy(ScalingMode.FIT_HEIGHT, VerticalAlignment.CENTER)
+        );
+        
+        gameContext.bossTex = bossTex;
+        gameContext.miniBossWalkFrame1Tex = miniBossWalkFrame1Tex;
+        gameContext.miniBossWalkFrame2Tex = miniBossWalkFrame2Tex;
+        gameContext.miniBossCrouchTex = miniBossCrouchTex;
+        gameContext.miniBossDashPrepTex = miniBossDashPrepTex;
+        gameContext.miniBossDashTex = miniBossDashTex;
+
+        // Pickup Textures
+        gameContext.ammo9mmTex = ammo9mmTex;
+        gameContext.ammo45CalTex = ammo45CalTex;
+        gameContext.healthPotionTex = healthPotionTex;
+
+        // Player and weapons
+        gameContext.player = player;
+        gameContext.pistolStrategy = pistolStrategy;
+        gameContext.mac10Strategy = mac10Strategy;
+
         // Initialize GameWorld system for entity management
         // GameWorld handles physics, collision, and entity lifecycle
         gameContext.gameWorld = new GameWorld(gameContext);
+        levelLoader = new LevelLoader(gameContext);
     }
 
     private void initializeScreenManager() {
         screenManager = new ScreenManager(gameContext);
 
         // Create GamePlayScreen
-        GamePlayScreen gamePlayScreen = new GamePlayScreen(gameContext);
+        gamePlayScreen = new GamePlayScreen(gameContext);
         gamePlayScreen.setCallback(new GamePlayScreen.GamePlayCallback() {
             @Override
             public void loadLevel(int level) {
@@ -398,6 +518,7 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         // Register all screens
         screenManager.registerScreen(GameState.USERNAME_INPUT, usernameScreen);
         screenManager.registerScreen(GameState.LOADING_PLAYER_DATA, new LoadingScreen(gameContext));
+        screenManager.registerScreen(GameState.LOADING_ASSETS, new LoadingScreen(gameContext));
         screenManager.registerScreen(GameState.CONTINUE_OR_NEW, continueOrNewScreen);
         screenManager.registerScreen(GameState.PLAYING, gamePlayScreen);
         screenManager.registerScreen(GameState.PAUSED, pauseScreen);
@@ -415,13 +536,26 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
 
     @Override
     public void loadLevel(int level) {
-        LevelStrategy strategy = levelStrategies.get(level);
-        if (strategy == null) {
-            Gdx.app.error("Main", "Level " + level + " not found!");
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.begin("Main.loadLevel");
+        // The first load of a play session starts its recording
+        String recordDir = System.getProperty(RECORD_DIR_PROPERTY);
+        if (recordDir != null && gameContext.replayRecorder == null && gameContext.replayPlayer == null) {
+            startRecording(recordDir, level);
+        } else {
+            loadLevelContent(level);
+        }
+        trace.end("Main.loadLevel");
+    }
+
+    private void loadLevelContent(int level) {
+        // Gameplay state (geometry, bosses, coins, enemies, player, camera)
+        if (!levelLoader.loadLevel(level)) {
             return;
         }
 
-        gameContext.currentLevel = level;
+        // Bake the new level's static scenery
+        staticLevelCache.rebuild(gameContext);
 
         // Get appropriate background texture for this level
         Texture levelBackgroundTex = BackgroundTextureResolver.getTexture(level, assetManager);
@@ -433,78 +567,59 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         // Get and set appropriate background rendering strategy for this level
         IBackgroundRenderStrategy backgroundStrategy = BackgroundStrategyResolver.getStrategy(level);
         gameContext.backgroundRenderer.setRenderStrategy(backgroundStrategy);
+    }
 
-        // Clear existing objects
-        platforms.clear();
-        grounds.clear();
-        activeBullets.clear();
+    // ==================== REPLAYS ====================
 
-        for (CommonEnemy enemy : activeEnemies) {
-            enemyPool.free(enemy);
-        }
-        activeEnemies.clear();
+    private void startRecording(String recordDir, int level) {
+        String name = "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".lbr";
+        FileHandle file = Gdx.files.absolute(new File(recordDir, name).getAbsolutePath());
+        ReplayHeader header = ReplaySession.captureHeader(gameContext, level, ReplaySession.newSeed());
 
-        for (EnemyBullet eb : activeEnemyBullets) {
-            enemyBulletPool.free(eb);
+        ReplayRecorder recorder;
+        try {
+            recorder = new ReplayRecorder(liveInput, gameContext, file, header);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Main", "Recording disabled: " + e.getMessage());
+            loadLevelContent(level);
+            return;
         }
-        activeEnemyBullets.clear();
 
-        for (Coin coin : activeCoins) {
-            coinPool.free(coin);
-        }
-        activeCoins.clear();
-
-        // Spawn boss for levels 3 and 5
-        if (level == 3) {
-            gameContext.miniBoss = new MiniBossEnemy(
-                miniBossWalkFrame1Tex, miniBossWalkFrame2Tex,
-                miniBossCrouchTex, miniBossDashPrepTex, miniBossDashTex,
-                whiteFlashTex, yellowFlashTex);
-            gameContext.miniBoss.init(strategy.getBossSpawnX(), strategy.getBossSpawnY());
-            gameContext.boss = null;
-            Gdx.app.log("Level3", "Mini Boss spawned!");
-        } else if (level == 5) {
-            gameContext.boss = new FinalBoss(bossTex, redFlashTex, enemyBulletTex);
-            gameContext.boss.init(strategy.getBossSpawnX(), strategy.getBossSpawnY());
-            gameContext.miniBoss = null;
-            Gdx.app.log("Level5", "Final Boss spawned!");
-        } else {
-            gameContext.miniBoss = null;
-            gameContext.boss = null;
-        }
+        gameContext.replayRecorder = recorder;
+        gameContext.inputSource = recorder;
+        ReplaySession.start(gameContext, header, this::loadLevelContent);
+    }
 
-        // Set level width
-        gameContext.currentLevelWidth = strategy.getLevelWidth();
-        if (level == 5) {
-            gameContext.currentLevelWidth = Math.max(gameContext.currentLevelWidth, viewport.getWorldWidth());
+    private void stopRecording() {
+        if (gameContext.replayRecorder != null) {
+            gameContext.replayRecorder.close();
+            gameContext.replayRecorder = null;
+            gameContext.inputSource = liveInput;
         }
+    }
 
-        // Load platforms and ground
-        strategy.loadPlatforms(platforms, platformTex);
-        strategy.loadGround(grounds, groundTex);
-
-        // Position player
-        player.bounds.setPosition(strategy.getPlayerStartX(), strategy.getPlayerStartY());
-        Player.LEVEL_WIDTH = gameContext.currentLevelWidth;
+    private void startReplay(String path) {
+        ReplayPlayer replay = new ReplayPlayer(Gdx.files.absolute(new File(path).getAbsolutePath()));
+        ReplayHeader header = replay.getHeader();
+        replay.attach(gameContext);
 
-        // Reset camera
-        camera.position.x = VIEWPORT_WIDTH / 2;
-        camera.update();
+        gameContext.replayPlayer = replay;
+        gameContext.inputSource = replay;
+        gameContext.simulationClock = new FixedTimestep(header.stepHz, FixedTimestep.DEFAULT_MAX_SUB_STEPS);
+        gameContext.username = "replay";
+        gameContext.currentPlayerData = debugManager.createDebugPlayerData();
 
-        // Spawn coins
-        setupCoinSpawnLocations(level);
-        spawnCoinsForLevel();
-
-        // Spawn initial enemies via GameWorld (uses Strategy Pattern)
-        if (gameContext.gameWorld != null) {
-            gameContext.gameWorld.spawnInitialEnemies();
-        }
-
-        Gdx.app.log("Main", "Loaded Level " + level + " | Width: " + gameContext.currentLevelWidth);
+        ReplaySession.start(gameContext, header, this::loadLevelContent);
+        gamePlayScreen.setNeedsLevelLoad(false);
+        screenManager.setScreen(GameState.PLAYING);
+        Gdx.app.log("Main", "Replaying " + path + ": " + header);
     }
 
     @Override
     public void saveProgress() {
+        if (gameContext.replayPlayer != null) {
+            return;
+        }
         if (debugManager.isDebugModeActive()) {
             debugManager.logSkippedAction("Save to backend");
             Gdx.app.log("Main", "Game saved (debug mode - skipped backend)");
@@ -555,6 +670,7 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         if (debugManager != null) {
             debugManager.reset();
         }
+        stopRecording();
         
         gameContext.clearGameObjects();
         gameContext.resetPlayer();
@@ -572,6 +688,7 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         if (debugManager != null) {
             debugManager.reset();
         }
+        stopRecording();
         
         gameContext.clearGameObjects();
         gameContext.resetPlayer();
@@ -589,66 +706,40 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         Gdx.app.log("Main", "Returned to username input, debug reset complete");
     }
 
-    // ==================== LEVEL HELPER METHODS ====================
-
-    private void setupCoinSpawnLocations(int level) {
-        gameContext.coinSpawnLocations = new Array<>();
-
-        final float PLATFORM_OFFSET = 30f;
-        final float GROUND_Y = 50f;
-        final float GROUND_HEIGHT = 50f;
-        final float PLATFORM_HEIGHT = 20f;
-        final float JUMP_OFFSET = 500f / 2.5f - 50f;
-
-        switch (level) {
-            case 1:
-                gameContext.coinSpawnLocations.add(new float[]{600f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{900f, GROUND_Y + GROUND_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1300f, 300f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1700f, GROUND_Y + GROUND_HEIGHT + JUMP_OFFSET});
-                break;
-            case 2:
-                gameContext.coinSpawnLocations.add(new float[]{650f, 150f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{950f, 250f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1300f, 350f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1650f, GROUND_Y + GROUND_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1900f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                break;
-            case 3:
-                gameContext.coinSpawnLocations.add(new float[]{550f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1150f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                break;
-            case 4:
-                gameContext.coinSpawnLocations.add(new float[]{750f, 300f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1050f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1400f, 350f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{1650f, 250f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{2000f, 180f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                break;
-            case 5:
-                gameContext.coinSpawnLocations.add(new float[]{300f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{800f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                gameContext.coinSpawnLocations.add(new float[]{550f, 330f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
-                break;
-        }
-    }
-
-    private void spawnCoinsForLevel() {
-        for (float[] location : gameContext.coinSpawnLocations) {
-            Array<Coin> spawnedCoins = coinPattern.spawn(coinPool, location[0], location[1]);
-            activeCoins.addAll(spawnedCoins);
-        }
-        Gdx.app.log("Coins", "Spawned " + activeCoins.size + " coins");
-    }
-
     // ==================== LIFECYCLE ====================
 
     @Override
     public void render() {
         float delta = Gdx.graphics.getDeltaTime();
 
+        // Upload the next decoded textures while assets are loading
+        if (!gameContext.assetsLoaded && assetManager.update(ASSET_UPLOAD_BUDGET_MS)) {
+            onAssetsLoaded();
+        }
+
+        // Trace: dump after a hitch, or start/dump on Right Ctrl + T
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.checkSlowFrame(delta);
+        if (debugManager.checkTraceKey()) {
+            if (trace.isRecording()) {
+                trace.dump("manual");
+            } else {
+                trace.start();
+                Gdx.app.log("Main", "Trace recording started");
+            }
+        }
+
+        if (debugManager.checkProfilerToggle()) {
+            gameContext.profiler.setEnabled(!gameContext.profiler.isEnabled());
+            Gdx.app.log("Main", "Profiler overlay " + (gameContext.profiler.isEnabled() ? "on" : "off"));
+        }
+        gameContext.profiler.beginFrame();
+
         // Debug mode activation check
-        if (debugManager.checkDebugActivation()) {
+        // (before the sprites are in, UsernameInputScreen handles it via the loading screen)
+        if (gameContext.assetsLoaded && gameContext.replayPlayer == null
+                && debugManager.checkDebugActivation()) {
+            stopRecording();
             gameContext.username = debugManager.getDebugUsername();
             gameContext.currentPlayerData = debugManager.createDebugPlayerData();
             gameContext.coinsCollectedThisSession = 0;
@@ -660,6 +751,9 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
 
         // Render via ScreenManager
         screenManager.render(delta);
+
+        gameContext.profiler.endFrame(delta);
+        profilerOverlay.draw(gameContext);
     }
 
     @Override
@@ -670,9 +764,14 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
 
     @Override
     public void dispose() {
-        // Dispose batch and shapeRenderer
+        stopRecording();
+
+        // Dispose batch, shapeRenderer and other GPU resources
         if (batch != null) batch.dispose();
+        if (tintFlashShader != null) tintFlashShader.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
+        if (staticLevelCache != null) staticLevelCache.dispose();
+        if (instancedRenderer != null) instancedRenderer.dispose();
 
         // Dispose screen manager
         if (screenManager != null) screenManager.dispose();
@@ -680,6 +779,9 @@ public class Main extends ApplicationAdapter implements GameContext.GameCallback
         // Dispose AssetManager (handles all textures and fonts)
         if (assetManager != null) assetManager.dispose();
 
+        // Print log events the formatter has not reached yet
+        GameLog.flush();
+
         Gdx.app.log("Main", "Game disposed successfully");
     }
 }
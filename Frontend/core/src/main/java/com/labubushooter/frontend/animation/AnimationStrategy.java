@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Strategy interface for animation behaviors.
@@ -27,7 +27,7 @@ public interface AnimationStrategy {
      * 
      * @return The current texture frame
      */
-    Texture getCurrentFrame();
+    TextureRegion getCurrentFrame();
     
     /**
      * Checks if the animation is facing left.
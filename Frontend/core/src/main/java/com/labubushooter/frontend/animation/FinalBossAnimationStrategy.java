@@ -1,7 +1,8 @@
 package com.labubushooter.frontend.animation;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.states.*;
 
 /**
@@ -44,7 +45,7 @@ public class FinalBossAnimationStrategy implements AnimationStrategy {
     private boolean isGrounded;
     
     // Fallback texture for error cases
-    private final Texture fallbackTexture;
+    private final TextureRegion fallbackTexture;
     
     /**
      * Creates a new Final Boss animation strategy with all phase textures.
@@ -64,10 +65,10 @@ public class FinalBossAnimationStrategy implements AnimationStrategy {
      * @param fallbackTexture Fallback texture (boss.png) for error cases
      */
     public FinalBossAnimationStrategy(
-            Texture phase1Walk1, Texture phase1Walk2, Texture phase1Jump, Texture phase1BigAttack,
-            Texture phase2Walk1, Texture phase2Walk2, Texture phase2Jump, Texture phase2BigAttack,
-            Texture phase3Walk1, Texture phase3Walk2, Texture phase3Jump, Texture phase3BigAttack,
-            Texture fallbackTexture) {
+            TextureRegion phase1Walk1, TextureRegion phase1Walk2, TextureRegion phase1Jump, TextureRegion phase1BigAttack,
+            TextureRegion phase2Walk1, TextureRegion phase2Walk2, TextureRegion phase2Jump, TextureRegion phase2BigAttack,
+            TextureRegion phase3Walk1, TextureRegion phase3Walk2, TextureRegion phase3Jump, TextureRegion phase3BigAttack,
+            TextureRegion fallbackTexture) {
         
         // Store fallback texture
         this.fallbackTexture = fallbackTexture;
@@ -137,7 +138,7 @@ public class FinalBossAnimationStrategy implements AnimationStrategy {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         if (currentState == null) {
             if (Gdx.app != null) {
                 Gdx.app.error("FinalBossAnimation", "Current state is null, using fallback");
@@ -246,8 +247,8 @@ public class FinalBossAnimationStrategy implements AnimationStrategy {
         }
         
         if (this.currentPhase != phase) {
-            if (Gdx.app != null) {
-                Gdx.app.log("FinalBossAnimation", "Phase changed from " + this.currentPhase + " to " + phase);
+            if (Gdx.app != null && Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("FinalBossAnimation", "Phase changed from " + this.currentPhase + " to " + phase);
             }
             this.currentPhase = phase;
         }
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Interface for MiniBoss animation states.
@@ -21,7 +21,7 @@ public interface MiniBossAnimationState {
      * 
      * @return The current texture to render
      */
-    Texture getCurrentFrame();
+    TextureRegion getCurrentFrame();
     
     /**
      * Updates the animation state based on elapsed time.
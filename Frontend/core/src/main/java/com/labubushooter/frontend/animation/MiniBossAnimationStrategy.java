@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.states.DashAnimationState;
 import com.labubushooter.frontend.animation.states.DashPrepAnimationState;
 import com.labubushooter.frontend.animation.states.InAirAnimationState;
@@ -47,9 +47,9 @@ public class MiniBossAnimationStrategy implements AnimationStrategy {
      * @param dashPrepTexture Dash prep texture
      * @param dashTexture Dash texture
      */
-    public MiniBossAnimationStrategy(Texture walkFrame1, Texture walkFrame2,
-                                     Texture crouchTexture, Texture dashPrepTexture,
-                                     Texture dashTexture) {
+    public MiniBossAnimationStrategy(TextureRegion walkFrame1, TextureRegion walkFrame2,
+                                     TextureRegion crouchTexture, TextureRegion dashPrepTexture,
+                                     TextureRegion dashTexture) {
         this.walkingState = new WalkingAnimationState(walkFrame1, walkFrame2);
         this.dashPrepState = new DashPrepAnimationState(dashPrepTexture);
         this.dashState = new DashAnimationState(dashTexture);
@@ -97,7 +97,7 @@ public class MiniBossAnimationStrategy implements AnimationStrategy {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return currentState.getCurrentFrame();
     }
     
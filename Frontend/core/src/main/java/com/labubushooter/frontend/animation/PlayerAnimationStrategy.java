@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.states.PlayerIdleState;
 import com.labubushooter.frontend.animation.states.PlayerInAirState;
 import com.labubushooter.frontend.animation.states.PlayerWalkingState;
@@ -55,8 +55,8 @@ public class PlayerAnimationStrategy implements AnimationStrategy {
      * @param walkFrame2 Second walking frame (player_walk_frame2.png)
      * @param crouchTexture Crouch texture for in-air state (player_crouch.png)
      */
-    public PlayerAnimationStrategy(Texture idleTexture, Texture walkFrame1, 
-                                   Texture walkFrame2, Texture crouchTexture) {
+    public PlayerAnimationStrategy(TextureRegion idleTexture, TextureRegion walkFrame1, 
+                                   TextureRegion walkFrame2, TextureRegion crouchTexture) {
         // Validate inputs
         if (idleTexture == null || walkFrame1 == null || 
             walkFrame2 == null || crouchTexture == null) {
@@ -146,10 +146,10 @@ public class PlayerAnimationStrategy implements AnimationStrategy {
      * Updates cached sprite dimensions based on current frame.
      */
     private void updateSpriteDimensions() {
-        Texture current = getCurrentFrame();
+        TextureRegion current = getCurrentFrame();
         if (current != null) {
-            currentSpriteWidth = current.getWidth();
-            currentSpriteHeight = current.getHeight();
+            currentSpriteWidth = current.getRegionWidth();
+            currentSpriteHeight = current.getRegionHeight();
         }
     }
     
@@ -163,7 +163,7 @@ public class PlayerAnimationStrategy implements AnimationStrategy {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return currentState.getCurrentFrame();
     }
     
@@ -1,6 +1,7 @@
 package com.labubushooter.frontend.animation;
 
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 
 /**
  * Utility class for aligning sprites to physics colliders.
@@ -10,6 +11,9 @@ import com.badlogic.gdx.math.Rectangle;
  * 
  * SOLID Principles:
  * - Single Responsibility: Only handles sprite alignment calculations
+ *
+ * Results are written into a caller-owned Vector2 so per-frame draw calls
+ * do not allocate.
  */
 public final class SpriteAligner {
     
@@ -84,14 +88,16 @@ public final class SpriteAligner {
      * @param collider The physics collider
      * @param spriteWidth Current sprite width
      * @param spriteHeight Current sprite height
-     * @return float array [x, y] for draw position
+     * @param out Receives the draw position (x, y)
+     * @return out, for chaining
      */
-    public static float[] getFootAlignedPosition(Rectangle collider, 
-                                                  float spriteWidth, 
-                                                  float spriteHeight) {
+    public static Vector2 getFootAlignedPosition(Rectangle collider,
+                                                 float spriteWidth,
+                                                 float spriteHeight,
+                                                 Vector2 out) {
         float x = getAlignedX(collider, spriteWidth, HorizontalAlign.CENTER);
         float y = getAlignedY(collider, spriteHeight, VerticalAlign.BOTTOM);
-        return new float[] { x, y };
+        return out.set(x, y);
     }
     
     /**
@@ -103,15 +109,16 @@ public final class SpriteAligner {
      * @param spriteHeight Current sprite height
      * @param offsetX Horizontal offset (positive = right)
      * @param offsetY Vertical offset (positive = up)
-     * @return float array [x, y] for draw position
+     * @param out Receives the draw position (x, y)
+     * @return out, for chaining
      */
-    public static float[] getAlignedPositionWithOffset(Rectangle collider,
-                                                        float spriteWidth,
-                                                        float spriteHeight,
-                                                        float offsetX,
-                                                        float offsetY) {
-        float[] basePos = getFootAlignedPosition(collider, spriteWidth, spriteHeight);
-        return new float[] { basePos[0] + offsetX, basePos[1] + offsetY };
+    public static Vector2 getAlignedPositionWithOffset(Rectangle collider,
+                                                       float spriteWidth,
+                                                       float spriteHeight,
+                                                       float offsetX,
+                                                       float offsetY,
+                                                       Vector2 out) {
+        return getFootAlignedPosition(collider, spriteWidth, spriteHeight, out).add(offsetX, offsetY);
     }
     
     /**
@@ -122,12 +129,14 @@ public final class SpriteAligner {
      * @param textureWidth Original texture width
      * @param textureHeight Original texture height
      * @param scale Scale factor (1.0 = fit to collider)
-     * @return float array [width, height] for scaled dimensions
+     * @param out Receives the scaled dimensions (x = width, y = height)
+     * @return out, for chaining
      */
-    public static float[] getScaledDimensions(Rectangle collider,
-                                               float textureWidth,
-                                               float textureHeight,
-                                               float scale) {
+    public static Vector2 getScaledDimensions(Rectangle collider,
+                                              float textureWidth,
+                                              float textureHeight,
+                                              float scale,
+                                              Vector2 out) {
         float textureAspect = textureWidth / textureHeight;
         float colliderAspect = collider.width / collider.height;
         
@@ -143,6 +152,6 @@ public final class SpriteAligner {
             drawHeight = drawWidth / textureAspect;
         }
         
-        return new float[] { drawWidth, drawHeight };
+        return out.set(drawWidth, drawHeight);
     }
 }
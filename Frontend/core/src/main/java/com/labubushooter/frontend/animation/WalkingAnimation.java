@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Walking animation implementation using two frames.
@@ -18,8 +18,8 @@ import com.badlogic.gdx.graphics.Texture;
  */
 public class WalkingAnimation implements AnimationStrategy {
     
-    private final Texture frame1;
-    private final Texture frame2;
+    private final TextureRegion frame1;
+    private final TextureRegion frame2;
     private float animationTimer;
     private boolean facingLeft;
     private boolean isFrame1;
@@ -34,7 +34,7 @@ public class WalkingAnimation implements AnimationStrategy {
      * @param frame1 First frame texture (default facing right)
      * @param frame2 Second frame texture (default facing right)
      */
-    public WalkingAnimation(Texture frame1, Texture frame2) {
+    public WalkingAnimation(TextureRegion frame1, TextureRegion frame2) {
         if (frame1 == null || frame2 == null) {
             throw new IllegalArgumentException("Frame textures cannot be null");
         }
@@ -63,7 +63,7 @@ public class WalkingAnimation implements AnimationStrategy {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         // When airborne, always return frame1 (static frame)
         if (!isGrounded) {
             return frame1;
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.MiniBossAnimationState;
 
 /**
@@ -17,14 +17,14 @@ import com.labubushooter.frontend.animation.MiniBossAnimationState;
  */
 public class InAirAnimationState implements MiniBossAnimationState {
     
-    private final Texture texture;
+    private final TextureRegion texture;
     
     /**
      * Creates a new in-air animation state.
      * 
      * @param texture The in-air texture (default: walk_frame2)
      */
-    public InAirAnimationState(Texture texture) {
+    public InAirAnimationState(TextureRegion texture) {
         if (texture == null) {
             throw new IllegalArgumentException("Texture cannot be null");
         }
@@ -32,7 +32,7 @@ public class InAirAnimationState implements MiniBossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return texture;
     }
     
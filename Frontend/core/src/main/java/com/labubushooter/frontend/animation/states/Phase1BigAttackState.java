@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -18,14 +18,14 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase1BigAttackState implements BossAnimationState {
     
-    private final Texture bigAttackTexture;
+    private final TextureRegion bigAttackTexture;
     
     /**
      * Creates a new Phase 1 big attack preparation animation state.
      * 
      * @param bigAttackTexture The big attack preparation texture (boss_phase1_bigattack.png)
      */
-    public Phase1BigAttackState(Texture bigAttackTexture) {
+    public Phase1BigAttackState(TextureRegion bigAttackTexture) {
         if (bigAttackTexture == null) {
             throw new IllegalArgumentException("Big attack texture cannot be null");
         }
@@ -33,7 +33,7 @@ public class Phase1BigAttackState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return bigAttackTexture;
     }
     
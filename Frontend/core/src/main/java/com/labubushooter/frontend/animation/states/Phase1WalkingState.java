@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -18,8 +18,8 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase1WalkingState implements BossAnimationState {
     
-    private final Texture frame1;
-    private final Texture frame2;
+    private final TextureRegion frame1;
+    private final TextureRegion frame2;
     private float animationTimer;
     private boolean isFrame1;
     
@@ -32,7 +32,7 @@ public class Phase1WalkingState implements BossAnimationState {
      * @param frame1 First frame texture (boss_phase1_walk1.png)
      * @param frame2 Second frame texture (boss_phase1_walk2.png)
      */
-    public Phase1WalkingState(Texture frame1, Texture frame2) {
+    public Phase1WalkingState(TextureRegion frame1, TextureRegion frame2) {
         if (frame1 == null || frame2 == null) {
             throw new IllegalArgumentException("Frame textures cannot be null");
         }
@@ -43,7 +43,7 @@ public class Phase1WalkingState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return isFrame1 ? frame1 : frame2;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -19,14 +19,14 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase2JumpingState implements BossAnimationState {
     
-    private final Texture jumpTexture;
+    private final TextureRegion jumpTexture;
     
     /**
      * Creates a new Phase 2 jumping animation state.
      * 
      * @param jumpTexture The jumping texture (boss_phase2_jump.png)
      */
-    public Phase2JumpingState(Texture jumpTexture) {
+    public Phase2JumpingState(TextureRegion jumpTexture) {
         if (jumpTexture == null) {
             throw new IllegalArgumentException("Jump texture cannot be null");
         }
@@ -34,7 +34,7 @@ public class Phase2JumpingState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return jumpTexture;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -18,14 +18,14 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase3BigAttackState implements BossAnimationState {
     
-    private final Texture bigAttackTexture;
+    private final TextureRegion bigAttackTexture;
     
     /**
      * Creates a new Phase 3 big attack preparation animation state.
      * 
      * @param bigAttackTexture The big attack preparation texture (boss_phase3_bigattack.png)
      */
-    public Phase3BigAttackState(Texture bigAttackTexture) {
+    public Phase3BigAttackState(TextureRegion bigAttackTexture) {
         if (bigAttackTexture == null) {
             throw new IllegalArgumentException("Big attack texture cannot be null");
         }
@@ -33,7 +33,7 @@ public class Phase3BigAttackState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return bigAttackTexture;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -19,14 +19,14 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase3JumpingState implements BossAnimationState {
     
-    private final Texture jumpTexture;
+    private final TextureRegion jumpTexture;
     
     /**
      * Creates a new Phase 3 jumping animation state.
      * 
      * @param jumpTexture The jumping texture (boss_phase3_jump.png)
      */
-    public Phase3JumpingState(Texture jumpTexture) {
+    public Phase3JumpingState(TextureRegion jumpTexture) {
         if (jumpTexture == null) {
             throw new IllegalArgumentException("Jump texture cannot be null");
         }
@@ -34,7 +34,7 @@ public class Phase3JumpingState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return jumpTexture;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.BossAnimationState;
 
 /**
@@ -19,8 +19,8 @@ import com.labubushooter.frontend.animation.BossAnimationState;
  */
 public class Phase3WalkingState implements BossAnimationState {
     
-    private final Texture frame1;
-    private final Texture frame2;
+    private final TextureRegion frame1;
+    private final TextureRegion frame2;
     private float animationTimer;
     private boolean isFrame1;
     
@@ -33,7 +33,7 @@ public class Phase3WalkingState implements BossAnimationState {
      * @param frame1 First walking frame texture (boss_phase3_walk1.png)
      * @param frame2 Second walking frame texture (boss_phase3_walk2.png)
      */
-    public Phase3WalkingState(Texture frame1, Texture frame2) {
+    public Phase3WalkingState(TextureRegion frame1, TextureRegion frame2) {
         if (frame1 == null || frame2 == null) {
             throw new IllegalArgumentException("Frame textures cannot be null");
         }
@@ -44,7 +44,7 @@ public class Phase3WalkingState implements BossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return isFrame1 ? frame1 : frame2;
     }
     
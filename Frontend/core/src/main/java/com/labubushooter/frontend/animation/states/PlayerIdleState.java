@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.PlayerAnimationState;
 
 /**
@@ -16,14 +16,14 @@ import com.labubushooter.frontend.animation.PlayerAnimationState;
  */
 public class PlayerIdleState implements PlayerAnimationState {
     
-    private final Texture idleTexture;
+    private final TextureRegion idleTexture;
     
     /**
      * Creates a new idle animation state.
      * 
      * @param idleTexture The texture to display when idle
      */
-    public PlayerIdleState(Texture idleTexture) {
+    public PlayerIdleState(TextureRegion idleTexture) {
         if (idleTexture == null) {
             throw new IllegalArgumentException("Idle texture cannot be null");
         }
@@ -31,7 +31,7 @@ public class PlayerIdleState implements PlayerAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return idleTexture;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.PlayerAnimationState;
 
 /**
@@ -16,14 +16,14 @@ import com.labubushooter.frontend.animation.PlayerAnimationState;
  */
 public class PlayerInAirState implements PlayerAnimationState {
     
-    private final Texture crouchTexture;
+    private final TextureRegion crouchTexture;
     
     /**
      * Creates a new in-air animation state.
      * 
      * @param crouchTexture The crouch texture to display when airborne (player_crouch)
      */
-    public PlayerInAirState(Texture crouchTexture) {
+    public PlayerInAirState(TextureRegion crouchTexture) {
         if (crouchTexture == null) {
             throw new IllegalArgumentException("Crouch texture cannot be null");
         }
@@ -31,7 +31,7 @@ public class PlayerInAirState implements PlayerAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return crouchTexture;
     }
     
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.PlayerAnimationState;
 
 /**
@@ -17,8 +17,8 @@ import com.labubushooter.frontend.animation.PlayerAnimationState;
  */
 public class PlayerWalkingState implements PlayerAnimationState {
     
-    private final Texture frame1;
-    private final Texture frame2;
+    private final TextureRegion frame1;
+    private final TextureRegion frame2;
     private float animationTimer;
     private boolean isFrame1;
     
@@ -31,7 +31,7 @@ public class PlayerWalkingState implements PlayerAnimationState {
      * @param frame1 First frame texture (player_walk_frame1)
      * @param frame2 Second frame texture (player_walk_frame2)
      */
-    public PlayerWalkingState(Texture frame1, Texture frame2) {
+    public PlayerWalkingState(TextureRegion frame1, TextureRegion frame2) {
         if (frame1 == null || frame2 == null) {
             throw new IllegalArgumentException("Frame textures cannot be null");
         }
@@ -42,7 +42,7 @@ public class PlayerWalkingState implements PlayerAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return isFrame1 ? frame1 : frame2;
     }
     
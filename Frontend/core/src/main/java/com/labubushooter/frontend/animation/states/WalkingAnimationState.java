@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.animation.states;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.animation.MiniBossAnimationState;
 
 /**
@@ -16,8 +16,8 @@ import com.labubushooter.frontend.animation.MiniBossAnimationState;
  */
 public class WalkingAnimationState implements MiniBossAnimationState {
     
-    private final Texture frame1;
-    private final Texture frame2;
+    private final TextureRegion frame1;
+    private final TextureRegion frame2;
     private float animationTimer;
     private boolean isFrame1;
     
@@ -30,7 +30,7 @@ public class WalkingAnimationState implements MiniBossAnimationState {
      * @param frame1 First frame texture
      * @param frame2 Second frame texture
      */
-    public WalkingAnimationState(Texture frame1, Texture frame2) {
+    public WalkingAnimationState(TextureRegion frame1, TextureRegion frame2) {
         if (frame1 == null || frame2 == null) {
             throw new IllegalArgumentException("Frame textures cannot be null");
         }
@@ -41,7 +41,7 @@ public class WalkingAnimationState implements MiniBossAnimationState {
     }
     
     @Override
-    public Texture getCurrentFrame() {
+    public TextureRegion getCurrentFrame() {
         return isFrame1 ? frame1 : frame2;
     }
     
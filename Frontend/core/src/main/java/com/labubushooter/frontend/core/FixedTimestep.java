@@ -0,0 +1,130 @@
+package com.labubushooter.frontend.core;
+
+/**
+ * Fixed-timestep accumulator that decouples simulation rate from frame rate.
+ *
+ * Each rendered frame feeds its variable delta into {@link #advance(float)},
+ * which returns how many fixed steps the simulation should run this frame.
+ * The leftover time is exposed as {@link #getAlpha()} so the renderer can
+ * interpolate between the previous and current simulation states.
+ *
+ * Two guards keep a slow frame from snowballing ("spiral of death"):
+ * - a single frame delta is clamped to {@link #MAX_FRAME_TIME}
+ * - at most {@code maxSubSteps} steps run per frame; excess time is dropped
+ *
+ * Usage:
+ * <pre>
+ * int steps = clock.advance(delta);
+ * for (int i = 0; i &lt; steps; i++) {
+ *     world.update(clock.getStepSeconds());
+ * }
+ * render(clock.getAlpha());
+ * </pre>
+ */
+public final class FixedTimestep {
+
+    /** Default simulation rate in steps per second */
+    public static final int DEFAULT_STEP_HZ = 120;
+
+    /** Default cap on simulation steps per rendered frame */
+    public static final int DEFAULT_MAX_SUB_STEPS = 8;
+
+    /** Longest frame delta accepted, in seconds (e.g. after a window drag or breakpoint) */
+    public static final float MAX_FRAME_TIME = 0.25f;
+
+    private final int stepHz;
+    private final float stepSeconds;
+    private final int maxSubSteps;
+
+    private float accumulator = 0f;
+    private float alpha = 0f;
+    private long totalSteps = 0;
+    private long droppedSteps = 0;
+
+    public FixedTimestep() {
+        this(DEFAULT_STEP_HZ, DEFAULT_MAX_SUB_STEPS);
+    }
+
+    /**
+     * @param stepHz Simulation steps per second
+     * @param maxSubSteps Maximum steps run per call to {@link #advance(float)}
+     */
+    public FixedTimestep(int stepHz, int maxSubSteps) {
+        if (stepHz <= 0) {
+            throw new IllegalArgumentException("stepHz must be positive");
+        }
+        if (maxSubSteps <= 0) {
+            throw new IllegalArgumentException("maxSubSteps must be positive");
+        }
+        this.stepHz = stepHz;
+        this.stepSeconds = 1f / stepHz;
+        this.maxSubSteps = maxSubSteps;
+    }
+
+    /**
+     * Adds a frame's elapsed time and returns the number of fixed steps to run.
+     *
+     * @param frameDelta Elapsed real time since the previous frame, in seconds
+     * @return Number of simulation steps to run this frame (0..maxSubSteps)
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f) {
+            accumulator += Math.min(frameDelta, MAX_FRAME_TIME);
+        }
+
+        int steps = 0;
+        while (accumulator >= stepSeconds && steps < maxSubSteps) {
+            accumulator -= stepSeconds;
+            steps++;
+        }
+
+        if (accumulator >= stepSeconds) {
+            // Hit the sub-step cap: drop whole steps we cannot afford, keep the fraction
+            int dropped = (int) (accumulator / stepSeconds);
+            droppedSteps += dropped;
+            accumulator -= dropped * stepSeconds;
+        }
+
+        totalSteps += steps;
+        alpha = accumulator / stepSeconds;
+        return steps;
+    }
+
+    /**
+     * Discards any accumulated time, e.g. after a level load or unpause.
+     */
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+    }
+
+    // ==================== ACCESSORS ====================
+
+    /** Fixed simulation step length in seconds */
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public int getStepHz() {
+        return stepHz;
+    }
+
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+
+    /** Fraction (0..1) of a step left in the accumulator, for render interpolation */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /** Steps run since creation */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /** Steps skipped because a frame exceeded the sub-step cap */
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
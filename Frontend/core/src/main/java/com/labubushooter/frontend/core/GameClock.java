@@ -0,0 +1,62 @@
+package com.labubushooter.frontend.core;
+
+/**
+ * Simulation time source for gameplay timers (cooldowns, spawn delays, regen).
+ *
+ * Replaces wall-clock TimeUtils.nanoTime() in gameplay code so that timers
+ * follow simulated time: they stop while paused, run at full speed in the
+ * headless simulation runner and replay identically from recorded input.
+ *
+ * The clock is advanced by GameWorld once per simulation step. It starts at
+ * {@link #EPOCH} rather than zero so zero-initialized "last event" timestamps
+ * read as long ago, matching the previous wall-clock behavior.
+ */
+public final class GameClock {
+
+    /** Initial clock value in nanoseconds (one hour) */
+    public static final long EPOCH = 3_600_000_000_000L;
+
+    private static long nanos = EPOCH;
+
+    private GameClock() {
+        // Static utility
+    }
+
+    /**
+     * Current simulation time.
+     *
+     * @return Simulated nanoseconds (monotonic, starts at {@link #EPOCH})
+     */
+    public static long nanoTime() {
+        return nanos;
+    }
+
+    /**
+     * Advances the clock by one simulation step.
+     *
+     * @param delta Step length in seconds
+     */
+    public static void advance(float delta) {
+        if (delta > 0f) {
+            nanos += Math.round(delta * 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * Sets the clock to a previously read value. Used when a replay starts so
+     * timers see the same absolute times as the recording.
+     *
+     * @param value Simulated nanoseconds from {@link #nanoTime()}
+     */
+    public static void restore(long value) {
+        nanos = value;
+    }
+
+    /**
+     * Rewinds the clock to {@link #EPOCH}. Only for fresh simulations
+     * (headless runs, replays) before any entity has read the clock.
+     */
+    public static void reset() {
+        nanos = EPOCH;
+    }
+}
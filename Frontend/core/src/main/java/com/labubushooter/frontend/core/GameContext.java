@@ -8,29 +8,34 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.labubushooter.frontend.DebugManager;
-import com.labubushooter.frontend.objects.Bullet;
+import com.labubushooter.frontend.input.InputSource;
 import com.labubushooter.frontend.objects.Coin;
 import com.labubushooter.frontend.objects.CommonEnemy;
-import com.labubushooter.frontend.objects.EnemyBullet;
 import com.labubushooter.frontend.objects.FinalBoss;
 import com.labubushooter.frontend.objects.Ground;
 import com.labubushooter.frontend.objects.MiniBossEnemy;
 import com.labubushooter.frontend.objects.Pickup;
 import com.labubushooter.frontend.objects.Platform;
 import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.objects.ProjectileStore;
 import com.labubushooter.frontend.patterns.CoinPattern;
 import com.labubushooter.frontend.patterns.LevelStrategy;
 import com.labubushooter.frontend.patterns.weapons.Mac10Strategy;
 import com.labubushooter.frontend.patterns.weapons.PistolStrategy;
 import com.labubushooter.frontend.patterns.weapons.UnarmedStrategy;
+import com.labubushooter.frontend.replay.ReplayPlayer;
+import com.labubushooter.frontend.replay.ReplayRecorder;
+import com.labubushooter.frontend.services.FrameProfiler;
 import com.labubushooter.frontend.services.PlayerApiService;
 import com.labubushooter.frontend.services.PlayerApiService.PlayerData;
+import com.labubushooter.frontend.services.RenderQueue;
+import com.labubushooter.frontend.services.StaticLevelCache;
 
 /**
  * Shared game context containing all resources and state.
@@ -71,63 +76,85 @@ public class GameContext {
     public BitmapFont smallFont;
     public GlyphLayout layout;
 
-    // Textures - Game Objects
-    public Texture playerTex;
-    public Texture platformTex;
-    public Texture groundTex;
-    public Texture bulletTex;
-    public Texture exitTex;
-    public Texture pistolTex;
-    public Texture mac10Tex;
-    public Texture debugTex;
-    public Texture levelIndicatorTex;
-    public Texture enemyTex;
-    public Texture backgroundTex;
+    // Textures - Game Objects (atlas regions from AssetManager)
+    public TextureRegion playerTex;
+    public TextureRegion platformTex;
+    public TextureRegion groundTex;
+    public TextureRegion bulletTex;
+    public TextureRegion exitTex;
+    public TextureRegion pistolTex;
+    public TextureRegion mac10Tex;
+    public TextureRegion debugTex;
+    public TextureRegion levelIndicatorTex;
+    public TextureRegion enemyTex;
     
     // Level indicator textures (per level with colored background and number)
-    public Texture levelIndicator1Tex;
-    public Texture levelIndicator2Tex;
-    public Texture levelIndicator3Tex;
-    public Texture levelIndicator4Tex;
-    public Texture levelIndicator5Tex;
+    public TextureRegion levelIndicator1Tex;
+    public TextureRegion levelIndicator2Tex;
+    public TextureRegion levelIndicator3Tex;
+    public TextureRegion levelIndicator4Tex;
+    public TextureRegion levelIndicator5Tex;
 
     // Textures - Pickups
-    public Texture ammo9mmTex;
-    public Texture ammo45CalTex;
-    public Texture healthPotionTex;
+    public TextureRegion ammo9mmTex;
+    public TextureRegion ammo45CalTex;
+    public TextureRegion healthPotionTex;
 
     // Textures - Boss
-    public Texture miniBossTex;
-    public Texture bossTex;
-    public Texture enemyBulletTex;
-    public Texture whiteFlashTex;
-    public Texture redFlashTex;
-    public Texture yellowFlashTex;
+    public TextureRegion miniBossTex;
+    public TextureRegion miniBossWalkFrame1Tex;
+    public TextureRegion miniBossWalkFrame2Tex;
+    public TextureRegion miniBossCrouchTex;
+    public TextureRegion miniBossDashPrepTex;
+    public TextureRegion miniBossDashTex;
+    public TextureRegion bossTex;
+    public TextureRegion enemyBulletTex;
+    public TextureRegion coinTex;
 
     // Textures - UI
-    public Texture buttonTex;
-    public Texture buttonHoverTex;
+    public TextureRegion buttonTex;
+    public TextureRegion buttonHoverTex;
+
+    // Background (too large for the atlas, kept as its own texture)
+    public Texture backgroundTex;
 
     // Rendering Services
     public com.labubushooter.frontend.services.BackgroundRenderer backgroundRenderer;
+    /** Culled, sorted world draw list filled and flushed by GamePlayScreen.render */
+    public RenderQueue renderQueue = new RenderQueue();
+    /** Baked level scenery, rebuilt on every level load (null without GL, e.g. headless) */
+    public StaticLevelCache staticLevelCache;
+
+    // Profiling (idle until enabled with Right Ctrl + P, see DebugManager)
+    public FrameProfiler profiler = new FrameProfiler();
 
     // Game Systems
     public com.labubushooter.frontend.systems.GameWorld gameWorld;
+    /** Fixed-step clock driving GameWorld.update (see GamePlayScreen.update) */
+    public FixedTimestep simulationClock = new FixedTimestep();
+    /** Player input polled by GameWorld every step (live, scripted or bot) */
+    public InputSource inputSource;
+    /** Session being recorded, or null (see replay.ReplayRecorder) */
+    public ReplayRecorder replayRecorder;
+    /** Replay driving inputSource, or null (see replay.ReplayPlayer) */
+    public ReplayPlayer replayPlayer;
 
     // Game Objects
     public Player player;
     public Array<Platform> platforms;
     public Array<Ground> grounds;
+    /** Spatial index over platforms/grounds, rebuilt on every level load */
+    public LevelGeometryIndex levelGeometry = LevelGeometryIndex.EMPTY;
     public MiniBossEnemy miniBoss;
     public FinalBoss boss;
 
+    // Projectiles (structure-of-arrays stores, one per faction)
+    public ProjectileStore playerProjectiles;
+    public ProjectileStore enemyProjectiles;
+
     // Object Pools
-    public Pool<Bullet> bulletPool;
-    public Array<Bullet> activeBullets;
     public Pool<CommonEnemy> enemyPool;
     public Array<CommonEnemy> activeEnemies;
-    public Pool<EnemyBullet> enemyBulletPool;
-    public Array<EnemyBullet> activeEnemyBullets;
     public Pool<Coin> coinPool;
     public Array<Coin> activeCoins;
     public Pool<Pickup> pickupPool;
@@ -141,6 +168,7 @@ public class GameContext {
     public Map<Integer, LevelStrategy> levelStrategies;
 
     // Game State
+    public boolean assetsLoaded = false; // sprites uploaded and gameplay objects built
     public int currentLevel = 1;
     public float currentLevelWidth;
     public int coinScore = 0;
@@ -209,7 +237,7 @@ public class GameContext {
      * Reset enemy spawn timer based on current level.
      */
     public void resetEnemySpawnTimer() {
-        lastEnemySpawnTime = TimeUtils.nanoTime();
+        lastEnemySpawnTime = GameClock.nanoTime();
         long minSpawn, maxSpawn;
         switch (currentLevel) {
             case 2:
@@ -241,16 +269,13 @@ public class GameContext {
         }
 
         // Clear bullets
-        if (activeBullets != null) {
-            activeBullets.clear();
+        if (playerProjectiles != null) {
+            playerProjectiles.clear();
         }
 
         // Clear enemy bullets
-        if (activeEnemyBullets != null) {
-            for (EnemyBullet eb : activeEnemyBullets) {
-                enemyBulletPool.free(eb);
-            }
-            activeEnemyBullets.clear();
+        if (enemyProjectiles != null) {
+            enemyProjectiles.clear();
         }
 
         // Clear coins
@@ -287,7 +312,7 @@ public class GameContext {
      * @param level The level number (1-5)
      * @return The corresponding level indicator texture
      */
-    public Texture getLevelIndicatorTexture(int level) {
+    public TextureRegion getLevelIndicatorTexture(int level) {
         switch (level) {
             case 1: return levelIndicator1Tex;
             case 2: return levelIndicator2Tex;
@@ -317,38 +342,6 @@ public class GameContext {
         if (font != null) font.dispose();
         if (smallFont != null) smallFont.dispose();
 
-        // Dispose textures
-        disposeTexture(playerTex);
-        disposeTexture(platformTex);
-        disposeTexture(groundTex);
-        disposeTexture(bulletTex);
-        disposeTexture(exitTex);
-        disposeTexture(pistolTex);
-        disposeTexture(mac10Tex);
-        disposeTexture(debugTex);
-        disposeTexture(levelIndicatorTex);
-        disposeTexture(levelIndicator1Tex);
-        disposeTexture(levelIndicator2Tex);
-        disposeTexture(levelIndicator3Tex);
-        disposeTexture(levelIndicator4Tex);
-        disposeTexture(levelIndicator5Tex);
-        disposeTexture(enemyTex);
-        disposeTexture(backgroundTex);
-        disposeTexture(miniBossTex);
-        disposeTexture(bossTex);
-        disposeTexture(enemyBulletTex);
-        disposeTexture(whiteFlashTex);
-        disposeTexture(redFlashTex);
-        disposeTexture(yellowFlashTex);
-        disposeTexture(buttonTex);
-        disposeTexture(buttonHoverTex);
-
-        disposeTexture(ammo9mmTex);
-        disposeTexture(ammo45CalTex);
-        disposeTexture(healthPotionTex);
-    }
-
-    private void disposeTexture(Texture texture) {
-        if (texture != null) texture.dispose();
+        // Textures are owned (and disposed) by AssetManager
     }
 }
@@ -0,0 +1,273 @@
+package com.labubushooter.frontend.core;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.labubushooter.frontend.objects.GameObject;
+import com.labubushooter.frontend.objects.Ground;
+import com.labubushooter.frontend.objects.Platform;
+
+import java.util.Arrays;
+
+/**
+ * Immutable spatial index over a level's static platforms and grounds.
+ *
+ * The level is split into fixed-width vertical columns; every platform/ground is
+ * registered in each column its x-span touches. Queries only visit the columns
+ * covered by the query range, so per-entity cost no longer grows with the total
+ * platform count or level width.
+ *
+ * Built once per level in LevelLoader.loadLevel after the LevelStrategy has
+ * filled the platform and ground arrays. Results are always reported in the
+ * original array order so collision resolution matches the previous linear scans.
+ *
+ * Query methods reuse internal scratch storage and are not thread-safe; the game
+ * loop is single-threaded.
+ */
+public final class LevelGeometryIndex {
+
+    /** Column width in world units (a bit wider than the widest moving entity). */
+    private static final float COLUMN_WIDTH = 128f;
+
+    /** Empty index used before the first level is loaded. */
+    public static final LevelGeometryIndex EMPTY =
+        new LevelGeometryIndex(new Array<Platform>(), new Array<Ground>());
+
+    private final Platform[] platforms;
+    private final Ground[] grounds;
+    private final float originX;
+    private final int columnCount;
+    private final int[][] platformColumns;
+    private final int[][] groundColumns;
+
+    // Scratch storage for de-duplicated, ordered query results
+    private final IntArray scratchIds = new IntArray(16);
+    private final int[] platformStamps;
+    private final int[] groundStamps;
+    private int queryStamp = 0;
+
+    private LevelGeometryIndex(Array<Platform> platformArray, Array<Ground> groundArray) {
+        this.platforms = new Platform[platformArray.size];
+        for (int i = 0; i < platformArray.size; i++) {
+            platforms[i] = platformArray.get(i);
+        }
+        this.grounds = new Ground[groundArray.size];
+        for (int i = 0; i < groundArray.size; i++) {
+            grounds[i] = groundArray.get(i);
+        }
+
+        float minX = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        for (Platform p : platforms) {
+            minX = Math.min(minX, p.bounds.x);
+            maxX = Math.max(maxX, p.bounds.x + p.bounds.width);
+        }
+        for (Ground g : grounds) {
+            minX = Math.min(minX, g.bounds.x);
+            maxX = Math.max(maxX, g.bounds.x + g.bounds.width);
+        }
+        if (minX > maxX) {
+            minX = 0f;
+            maxX = 0f;
+        }
+
+        this.originX = minX;
+        this.columnCount = (int) ((maxX - minX) / COLUMN_WIDTH) + 1;
+        this.platformColumns = buildColumns(platforms);
+        this.groundColumns = buildColumns(grounds);
+        this.platformStamps = new int[platforms.length];
+        this.groundStamps = new int[grounds.length];
+    }
+
+    /**
+     * Builds an index snapshot of the given platforms and grounds.
+     * Later changes to the arrays are not reflected; rebuild on level load.
+     *
+     * @param platforms Level platforms
+     * @param grounds Level ground segments
+     * @return New immutable index
+     */
+    public static LevelGeometryIndex build(Array<Platform> platforms, Array<Ground> grounds) {
+        return new LevelGeometryIndex(platforms, grounds);
+    }
+
+    // ==================== AABB QUERIES ====================
+
+    /**
+     * Collects platforms whose bounds overlap the given AABB.
+     *
+     * @param aabb Query rectangle
+     * @param out Receives overlapping platforms in level order (cleared first)
+     * @return Number of platforms found
+     */
+    public int platformsOverlapping(Rectangle aabb, Array<Platform> out) {
+        out.clear();
+        collect(platformColumns, platformStamps, aabb.x, aabb.x + aabb.width);
+        for (int i = 0; i < scratchIds.size; i++) {
+            Platform p = platforms[scratchIds.items[i]];
+            if (aabb.overlaps(p.bounds)) {
+                out.add(p);
+            }
+        }
+        return out.size;
+    }
+
+    /**
+     * Collects ground segments whose bounds overlap the given AABB.
+     *
+     * @param aabb Query rectangle
+     * @param out Receives overlapping grounds in level order (cleared first)
+     * @return Number of grounds found
+     */
+    public int groundsOverlapping(Rectangle aabb, Array<Ground> out) {
+        out.clear();
+        collect(groundColumns, groundStamps, aabb.x, aabb.x + aabb.width);
+        for (int i = 0; i < scratchIds.size; i++) {
+            Ground g = grounds[scratchIds.items[i]];
+            if (aabb.overlaps(g.bounds)) {
+                out.add(g);
+            }
+        }
+        return out.size;
+    }
+
+    /**
+     * Returns true if any platform overlaps the given AABB.
+     * Cheaper than {@link #platformsOverlapping} when only a yes/no is needed.
+     *
+     * @param aabb Query rectangle
+     * @return true if at least one platform overlaps
+     */
+    public boolean overlapsAnyPlatform(Rectangle aabb) {
+        int first = columnOf(aabb.x);
+        int last = columnOf(aabb.x + aabb.width);
+        for (int c = first; c <= last; c++) {
+            int[] ids = platformColumns[c];
+            for (int i = 0; i < ids.length; i++) {
+                if (aabb.overlaps(platforms[ids[i]].bounds)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ==================== RANGE QUERIES ====================
+
+    /**
+     * Collects platforms whose x-span intersects [minX, maxX], regardless of height.
+     * Callers apply their own vertical predicates on the (small) result.
+     *
+     * @param minX Left edge of the range
+     * @param maxX Right edge of the range
+     * @param out Receives platforms in level order (cleared first)
+     * @return Number of platforms found
+     */
+    public int platformsInXRange(float minX, float maxX, Array<Platform> out) {
+        out.clear();
+        collect(platformColumns, platformStamps, minX, maxX);
+        for (int i = 0; i < scratchIds.size; i++) {
+            Platform p = platforms[scratchIds.items[i]];
+            if (p.bounds.x <= maxX && p.bounds.x + p.bounds.width >= minX) {
+                out.add(p);
+            }
+        }
+        return out.size;
+    }
+
+    /**
+     * Finds the lowest platform strictly above {@code y} and less than {@code maxDy} above it,
+     * whose x-span (expanded by {@code xMargin} on both sides) contains {@code x}.
+     *
+     * @param x World x to test (usually an entity's center)
+     * @param y World y the platform must be above (usually an entity's top)
+     * @param maxDy Maximum vertical gap to the platform's bottom
+     * @param xMargin Horizontal tolerance around the platform edges
+     * @return Nearest matching platform, or null if none
+     */
+    public Platform nearestPlatformAbove(float x, float y, float maxDy, float xMargin) {
+        collect(platformColumns, platformStamps, x - xMargin, x + xMargin);
+        Platform nearest = null;
+        for (int i = 0; i < scratchIds.size; i++) {
+            Platform p = platforms[scratchIds.items[i]];
+            float gap = p.bounds.y - y;
+            if (gap > 0f && gap < maxDy
+                    && x > p.bounds.x - xMargin && x < p.bounds.x + p.bounds.width + xMargin
+                    && (nearest == null || p.bounds.y < nearest.bounds.y)) {
+                nearest = p;
+            }
+        }
+        return nearest;
+    }
+
+    // ==================== ACCESSORS ====================
+
+    public int getPlatformCount() {
+        return platforms.length;
+    }
+
+    public int getGroundCount() {
+        return grounds.length;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private int[][] buildColumns(GameObject[] objects) {
+        IntArray[] lists = new IntArray[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            lists[c] = new IntArray(4);
+        }
+        for (int i = 0; i < objects.length; i++) {
+            Rectangle b = objects[i].bounds;
+            int first = columnOf(b.x);
+            int last = columnOf(b.x + b.width);
+            for (int c = first; c <= last; c++) {
+                lists[c].add(i);
+            }
+        }
+        int[][] columns = new int[columnCount][];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = lists[c].toArray();
+        }
+        return columns;
+    }
+
+    private int columnOf(float x) {
+        int c = (int) Math.floor((x - originX) / COLUMN_WIDTH);
+        if (c < 0) {
+            return 0;
+        }
+        return Math.min(c, columnCount - 1);
+    }
+
+    /**
+     * Fills scratchIds with the de-duplicated ids registered in the columns
+     * covering [minX, maxX], sorted so results follow level order.
+     */
+    private void collect(int[][] columns, int[] stamps, float minX, float maxX) {
+        scratchIds.clear();
+        if (stamps.length == 0) {
+            return;
+        }
+        if (++queryStamp == 0) {
+            Arrays.fill(platformStamps, 0);
+            Arrays.fill(groundStamps, 0);
+            queryStamp = 1;
+        }
+        int first = columnOf(minX);
+        int last = columnOf(maxX);
+        for (int c = first; c <= last; c++) {
+            int[] ids = columns[c];
+            for (int i = 0; i < ids.length; i++) {
+                int id = ids[i];
+                if (stamps[id] != queryStamp) {
+                    stamps[id] = queryStamp;
+                    scratchIds.add(id);
+                }
+            }
+        }
+        if (first != last) {
+            scratchIds.sort();
+        }
+    }
+}
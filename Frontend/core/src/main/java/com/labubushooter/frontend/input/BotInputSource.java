@@ -0,0 +1,138 @@
+package com.labubushooter.frontend.input;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.CommonEnemy;
+import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.patterns.ShootingStrategy;
+
+/**
+ * Seeded random bot that plays well enough to exercise every system:
+ * it wanders (biased toward the level exit), jumps at random or when stuck,
+ * aims at the nearest enemy or boss, fires, reloads and switches weapons.
+ *
+ * Behavior depends only on the seed and the world state, so a run with the
+ * same seed and simulation is reproducible.
+ */
+public class BotInputSource implements InputSource {
+
+    /** Enemies farther than this are ignored when picking a target */
+    private static final float TARGET_RANGE = 800f;
+
+    private static final int MIN_WANDER_TICKS = 60;
+    private static final int MAX_WANDER_TICKS = 240;
+    private static final int STUCK_TICKS = 20;
+    private static final int FIRE_INTERVAL_TICKS = 10;
+    private static final float RANDOM_JUMP_CHANCE = 1f / 90f;
+
+    private final GameContext context;
+    private final Random random;
+
+    private int moveDirection = 1;
+    private int wanderTicks = 0;
+    private int stuckTicks = 0;
+    private int fireTicks = 0;
+    private float lastX = Float.NaN;
+
+    /**
+     * @param context Game context the bot observes
+     * @param seed Random seed
+     */
+    public BotInputSource(GameContext context, long seed) {
+        this.context = context;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void poll(InputFrame out) {
+        out.clear();
+        Player player = context.player;
+        Rectangle body = player.bounds;
+
+        // Wander: 60% right, 25% left, 15% idle
+        if (--wanderTicks <= 0) {
+            float roll = random.nextFloat();
+            moveDirection = roll < 0.6f ? 1 : roll < 0.85f ? -1 : 0;
+            wanderTicks = MIN_WANDER_TICKS + random.nextInt(MAX_WANDER_TICKS - MIN_WANDER_TICKS + 1);
+        }
+        out.moveRight = moveDirection > 0;
+        out.moveLeft = moveDirection < 0;
+
+        // Jump at random, or when walking into something
+        stuckTicks = (moveDirection != 0 && body.x == lastX) ? stuckTicks + 1 : 0;
+        lastX = body.x;
+        if (stuckTicks >= STUCK_TICKS || random.nextFloat() < RANDOM_JUMP_CHANCE) {
+            out.jump = true;
+            stuckTicks = 0;
+        }
+
+        // Aim at the nearest target; fire while one exists
+        Rectangle target = findTarget(body);
+        if (target != null) {
+            out.hasAim = true;
+            out.aimX = target.x + target.width / 2;
+            out.aimY = target.y + target.height / 2;
+            out.fireHeld = true;
+            if (++fireTicks >= FIRE_INTERVAL_TICKS) {
+                out.firePressed = true;
+                fireTicks = 0;
+            }
+        } else {
+            out.hasAim = true;
+            out.aimX = body.x + body.width / 2 + (moveDirection < 0 ? -200f : 200f);
+            out.aimY = body.y + body.height / 2;
+        }
+
+        chooseWeapon(player.getWeapon(), out);
+    }
+
+    private void chooseWeapon(ShootingStrategy weapon, InputFrame out) {
+        if (weapon == null) {
+            out.weaponSlot = 1;
+            return;
+        }
+        if (weapon.getCurrentMag() == 0 && !weapon.isReloading()) {
+            if (weapon.getTotalAmmo() > 0) {
+                out.reload = true;
+            } else if (weapon != context.unarmedStrategy) {
+                out.weaponSlot = 3;
+            }
+            return;
+        }
+        if (context.currentLevel >= 4 && weapon == context.pistolStrategy
+                && context.mac10Strategy != null && context.mac10Strategy.getTotalAmmo() > 0) {
+            out.weaponSlot = 2;
+        }
+    }
+
+    private Rectangle findTarget(Rectangle body) {
+        float cx = body.x + body.width / 2;
+        float cy = body.y + body.height / 2;
+
+        if (context.miniBoss != null && !context.miniBoss.isDead()) {
+            return context.miniBoss.bounds;
+        }
+        if (context.boss != null && !context.boss.isDead()) {
+            return context.boss.bounds;
+        }
+
+        Rectangle best = null;
+        float bestDist2 = TARGET_RANGE * TARGET_RANGE;
+        for (int i = 0; i < context.activeEnemies.size; i++) {
+            CommonEnemy enemy = context.activeEnemies.get(i);
+            if (!enemy.spawned) {
+                continue;
+            }
+            float dx = enemy.collider.x + enemy.collider.width / 2 - cx;
+            float dy = enemy.collider.y + enemy.collider.height / 2 - cy;
+            float dist2 = dx * dx + dy * dy;
+            if (dist2 < bestDist2) {
+                bestDist2 = dist2;
+                best = enemy.collider;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,68 @@
+package com.labubushooter.frontend.input;
+
+/**
+ * Player input for a single simulation step.
+ *
+ * Holds gameplay actions rather than raw device state so that live, scripted
+ * and bot input all drive GameWorld the same way. Edge fields ({@code jump},
+ * {@code firePressed}, {@code reload}, {@code weaponSlot}) are true for exactly
+ * one step per press; level fields ({@code moveLeft}, {@code moveRight},
+ * {@code fireHeld}) stay true while the control is held.
+ */
+public final class InputFrame {
+
+    /** No weapon switch requested this step */
+    public static final int NO_WEAPON_SLOT = 0;
+
+    public boolean moveLeft;
+    public boolean moveRight;
+    public boolean jump;
+
+    /** Fire button held (automatic weapons) */
+    public boolean fireHeld;
+    /** Fire button went down this step (semi-automatic weapons) */
+    public boolean firePressed;
+
+    public boolean reload;
+
+    /** Weapon slot selected this step (1 = pistol, 2 = Mac-10, 3 = unarmed), or {@link #NO_WEAPON_SLOT} */
+    public int weaponSlot = NO_WEAPON_SLOT;
+
+    /** Aim point in world coordinates; ignored when {@code hasAim} is false */
+    public boolean hasAim;
+    public float aimX;
+    public float aimY;
+
+    /**
+     * Resets every action to "no input".
+     */
+    public void clear() {
+        moveLeft = false;
+        moveRight = false;
+        jump = false;
+        fireHeld = false;
+        firePressed = false;
+        reload = false;
+        weaponSlot = NO_WEAPON_SLOT;
+        hasAim = false;
+        aimX = 0f;
+        aimY = 0f;
+    }
+
+    /**
+     * Copies every field from another frame.
+     */
+    public InputFrame set(InputFrame other) {
+        moveLeft = other.moveLeft;
+        moveRight = other.moveRight;
+        jump = other.jump;
+        fireHeld = other.fireHeld;
+        firePressed = other.firePressed;
+        reload = other.reload;
+        weaponSlot = other.weaponSlot;
+        hasAim = other.hasAim;
+        aimX = other.aimX;
+        aimY = other.aimY;
+        return this;
+    }
+}
@@ -0,0 +1,27 @@
+package com.labubushooter.frontend.input;
+
+/**
+ * Supplies player input to the simulation, one frame per step.
+ *
+ * GameWorld polls its source at the start of every fixed step, so the same
+ * simulation code runs with a keyboard and mouse, a scripted sequence or a bot.
+ *
+ * Design Pattern: Strategy Pattern
+ */
+public interface InputSource {
+
+    /**
+     * Called once per rendered frame, before any simulation step of that frame.
+     * Live sources sample device edges here so presses are not lost on frames
+     * that run zero steps.
+     */
+    default void sampleFrame() {
+    }
+
+    /**
+     * Fills the input for the next simulation step.
+     *
+     * @param out Frame to overwrite
+     */
+    void poll(InputFrame out);
+}
@@ -0,0 +1,74 @@
+package com.labubushooter.frontend.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Keyboard and mouse input from Gdx.input.
+ *
+ * Controls: A/D move, SPACE jump, left mouse button fire, R reload,
+ * 1/2/3 select weapon, mouse position aims.
+ *
+ * Edge events are latched in {@link #sampleFrame()} and handed to the next
+ * simulation step, so a press is neither lost on a frame that runs no step
+ * nor repeated on a frame that runs several.
+ */
+public class LiveInputSource implements InputSource {
+
+    private final OrthographicCamera camera;
+    private final Vector3 mouse = new Vector3();
+
+    // Edges latched since the last poll
+    private boolean pendingJump;
+    private boolean pendingFire;
+    private boolean pendingReload;
+    private int pendingWeaponSlot = InputFrame.NO_WEAPON_SLOT;
+
+    /**
+     * @param camera Game camera used to convert the mouse position to world coordinates
+     */
+    public LiveInputSource(OrthographicCamera camera) {
+        this.camera = camera;
+    }
+
+    @Override
+    public void sampleFrame() {
+        pendingJump |= Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+        pendingFire |= Gdx.input.isButtonJustPressed(Input.Buttons.LEFT);
+        pendingReload |= Gdx.input.isKeyJustPressed(Input.Keys.R);
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+            pendingWeaponSlot = 1;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+            pendingWeaponSlot = 2;
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
+            pendingWeaponSlot = 3;
+        }
+    }
+
+    @Override
+    public void poll(InputFrame out) {
+        out.moveLeft = Gdx.input.isKeyPressed(Input.Keys.A);
+        out.moveRight = Gdx.input.isKeyPressed(Input.Keys.D);
+        out.fireHeld = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
+
+        out.jump = pendingJump;
+        out.firePressed = pendingFire;
+        out.reload = pendingReload;
+        out.weaponSlot = pendingWeaponSlot;
+
+        // Convert screen coordinates to world coordinates
+        mouse.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+        camera.unproject(mouse);
+        out.hasAim = true;
+        out.aimX = mouse.x;
+        out.aimY = mouse.y;
+
+        pendingJump = false;
+        pendingFire = false;
+        pendingReload = false;
+        pendingWeaponSlot = InputFrame.NO_WEAPON_SLOT;
+    }
+}
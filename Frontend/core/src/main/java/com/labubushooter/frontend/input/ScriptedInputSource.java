@@ -0,0 +1,89 @@
+package com.labubushooter.frontend.input;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Plays back a fixed sequence of input segments.
+ *
+ * Each segment holds one input frame for a number of steps. Edge actions
+ * (jump, fire press, reload, weapon slot) fire only on a segment's first step;
+ * held actions and aim apply for its whole duration. After the last segment
+ * the script either loops or idles.
+ *
+ * Example:
+ * <pre>
+ * InputFrame run = new InputFrame();
+ * run.moveRight = true;
+ * script.add(run, 240).add(new InputFrame(), 60);
+ * </pre>
+ */
+public class ScriptedInputSource implements InputSource {
+
+    private final Array<InputFrame> segments = new Array<>();
+    private final IntArray durations = new IntArray();
+    private final boolean loop;
+
+    private int segment = 0;
+    private int tickInSegment = 0;
+
+    /**
+     * @param loop Restart from the first segment after the last one ends
+     */
+    public ScriptedInputSource(boolean loop) {
+        this.loop = loop;
+    }
+
+    /**
+     * Appends a segment.
+     *
+     * @param frame Input to hold (copied)
+     * @param ticks Number of simulation steps to hold it for
+     * @return this, for chaining
+     */
+    public ScriptedInputSource add(InputFrame frame, int ticks) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("ticks must be positive");
+        }
+        segments.add(new InputFrame().set(frame));
+        durations.add(ticks);
+        return this;
+    }
+
+    /**
+     * Restarts the script from its first segment.
+     */
+    public void rewind() {
+        segment = 0;
+        tickInSegment = 0;
+    }
+
+    /** True once a non-looping script has played every segment */
+    public boolean isFinished() {
+        return !loop && segment >= segments.size;
+    }
+
+    @Override
+    public void poll(InputFrame out) {
+        if (segment >= segments.size) {
+            if (!loop || segments.size == 0) {
+                out.clear();
+                return;
+            }
+            rewind();
+        }
+
+        out.set(segments.get(segment));
+        if (tickInSegment > 0) {
+            out.jump = false;
+            out.firePressed = false;
+            out.reload = false;
+            out.weaponSlot = InputFrame.NO_WEAPON_SLOT;
+        }
+
+        if (++tickInSegment >= durations.get(segment)) {
+            segment++;
+            tickInSegment = 0;
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.labubushooter.frontend.objects;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.services.AssetManager;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public abstract class BossEnemy {
     public Rectangle bounds;
     public Rectangle collider; // Slightly smaller for fairness
+    /** Previous-step position for render interpolation */
+    public final InterpolatedPosition renderPosition = new InterpolatedPosition();
     public float health;
     public float maxHealth;
     public float damage;
@@ -17,39 +20,18 @@ public abstract class BossEnemy {
     public float velY = 0;
     public boolean grounded = false;
 
-    protected Texture texture;
-    protected Texture flashTexture;
+    protected TextureRegion texture;
 
-    // Health bar textures
-    private static Texture healthBarBg;
-    private static Texture healthBarBorder;
-    private static Texture healthBarFill;
-
-    static {
-        // Create 1x1 pixel textures for health bar
-        Pixmap bgPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        bgPixmap.setColor(0f, 0f, 0f, 0.7f);
-        bgPixmap.fill();
-        healthBarBg = new Texture(bgPixmap);
-        bgPixmap.dispose();
-
-        Pixmap borderPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        borderPixmap.setColor(Color.WHITE);
-        borderPixmap.fill();
-        healthBarBorder = new Texture(borderPixmap);
-        borderPixmap.dispose();
+    protected static final float GRAVITY = -900f;
 
-        Pixmap fillPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        fillPixmap.setColor(Color.GREEN);
-        fillPixmap.fill();
-        healthBarFill = new Texture(fillPixmap);
-        fillPixmap.dispose();
-    }
+    /** How far a warning flash pushes the sprite towards its flash colour */
+    protected static final float FLASH_AMOUNT = 0.7f;
 
-    protected static final float GRAVITY = -900f;
+    // Reused query results for level geometry lookups
+    protected final Array<Platform> nearbyPlatforms = new Array<>(4);
+    private final Array<Ground> nearbyGrounds = new Array<>(2);
 
-    public BossEnemy(float x, float y, float width, float height, float maxHealth, float damage, Texture texture,
-            Texture flashTexture) {
+    public BossEnemy(float x, float y, float width, float height, float maxHealth, float damage, TextureRegion texture) {
         this.bounds = new Rectangle(x, y, width, height);
         // Collider is 80% of bounds for fairer hitbox
         float colliderWidth = width * 0.8f;
@@ -62,7 +44,6 @@ public abstract class BossEnemy {
         this.health = maxHealth;
         this.damage = damage;
         this.texture = texture;
-        this.flashTexture = flashTexture;
         this.active = true;
     }
 
@@ -76,7 +57,7 @@ public abstract class BossEnemy {
         return health <= 0;
     }
 
-    protected void applyGravityAndCollision(float delta, Array<Platform> platforms, Array<Ground> grounds) {
+    protected void applyGravityAndCollision(float delta, LevelGeometryIndex level) {
         // Apply gravity
         velY += GRAVITY * delta;
         bounds.y += velY * delta;
@@ -86,7 +67,9 @@ public abstract class BossEnemy {
 
         // Platform collision - bottom collision only (boss lands when bottom touches platform top)
         grounded = false;
-        for (Platform p : platforms) {
+        level.platformsOverlapping(bounds, nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; i++) {
+            Platform p = nearbyPlatforms.get(i);
             if (bounds.overlaps(p.bounds)) {
                 // Get collision points
                 float bossBottom = getCollisionBottomY();
@@ -105,7 +88,9 @@ public abstract class BossEnemy {
         }
 
         // Ground collision - same logic as platforms
-        for (Ground g : grounds) {
+        level.groundsOverlapping(bounds, nearbyGrounds);
+        for (int i = 0; i < nearbyGrounds.size; i++) {
+            Ground g = nearbyGrounds.get(i);
             if (bounds.overlaps(g.bounds)) {
                 // Get collision points
                 float bossBottom = getCollisionBottomY();
@@ -158,24 +143,21 @@ public abstract class BossEnemy {
         return 0f;
     }
 
-    public void draw(SpriteBatch batch) {
+    public void draw(RenderQueue queue) {
         // Draw sprite with flipping support
-        Texture currentTexture = getCurrentTexture();
+        TextureRegion currentTexture = getCurrentTexture();
         boolean flipX = isFacingLeft();
         
-        // Draw with mirroring based on facing direction
-        // Using originX = 0 means flip happens around left-bottom corner
-        batch.draw(currentTexture, 
-                  bounds.x, bounds.y, 
-                  0f, 0f,  // originX, originY (0,0 = flip around left-bottom corner)
-                  bounds.width, bounds.height,
-                  1f, 1f, 0f,  // scaleX, scaleY, rotation
-                  0, 0,  // srcX, srcY
-                  currentTexture.getWidth(), currentTexture.getHeight(),
-                  flipX, false);  // flipX, flipY
+        // Draw with mirroring based on facing direction: a mirrored region is
+        // drawn from its right edge with a negative width
+        applyFlash(queue);
+        queue.draw(currentTexture,
+                  flipX ? bounds.x + bounds.width : bounds.x, bounds.y,
+                  flipX ? -bounds.width : bounds.width, bounds.height);
+        queue.setColor(1f, 1f, 1f, 1f);
 
         // Draw health bar above sprite
-        drawHealthBar(batch);
+        drawHealthBar(queue);
     }
     
     /**
@@ -188,11 +170,32 @@ public abstract class BossEnemy {
         return false; // Default: face right
     }
 
-    protected Texture getCurrentTexture() {
+    protected TextureRegion getCurrentTexture() {
         return texture;
     }
 
-    private void drawHealthBar(SpriteBatch batch) {
+    /**
+     * Colour the sprite is flashing towards this frame.
+     * Override in subclasses that flash as a warning.
+     * 
+     * @return Flash colour, or null when not flashing
+     */
+    protected Color getFlashColor() {
+        return null; // Default: never flash
+    }
+
+    /**
+     * Sets the queue's flash for the sprite draw that follows
+     * (drawn by the tint/flash shader, no separate flash texture).
+     */
+    protected void applyFlash(RenderQueue queue) {
+        Color flash = getFlashColor();
+        if (flash != null) {
+            queue.setFlash(flash.r, flash.g, flash.b, FLASH_AMOUNT);
+        }
+    }
+
+    private void drawHealthBar(RenderQueue queue) {
         float barWidth = bounds.width;
         float barHeight = 5f;
         float barX = bounds.x;
@@ -200,56 +203,58 @@ public abstract class BossEnemy {
 
         float healthPercent = health / maxHealth;
 
+        TextureRegion healthBarBorder = getHealthBarBorder();
+
         // Draw background (black with transparency)
-        batch.setColor(0f, 0f, 0f, 0.7f);
-        batch.draw(healthBarBg, barX - 1, barY - 1, barWidth + 2, barHeight + 2);
+        queue.setColor(0f, 0f, 0f, 0.7f);
+        queue.draw(getHealthBarBg(), barX - 1, barY - 1, barWidth + 2, barHeight + 2);
 
         // Draw border (white)
-        batch.setColor(1f, 1f, 1f, 1f);
-        batch.draw(healthBarBorder, barX - 1, barY - 1, barWidth + 2, 1); // Bottom
-        batch.draw(healthBarBorder, barX - 1, barY + barHeight, barWidth + 2, 1); // Top
-        batch.draw(healthBarBorder, barX - 1, barY, 1, barHeight); // Left
-        batch.draw(healthBarBorder, barX + barWidth, barY, 1, barHeight); // Right
+        queue.setColor(1f, 1f, 1f, 1f);
+        queue.draw(healthBarBorder, barX - 1, barY - 1, barWidth + 2, 1); // Bottom
+        queue.draw(healthBarBorder, barX - 1, barY + barHeight, barWidth + 2, 1); // Top
+        queue.draw(healthBarBorder, barX - 1, barY, 1, barHeight); // Left
+        queue.draw(healthBarBorder, barX + barWidth, barY, 1, barHeight); // Right
 
         // Draw health bar (green to red gradient based on health)
         float red = 1f - healthPercent;
         float green = healthPercent;
-        batch.setColor(red, green, 0f, 1f);
-        batch.draw(healthBarFill, barX, barY, barWidth * healthPercent, barHeight);
+        queue.setColor(red, green, 0f, 1f);
+        queue.draw(getHealthBarFill(), barX, barY, barWidth * healthPercent, barHeight);
 
         // Reset color
-        batch.setColor(1f, 1f, 1f, 1f);
+        queue.setColor(1f, 1f, 1f, 1f);
     }
     
     /**
-     * Gets the health bar background texture.
+     * Gets the health bar background region (shared generated atlas page).
      * Protected access for subclasses that need custom health bar rendering.
      * 
-     * @return The health bar background texture
+     * @return The health bar background region
      */
-    protected static Texture getHealthBarBg() {
-        return healthBarBg;
+    protected static TextureRegion getHealthBarBg() {
+        return AssetManager.getInstance().getRegion(AssetManager.HEALTH_BAR_BG);
     }
     
     /**
-     * Gets the health bar border texture.
+     * Gets the health bar border region (shared generated atlas page).
      * Protected access for subclasses that need custom health bar rendering.
      * 
-     * @return The health bar border texture
+     * @return The health bar border region
      */
-    protected static Texture getHealthBarBorder() {
-        return healthBarBorder;
+    protected static TextureRegion getHealthBarBorder() {
+        return AssetManager.getInstance().getRegion(AssetManager.HEALTH_BAR_BORDER);
     }
     
     /**
-     * Gets the health bar fill texture.
+     * Gets the health bar fill region (shared generated atlas page).
      * Protected access for subclasses that need custom health bar rendering.
      * 
-     * @return The health bar fill texture
+     * @return The health bar fill region
      */
-    protected static Texture getHealthBarFill() {
-        return healthBarFill;
+    protected static TextureRegion getHealthBarFill() {
+        return AssetManager.getInstance().getRegion(AssetManager.HEALTH_BAR_FILL);
     }
 
-    public abstract void update(float delta, Array<Platform> platforms, Array<Ground> grounds);
+    public abstract void update(float delta, LevelGeometryIndex level);
 }
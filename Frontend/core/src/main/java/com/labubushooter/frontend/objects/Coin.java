@@ -1,11 +1,11 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Pool;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class Coin implements Pool.Poolable {
     private Vector2 position;
@@ -43,14 +43,17 @@ public class Coin implements Pool.Poolable {
         bounds.setPosition(position.x - RADIUS, position.y - RADIUS);
     }
     
-    public void renderShape(ShapeRenderer shapeRenderer) {
+    /**
+     * Queues the coin sprite at its bobbing position.
+     *
+     * @param queue Render queue for the frame
+     * @param texture Pre-rendered coin (AssetManager.COIN)
+     */
+    public void draw(RenderQueue queue, TextureRegion texture) {
         if (!active) return;
         
         float drawY = position.y + (float)(Math.sin(bobOffset) * BOB_AMPLITUDE);
-        
-        // Draw filled circle dengan warna emas
-        shapeRenderer.setColor(Color.GOLD);
-        shapeRenderer.circle(position.x, drawY, RADIUS);
+        queue.draw(texture, position.x - RADIUS, drawY - RADIUS, WIDTH, HEIGHT);
     }
     
     public boolean isColliding(Rectangle playerCollider) {
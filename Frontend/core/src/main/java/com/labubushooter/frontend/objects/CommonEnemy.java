@@ -1,13 +1,15 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.labubushooter.frontend.animation.WalkingAnimation;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
+import com.labubushooter.frontend.services.RenderQueue;
 
 /**
  * Common enemy entity with simple homing behavior and walking animation.
@@ -23,6 +25,8 @@ import com.labubushooter.frontend.animation.WalkingAnimation;
 public class CommonEnemy implements Pool.Poolable {
     public Rectangle collider;
     public Rectangle bounds;
+    /** Previous-step position for render interpolation */
+    public final InterpolatedPosition renderPosition = new InterpolatedPosition();
     public boolean spawned;
     public float health;
     public float maxHealth;
@@ -44,6 +48,10 @@ public class CommonEnemy implements Pool.Poolable {
     private long lastDamageTime;
     private static final long DAMAGE_COOLDOWN = 1000000000L; // 1 second in nanoseconds
 
+    // Hit flash (white, fading out over HIT_FLASH_DURATION)
+    private static final float HIT_FLASH_DURATION = 0.12f;
+    private float hitFlashTimer;
+
     // Jump System
     private static final float JUMP_POWER = 450f;
     private static final float JUMP_COOLDOWN = 1.5f;
@@ -57,7 +65,7 @@ public class CommonEnemy implements Pool.Poolable {
     private static final float SPAWN_Y = 300f;
     private static final float BASE_SPEED = 120f;
 
-    public CommonEnemy(Texture frame1, Texture frame2) {
+    public CommonEnemy(TextureRegion frame1, TextureRegion frame2) {
         this.animation = new WalkingAnimation(frame1, frame2);
         this.collider = new Rectangle(0, SPAWN_Y, WIDTH, HEIGHT);
         this.bounds = this.collider;
@@ -105,19 +113,27 @@ public class CommonEnemy implements Pool.Poolable {
         this.velocityX = 0;
         this.velocityY = 0;
         this.grounded = false;
-        this.lastDamageTime = TimeUtils.nanoTime();
+        this.lastDamageTime = GameClock.nanoTime();
+        this.renderPosition.capture(collider);
 
-        Gdx.app.log("Enemy", "Spawned at level " + level + " - HP: " + health +
-                ", Damage: " + damageAmount + ", Speed: " + speed);
+        GameLog.debug(LogEvent.ENEMY_SPAWNED, level, health, damageAmount, speed);
     }
 
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds) {
+    // Reused query results for level geometry lookups
+    private final Array<Platform> nearbyPlatforms = new Array<>(4);
+    private final Array<Ground> nearbyGrounds = new Array<>(2);
+
+    public void update(float delta, LevelGeometryIndex level) {
         if (!spawned || health <= 0) return;
 
         // Update animation
         animation.update(delta);
         animation.setFacingLeft(velocityX < 0);
 
+        if (hitFlashTimer > 0) {
+            hitFlashTimer -= delta;
+        }
+
         // Update jump cooldown
         if (jumpCooldownTimer > 0) {
             jumpCooldownTimer -= delta;
@@ -127,7 +143,7 @@ public class CommonEnemy implements Pool.Poolable {
         moveTowardsPlayer();
         
         // Smart jump to reach player
-        checkAndPerformSmartJump(platforms);
+        checkAndPerformSmartJump(level);
 
         // Apply gravity
         velocityY += GRAVITY * delta;
@@ -144,7 +160,9 @@ public class CommonEnemy implements Pool.Poolable {
 
         // Platform collision
         grounded = false;
-        for (Platform p : platforms) {
+        level.platformsOverlapping(collider, nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; i++) {
+            Platform p = nearbyPlatforms.get(i);
             if (collider.overlaps(p.bounds)) {
                 if (velocityY < 0 && collider.y + collider.height / 2 > p.bounds.y + p.bounds.height) {
                     collider.y = p.bounds.y + p.bounds.height;
@@ -155,7 +173,9 @@ public class CommonEnemy implements Pool.Poolable {
         }
 
         // Ground collision
-        for (Ground g : grounds) {
+        level.groundsOverlapping(collider, nearbyGrounds);
+        for (int i = 0; i < nearbyGrounds.size; i++) {
+            Ground g = nearbyGrounds.get(i);
             if (collider.overlaps(g.bounds)) {
                 if (velocityY < 0 && collider.y + collider.height / 2 > g.bounds.y + g.bounds.height) {
                     collider.y = g.bounds.y + g.bounds.height;
@@ -175,7 +195,7 @@ public class CommonEnemy implements Pool.Poolable {
 
         // Damage player if touching
         if (target != null && collider.overlaps(target.bounds)) {
-            long currentTime = TimeUtils.nanoTime();
+            long currentTime = GameClock.nanoTime();
             if (currentTime - lastDamageTime > DAMAGE_COOLDOWN) {
                 target.takeDamage(damageAmount);
                 lastDamageTime = currentTime;
@@ -204,7 +224,7 @@ public class CommonEnemy implements Pool.Poolable {
     /**
      * Smart jump logic to reach player on platforms.
      */
-    private void checkAndPerformSmartJump(Array<Platform> platforms) {
+    private void checkAndPerformSmartJump(LevelGeometryIndex level) {
         if (target == null || !grounded || jumpCooldownTimer > 0) return;
         
         float playerCenterY = target.bounds.y + target.bounds.height / 2f;
@@ -217,7 +237,7 @@ public class CommonEnemy implements Pool.Poolable {
         // Check if horizontally close
         boolean horizontallyClose = Math.abs(playerCenterX - enemyCenterX) < PLATFORM_DETECTION_RANGE;
         // Check if platform above
-        boolean platformAbove = isPlatformAbove(platforms);
+        boolean platformAbove = isPlatformAbove(level);
         
         if (playerAbove && horizontallyClose && platformAbove) {
             performJump();
@@ -227,24 +247,13 @@ public class CommonEnemy implements Pool.Poolable {
     /**
      * Checks if there's a platform above the enemy that could be jumped to.
      */
-    private boolean isPlatformAbove(Array<Platform> platforms) {
+    private boolean isPlatformAbove(LevelGeometryIndex level) {
         float enemyTop = collider.y + collider.height;
         float enemyCenterX = collider.x + collider.width / 2f;
-        
-        for (Platform p : platforms) {
-            // Platform is above enemy
-            boolean platformAbove = p.bounds.y > enemyTop;
-            // Platform is reachable (within jump height)
-            boolean reachable = p.bounds.y - enemyTop < 200f; // Max jump height ~200 units
-            // Enemy is horizontally aligned with platform
-            boolean horizontallyAligned = enemyCenterX > p.bounds.x - 50 && 
-                                          enemyCenterX < p.bounds.x + p.bounds.width + 50;
-            
-            if (platformAbove && reachable && horizontallyAligned) {
-                return true;
-            }
-        }
-        return false;
+
+        // Platform above enemy, within jump height (~200 units),
+        // and horizontally aligned with a 50 unit margin
+        return level.nearestPlatformAbove(enemyCenterX, enemyTop, 200f, 50f) != null;
     }
 
     /**
@@ -260,29 +269,31 @@ public class CommonEnemy implements Pool.Poolable {
         if (!spawned || health <= 0) return;
         
         health -= damage;
+        hitFlashTimer = HIT_FLASH_DURATION;
         
         if (health <= 0) {
             health = 0;
             spawned = false;
-            Gdx.app.log("Enemy", "Enemy killed!");
+            GameLog.debug(LogEvent.ENEMY_KILLED);
         }
     }
 
-    public void draw(SpriteBatch batch) {
+    public void draw(RenderQueue queue) {
         if (!spawned) return;
-        Texture currentFrame = animation.getCurrentFrame();
+        TextureRegion currentFrame = animation.getCurrentFrame();
         boolean flipX = animation.isFacingLeft();
         
-        // Draw with mirroring based on facing direction
-        // Using originX = 0 means flip happens around left edge
-        batch.draw(currentFrame, 
-                  collider.x, collider.y, 
-                  0f, 0f,  // originX, originY (0,0 = flip around left-bottom corner)
-                  collider.width, collider.height,
-                  1f, 1f, 0f,  // scaleX, scaleY, rotation
-                  0, 0,  // srcX, srcY
-                  currentFrame.getWidth(), currentFrame.getHeight(),
-                  flipX, false);  // flipX, flipY
+        // Draw with mirroring based on facing direction: a mirrored region is
+        // drawn from its right edge with a negative width
+        if (hitFlashTimer > 0) {
+            queue.setFlash(1f, 1f, 1f, hitFlashTimer / HIT_FLASH_DURATION);
+        }
+        queue.draw(currentFrame,
+                  flipX ? collider.x + collider.width : collider.x, collider.y,
+                  flipX ? -collider.width : collider.width, collider.height);
+        if (hitFlashTimer > 0) {
+            queue.setColor(1f, 1f, 1f, 1f);
+        }
     }
 
     @Override
@@ -301,6 +312,7 @@ public class CommonEnemy implements Pool.Poolable {
         this.grounded = false;
         this.lastDamageTime = 0;
         this.jumpCooldownTimer = 0f;
+        this.hitFlashTimer = 0f;
         this.animation.reset();
     }
 
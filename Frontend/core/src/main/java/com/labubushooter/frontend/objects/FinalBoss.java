@@ -1,14 +1,20 @@
 package com.labubushooter.frontend.objects;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.labubushooter.frontend.animation.FinalBossAnimationStrategy;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.patterns.bullets.BulletRenderStrategy;
+import com.labubushooter.frontend.patterns.bullets.BulletRenderStrategyFactory;
 import com.labubushooter.frontend.patterns.bullets.BulletRenderStrategyFactory.BulletType;
 import com.labubushooter.frontend.services.AssetManager;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class FinalBoss extends BossEnemy {
     private static final float LEVEL_WIDTH = 2400f; // Level 4 width
@@ -90,15 +96,16 @@ public class FinalBoss extends BossEnemy {
     // Bullet properties
     private static final float BULLET_SPEED = 300f;
     private static final float BULLET_DAMAGE = 5.0f;
+    private static final float BULLET_LIFETIME = 6.0f; // Seconds before a boss bullet expires
 
     // Player damage cooldown
     private long lastDamageTime;
     private static final long DAMAGE_COOLDOWN = 1000000000L; // 1 second
 
-    private Texture enemyBulletTex;
+    private TextureRegion enemyBulletTex;
 
-    public FinalBoss(Texture tex, Texture flashTex, Texture bulletTex) {
-        super(0, 0, 60, 100, 400, 8.0f, tex, flashTex);
+    public FinalBoss(TextureRegion tex, TextureRegion bulletTex) {
+        super(0, 0, 60, 100, 400, 8.0f, tex);
         // Store original bounds dimensions for collider/physics (keep at original size)
         this.originalBoundsWidth = 60f;
         this.originalBoundsHeight = 100f;
@@ -119,75 +126,75 @@ public class FinalBoss extends BossEnemy {
         AssetManager assetManager = AssetManager.getInstance();
         
         // Load Phase 1 textures with fallback to boss.png
-        Texture phase1Walk1 = assetManager.getTexture(AssetManager.BOSS_PHASE1_WALK1);
+        TextureRegion phase1Walk1 = assetManager.getRegion(AssetManager.BOSS_PHASE1_WALK1);
         if (phase1Walk1 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE1_WALK1, using fallback");
             phase1Walk1 = tex;
         }
         
-        Texture phase1Walk2 = assetManager.getTexture(AssetManager.BOSS_PHASE1_WALK2);
+        TextureRegion phase1Walk2 = assetManager.getRegion(AssetManager.BOSS_PHASE1_WALK2);
         if (phase1Walk2 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE1_WALK2, using fallback");
             phase1Walk2 = tex;
         }
         
-        Texture phase1Jump = assetManager.getTexture(AssetManager.BOSS_PHASE1_JUMP);
+        TextureRegion phase1Jump = assetManager.getRegion(AssetManager.BOSS_PHASE1_JUMP);
         if (phase1Jump == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE1_JUMP, using fallback");
             phase1Jump = tex;
         }
         
-        Texture phase1BigAttack = assetManager.getTexture(AssetManager.BOSS_PHASE1_BIGATTACK);
+        TextureRegion phase1BigAttack = assetManager.getRegion(AssetManager.BOSS_PHASE1_BIGATTACK);
         if (phase1BigAttack == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE1_BIGATTACK, using fallback");
             phase1BigAttack = tex;
         }
         
         // Load Phase 2 textures with fallback to boss.png
-        Texture phase2Walk1 = assetManager.getTexture(AssetManager.BOSS_PHASE2_WALK1);
+        TextureRegion phase2Walk1 = assetManager.getRegion(AssetManager.BOSS_PHASE2_WALK1);
         if (phase2Walk1 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE2_WALK1, using fallback");
             phase2Walk1 = tex;
         }
         
-        Texture phase2Walk2 = assetManager.getTexture(AssetManager.BOSS_PHASE2_WALK2);
+        TextureRegion phase2Walk2 = assetManager.getRegion(AssetManager.BOSS_PHASE2_WALK2);
         if (phase2Walk2 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE2_WALK2, using fallback");
             phase2Walk2 = tex;
         }
         
-        Texture phase2Jump = assetManager.getTexture(AssetManager.BOSS_PHASE2_JUMP);
+        TextureRegion phase2Jump = assetManager.getRegion(AssetManager.BOSS_PHASE2_JUMP);
         if (phase2Jump == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE2_JUMP, using fallback");
             phase2Jump = tex;
         }
         
-        Texture phase2BigAttack = assetManager.getTexture(AssetManager.BOSS_PHASE2_BIGATTACK);
+        TextureRegion phase2BigAttack = assetManager.getRegion(AssetManager.BOSS_PHASE2_BIGATTACK);
         if (phase2BigAttack == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE2_BIGATTACK, using fallback");
             phase2BigAttack = tex;
         }
         
         // Load Phase 3 textures with fallback to boss.png
-        Texture phase3Walk1 = assetManager.getTexture(AssetManager.BOSS_PHASE3_WALK1);
+        TextureRegion phase3Walk1 = assetManager.getRegion(AssetManager.BOSS_PHASE3_WALK1);
         if (phase3Walk1 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE3_WALK1, using fallback");
             phase3Walk1 = tex;
         }
         
-        Texture phase3Walk2 = assetManager.getTexture(AssetManager.BOSS_PHASE3_WALK2);
+        TextureRegion phase3Walk2 = assetManager.getRegion(AssetManager.BOSS_PHASE3_WALK2);
         if (phase3Walk2 == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE3_WALK2, using fallback");
             phase3Walk2 = tex;
         }
         
-        Texture phase3Jump = assetManager.getTexture(AssetManager.BOSS_PHASE3_JUMP);
+        TextureRegion phase3Jump = assetManager.getRegion(AssetManager.BOSS_PHASE3_JUMP);
         if (phase3Jump == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE3_JUMP, using fallback");
             phase3Jump = tex;
         }
         
-        Texture phase3BigAttack = assetManager.getTexture(AssetManager.BOSS_PHASE3_BIGATTACK);
+        TextureRegion phase3BigAttack = assetManager.getRegion(AssetManager.BOSS_PHASE3_BIGATTACK);
         if (phase3BigAttack == null) {
             Gdx.app.error("FinalBoss", "Failed to load BOSS_PHASE3_BIGATTACK, using fallback");
             phase3BigAttack = tex;
@@ -221,13 +228,12 @@ public class FinalBoss extends BossEnemy {
         shootTimer = shootCooldown;
         phaseTransitionTimer = 0f;
         shouldFlash = false;
-        lastDamageTime = TimeUtils.nanoTime();
+        lastDamageTime = GameClock.nanoTime();
         smartJumpCooldown = 0f;
 
         // Upward shot initialization
         upwardShotTimer = 0;
-        upwardShotThreshold = MIN_UPWARD_SHOT_TIME
-                + (float) Math.random() * (MAX_UPWARD_SHOT_TIME - MIN_UPWARD_SHOT_TIME);
+        upwardShotThreshold = MathUtils.random(MIN_UPWARD_SHOT_TIME, MAX_UPWARD_SHOT_TIME);
         upwardShotCooldown = 0;
         playerWasAbove = false;
         isUpwardShotWarning = false;
@@ -238,13 +244,13 @@ public class FinalBoss extends BossEnemy {
     }
 
     @Override
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds) {
+    public void update(float delta, LevelGeometryIndex level) {
         // This method is called from parent, but we need additional parameters
         // Will be overridden with proper signature
     }
 
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds, Player player,
-            Array<EnemyBullet> bullets, Pool<EnemyBullet> bulletPool) {
+    public void update(float delta, LevelGeometryIndex level, Player player,
+            ProjectileStore bullets) {
         if (isDead()) {
             active = false;
             // Update animation state even when dead
@@ -279,7 +285,7 @@ public class FinalBoss extends BossEnemy {
             }
 
             // Don't move during phase transition
-            applyGravityAndCollision(delta, platforms, grounds);
+            applyGravityAndCollision(delta, level);
             return;
         }
 
@@ -298,10 +304,8 @@ public class FinalBoss extends BossEnemy {
                 if (!playerWasAbove) {
                     playerWasAbove = true;
                     upwardShotTimer = 0;
-                    upwardShotThreshold = MIN_UPWARD_SHOT_TIME
-                            + (float) Math.random() * (MAX_UPWARD_SHOT_TIME - MIN_UPWARD_SHOT_TIME);
-                    Gdx.app.log("Boss", "Player above! Upward shot countdown: "
-                            + String.format("%.1f", upwardShotThreshold) + "s");
+                    upwardShotThreshold = MathUtils.random(MIN_UPWARD_SHOT_TIME, MAX_UPWARD_SHOT_TIME);
+                    GameLog.debug(LogEvent.BOSS_UPWARD_COUNTDOWN, upwardShotThreshold);
                 }
 
                 upwardShotTimer += delta;
@@ -310,13 +314,13 @@ public class FinalBoss extends BossEnemy {
                 if (upwardShotTimer >= upwardShotThreshold) {
                     isUpwardShotWarning = true;
                     upwardShotWarningTimer = UPWARD_SHOT_WARNING_DURATION;
-                    Gdx.app.log("Boss", "Upward Shot Warning! Charging...");
+                    GameLog.debug(LogEvent.BOSS_UPWARD_WARNING);
                 }
             } else {
                 if (playerWasAbove) {
                     playerWasAbove = false;
                     upwardShotTimer = 0;
-                    Gdx.app.log("Boss", "Player moved away, upward shot cancelled");
+                    GameLog.debug(LogEvent.BOSS_UPWARD_CANCELLED);
                 }
             }
         }
@@ -336,17 +340,17 @@ public class FinalBoss extends BossEnemy {
                 upwardShotCooldown = UPWARD_SHOT_COOLDOWN_DURATION;
 
                 // Fire ONE BIG upward bullet
-                shootBigUpwardBullet(bullets, bulletPool);
+                shootBigUpwardBullet(bullets);
 
                 // Enter stun phase (exhausted after big shot)
                 isUpwardShotStunned = true;
                 upwardShotStunTimer = UPWARD_SHOT_STUN_DURATION;
 
-                Gdx.app.log("Boss", "BIG UPWARD SHOT EXECUTED!");
+                GameLog.debug(LogEvent.BOSS_UPWARD_SHOT);
             }
 
             // Don't move or shoot during warning
-            applyGravityAndCollision(delta, platforms, grounds);
+            applyGravityAndCollision(delta, level);
             return;
         }
 
@@ -356,11 +360,11 @@ public class FinalBoss extends BossEnemy {
 
             if (upwardShotStunTimer <= 0) {
                 isUpwardShotStunned = false;
-                Gdx.app.log("Boss", "Recovered from upward shot exhaustion");
+                GameLog.debug(LogEvent.BOSS_UPWARD_RECOVERED);
             }
 
             // Don't move or shoot during stun
-            applyGravityAndCollision(delta, platforms, grounds);
+            applyGravityAndCollision(delta, level);
             return;
         }
 
@@ -370,7 +374,7 @@ public class FinalBoss extends BossEnemy {
         // Shooting (all phases)
         shootTimer -= delta;
         if (shootTimer <= 0) {
-            shootPattern(bullets, bulletPool, player);
+            shootPattern(bullets, player);
             shootTimer = shootCooldown;
         }
 
@@ -399,21 +403,21 @@ public class FinalBoss extends BossEnemy {
         }
 
         // Smart jump logic - enhanced pursuit
-        checkAndPerformSmartJump(player, platforms);
+        checkAndPerformSmartJump(player, level);
 
         // Apply gravity and platform collision
-        applyGravityAndCollision(delta, platforms, grounds);
+        applyGravityAndCollision(delta, level);
 
         // Animation state already updated at the beginning of this method
         // This ensures it's set even when early returns occur (e.g., during warning phase)
 
         // Collision with player (melee damage)
         if (collider.overlaps(player.bounds)) {
-            long currentTime = TimeUtils.nanoTime();
+            long currentTime = GameClock.nanoTime();
             if (currentTime - lastDamageTime > DAMAGE_COOLDOWN) {
                 player.takeDamage(damage);
                 lastDamageTime = currentTime;
-                Gdx.app.log("Boss", "Hit player for " + damage + " damage");
+                GameLog.debug(LogEvent.BOSS_HIT_PLAYER, damage);
             }
         }
     }
@@ -422,7 +426,7 @@ public class FinalBoss extends BossEnemy {
      * Smart jump logic for Final Boss.
      * Most aggressive jumping behavior - adapts based on phase.
      */
-    private void checkAndPerformSmartJump(Player player, Array<Platform> platforms) {
+    private void checkAndPerformSmartJump(Player player, LevelGeometryIndex level) {
         // Don't jump during upward shot sequence
         if (!grounded || smartJumpCooldown > 0 || playerWasAbove || isUpwardShotWarning || isUpwardShotStunned) {
             return;
@@ -452,7 +456,7 @@ public class FinalBoss extends BossEnemy {
         boolean noDirectCollision = !collider.overlaps(player.bounds);
         
         // Condition 5: Player on platform above
-        boolean playerOnPlatform = isPlayerOnPlatformAbove(player, platforms);
+        boolean playerOnPlatform = isPlayerOnPlatformAbove(player, level);
 
         if (grounded && playerIsAbove && reachableHeight) {
             boolean shouldJump = false;
@@ -483,10 +487,13 @@ public class FinalBoss extends BossEnemy {
     /**
      * Checks if player is standing on a platform above the boss.
      */
-    private boolean isPlayerOnPlatformAbove(Player player, Array<Platform> platforms) {
+    private boolean isPlayerOnPlatformAbove(Player player, LevelGeometryIndex level) {
         float bossTop = bounds.y + bounds.height;
         
-        for (Platform p : platforms) {
+        // Only platforms under the player's x-span can satisfy the overlap check
+        level.platformsInXRange(player.bounds.x, player.bounds.x + player.bounds.width, nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; i++) {
+            Platform p = nearbyPlatforms.get(i);
             boolean platformAboveBoss = p.bounds.y > bossTop;
             boolean reachable = p.bounds.y - bossTop < 300f;
             boolean playerOnPlatform = Math.abs(player.bounds.y - (p.bounds.y + p.bounds.height)) < 25f;
@@ -511,7 +518,7 @@ public class FinalBoss extends BossEnemy {
             shootTimer = shootCooldown;
             phaseTransitionTimer = PHASE_TRANSITION_DURATION;
             animation.setPhase(currentPhase);
-            Gdx.app.log("Boss", "PHASE 2 - Spread Attack!");
+            GameLog.debug(LogEvent.BOSS_PHASE_2);
         }
         // Transition to Phase 3 at 25% health
         else if (healthPercent <= 0.25f && currentPhase == 2) {
@@ -521,11 +528,11 @@ public class FinalBoss extends BossEnemy {
             shootTimer = shootCooldown;
             phaseTransitionTimer = PHASE_TRANSITION_DURATION;
             animation.setPhase(currentPhase);
-            Gdx.app.log("Boss", "PHASE 3 - Fan Barrage!");
+            GameLog.debug(LogEvent.BOSS_PHASE_3);
         }
     }
 
-    private void shootPattern(Array<EnemyBullet> bullets, Pool<EnemyBullet> bulletPool, Player player) {
+    private void shootPattern(ProjectileStore bullets, Player player) {
         // Calculate base angle toward player
         float dx = player.bounds.x + player.bounds.width / 2 - (bounds.x + bounds.width / 2);
         float dy = player.bounds.y + player.bounds.height / 2 - (bounds.y + bounds.height / 2);
@@ -533,68 +540,80 @@ public class FinalBoss extends BossEnemy {
 
         if (currentPhase == 1) {
             // Phase 1: Single directional bullet aimed at player (32x32)
-            spawnBulletWithType(bullets, bulletPool, baseAngle, BulletType.PHASE1_SINGLE, 32, 32);
-            Gdx.app.log("Boss", "Single shot!");
+            spawnBulletWithType(bullets, baseAngle, BulletType.PHASE1_SINGLE, 32, 32);
+            GameLog.debug(LogEvent.BOSS_SINGLE_SHOT);
         } else if (currentPhase == 2) {
             // Phase 2: 3-bullet spread with slow spin (20x20) (-20°, 0°, +20°)
             for (int i = 0; i < PHASE2_BULLET_COUNT; i++) {
                 float angleOffset = (i - 1) * PHASE2_SPREAD_ANGLE; // -20, 0, 20
-                spawnBulletWithType(bullets, bulletPool, baseAngle + angleOffset, BulletType.PHASE23_MULTI, 20, 20);
+                spawnBulletWithType(bullets, baseAngle + angleOffset, BulletType.PHASE23_MULTI, 20, 20);
             }
-            Gdx.app.log("Boss", "Spread attack!");
+            GameLog.debug(LogEvent.BOSS_SPREAD_ATTACK);
         } else if (currentPhase == 3) {
             // Phase 3: 5-bullet fan with slow spin (20x20) (-30°, -15°, 0°, +15°, +30°)
             for (int i = 0; i < PHASE3_BULLET_COUNT; i++) {
                 float angleOffset = (i - 2) * 15f; // -30, -15, 0, 15, 30
-                spawnBulletWithType(bullets, bulletPool, baseAngle + angleOffset, BulletType.PHASE23_MULTI, 20, 20);
+                spawnBulletWithType(bullets, baseAngle + angleOffset, BulletType.PHASE23_MULTI, 20, 20);
             }
-            Gdx.app.log("Boss", "Fan barrage!");
+            GameLog.debug(LogEvent.BOSS_FAN_BARRAGE);
         }
     }
 
     /**
      * Spawns a bullet with a specific rendering strategy type.
      * 
-     * @param bullets Active bullets array
-     * @param bulletPool Bullet pool for object reuse
+     * @param bullets Enemy projectile store
      * @param angle Firing angle in degrees
      * @param type Bullet type (determines visual rendering)
      * @param width Bullet width
      * @param height Bullet height
      */
-    private void spawnBulletWithType(Array<EnemyBullet> bullets, Pool<EnemyBullet> bulletPool, 
+    private void spawnBulletWithType(ProjectileStore bullets, 
                                      float angle, BulletType type, float width, float height) {
-        EnemyBullet bullet = bulletPool.obtain();
         float spawnX = bounds.x + bounds.width / 2 - width / 2; // Center of boss
         float spawnY = bounds.y + bounds.height / 2 - height / 2;
-        bullet.init(spawnX, spawnY, angle, BULLET_SPEED, BULLET_DAMAGE, type, width, height);
-        bullets.add(bullet);
+        spawnBossBullet(bullets, spawnX, spawnY, angle, BULLET_SPEED, BULLET_DAMAGE, type, width, height);
+    }
+
+    /**
+     * Spawns a boss bullet into the projectile store, taking its look
+     * (texture, rotation, spin) from the shared render strategy for its type.
+     */
+    private void spawnBossBullet(ProjectileStore bullets, float x, float y, float angle, float speed,
+                                 float bulletDamage, BulletType type, float width, float height) {
+        float angleInRadians = (float) Math.toRadians(angle);
+        float velocityX = (float) Math.cos(angleInRadians) * speed;
+        float velocityY = (float) Math.sin(angleInRadians) * speed;
+        BulletRenderStrategy style = BulletRenderStrategyFactory.getInstance().getStrategy(type);
+        int i = bullets.spawn(ProjectileStore.TYPE_BOSS, x, y, velocityX, velocityY, width, height, bulletDamage,
+            style.getTexture(), style.getInitialRotation(velocityX, velocityY), style.getSpinSpeed());
+        bullets.setLifetime(i, BULLET_LIFETIME, 0f);
     }
 
     /**
      * Legacy spawn method for backward compatibility (not used by FinalBoss anymore).
      */
-    private void spawnBullet(Array<EnemyBullet> bullets, Pool<EnemyBullet> bulletPool, float angle) {
-        EnemyBullet bullet = bulletPool.obtain();
+    private void spawnBullet(ProjectileStore bullets, float angle) {
         float spawnX = bounds.x + bounds.width / 2 - 4; // Center of boss
         float spawnY = bounds.y + bounds.height / 2 - 4;
-        bullet.init(spawnX, spawnY, angle, BULLET_SPEED, BULLET_DAMAGE, enemyBulletTex);
-        bullets.add(bullet);
+        float angleInRadians = (float) Math.toRadians(angle);
+        int i = bullets.spawn(ProjectileStore.TYPE_ENEMY, spawnX, spawnY,
+            (float) Math.cos(angleInRadians) * BULLET_SPEED, (float) Math.sin(angleInRadians) * BULLET_SPEED,
+            8, 8, BULLET_DAMAGE, enemyBulletTex, 0f, 0f);
+        bullets.setLifetime(i, BULLET_LIFETIME, 0f);
     }
 
-    private void shootBigUpwardBullet(Array<EnemyBullet> bullets, Pool<EnemyBullet> bulletPool) {
+    private void shootBigUpwardBullet(ProjectileStore bullets) {
         // Fire ONE massive bullet straight up with fast spin
-        EnemyBullet bullet = bulletPool.obtain();
         float spawnX = bounds.x + bounds.width / 2 - BIG_BULLET_WIDTH / 2; // Center of boss
         float spawnY = bounds.y + bounds.height / 2 - BIG_BULLET_HEIGHT / 2;
-        bullet.init(spawnX, spawnY, UPWARD_SHOT_BASE_ANGLE, BIG_BULLET_SPEED, BIG_BULLET_DAMAGE, 
-                    BulletType.BIG_ATTACK, BIG_BULLET_WIDTH, BIG_BULLET_HEIGHT);
-        bullets.add(bullet);
-        Gdx.app.log("Boss", "Fired BIG bullet upward with " + BIG_BULLET_DAMAGE + " damage!");
+        spawnBossBullet(bullets, spawnX, spawnY, UPWARD_SHOT_BASE_ANGLE, BIG_BULLET_SPEED, BIG_BULLET_DAMAGE, 
+                        BulletType.BIG_ATTACK, BIG_BULLET_WIDTH, BIG_BULLET_HEIGHT);
+        GameLog.debug(LogEvent.BOSS_BIG_BULLET, BIG_BULLET_DAMAGE);
     }
 
     @Override
-    protected Texture getCurrentTexture() {
+    protected TextureRegion getCurrentTexture() {
         return animation.getCurrentFrame();
     }
 
@@ -604,10 +623,16 @@ public class FinalBoss extends BossEnemy {
     }
 
     @Override
-    public void draw(SpriteBatch batch) {
+    protected Color getFlashColor() {
+        // Phase transition flashes red
+        return shouldFlash ? Color.RED : null;
+    }
+
+    @Override
+    public void draw(RenderQueue queue) {
         // Draw sprite with visual scaling (1.5x larger)
         // Collider remains at original size for gameplay balance
-        Texture currentTexture = getCurrentTexture();
+        TextureRegion currentTexture = getCurrentTexture();
         boolean flipX = isFacingLeft();
         
         // Use pre-calculated offsets and dimensions (optimized - no per-frame calculation)
@@ -615,27 +640,27 @@ public class FinalBoss extends BossEnemy {
         // renderOffsetY: 0 (bottom-aligns sprite with bounds to prevent ground sinking)
         
         // Draw with mirroring based on facing direction and visual scaling
-        batch.draw(currentTexture, 
-                  bounds.x + renderOffsetX, bounds.y + renderOffsetY,  // Position: centered horizontally, bottom-aligned vertically
-                  0f, 0f,  // originX, originY (0,0 = flip around left-bottom corner)
-                  scaledWidth, scaledHeight,  // Use pre-calculated scaled dimensions
-                  1f, 1f, 0f,  // scaleX, scaleY, rotation
-                  0, 0,  // srcX, srcY
-                  currentTexture.getWidth(), currentTexture.getHeight(),
-                  flipX, false);  // flipX, flipY
+        // (a mirrored region is drawn from its right edge with a negative width)
+        float drawX = bounds.x + renderOffsetX;  // Centered horizontally
+        float drawY = bounds.y + renderOffsetY;  // Bottom-aligned vertically
+        applyFlash(queue);
+        queue.draw(currentTexture,
+                  flipX ? drawX + scaledWidth : drawX, drawY,
+                  flipX ? -scaledWidth : scaledWidth, scaledHeight);  // Use pre-calculated scaled dimensions
+        queue.setColor(1f, 1f, 1f, 1f);
 
         // Draw health bar above scaled sprite
-        drawScaledHealthBar(batch, scaledWidth);
+        drawScaledHealthBar(queue, scaledWidth);
     }
     
     /**
      * Draws the health bar scaled appropriately for the visual boss size.
      * Health bar width matches the scaled visual width.
      * 
-     * @param batch Sprite batch for drawing
+     * @param queue Render queue for the frame
      * @param scaledWidth The scaled width of the boss visual
      */
-    private void drawScaledHealthBar(SpriteBatch batch, float scaledWidth) {
+    private void drawScaledHealthBar(RenderQueue queue, float scaledWidth) {
         float barWidth = scaledWidth;
         float barHeight = 5f;
         // Position health bar above the scaled visual sprite
@@ -645,24 +670,24 @@ public class FinalBoss extends BossEnemy {
         float healthPercent = health / maxHealth;
 
         // Draw background (black with transparency)
-        batch.setColor(0f, 0f, 0f, 0.7f);
-        batch.draw(BossEnemy.getHealthBarBg(), barX - 1, barY - 1, barWidth + 2, barHeight + 2);
+        queue.setColor(0f, 0f, 0f, 0.7f);
+        queue.draw(BossEnemy.getHealthBarBg(), barX - 1, barY - 1, barWidth + 2, barHeight + 2);
 
         // Draw border (white)
-        batch.setColor(1f, 1f, 1f, 1f);
-        batch.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY - 1, barWidth + 2, 1); // Bottom
-        batch.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY + barHeight, barWidth + 2, 1); // Top
-        batch.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY, 1, barHeight); // Left
-        batch.draw(BossEnemy.getHealthBarBorder(), barX + barWidth, barY, 1, barHeight); // Right
+        queue.setColor(1f, 1f, 1f, 1f);
+        queue.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY - 1, barWidth + 2, 1); // Bottom
+        queue.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY + barHeight, barWidth + 2, 1); // Top
+        queue.draw(BossEnemy.getHealthBarBorder(), barX - 1, barY, 1, barHeight); // Left
+        queue.draw(BossEnemy.getHealthBarBorder(), barX + barWidth, barY, 1, barHeight); // Right
 
         // Draw health bar (green to red gradient based on health)
         float red = 1f - healthPercent;
         float green = healthPercent;
-        batch.setColor(red, green, 0f, 1f);
-        batch.draw(BossEnemy.getHealthBarFill(), barX, barY, barWidth * healthPercent, barHeight);
+        queue.setColor(red, green, 0f, 1f);
+        queue.draw(BossEnemy.getHealthBarFill(), barX, barY, barWidth * healthPercent, barHeight);
 
         // Reset color
-        batch.setColor(1f, 1f, 1f, 1f);
+        queue.setColor(1f, 1f, 1f, 1f);
     }
     
     /**
@@ -687,9 +712,9 @@ public class FinalBoss extends BossEnemy {
      * @param phase3Jump Phase 3 jump texture
      * @param phase3BigAttack Phase 3 big attack texture
      */
-    private void validateAssetDimensions(Texture phase1Walk1, Texture phase1Walk2, Texture phase1Jump, Texture phase1BigAttack,
-                                        Texture phase2Walk1, Texture phase2Walk2, Texture phase2Jump, Texture phase2BigAttack,
-                                        Texture phase3Walk1, Texture phase3Walk2, Texture phase3Jump, Texture phase3BigAttack) {
+    private void validateAssetDimensions(TextureRegion phase1Walk1, TextureRegion phase1Walk2, TextureRegion phase1Jump, TextureRegion phase1BigAttack,
+                                        TextureRegion phase2Walk1, TextureRegion phase2Walk2, TextureRegion phase2Jump, TextureRegion phase2BigAttack,
+                                        TextureRegion phase3Walk1, TextureRegion phase3Walk2, TextureRegion phase3Jump, TextureRegion phase3BigAttack) {
         // Expected dimensions based on visual scale
         int expectedWidth = (int) scaledWidth;   // 90
         int expectedHeight = (int) scaledHeight; // 150
@@ -729,14 +754,14 @@ public class FinalBoss extends BossEnemy {
      * @param expectedWidth Expected width in pixels
      * @param expectedHeight Expected height in pixels
      */
-    private void validateTextureDimension(String name, Texture texture, int expectedWidth, int expectedHeight) {
+    private void validateTextureDimension(String name, TextureRegion texture, int expectedWidth, int expectedHeight) {
         if (texture == null) {
             Gdx.app.log("FinalBoss", name + ": null (using fallback)");
             return;
         }
         
-        int actualWidth = texture.getWidth();
-        int actualHeight = texture.getHeight();
+        int actualWidth = texture.getRegionWidth();
+        int actualHeight = texture.getRegionHeight();
         
         if (actualWidth == expectedWidth && actualHeight == expectedHeight) {
             Gdx.app.log("FinalBoss", name + ": " + actualWidth + "x" + actualHeight + " ✓");
@@ -1,19 +1,19 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public abstract class GameObject {
     public Rectangle bounds;
-    public Texture texture;
+    public TextureRegion texture;
 
-    public GameObject(float x, float y, float w, float h, Texture texture) {
+    public GameObject(float x, float y, float w, float h, TextureRegion texture) {
         this.bounds = new Rectangle(x, y, w, h);
         this.texture = texture;
     }
 
-    public void draw(SpriteBatch batch) {
-        batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
+    public void draw(RenderQueue queue) {
+        queue.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
     }
 }
@@ -0,0 +1,76 @@
+package com.labubushooter.frontend.objects;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Previous-step position of an entity's rectangle, used to draw it between
+ * two fixed simulation steps.
+ *
+ * The simulation calls {@link #capture(Rectangle)} before every step. Before
+ * drawing, {@link #apply(Rectangle, float)} temporarily moves the rectangle to
+ * the interpolated position so existing draw code works unchanged, and
+ * {@link #restore(Rectangle)} puts the simulated position back afterwards.
+ *
+ * Moves longer than {@link #SNAP_DISTANCE} in one step are treated as teleports
+ * (level load, respawn, pool reuse) and drawn at the current position.
+ */
+public final class InterpolatedPosition {
+
+    /** One-step displacement beyond which interpolation is skipped */
+    public static final float SNAP_DISTANCE = 200f;
+
+    private float prevX;
+    private float prevY;
+    private float savedX;
+    private float savedY;
+    private boolean applied = false;
+
+    /**
+     * Records the rectangle's position as the previous simulation state.
+     */
+    public void capture(Rectangle rect) {
+        prevX = rect.x;
+        prevY = rect.y;
+    }
+
+    /**
+     * Moves the rectangle to {@code prev + (current - prev) * alpha}.
+     * Must be paired with {@link #restore(Rectangle)}.
+     *
+     * @param rect Simulated rectangle (modified in place)
+     * @param alpha Interpolation factor in [0, 1]
+     */
+    public void apply(Rectangle rect, float alpha) {
+        savedX = rect.x;
+        savedY = rect.y;
+        applied = true;
+
+        float dx = rect.x - prevX;
+        float dy = rect.y - prevY;
+        if (Math.abs(dx) > SNAP_DISTANCE || Math.abs(dy) > SNAP_DISTANCE) {
+            return;
+        }
+        rect.x = prevX + dx * alpha;
+        rect.y = prevY + dy * alpha;
+    }
+
+    /**
+     * Restores the simulated position overwritten by {@link #apply(Rectangle, float)}.
+     */
+    public void restore(Rectangle rect) {
+        if (!applied) {
+            return;
+        }
+        rect.x = savedX;
+        rect.y = savedY;
+        applied = false;
+    }
+
+    /**
+     * Interpolated x of the rectangle without modifying it.
+     */
+    public float lerpX(Rectangle rect, float alpha) {
+        float dx = rect.x - prevX;
+        return Math.abs(dx) > SNAP_DISTANCE ? rect.x : prevX + dx * alpha;
+    }
+}
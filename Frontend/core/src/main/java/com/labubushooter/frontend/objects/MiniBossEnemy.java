@@ -1,12 +1,15 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.labubushooter.frontend.animation.MiniBossAnimationStrategy;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
 
 public class MiniBossEnemy extends BossEnemy {
     private static final float LEVEL_WIDTH = 2400f; // Level 3 width
@@ -57,7 +60,6 @@ public class MiniBossEnemy extends BossEnemy {
     private float superJumpThreshold;
     private float superJumpCooldown;
     private boolean playerWasAbove;
-    private Texture superJumpFlashTexture;
     private static final float MIN_SUPER_JUMP_TIME = 2.0f;
     private static final float MAX_SUPER_JUMP_TIME = 5.0f;
     private static final float HEIGHT_THRESHOLD = 50f; // Player must be at least 50 units above boss
@@ -66,11 +68,9 @@ public class MiniBossEnemy extends BossEnemy {
     private MiniBossAnimationStrategy animation;
     private boolean facingLeft;
 
-    public MiniBossEnemy(Texture walkFrame1, Texture walkFrame2, Texture crouchTex,
-                         Texture dashPrepTex, Texture dashTex, Texture dashFlashTex,
-                         Texture superJumpFlashTex) {
-        super(0, 0, 60, 90, 120, 5.0f, walkFrame1, dashFlashTex);
-        this.superJumpFlashTexture = superJumpFlashTex;
+    public MiniBossEnemy(TextureRegion walkFrame1, TextureRegion walkFrame2, TextureRegion crouchTex,
+                         TextureRegion dashPrepTex, TextureRegion dashTex) {
+        super(0, 0, 60, 90, 120, 5.0f, walkFrame1);
         this.dashCooldown = DASH_COOLDOWN_DURATION;
         this.facingLeft = false;
         
@@ -88,7 +88,7 @@ public class MiniBossEnemy extends BossEnemy {
         velY = 0;
         grounded = false;
         resetState();
-        lastDamageTime = TimeUtils.nanoTime();
+        lastDamageTime = GameClock.nanoTime();
     }
 
     private void resetState() {
@@ -121,12 +121,12 @@ public class MiniBossEnemy extends BossEnemy {
     }
 
     @Override
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds) {
+    public void update(float delta, LevelGeometryIndex level) {
         // This method is called from parent, but we need Player reference
         // Will be overridden with proper signature
     }
 
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds, Player player) {
+    public void update(float delta, LevelGeometryIndex level, Player player) {
         if (isDead()) {
             active = false;
             return;
@@ -156,7 +156,7 @@ public class MiniBossEnemy extends BossEnemy {
         if (dashCooldown <= 0 && !isWarning && !isDashing && !isStunned) {
             isWarning = true;
             dashWarningTimer = DASH_WARNING_DURATION;
-            Gdx.app.log("MiniBoss", "Warning! Preparing dash...");
+            GameLog.debug(LogEvent.MINI_BOSS_DASH_WARNING);
         }
 
         if (isWarning) {
@@ -184,7 +184,7 @@ public class MiniBossEnemy extends BossEnemy {
                 facingLeft = dashDirectionX < 0;
                 animation.setFacingLeft(facingLeft);
 
-                Gdx.app.log("MiniBoss", "DASH!");
+                GameLog.debug(LogEvent.MINI_BOSS_DASH);
             }
         }
 
@@ -208,7 +208,7 @@ public class MiniBossEnemy extends BossEnemy {
                 isDashing = false;
                 isStunned = true;
                 dashStunTimer = DASH_STUN_DURATION;
-                Gdx.app.log("MiniBoss", "Stunned after dash");
+                GameLog.debug(LogEvent.MINI_BOSS_STUNNED);
             }
         }
 
@@ -234,8 +234,7 @@ public class MiniBossEnemy extends BossEnemy {
                     playerWasAbove = true;
                     superJumpTimer = 0;
                     superJumpThreshold = MathUtils.random(MIN_SUPER_JUMP_TIME, MAX_SUPER_JUMP_TIME);
-                    Gdx.app.log("MiniBoss",
-                            "Player above! Superjump countdown: " + String.format("%.1f", superJumpThreshold) + "s");
+                    GameLog.debug(LogEvent.MINI_BOSS_SUPERJUMP_COUNTDOWN, superJumpThreshold);
                 }
 
                 superJumpTimer += delta;
@@ -245,13 +244,13 @@ public class MiniBossEnemy extends BossEnemy {
                     isSuperJumpWarning = true;
                     superJumpWarningTimer = SUPER_JUMP_WARNING_DURATION;
                     superJumpFlashTimer = 0;
-                    Gdx.app.log("MiniBoss", "Superjump Warning! Charging up...");
+                    GameLog.debug(LogEvent.MINI_BOSS_SUPERJUMP_WARNING);
                 }
             } else {
                 if (playerWasAbove) {
                     playerWasAbove = false;
                     superJumpTimer = 0;
-                    Gdx.app.log("MiniBoss", "Player moved away, superjump cancelled");
+                    GameLog.debug(LogEvent.MINI_BOSS_SUPERJUMP_CANCELLED);
                 }
             }
         }
@@ -276,7 +275,7 @@ public class MiniBossEnemy extends BossEnemy {
                 velY = SUPER_JUMP_POWER;
                 grounded = false;
                 superJumpCooldown = SUPER_JUMP_COOLDOWN_DURATION;
-                Gdx.app.log("MiniBoss", "SUPER JUMP EXECUTED!");
+                GameLog.debug(LogEvent.MINI_BOSS_SUPERJUMP);
             }
         }
 
@@ -303,11 +302,11 @@ public class MiniBossEnemy extends BossEnemy {
             }
 
             // Smart jump logic - replaces the old simple jump
-            checkAndPerformSmartJump(player, platforms);
+            checkAndPerformSmartJump(player, level);
         }
 
         // Apply gravity and platform collision
-        applyGravityAndCollision(delta, platforms, grounds);
+        applyGravityAndCollision(delta, level);
         
         // Update animation state based on current game state
         animation.setState(isSuperJumpWarning, isWarning, isDashing, grounded);
@@ -315,11 +314,11 @@ public class MiniBossEnemy extends BossEnemy {
 
         // Collision with player (melee damage)
         if (collider.overlaps(player.bounds)) {
-            long currentTime = TimeUtils.nanoTime();
+            long currentTime = GameClock.nanoTime();
             if (currentTime - lastDamageTime > DAMAGE_COOLDOWN) {
                 player.takeDamage(damage);
                 lastDamageTime = currentTime;
-                Gdx.app.log("MiniBoss", "Hit player for " + damage + " damage");
+                GameLog.debug(LogEvent.MINI_BOSS_HIT_PLAYER, damage);
             }
         }
     }
@@ -328,7 +327,7 @@ public class MiniBossEnemy extends BossEnemy {
      * Smart jump logic for MiniBoss to reach player on platforms.
      * More aggressive than common enemy.
      */
-    private void checkAndPerformSmartJump(Player player, Array<Platform> platforms) {
+    private void checkAndPerformSmartJump(Player player, LevelGeometryIndex level) {
         if (!grounded || smartJumpCooldown > 0 || playerWasAbove) {
             return; // Don't interfere with superjump
         }
@@ -353,7 +352,7 @@ public class MiniBossEnemy extends BossEnemy {
         boolean noDirectCollision = !collider.overlaps(player.bounds);
         
         // Condition 5: Player on platform above
-        boolean playerOnPlatform = isPlayerOnPlatformAbove(player, platforms);
+        boolean playerOnPlatform = isPlayerOnPlatformAbove(player, level);
 
         if (grounded && playerIsAbove && reachableHeight) {
             boolean shouldJump = false;
@@ -377,10 +376,13 @@ public class MiniBossEnemy extends BossEnemy {
     /**
      * Checks if player is standing on a platform above the boss.
      */
-    private boolean isPlayerOnPlatformAbove(Player player, Array<Platform> platforms) {
+    private boolean isPlayerOnPlatformAbove(Player player, LevelGeometryIndex level) {
         float bossTop = bounds.y + bounds.height;
         
-        for (Platform p : platforms) {
+        // Only platforms under the player's x-span can satisfy the overlap check
+        level.platformsInXRange(player.bounds.x, player.bounds.x + player.bounds.width, nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; i++) {
+            Platform p = nearbyPlatforms.get(i);
             boolean platformAboveBoss = p.bounds.y > bossTop;
             boolean reachable = p.bounds.y - bossTop < 250f;
             boolean playerOnPlatform = Math.abs(player.bounds.y - (p.bounds.y + p.bounds.height)) < 20f;
@@ -395,7 +397,7 @@ public class MiniBossEnemy extends BossEnemy {
     }
 
     @Override
-    protected Texture getCurrentTexture() {
+    protected TextureRegion getCurrentTexture() {
         // Use animation strategy to get current frame
         return animation.getCurrentFrame();
     }
@@ -404,4 +406,13 @@ public class MiniBossEnemy extends BossEnemy {
     protected boolean isFacingLeft() {
         return facingLeft;
     }
+
+    @Override
+    protected Color getFlashColor() {
+        // Superjump charge flashes yellow, dash warning flashes white
+        if (shouldSuperJumpFlash) {
+            return Color.YELLOW;
+        }
+        return shouldFlash ? Color.WHITE : null;
+    }
 }
@@ -1,10 +1,10 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Pool;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class Pickup implements Pool.Poolable {
     public enum Type {
@@ -16,7 +16,7 @@ public class Pickup implements Pool.Poolable {
     public Rectangle bounds;
     public Type type;
     public boolean active;
-    private Texture texture;
+    private TextureRegion texture;
     
     // Animation fields (similar to Coin)
     private float bobOffset;
@@ -31,7 +31,7 @@ public class Pickup implements Pool.Poolable {
         this.bobOffset = MathUtils.random(0f, MathUtils.PI2);
     }
 
-    public void init(float x, float y, Type type, Texture texture) {
+    public void init(float x, float y, Type type, TextureRegion texture) {
         this.bounds.setPosition(x, y);
         this.baseY = y;
         this.type = type;
@@ -48,9 +48,9 @@ public class Pickup implements Pool.Poolable {
         bounds.setPosition(bounds.x, animatedY);
     }
 
-    public void draw(SpriteBatch batch) {
+    public void draw(RenderQueue queue) {
         if (active && texture != null) {
-            batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
+            queue.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
         }
     }
 
@@ -1,9 +1,9 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class Platform extends GameObject {
-    public Platform(float x, float y, float w, float h, Texture tex) {
+    public Platform(float x, float y, float w, float h, TextureRegion tex) {
         super(x, y, w, h, tex);
     }
 }
@@ -1,21 +1,20 @@
 package com.labubushooter.frontend.objects;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
 import com.labubushooter.frontend.animation.PlayerAnimationStrategy;
 import com.labubushooter.frontend.animation.SpriteAligner;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.input.InputFrame;
 import com.labubushooter.frontend.patterns.ShootingStrategy;
 import com.labubushooter.frontend.patterns.weapons.Mac10Strategy;
 import com.labubushooter.frontend.patterns.weapons.PistolStrategy;
 import com.labubushooter.frontend.patterns.weapons.WeaponRenderer;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
+import com.labubushooter.frontend.services.RenderQueue;
 
 /**
  * Player entity with animation controller and proper sprite alignment.
@@ -34,6 +33,9 @@ public class Player extends GameObject {
     public boolean grounded = false;
     public boolean facingRight = true;
 
+    /** Previous-step position for render interpolation */
+    public final InterpolatedPosition renderPosition = new InterpolatedPosition();
+
     // Current horizontal velocity for animation
     private float currentVelocityX = 0f;
 
@@ -59,21 +61,26 @@ public class Player extends GameObject {
     final float SPEED = 250f;
     public static float LEVEL_WIDTH = 2400f;
 
-    // Mouse aiming
+    // Aiming (world-space aim point from the input source)
     private Vector2 mouseWorldPos;
     private float weaponAngle;
-    public OrthographicCamera camera;
+
+    // Scratch vectors reused by shoot() and draw() so they do not allocate
+    private final Vector2 shootDirection = new Vector2();
+    private final Vector2 shootStart = new Vector2();
+    private final Vector2 drawSize = new Vector2();
+    private final Vector2 drawPosition = new Vector2();
 
     // Weapon positioning
     private static final float WEAPON_Y_OFFSET = 15f; // Lower weapon by 15 pixels
 
-    public Player(Texture tex) {
+    public Player(TextureRegion tex) {
         super(100, 300, 50, 75, tex); // Increased from 40x60 to 50x75 (1.25x larger)
         this.shootingStrategy = null;
         this.animationStrategy = null;
         this.health = MAX_HEALTH;
-        this.lastDamageTime = TimeUtils.nanoTime();
-        this.lastRegenTime = TimeUtils.nanoTime();
+        this.lastDamageTime = GameClock.nanoTime();
+        this.lastRegenTime = GameClock.nanoTime();
         this.mouseWorldPos = new Vector2();
         this.weaponAngle = 0f;
     }
@@ -109,15 +116,15 @@ public class Player extends GameObject {
         health -= damage;
         if (health < 0)
             health = 0;
-        lastDamageTime = TimeUtils.nanoTime(); // Reset damage timer
-        Gdx.app.log("Player", "Health: " + health);
+        lastDamageTime = GameClock.nanoTime(); // Reset damage timer
+        GameLog.debug(LogEvent.PLAYER_HEALTH, health);
     }
 
     public void addHealth(float amount) {
         health += amount;
         if (health > MAX_HEALTH)
             health = MAX_HEALTH;
-        Gdx.app.log("Player", "Health added: " + amount + ". Current: " + health);
+        GameLog.debug(LogEvent.PLAYER_HEALTH_ADDED, amount, health);
     }
 
     public boolean isDead() {
@@ -130,9 +137,10 @@ public class Player extends GameObject {
         this.grounded = false;
         this.facingRight = true;
         this.bounds.setPosition(100, 300);
-        this.lastDamageTime = TimeUtils.nanoTime();
-        this.lastRegenTime = TimeUtils.nanoTime();
+        this.lastDamageTime = GameClock.nanoTime();
+        this.lastRegenTime = GameClock.nanoTime();
         this.weaponAngle = 0f;
+        this.mouseWorldPos.setZero();
         this.currentVelocityX = 0f;
 
         // Reset animation strategy
@@ -141,33 +149,37 @@ public class Player extends GameObject {
         }
     }
 
-    public void update(float delta, Array<Platform> platforms, Array<Ground> grounds) {
+    // Reused query results for level geometry lookups
+    private final Array<Platform> nearbyPlatforms = new Array<>(4);
+    private final Array<Ground> nearbyGrounds = new Array<>(2);
+
+    public void update(float delta, LevelGeometryIndex level, InputFrame input) {
         // Update Weapon Strategy (Reload timers, etc.)
         if (shootingStrategy != null) {
             shootingStrategy.update(delta);
         }
 
         // Health Regeneration Logic
-        long currentTime = TimeUtils.nanoTime();
+        long currentTime = GameClock.nanoTime();
         if (health < MAX_HEALTH && currentTime - lastDamageTime > REGEN_DELAY) {
             if (currentTime - lastRegenTime > REGEN_INTERVAL) {
                 health += REGEN_AMOUNT;
                 if (health > MAX_HEALTH)
                     health = MAX_HEALTH;
                 lastRegenTime = currentTime;
-                Gdx.app.log("Player", "Health regenerated: " + health);
+                GameLog.debug(LogEvent.PLAYER_REGEN, health);
             }
         }
 
         // Calculate horizontal velocity for animation
         currentVelocityX = 0f;
 
-        // WASD Movement Input
-        if (Gdx.input.isKeyPressed(Input.Keys.A)) {
+        // Movement Input
+        if (input.moveLeft) {
             bounds.x -= SPEED * delta;
             currentVelocityX = -SPEED;
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.D)) {
+        if (input.moveRight) {
             bounds.x += SPEED * delta;
             currentVelocityX = SPEED;
         }
@@ -184,7 +196,9 @@ public class Player extends GameObject {
 
         // Platform Collisions
         grounded = false;
-        for (Platform p : platforms) {
+        level.platformsOverlapping(bounds, nearbyPlatforms);
+        for (int i = 0; i < nearbyPlatforms.size; i++) {
+            Platform p = nearbyPlatforms.get(i);
             if (bounds.overlaps(p.bounds)) {
                 if (velY < 0 && bounds.y + bounds.height / 2 > p.bounds.y + p.bounds.height) {
                     bounds.y = p.bounds.y + p.bounds.height;
@@ -195,7 +209,9 @@ public class Player extends GameObject {
         }
 
         // Ground Collisions
-        for (Ground g : grounds) {
+        level.groundsOverlapping(bounds, nearbyGrounds);
+        for (int i = 0; i < nearbyGrounds.size; i++) {
+            Ground g = nearbyGrounds.get(i);
             if (bounds.overlaps(g.bounds)) {
                 if (velY < 0 && bounds.y + bounds.height / 2 > g.bounds.y + g.bounds.height) {
                     bounds.y = g.bounds.y + g.bounds.height;
@@ -216,23 +232,20 @@ public class Player extends GameObject {
             animationStrategy.updateMovementState(currentVelocityX, velY, grounded);
             animationStrategy.update(delta);
 
-            // Sync facing direction with animation (unless mouse aiming overrides)
-            if (camera == null) {
+            // Sync facing direction with animation (unless aiming overrides)
+            if (!input.hasAim) {
                 facingRight = !animationStrategy.isFacingLeft();
             }
         }
 
-        // Update mouse world position and weapon angle
-        if (camera != null) {
-            updateMouseAiming();
+        // Update aim point and weapon angle
+        if (input.hasAim) {
+            updateAiming(input.aimX, input.aimY);
         }
     }
 
-    private void updateMouseAiming() {
-        // Convert screen coordinates to world coordinates
-        Vector3 mousePos3D = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        camera.unproject(mousePos3D);
-        mouseWorldPos.set(mousePos3D.x, mousePos3D.y);
+    private void updateAiming(float aimX, float aimY) {
+        mouseWorldPos.set(aimX, aimY);
 
         // Calculate player center with weapon offset
         float playerCenterX = bounds.x + bounds.width / 2;
@@ -269,7 +282,11 @@ public class Player extends GameObject {
         }
     }
 
-    public Vector2 getShootDirection() {
+    /**
+     * @param out Receives the normalized direction from the weapon to the aim point
+     * @return out, for chaining
+     */
+    public Vector2 getShootDirection(Vector2 out) {
         float playerCenterX = bounds.x + bounds.width / 2;
         float playerCenterY = (bounds.y + bounds.height / 2) - WEAPON_Y_OFFSET;
 
@@ -283,35 +300,39 @@ public class Player extends GameObject {
             dy /= length;
         }
 
-        return new Vector2(dx, dy);
+        return out.set(dx, dy);
     }
 
-    public Vector2 getShootStartPosition() {
+    /**
+     * @param out Receives the muzzle position, 25 px from the weapon pivot toward the aim point
+     * @return out, for chaining
+     */
+    public Vector2 getShootStartPosition(Vector2 out) {
         float playerCenterX = bounds.x + bounds.width / 2;
         float playerCenterY = (bounds.y + bounds.height / 2) - WEAPON_Y_OFFSET;
 
-        Vector2 dir = getShootDirection();
+        getShootDirection(out);
         float offsetDistance = 25f;
 
-        return new Vector2(
-                playerCenterX + dir.x * offsetDistance,
-                playerCenterY + dir.y * offsetDistance);
+        return out.set(
+                playerCenterX + out.x * offsetDistance,
+                playerCenterY + out.y * offsetDistance);
     }
 
-    public void shoot(Array<Bullet> activeBullets, Pool<Bullet> pool, Texture bulletTexture) {
+    public void shoot(ProjectileStore projectiles, TextureRegion bulletTexture) {
         if (shootingStrategy == null)
             return;
 
-        Vector2 startPos = getShootStartPosition();
-        Vector2 direction = getShootDirection();
+        Vector2 startPos = getShootStartPosition(shootStart);
+        Vector2 direction = getShootDirection(shootDirection);
 
-        shootingStrategy.shoot(startPos.x, startPos.y, direction, activeBullets, pool, bulletTexture);
+        shootingStrategy.shoot(startPos.x, startPos.y, direction, projectiles, bulletTexture);
     }
 
     @Override
-    public void draw(SpriteBatch batch) {
+    public void draw(RenderQueue queue) {
         // 1. Draw Player Body with animation and proper alignment
-        Texture currentTexture;
+        TextureRegion currentTexture;
         float drawWidth, drawHeight;
         float drawX, drawY;
 
@@ -319,32 +340,33 @@ public class Player extends GameObject {
             currentTexture = animationStrategy.getCurrentFrame();
 
             // Calculate scaled dimensions maintaining aspect ratio
-            float[] scaledDims = SpriteAligner.getScaledDimensions(
+            SpriteAligner.getScaledDimensions(
                 bounds,
-                currentTexture.getWidth(),
-                currentTexture.getHeight(),
-                1.0f
+                currentTexture.getRegionWidth(),
+                currentTexture.getRegionHeight(),
+                1.0f,
+                drawSize
             );
-            drawWidth = scaledDims[0];
-            drawHeight = scaledDims[1];
+            drawWidth = drawSize.x;
+            drawHeight = drawSize.y;
 
             // Get foot-aligned position (feet at bottom, centered horizontally)
-            float[] alignedPos = SpriteAligner.getFootAlignedPosition(bounds, drawWidth, drawHeight);
-            drawX = alignedPos[0];
-            drawY = alignedPos[1];
+            SpriteAligner.getFootAlignedPosition(bounds, drawWidth, drawHeight, drawPosition);
+            drawX = drawPosition.x;
+            drawY = drawPosition.y;
 
             // Determine if we need to flip for facing direction
             boolean flipX = !facingRight;
 
             // Draw with proper alignment and flipping
-            batch.draw(currentTexture,
+            queue.draw(currentTexture,
                        flipX ? drawX + drawWidth : drawX,  // Adjust X for flip
                        drawY,
                        flipX ? -drawWidth : drawWidth,     // Negative width for flip
                        drawHeight);
         } else {
             // Fallback: draw texture directly without animation
-            batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
+            queue.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
         }
 
         // 2. Draw Weapon using WeaponRenderer (Strategy Pattern)
@@ -355,8 +377,11 @@ public class Player extends GameObject {
                 float playerCenterX = bounds.x + bounds.width / 2;
                 float playerCenterY = (bounds.y + bounds.height / 2) - WEAPON_Y_OFFSET;
 
+                // Own layer, so texture sorting never puts the weapon behind the body
+                queue.setLayer(RenderQueue.LAYER_WEAPON);
+
                 // Delegate rendering to strategy (Strategy Pattern)
-                renderer.render(batch, playerCenterX, playerCenterY, weaponAngle, facingRight);
+                renderer.render(queue, playerCenterX, playerCenterY, weaponAngle, facingRight);
             }
         }
     }
@@ -0,0 +1,403 @@
+package com.labubushooter.frontend.objects;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.labubushooter.frontend.services.RenderQueue;
+
+/**
+ * Structure-of-arrays storage for every in-flight projectile of one faction.
+ *
+ * Projectiles are not individual objects: each one is a row across parallel
+ * primitive columns, so integration, culling and AABB tests run as tight loops
+ * without per-projectile allocations, virtual calls or GC churn.
+ *
+ * Rows are densely packed in [0, size). Removal is swap-remove (the last row
+ * moves into the freed slot), so iterate backwards when removing in a loop.
+ * The store enforces a hard cap: spawning while full evicts the oldest row,
+ * so per-frame projectile cost stays bounded however long a session runs.
+ * Rows are kept in spawn order in a ring, so finding the oldest does not
+ * scan the store.
+ * Columns grow by doubling and are never shrunk; callers must not keep
+ * references to the column arrays across a spawn.
+ *
+ * Design Pattern: Data-Oriented Design (ECS-style component columns)
+ */
+public class ProjectileStore {
+
+    // ==================== PROJECTILE TYPES ====================
+
+    /** Player bullet, drawn with a source region equal to its size */
+    public static final int TYPE_PLAYER = 0;
+    /** Plain enemy bullet, drawn unrotated */
+    public static final int TYPE_ENEMY = 1;
+    /** Boss bullet drawn rotated around its center (see BulletRenderStrategy) */
+    public static final int TYPE_BOSS = 2;
+
+    /** Player bullet hitbox size */
+    public static final float PLAYER_BULLET_WIDTH = 8f;
+    public static final float PLAYER_BULLET_HEIGHT = 5f;
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DEFAULT_MAX_PROJECTILES = 1024;
+
+    // ==================== COLUMNS ====================
+
+    public float[] x;
+    public float[] y;
+    /** Position at the start of the current simulation step, for render interpolation */
+    public float[] prevX;
+    public float[] prevY;
+    public float[] vx;
+    public float[] vy;
+    public float[] w;
+    public float[] h;
+    public float[] damage;
+    /** Seconds since spawn */
+    public float[] age;
+    /** Spawn position, used for range checks */
+    public float[] originX;
+    public float[] originY;
+    /** Render rotation in degrees and its angular velocity in degrees/second */
+    public float[] rotation;
+    public float[] spin;
+    /** Lifetime limits: seconds alive and distance from origin (0 = unlimited) */
+    public float[] maxAge;
+    public float[] maxRange;
+    public int[] type;
+    public TextureRegion[] texture;
+
+    private int size;
+    private final int maxProjectiles;
+    private long evictedCount;
+
+    // Rows in spawn order within [spawnHead, spawnTail); -1 marks a removed row.
+    // Twice the column capacity, so compaction runs at most once per capacity spawns
+    private int[] spawnOrder;
+    private int spawnHead;
+    private int spawnTail;
+    // Row -> its entry in spawnOrder
+    private int[] spawnSlot;
+
+    public ProjectileStore() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_PROJECTILES);
+    }
+
+    /**
+     * @param initialCapacity Rows allocated up front
+     * @param maxProjectiles Hard cap on live projectiles; the oldest is evicted beyond it
+     */
+    public ProjectileStore(int initialCapacity, int maxProjectiles) {
+        if (maxProjectiles <= 0) {
+            throw new IllegalArgumentException("maxProjectiles must be positive");
+        }
+        this.maxProjectiles = maxProjectiles;
+        allocate(Math.max(1, Math.min(initialCapacity, maxProjectiles)));
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Appends a projectile.
+     *
+     * @return Row index of the new projectile (valid until the next removal)
+     */
+    public int spawn(int projectileType, float px, float py, float pvx, float pvy,
+                     float width, float height, float dmg,
+                     TextureRegion tex, float initialRotation, float spinSpeed) {
+        if (size >= maxProjectiles) {
+            remove(oldestIndex());
+            evictedCount++;
+        }
+        if (size == x.length) {
+            grow(Math.min(size * 2, maxProjectiles));
+        }
+        int i = size++;
+        x[i] = px;
+        y[i] = py;
+        prevX[i] = px;
+        prevY[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        w[i] = width;
+        h[i] = height;
+        damage[i] = dmg;
+        age[i] = 0f;
+        originX[i] = px;
+        originY[i] = py;
+        rotation[i] = initialRotation;
+        spin[i] = spinSpeed;
+        maxAge[i] = 0f;
+        maxRange[i] = 0f;
+        type[i] = projectileType;
+        texture[i] = tex;
+        if (spawnTail == spawnOrder.length) {
+            compactSpawnOrder();
+        }
+        spawnOrder[spawnTail] = i;
+        spawnSlot[i] = spawnTail++;
+        return i;
+    }
+
+    /**
+     * Spawns a player bullet travelling along a normalized direction,
+     * rotated to face that direction.
+     *
+     * @param range Maximum travel distance (0 = unlimited)
+     * @param lifetime Maximum age in seconds (0 = unlimited)
+     * @return Row index of the new projectile
+     */
+    public int spawnPlayerBullet(float px, float py, float dirX, float dirY,
+                                 float speed, float dmg, TextureRegion tex,
+                                 float range, float lifetime) {
+        // atan2 returns angle in radians, convert to degrees
+        float angle = (float) Math.toDegrees(Math.atan2(dirY, dirX));
+        int i = spawn(TYPE_PLAYER, px, py, dirX * speed, dirY * speed,
+            PLAYER_BULLET_WIDTH, PLAYER_BULLET_HEIGHT, dmg, tex, angle, 0f);
+        setLifetime(i, lifetime, range);
+        return i;
+    }
+
+    /**
+     * Sets the lifetime limits of a projectile.
+     *
+     * @param lifetime Maximum age in seconds (0 = unlimited)
+     * @param range Maximum travel distance from the spawn point (0 = unlimited)
+     */
+    public void setLifetime(int i, float lifetime, float range) {
+        maxAge[i] = lifetime;
+        maxRange[i] = range;
+    }
+
+    /**
+     * Removes a projectile by moving the last row into its slot.
+     */
+    public void remove(int i) {
+        int last = --size;
+        spawnOrder[spawnSlot[i]] = -1;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            w[i] = w[last];
+            h[i] = h[last];
+            damage[i] = damage[last];
+            age[i] = age[last];
+            originX[i] = originX[last];
+            originY[i] = originY[last];
+            rotation[i] = rotation[last];
+            spin[i] = spin[last];
+            maxAge[i] = maxAge[last];
+            maxRange[i] = maxRange[last];
+            type[i] = type[last];
+            texture[i] = texture[last];
+            spawnSlot[i] = spawnSlot[last];
+            spawnOrder[spawnSlot[i]] = i;
+        }
+        texture[last] = null;
+        while (spawnHead < spawnTail && spawnOrder[spawnHead] < 0) {
+            spawnHead++;
+        }
+    }
+
+    /**
+     * Removes every projectile, keeping the column storage.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            texture[i] = null;
+        }
+        size = 0;
+        spawnHead = 0;
+        spawnTail = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMaxProjectiles() {
+        return maxProjectiles;
+    }
+
+    /** Number of projectiles dropped by the hard cap since creation */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /** Row of the earliest spawned live projectile; remove() keeps the head live */
+    private int oldestIndex() {
+        return spawnOrder[spawnHead];
+    }
+
+    /** Drops removed entries from the spawn order and moves it to the front */
+    private void compactSpawnOrder() {
+        int write = 0;
+        for (int r = spawnHead; r < spawnTail; r++) {
+            int row = spawnOrder[r];
+            if (row >= 0) {
+                spawnOrder[write] = row;
+                spawnSlot[row] = write++;
+            }
+        }
+        spawnHead = 0;
+        spawnTail = write;
+    }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Records current positions as the previous simulation state.
+     * Called once before each fixed simulation step.
+     */
+    public void capturePrevious() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Advances position, age and spin of every projectile.
+     */
+    public void integrate(float delta) {
+        final float[] px = x, py = y, pvx = vx, pvy = vy, pAge = age, pRot = rotation, pSpin = spin;
+        for (int i = 0, n = size; i < n; i++) {
+            px[i] += pvx[i] * delta;
+            py[i] += pvy[i] * delta;
+            pAge[i] += delta;
+            float r = pRot[i] + pSpin[i] * delta;
+            // Keep [0, 360) for either spin direction
+            if (r >= 360f || r < 0f) {
+                r %= 360f;
+                if (r < 0f) {
+                    r += 360f;
+                }
+            }
+            pRot[i] = r;
+        }
+    }
+
+    /**
+     * Exact AABB test of a projectile against a rectangle
+     * (same semantics as Rectangle.overlaps).
+     */
+    public boolean overlaps(int i, Rectangle r) {
+        return x[i] < r.x + r.width && x[i] + w[i] > r.x
+            && y[i] < r.y + r.height && y[i] + h[i] > r.y;
+    }
+
+    // ==================== RENDERING ====================
+
+    // Reused sub-region for drawing player bullets (the queue copies its UVs)
+    private final TextureRegion playerBulletRegion = new TextureRegion();
+
+    /**
+     * Queues every projectile at its current simulated position.
+     *
+     * @param queue Render queue for the frame (culls off-screen projectiles)
+     * @param defaultTexture Used for rows spawned without a texture (may be null)
+     */
+    public void draw(RenderQueue queue, TextureRegion defaultTexture) {
+        draw(queue, defaultTexture, 1f);
+    }
+
+    /**
+     * Queues every projectile interpolated between its previous and current
+     * simulation positions.
+     *
+     * @param queue Render queue for the frame (culls off-screen projectiles)
+     * @param defaultTexture Used for rows spawned without a texture (may be null)
+     * @param alpha Interpolation factor in [0, 1] (1 = current position)
+     */
+    public void draw(RenderQueue queue, TextureRegion defaultTexture, float alpha) {
+        for (int i = 0; i < size; i++) {
+            TextureRegion tex = texture[i] != null ? texture[i] : defaultTexture;
+            if (tex == null) {
+                continue;
+            }
+            float width = w[i];
+            float height = h[i];
+            float drawX = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float drawY = prevY[i] + (y[i] - prevY[i]) * alpha;
+            if (type[i] == TYPE_ENEMY) {
+                queue.draw(tex, drawX, drawY, width, height);
+                continue;
+            }
+            // Player bullets sample a region the size of the bullet; boss bullets scale the full texture
+            if (type[i] == TYPE_PLAYER) {
+                playerBulletRegion.setRegion(tex, 0, 0, (int) width, (int) height);
+                tex = playerBulletRegion;
+            }
+            queue.draw(tex,
+                drawX, drawY,
+                width / 2, height / 2,
+                width, height,
+                1, 1,
+                rotation[i]);
+        }
+    }
+
+    // ==================== STORAGE ====================
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        w = new float[capacity];
+        h = new float[capacity];
+        damage = new float[capacity];
+        age = new float[capacity];
+        originX = new float[capacity];
+        originY = new float[capacity];
+        rotation = new float[capacity];
+        spin = new float[capacity];
+        maxAge = new float[capacity];
+        maxRange = new float[capacity];
+        type = new int[capacity];
+        texture = new TextureRegion[capacity];
+        spawnSlot = new int[capacity];
+        spawnOrder = new int[capacity * 2];
+    }
+
+    private void grow(int capacity) {
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        prevX = copy(prevX, capacity);
+        prevY = copy(prevY, capacity);
+        vx = copy(vx, capacity);
+        vy = copy(vy, capacity);
+        w = copy(w, capacity);
+        h = copy(h, capacity);
+        damage = copy(damage, capacity);
+        age = copy(age, capacity);
+        originX = copy(originX, capacity);
+        originY = copy(originY, capacity);
+        rotation = copy(rotation, capacity);
+        spin = copy(spin, capacity);
+        maxAge = copy(maxAge, capacity);
+        maxRange = copy(maxRange, capacity);
+        int[] t = new int[capacity];
+        System.arraycopy(type, 0, t, 0, size);
+        type = t;
+        TextureRegion[] tex = new TextureRegion[capacity];
+        System.arraycopy(texture, 0, tex, 0, size);
+        texture = tex;
+        int[] slots = new int[capacity];
+        System.arraycopy(spawnSlot, 0, slots, 0, size);
+        spawnSlot = slots;
+        compactSpawnOrder();
+        int[] order = new int[capacity * 2];
+        System.arraycopy(spawnOrder, 0, order, 0, spawnTail);
+        spawnOrder = order;
+    }
+
+    private float[] copy(float[] src, int capacity) {
+        float[] dst = new float[capacity];
+        System.arraycopy(src, 0, dst, 0, size);
+        return dst;
+    }
+}
@@ -1,14 +1,14 @@
 package com.labubushooter.frontend.patterns;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.labubushooter.frontend.objects.Ground;
 import com.labubushooter.frontend.objects.Platform;
 
 public interface LevelStrategy {
-    void loadPlatforms(Array<Platform> platforms, Texture platformTex);
+    void loadPlatforms(Array<Platform> platforms, TextureRegion platformTex);
 
-    void loadGround(Array<Ground> grounds, Texture groundTex);
+    void loadGround(Array<Ground> grounds, TextureRegion groundTex);
 
     float getLevelWidth();
 
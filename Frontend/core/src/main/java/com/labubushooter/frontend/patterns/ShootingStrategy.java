@@ -1,14 +1,12 @@
 package com.labubushooter.frontend.patterns;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.labubushooter.frontend.objects.Bullet;
+import com.labubushooter.frontend.objects.ProjectileStore;
 import com.labubushooter.frontend.patterns.weapons.WeaponRenderer;
 
 public interface ShootingStrategy {
-    void shoot(float x, float y, Vector2 direction, Array<Bullet> activeBullets, Pool<Bullet> bulletPool, Texture bulletTexture);
+    void shoot(float x, float y, Vector2 direction, ProjectileStore projectiles, TextureRegion bulletTexture);
     boolean isAutomatic();
 
     // Ammo & Reloading
@@ -22,6 +20,10 @@ public interface ShootingStrategy {
     // Update loop for timers (reload, cooldowns)
     void update(float delta);
 
+    // Session state (used when a recording or replay starts)
+    void restoreAmmo(int currentMag, int totalAmmo);
+    void resetCooldown();
+
     // Identification
     String getName();
 
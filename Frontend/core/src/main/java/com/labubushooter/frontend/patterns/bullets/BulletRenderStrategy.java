@@ -1,17 +1,19 @@
 package com.labubushooter.frontend.patterns.bullets;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
- * Strategy interface for rendering different types of bullets with various visual effects.
+ * Strategy interface describing how different types of bullets look.
  * 
  * Design Pattern: Strategy Pattern
- * - Encapsulates different bullet rendering algorithms
+ * - Encapsulates different bullet rendering styles
  * - Allows runtime selection of rendering behavior
  * - Enables adding new bullet types without modifying existing code
  * 
+ * Strategies are stateless and shared per bullet type. Per-bullet state
+ * (rotation, spin) lives in the ProjectileStore columns; a strategy only
+ * supplies the texture and the initial values for those columns.
+ * 
  * SOLID Principles:
  * - Single Responsibility: Each implementation handles one rendering style
  * - Open/Closed: New strategies can be added without modifying this interface
@@ -21,25 +23,25 @@ import com.badlogic.gdx.math.Rectangle;
 public interface BulletRenderStrategy {
     
     /**
-     * Renders the bullet with appropriate visual effects.
+     * Gets the texture used by this rendering strategy.
      * 
-     * @param batch SpriteBatch for rendering (must be between begin() and end())
-     * @param bounds Bullet bounds containing position (x, y) and size (width, height)
-     * @param delta Time elapsed since last frame in seconds (for rotation updates)
+     * @return The bullet texture, or null if no texture is used
      */
-    void render(SpriteBatch batch, Rectangle bounds, float delta);
+    TextureRegion getTexture();
     
     /**
-     * Gets the texture used by this rendering strategy.
+     * Gets the rotation a new bullet starts with.
      * 
-     * @return The bullet texture, or null if no texture is used
+     * @param velocityX Horizontal velocity component
+     * @param velocityY Vertical velocity component
+     * @return Initial rotation in degrees
      */
-    Texture getTexture();
+    float getInitialRotation(float velocityX, float velocityY);
     
     /**
-     * Resets the strategy state to initial values.
-     * Called when bullet is returned to pool or reinitialized.
-     * Implementations should reset rotation angles, timers, etc.
+     * Gets the continuous rotation speed of the bullet.
+     * 
+     * @return Rotation speed in degrees per second (0 for no spin)
      */
-    void reset();
+    float getSpinSpeed();
 }
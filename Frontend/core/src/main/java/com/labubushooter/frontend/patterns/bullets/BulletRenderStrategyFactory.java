@@ -1,9 +1,11 @@
 package com.labubushooter.frontend.patterns.bullets;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.labubushooter.frontend.services.AssetManager;
 
+import java.util.EnumMap;
+
 /**
  * Factory for creating bullet rendering strategies based on bullet type.
  * 
@@ -37,6 +39,9 @@ public class BulletRenderStrategyFactory {
         BIG_ATTACK
     }
     
+    // Strategies are stateless, so one shared instance per type is enough
+    private final EnumMap<BulletType, BulletRenderStrategy> cache = new EnumMap<>(BulletType.class);
+    
     private BulletRenderStrategyFactory() {
         this.assetManager = AssetManager.getInstance();
     }
@@ -53,20 +58,34 @@ public class BulletRenderStrategyFactory {
         return instance;
     }
     
+    /**
+     * Gets the shared rendering strategy for the specified bullet type.
+     * Created on first use and cached afterwards.
+     * 
+     * @param type The bullet type
+     * @return A rendering strategy, or fallback strategy if texture loading fails
+     */
+    public BulletRenderStrategy getStrategy(BulletType type) {
+        BulletRenderStrategy strategy = cache.get(type);
+        if (strategy == null) {
+            strategy = createStrategy(type);
+            cache.put(type, strategy);
+        }
+        return strategy;
+    }
+    
     /**
      * Creates a rendering strategy for the specified bullet type.
      * 
      * @param type The bullet type
-     * @param velocityX Horizontal velocity (used for directional bullets)
-     * @param velocityY Vertical velocity (used for directional bullets)
      * @return A rendering strategy, or fallback strategy if texture loading fails
      */
-    public BulletRenderStrategy createStrategy(BulletType type, float velocityX, float velocityY) {
+    private BulletRenderStrategy createStrategy(BulletType type) {
         switch (type) {
             case PHASE1_SINGLE:
-                Texture phase1Tex = assetManager.getTexture(AssetManager.BOSS_PHASE1_BULLET);
+                TextureRegion phase1Tex = assetManager.getRegion(AssetManager.BOSS_PHASE1_BULLET);
                 if (phase1Tex != null) {
-                    return new DirectionalBulletRenderStrategy(phase1Tex, velocityX, velocityY);
+                    return new DirectionalBulletRenderStrategy(phase1Tex);
                 } else {
                     Gdx.app.error("BulletRenderStrategyFactory", 
                         "Failed to load BOSS_PHASE1_BULLET texture, using fallback");
@@ -74,7 +93,7 @@ public class BulletRenderStrategyFactory {
                 }
                 
             case PHASE23_MULTI:
-                Texture phase23Tex = assetManager.getTexture(AssetManager.BOSS_PHASE23_BULLET);
+                TextureRegion phase23Tex = assetManager.getRegion(AssetManager.BOSS_PHASE23_BULLET);
                 if (phase23Tex != null) {
                     return new SlowSpinBulletRenderStrategy(phase23Tex);
                 } else {
@@ -84,7 +103,7 @@ public class BulletRenderStrategyFactory {
                 }
                 
             case BIG_ATTACK:
-                Texture bigTex = assetManager.getTexture(AssetManager.BOSS_BIG_BULLET);
+                TextureRegion bigTex = assetManager.getRegion(AssetManager.BOSS_BIG_BULLET);
                 if (bigTex != null) {
                     return new FastSpinBulletRenderStrategy(bigTex);
                 } else {
@@ -107,7 +126,7 @@ public class BulletRenderStrategyFactory {
      * @return A fallback rendering strategy
      */
     private BulletRenderStrategy createFallbackStrategy() {
-        Texture defaultTex = assetManager.getTexture(AssetManager.ENEMY_BULLET);
+        TextureRegion defaultTex = assetManager.getRegion(AssetManager.ENEMY_BULLET);
         if (defaultTex != null) {
             return new SlowSpinBulletRenderStrategy(defaultTex);
         } else {
@@ -116,19 +135,19 @@ public class BulletRenderStrategyFactory {
                 "Even fallback texture failed to load!");
             return new BulletRenderStrategy() {
                 @Override
-                public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch batch, 
-                                 com.badlogic.gdx.math.Rectangle bounds, float delta) {
-                    // No-op: don't render anything
+                public TextureRegion getTexture() {
+                    // No texture: the bullet is not rendered
+                    return null;
                 }
                 
                 @Override
-                public Texture getTexture() {
-                    return null;
+                public float getInitialRotation(float velocityX, float velocityY) {
+                    return 0f;
                 }
                 
                 @Override
-                public void reset() {
-                    // No-op
+                public float getSpinSpeed() {
+                    return 0f;
                 }
             };
         }
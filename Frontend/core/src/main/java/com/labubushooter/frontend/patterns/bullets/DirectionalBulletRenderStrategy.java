@@ -1,14 +1,12 @@
 package com.labubushooter.frontend.patterns.bullets;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Rendering strategy for Phase 1 boss bullets that rotate to match their trajectory direction.
  * 
  * Behavior:
- * - Calculates rotation angle once during initialization based on velocity
+ * - Calculates rotation angle once at spawn based on velocity
  * - Renders bullet sprite rotated to face the direction of travel
  * - Rotation is static (doesn't change during flight)
  * 
@@ -16,50 +14,33 @@ import com.badlogic.gdx.math.Rectangle;
  */
 public class DirectionalBulletRenderStrategy implements BulletRenderStrategy {
     
-    private final Texture texture;
-    private float rotationAngle;
+    private final TextureRegion texture;
     
     /**
      * Creates a directional bullet render strategy.
      * 
      * @param texture The bullet texture to render
-     * @param velocityX Horizontal velocity component
-     * @param velocityY Vertical velocity component
      */
-    public DirectionalBulletRenderStrategy(Texture texture, float velocityX, float velocityY) {
+    public DirectionalBulletRenderStrategy(TextureRegion texture) {
         this.texture = texture;
-        // Calculate angle from velocity vector
-        // atan2 returns radians, convert to degrees for LibGDX
-        // atan2(y, x) gives angle from positive X-axis
-        this.rotationAngle = (float) Math.toDegrees(Math.atan2(velocityY, velocityX));
     }
     
     @Override
-    public void render(SpriteBatch batch, Rectangle bounds, float delta) {
-        // Render with rotation around center point
-        // Parameters: texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation,
-        //             srcX, srcY, srcWidth, srcHeight, flipX, flipY
-        batch.draw(
-            texture,
-            bounds.x, bounds.y,                      // position
-            bounds.width / 2, bounds.height / 2,     // origin (center of sprite)
-            bounds.width, bounds.height,             // size
-            1, 1,                                    // scale (no scaling)
-            rotationAngle,                           // rotation in degrees
-            0, 0,                                    // source position in texture
-            texture.getWidth(), texture.getHeight(), // source size (full texture)
-            false, false                             // flip flags
-        );
+    public TextureRegion getTexture() {
+        return texture;
     }
     
     @Override
-    public Texture getTexture() {
-        return texture;
+    public float getInitialRotation(float velocityX, float velocityY) {
+        // Calculate angle from velocity vector
+        // atan2 returns radians, convert to degrees for LibGDX
+        // atan2(y, x) gives angle from positive X-axis
+        return (float) Math.toDegrees(Math.atan2(velocityY, velocityX));
     }
     
     @Override
-    public void reset() {
-        // Rotation angle is set in constructor and doesn't change
-        // No state to reset for this strategy
+    public float getSpinSpeed() {
+        // Rotation is static (doesn't change during flight)
+        return 0f;
     }
 }
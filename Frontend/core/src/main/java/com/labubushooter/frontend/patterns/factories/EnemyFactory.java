@@ -1,7 +1,8 @@
 package com.labubushooter.frontend.patterns.factories;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Pool;
 import com.labubushooter.frontend.objects.CommonEnemy;
 import com.labubushooter.frontend.objects.FinalBoss;
@@ -105,18 +106,15 @@ public class EnemyFactory {
      * @param crouchTex Crouch texture (for super jump prep)
      * @param dashPrepTex Dash preparation texture
      * @param dashTex Dash texture
-     * @param dashFlashTex Dash flash effect texture
-     * @param superJumpFlashTex Super jump flash effect texture
      * @param spawnX X position to spawn at
      * @param spawnY Y position to spawn at
      * @return New MiniBossEnemy instance
      */
-    public MiniBossEnemy createMiniBoss(Texture walkFrame1, Texture walkFrame2, 
-                                        Texture crouchTex, Texture dashPrepTex, Texture dashTex,
-                                        Texture dashFlashTex, Texture superJumpFlashTex,
+    public MiniBossEnemy createMiniBoss(TextureRegion walkFrame1, TextureRegion walkFrame2, 
+                                        TextureRegion crouchTex, TextureRegion dashPrepTex, TextureRegion dashTex,
                                         float spawnX, float spawnY) {
         MiniBossEnemy boss = new MiniBossEnemy(walkFrame1, walkFrame2, crouchTex, 
-                                               dashPrepTex, dashTex, dashFlashTex, superJumpFlashTex);
+                                               dashPrepTex, dashTex);
         boss.init(spawnX, spawnY);
         
         Gdx.app.log("EnemyFactory", "Created Mini Boss at X: " + spawnX + ", Y: " + spawnY);
@@ -128,16 +126,14 @@ public class EnemyFactory {
      * Direct instantiation as bosses are unique, not pooled.
      * 
      * @param texture Boss texture
-     * @param flashTex Flash effect texture
      * @param bulletTexture Texture for boss projectiles
      * @param spawnX X position to spawn at
      * @param spawnY Y position to spawn at
      * @return New FinalBoss instance
      */
-    public FinalBoss createFinalBoss(Texture texture, Texture flashTex, 
-                                     Texture bulletTexture,
+    public FinalBoss createFinalBoss(TextureRegion texture, TextureRegion bulletTexture,
                                      float spawnX, float spawnY) {
-        FinalBoss boss = new FinalBoss(texture, flashTex, bulletTexture);
+        FinalBoss boss = new FinalBoss(texture, bulletTexture);
         boss.init(spawnX, spawnY);
         
         Gdx.app.log("EnemyFactory", "Created Final Boss at X: " + spawnX);
@@ -168,21 +164,21 @@ public class EnemyFactory {
      * @return Appropriate EnemyType for the level
      */
     private EnemyType getRandomTypeForLevel(int level) {
-        double random = Math.random();
+        float random = MathUtils.random();
         
         if (level >= 4) {
             // Level 4+: 30% Tank, 30% Fast, 40% Common
-            if (random < 0.30) return EnemyType.TANK;
-            if (random < 0.60) return EnemyType.FAST;
+            if (random < 0.30f) return EnemyType.TANK;
+            if (random < 0.60f) return EnemyType.FAST;
             return EnemyType.COMMON;
         } else if (level >= 2) {
             // Level 2-3: 20% Tank, 20% Fast, 60% Common
-            if (random < 0.20) return EnemyType.TANK;
-            if (random < 0.40) return EnemyType.FAST;
+            if (random < 0.20f) return EnemyType.TANK;
+            if (random < 0.40f) return EnemyType.FAST;
             return EnemyType.COMMON;
         } else {
             // Level 1: 10% Fast, 90% Common (no tanks)
-            if (random < 0.10) return EnemyType.FAST;
+            if (random < 0.10f) return EnemyType.FAST;
             return EnemyType.COMMON;
         }
     }
@@ -1,6 +1,6 @@
 package com.labubushooter.frontend.patterns.levels;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.labubushooter.frontend.objects.Ground;
 import com.labubushooter.frontend.objects.Platform;
@@ -8,7 +8,7 @@ import com.labubushooter.frontend.patterns.LevelStrategy;
 
 public class Level4Strategy implements LevelStrategy {
     @Override
-    public void loadPlatforms(Array<Platform> platforms, Texture platformTex) {
+    public void loadPlatforms(Array<Platform> platforms, TextureRegion platformTex) {
         // Vertical tower climbing pattern
         // platforms.add(new Platform(500, 150, 50, 200, platformTex)); // Wall
         platforms.add(new Platform(700, 300, 150, 20, platformTex));
@@ -19,7 +19,7 @@ public class Level4Strategy implements LevelStrategy {
     }
 
     @Override
-    public void loadGround(Array<Ground> grounds, Texture groundTex) {
+    public void loadGround(Array<Ground> grounds, TextureRegion groundTex) {
         // Base ground that spans the ENTIRE level width
         float safeGroundWidth = Math.max(getLevelWidth(), 3000f);
         grounds.add(new Ground(0, 0, safeGroundWidth, 100, groundTex));
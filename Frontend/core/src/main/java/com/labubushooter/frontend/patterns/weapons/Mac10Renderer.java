@@ -1,30 +1,30 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class Mac10Renderer implements WeaponRenderer{
-    private final Texture texture;
+    private final TextureRegion texture;
     private final float width;
     private final float height;
     private final float gripX;
     private final float gripY;
 
-    public Mac10Renderer(Texture texture) {
+    public Mac10Renderer(TextureRegion texture) {
         this.texture = texture;
-        this.width = texture != null ? texture.getWidth() : 30f;
-        this.height = texture != null ? texture.getHeight() : 10f;
+        this.width = texture != null ? texture.getRegionWidth() : 30f;
+        this.height = texture != null ? texture.getRegionHeight() : 10f;
         this.gripX = 2.3f;
         this.gripY = (height / 2f)-2;
     }
 
     @Override
-    public void render(SpriteBatch batch, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
+    public void render(RenderQueue queue, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
         if (texture == null) return;
 
         float scaleY = facingRight ? 1 : -1;
 
-        batch.draw(
+        queue.draw(
                 texture,
                 weaponX - gripX,
                 weaponY - gripY,
@@ -34,15 +34,12 @@ public class Mac10Renderer implements WeaponRenderer{
                 height,
                 1,
                 scaleY,
-                weaponAngle,
-                0, 0,
-                (int) width, (int) height,
-                false, false
+                weaponAngle
         );
     }
 
     @Override
-    public Texture getTexture() {
+    public TextureRegion getTexture() {
         return texture;
     }
 
@@ -1,21 +1,21 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class PistolRenderer implements WeaponRenderer{
-    private final Texture texture;
+    private final TextureRegion texture;
     private final float width;
     private final float height;
     private final float gripX;
     private final float gripY;
 
-    public PistolRenderer(Texture texture) {
+    public PistolRenderer(TextureRegion texture) {
         this.texture = texture;
 
         // Gunakan dimensi asli texture atau set manual
-        this.width = texture != null ? texture.getWidth() : 25f;
-        this.height = texture != null ? texture.getHeight() : 8f;
+        this.width = texture != null ? texture.getRegionWidth() : 25f;
+        this.height = texture != null ? texture.getRegionHeight() : 8f;
 
         // Grip point di belakang pistol (ujung kiri tengah)
         this.gripX = 2.5f;
@@ -23,13 +23,13 @@ public class PistolRenderer implements WeaponRenderer{
     }
 
     @Override
-    public void render(SpriteBatch batch, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
+    public void render(RenderQueue queue, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
         if (texture == null) return;
 
         // Y-axis flip jika facing left
         float scaleY = facingRight ? 1 : -1;
 
-        batch.draw(
+        queue.draw(
                 texture,
                 weaponX - gripX,           // x position (offset by grip)
                 weaponY - gripY,           // y position (offset by grip)
@@ -39,15 +39,12 @@ public class PistolRenderer implements WeaponRenderer{
                 height,                    // height
                 1,                         // scale x
                 scaleY,                    // scale y (flip for left-facing)
-                weaponAngle,               // rotation angle
-                0, 0,                      // source x, y
-                (int) width, (int) height, // source width, height
-                false, false               // flip x, y
+                weaponAngle                // rotation angle
         );
     }
 
     @Override
-    public Texture getTexture() {
+    public TextureRegion getTexture() {
         return texture;
     }
 
@@ -1,18 +1,19 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
-import com.labubushooter.frontend.objects.Bullet;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.objects.ProjectileStore;
 import com.labubushooter.frontend.patterns.ShootingStrategy;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
 
 public class PistolStrategy implements ShootingStrategy {
     private long lastShotTime;
     private final long FIRE_RATE_DELAY = 400000000L; // 0.4s
     private final float DAMAGE = 4f;
+    private final float MAX_RANGE = 1200f; // Bullets expire after this distance
+    private final float MAX_LIFETIME = 2.0f; // ... or after this many seconds
     private final float BULLET_SPEED = 750f;
 
     // Ammo System
@@ -27,7 +28,7 @@ public class PistolStrategy implements ShootingStrategy {
 
     private final WeaponRenderer renderer;
 
-    public PistolStrategy(Texture pistolTexture){
+    public PistolStrategy(TextureRegion pistolTexture){
         this.renderer = new PistolRenderer(pistolTexture);
         this.currentMag = MAX_MAG;
         this.totalAmmo = 90; // Starter ammo
@@ -39,7 +40,7 @@ public class PistolStrategy implements ShootingStrategy {
     }
 
     @Override
-    public void shoot(float x, float y, Vector2 direction, Array<Bullet> activeBullets, Pool<Bullet> bulletPool, Texture bulletTexture) {
+    public void shoot(float x, float y, Vector2 direction, ProjectileStore projectiles, TextureRegion bulletTexture) {
         if (isReloading) return;
 
         if (currentMag <= 0) {
@@ -47,13 +48,12 @@ public class PistolStrategy implements ShootingStrategy {
             return;
         }
 
-        if (TimeUtils.nanoTime() - lastShotTime > FIRE_RATE_DELAY) {
-            Bullet b = bulletPool.obtain();
-            b.init(x, y, direction, BULLET_SPEED, DAMAGE, bulletTexture);
-            activeBullets.add(b);
+        if (GameClock.nanoTime() - lastShotTime > FIRE_RATE_DELAY) {
+            projectiles.spawnPlayerBullet(x, y, direction.x, direction.y, BULLET_SPEED, DAMAGE, bulletTexture,
+                    MAX_RANGE, MAX_LIFETIME);
 
             currentMag--;
-            lastShotTime = TimeUtils.nanoTime();
+            lastShotTime = GameClock.nanoTime();
         }
     }
 
@@ -63,13 +63,13 @@ public class PistolStrategy implements ShootingStrategy {
 
         isReloading = true;
         reloadTimer = 0f;
-        Gdx.app.log("Pistol", "Reloading...");
+        GameLog.debug(LogEvent.PISTOL_RELOADING);
     }
 
     @Override
     public void addAmmo(int amount) {
         totalAmmo += amount;
-        Gdx.app.log("Pistol", "Added " + amount + " ammo. Total: " + totalAmmo);
+        GameLog.debug(LogEvent.PISTOL_AMMO_ADDED, amount, totalAmmo);
     }
 
     @Override
@@ -102,6 +102,19 @@ public class PistolStrategy implements ShootingStrategy {
         }
     }
 
+    @Override
+    public void restoreAmmo(int currentMag, int totalAmmo) {
+        this.currentMag = Math.max(0, Math.min(currentMag, MAX_MAG));
+        this.totalAmmo = Math.max(0, totalAmmo);
+    }
+
+    @Override
+    public void resetCooldown() {
+        lastShotTime = 0;
+        isReloading = false;
+        reloadTimer = 0f;
+    }
+
     private void finishReload() {
         isReloading = false;
         int needed = MAX_MAG - currentMag;
@@ -109,7 +122,7 @@ public class PistolStrategy implements ShootingStrategy {
 
         currentMag += toAdd;
         totalAmmo -= toAdd;
-        Gdx.app.log("Pistol", "Reload complete. Mag: " + currentMag + ", Total: " + totalAmmo);
+        GameLog.debug(LogEvent.PISTOL_RELOADED, currentMag, totalAmmo);
     }
 
     @Override
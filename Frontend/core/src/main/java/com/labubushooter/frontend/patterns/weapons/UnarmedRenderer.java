@@ -1,7 +1,7 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public class UnarmedRenderer implements WeaponRenderer {
 
@@ -9,12 +9,12 @@ public class UnarmedRenderer implements WeaponRenderer {
     }
 
     @Override
-    public void render(SpriteBatch batch, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
+    public void render(RenderQueue queue, float weaponX, float weaponY, float weaponAngle, boolean facingRight) {
         // Render nothing for unarmed
     }
 
     @Override
-    public Texture getTexture() {
+    public TextureRegion getTexture() {
         return null;
     }
 
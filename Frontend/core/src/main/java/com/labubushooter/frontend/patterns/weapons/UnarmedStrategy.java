@@ -1,11 +1,9 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
-import com.labubushooter.frontend.objects.Bullet;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.objects.ProjectileStore;
 import com.labubushooter.frontend.patterns.ShootingStrategy;
 import com.labubushooter.frontend.services.AssetManager;
 
@@ -14,14 +12,16 @@ public class UnarmedStrategy implements ShootingStrategy {
     private final long FIRE_RATE_DELAY = 1000000000L; // 1 second
     private final float DAMAGE = 1f;
     private final float PUNCH_RANGE_SPEED = 600f; // Fast but short lived
+    private final float PUNCH_RANGE = 120f; // Reach of the punch
+    private final float PUNCH_LIFETIME = 0.25f;
 
     private final WeaponRenderer renderer;
-    private final Texture transparentTexture;
+    private final TextureRegion transparentTexture;
 
     public UnarmedStrategy() {
         this.renderer = new UnarmedRenderer();
         // Get transparent texture from AssetManager
-        this.transparentTexture = AssetManager.getInstance().getTexture(AssetManager.TRANSPARENT);
+        this.transparentTexture = AssetManager.getInstance().getRegion(AssetManager.TRANSPARENT);
     }
 
     @Override
@@ -30,23 +30,17 @@ public class UnarmedStrategy implements ShootingStrategy {
     }
 
     @Override
-    public void shoot(float x, float y, Vector2 direction, Array<Bullet> activeBullets, Pool<Bullet> bulletPool, Texture bulletTexture) {
-        if (TimeUtils.nanoTime() - lastShotTime > FIRE_RATE_DELAY) {
-            Bullet b = bulletPool.obtain();
-
+    public void shoot(float x, float y, Vector2 direction, ProjectileStore projectiles, TextureRegion bulletTexture) {
+        if (GameClock.nanoTime() - lastShotTime > FIRE_RATE_DELAY) {
             // Use transparent texture instead of the passed bulletTexture
             // This makes the "bullet" invisible, simulating a melee punch
-            Texture texToUse = (transparentTexture != null) ? transparentTexture : bulletTexture;
-
-            b.init(x, y, direction, PUNCH_RANGE_SPEED, DAMAGE, texToUse);
-
-            // Note: The bullet will fly until it hits something or goes off screen.
-            // Since it's invisible and fast, it acts like a projectile punch.
-            // Ideally we would limit its range, but Bullet class doesn't support lifespan yet.
-            // Given the speed (600) and typical screen width, it will clear quickly.
+            TextureRegion texToUse = (transparentTexture != null) ? transparentTexture : bulletTexture;
 
-            activeBullets.add(b);
-            lastShotTime = TimeUtils.nanoTime();
+            // The "bullet" is invisible, fast and expires after PUNCH_RANGE,
+            // so it acts like a short-reach projectile punch.
+            projectiles.spawnPlayerBullet(x, y, direction.x, direction.y, PUNCH_RANGE_SPEED, DAMAGE, texToUse,
+                    PUNCH_RANGE, PUNCH_LIFETIME);
+            lastShotTime = GameClock.nanoTime();
         }
     }
 
@@ -85,6 +79,16 @@ public class UnarmedStrategy implements ShootingStrategy {
         // Nothing to update
     }
 
+    @Override
+    public void restoreAmmo(int currentMag, int totalAmmo) {
+        // Infinite ammo
+    }
+
+    @Override
+    public void resetCooldown() {
+        lastShotTime = 0;
+    }
+
     @Override
     public String getName() {
         return "Unarmed";
@@ -1,11 +1,11 @@
 package com.labubushooter.frontend.patterns.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.labubushooter.frontend.services.RenderQueue;
 
 public interface WeaponRenderer {
-    void render(SpriteBatch batch, float weaponX, float weaponY, float weaponAngle, boolean facingRight);
-    Texture getTexture();
+    void render(RenderQueue queue, float weaponX, float weaponY, float weaponAngle, boolean facingRight);
+    TextureRegion getTexture();
     float getWidth();
     float getHeight();
     float getGripX();
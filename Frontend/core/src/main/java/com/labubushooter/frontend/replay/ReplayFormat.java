@@ -0,0 +1,119 @@
+package com.labubushooter.frontend.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Binary layout shared by ReplayRecorder and ReplayPlayer.
+ *
+ * A replay file is a {@link ReplayHeader} followed by records. Every record
+ * starts with an unsigned varint "head": the low two bits are the record kind,
+ * the remaining bits its argument.
+ *
+ * <pre>
+ * FRAME    arg = extra repeats   varint flags, zigzag aim dx, zigzag aim dy
+ * EVENT    arg = event type      event payload (see EVENT_*)
+ * CHECKSUM arg = 0               int WorldChecksum of the state before the tick
+ * END      arg = 0               varlong total ticks
+ * </pre>
+ *
+ * Aim is stored in whole world pixels as a delta from the previous aim. A
+ * FRAME record covers 1 + arg ticks: the first applies the aim delta, the
+ * repeats keep the same flags and aim. An idle or steady-walking player with
+ * a still mouse therefore costs a few bytes per second.
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x4C425250; // "LBRP"
+    static final int VERSION = 1;
+
+    // Record kinds (low two bits of the head)
+    static final int KIND_FRAME = 0;
+    static final int KIND_EVENT = 1;
+    static final int KIND_CHECKSUM = 2;
+    static final int KIND_END = 3;
+
+    // Event types
+    /** Level switched outside normal play (debug skip); payload: varint level */
+    static final int EVENT_LEVEL_LOAD = 0;
+    /** Debug boss kill; no payload */
+    static final int EVENT_DEBUG_KILL = 1;
+    /** Simulation view size changed (window resize); payload: float width, float height */
+    static final int EVENT_VIEW_SIZE = 2;
+
+    // Frame flag bits; bits 7-8 hold the weapon slot
+    static final int FLAG_MOVE_LEFT = 1;
+    static final int FLAG_MOVE_RIGHT = 1 << 1;
+    static final int FLAG_JUMP = 1 << 2;
+    static final int FLAG_FIRE_HELD = 1 << 3;
+    static final int FLAG_FIRE_PRESSED = 1 << 4;
+    static final int FLAG_RELOAD = 1 << 5;
+    static final int FLAG_HAS_AIM = 1 << 6;
+    static final int WEAPON_SLOT_SHIFT = 7;
+
+    /** Ticks between checksum records (5 seconds at 120 Hz) */
+    static final int CHECKSUM_INTERVAL = 600;
+
+    private ReplayFormat() {
+        // Static utility
+    }
+
+    // ==================== VARINTS ====================
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static void writeZigZag(DataOutputStream out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated replay");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated replay");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+
+    static int readZigZag(DataInputStream in) throws IOException {
+        int raw = readVarInt(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
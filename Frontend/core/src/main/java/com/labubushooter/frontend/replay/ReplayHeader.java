@@ -0,0 +1,93 @@
+package com.labubushooter.frontend.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Everything needed to rebuild the world at the first recorded tick.
+ *
+ * Level content is not stored: the replayer loads the same level through
+ * LevelLoader, then restores the player, weapons, clock and random seeds from
+ * these fields (see {@link ReplaySession#start}).
+ */
+public class ReplayHeader {
+
+    /** Simulation steps per second of the recording */
+    public int stepHz;
+    /** Seed for GameContext.random, MathUtils.random and the enemy spawners */
+    public long seed;
+    /** Level loaded at the start of the recording */
+    public int level;
+
+    /** Simulation view size in world units (depends on the window size) */
+    public float viewWidth;
+    public float viewHeight;
+
+    /** GameClock value at the start of the recording */
+    public long clockNanos;
+
+    // Player state carried over from earlier levels
+    public float playerHealth;
+    public int coinScore;
+    public int weaponSlot;
+    public int pistolMag;
+    public int pistolAmmo;
+    public int mac10Mag;
+    public int mac10Ammo;
+
+    /** Wall-clock time of the recording, for reference only */
+    public long recordedAtMillis;
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(ReplayFormat.MAGIC);
+        ReplayFormat.writeVarInt(out, ReplayFormat.VERSION);
+        ReplayFormat.writeVarInt(out, stepHz);
+        out.writeLong(seed);
+        ReplayFormat.writeVarInt(out, level);
+        out.writeFloat(viewWidth);
+        out.writeFloat(viewHeight);
+        ReplayFormat.writeVarLong(out, clockNanos);
+        out.writeFloat(playerHealth);
+        ReplayFormat.writeVarInt(out, coinScore);
+        ReplayFormat.writeVarInt(out, weaponSlot);
+        ReplayFormat.writeVarInt(out, pistolMag);
+        ReplayFormat.writeVarInt(out, pistolAmmo);
+        ReplayFormat.writeVarInt(out, mac10Mag);
+        ReplayFormat.writeVarInt(out, mac10Ammo);
+        ReplayFormat.writeVarLong(out, recordedAtMillis);
+    }
+
+    static ReplayHeader read(DataInputStream in) throws IOException {
+        if (in.readInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = ReplayFormat.readVarInt(in);
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+
+        ReplayHeader header = new ReplayHeader();
+        header.stepHz = ReplayFormat.readVarInt(in);
+        header.seed = in.readLong();
+        header.level = ReplayFormat.readVarInt(in);
+        header.viewWidth = in.readFloat();
+        header.viewHeight = in.readFloat();
+        header.clockNanos = ReplayFormat.readVarLong(in);
+        header.playerHealth = in.readFloat();
+        header.coinScore = ReplayFormat.readVarInt(in);
+        header.weaponSlot = ReplayFormat.readVarInt(in);
+        header.pistolMag = ReplayFormat.readVarInt(in);
+        header.pistolAmmo = ReplayFormat.readVarInt(in);
+        header.mac10Mag = ReplayFormat.readVarInt(in);
+        header.mac10Ammo = ReplayFormat.readVarInt(in);
+        header.recordedAtMillis = ReplayFormat.readVarLong(in);
+        return header;
+    }
+
+    @Override
+    public String toString() {
+        return "level " + level + " @ " + stepHz + " Hz, seed " + seed +
+               ", view " + (int) viewWidth + "x" + (int) viewHeight;
+    }
+}
@@ -0,0 +1,315 @@
+package com.labubushooter.frontend.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.InputFrame;
+import com.labubushooter.frontend.input.InputSource;
+
+/**
+ * Drives the game from a replay file written by ReplayRecorder.
+ *
+ * Usage per simulation step:
+ * <pre>
+ * player.processEvents(listener);   // debug level skips, boss kills
+ * if (player.isFinished()) stop;
+ * gameWorld.update(step);           // polls this source
+ * </pre>
+ *
+ * The recorded view size is re-applied before every step so window resizes
+ * during a windowed replay do not change spawning or culling. Checksums
+ * written by the recorder are compared with the replayed world; the first
+ * mismatch is reported as the desync tick.
+ */
+public class ReplayPlayer implements InputSource {
+
+    /**
+     * Receives out-of-band actions recorded between steps.
+     */
+    public interface Listener {
+        void onLevelLoad(int level);
+        void onDebugKill();
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int NO_HEAD = -1;
+
+    private final FileHandle file;
+    private final ReplayHeader header;
+    private DataInputStream in;
+    private GameContext context;
+
+    // Next unread record head, or NO_HEAD
+    private int nextHead = NO_HEAD;
+
+    // Current frame run
+    private int flags;
+    private int repeatsLeft;
+    private int aimX;
+    private int aimY;
+
+    private float viewWidth;
+    private float viewHeight;
+
+    private long ticks;
+    private long recordedTicks = -1;
+    private boolean finished;
+
+    // Verification
+    private int checksumsVerified;
+    private int checksumMismatches;
+    private long firstDesyncTick = -1;
+
+    /**
+     * Opens a replay and reads its header.
+     *
+     * @param file Replay file
+     * @throws GdxRuntimeException if the file is missing or not a replay
+     */
+    public ReplayPlayer(FileHandle file) {
+        this.file = file;
+        in = new DataInputStream(new BufferedInputStream(file.read(), BUFFER_SIZE));
+        try {
+            header = ReplayHeader.read(in);
+        } catch (IOException e) {
+            close();
+            throw new GdxRuntimeException("Cannot read replay " + file.path(), e);
+        }
+        viewWidth = header.viewWidth;
+        viewHeight = header.viewHeight;
+    }
+
+    /**
+     * Sets the context whose view size is driven and whose state is verified.
+     * Call before the first step.
+     */
+    public void attach(GameContext context) {
+        this.context = context;
+    }
+
+    // ==================== PLAYBACK ====================
+
+    /**
+     * Dispatches events recorded before the next step and detects the end of
+     * the replay. Call once before every simulation step.
+     *
+     * @param listener Receives level loads and debug kills
+     */
+    public void processEvents(Listener listener) {
+        if (finished || repeatsLeft > 0) {
+            return;
+        }
+        applyViewSize();
+        try {
+            while (true) {
+                int head = peekHead();
+                int kind = head & 3;
+                int arg = head >>> 2;
+                if (kind == ReplayFormat.KIND_END) {
+                    consumeHead();
+                    recordedTicks = ReplayFormat.readVarLong(in);
+                    finish();
+                    return;
+                }
+                if (kind != ReplayFormat.KIND_EVENT) {
+                    return;
+                }
+
+                consumeHead();
+                if (arg == ReplayFormat.EVENT_VIEW_SIZE) {
+                    readViewSize();
+                } else if (arg == ReplayFormat.EVENT_LEVEL_LOAD) {
+                    listener.onLevelLoad(ReplayFormat.readVarInt(in));
+                } else if (arg == ReplayFormat.EVENT_DEBUG_KILL) {
+                    listener.onDebugKill();
+                } else {
+                    throw new IOException("Unknown replay event " + arg);
+                }
+            }
+        } catch (IOException e) {
+            truncated(e);
+        }
+    }
+
+    @Override
+    public void poll(InputFrame out) {
+        if (finished) {
+            out.clear();
+            return;
+        }
+
+        try {
+            if (repeatsLeft > 0) {
+                repeatsLeft--;
+            } else {
+                readFrame();
+            }
+        } catch (IOException e) {
+            truncated(e);
+            out.clear();
+            return;
+        }
+
+        applyViewSize();
+
+        out.moveLeft = (flags & ReplayFormat.FLAG_MOVE_LEFT) != 0;
+        out.moveRight = (flags & ReplayFormat.FLAG_MOVE_RIGHT) != 0;
+        out.jump = (flags & ReplayFormat.FLAG_JUMP) != 0;
+        out.fireHeld = (flags & ReplayFormat.FLAG_FIRE_HELD) != 0;
+        out.firePressed = (flags & ReplayFormat.FLAG_FIRE_PRESSED) != 0;
+        out.reload = (flags & ReplayFormat.FLAG_RELOAD) != 0;
+        out.weaponSlot = (flags >>> ReplayFormat.WEAPON_SLOT_SHIFT) & 3;
+        out.hasAim = (flags & ReplayFormat.FLAG_HAS_AIM) != 0;
+        out.aimX = out.hasAim ? aimX : 0f;
+        out.aimY = out.hasAim ? aimY : 0f;
+        ticks++;
+    }
+
+    /**
+     * Reads records up to and including the next FRAME, applying view size
+     * changes and checking checksums on the way.
+     */
+    private void readFrame() throws IOException {
+        while (true) {
+            int head = peekHead();
+            consumeHead();
+            int kind = head & 3;
+            int arg = head >>> 2;
+
+            if (kind == ReplayFormat.KIND_FRAME) {
+                flags = ReplayFormat.readVarInt(in);
+                if ((flags & ReplayFormat.FLAG_HAS_AIM) != 0) {
+                    aimX += ReplayFormat.readZigZag(in);
+                    aimY += ReplayFormat.readZigZag(in);
+                } else {
+                    ReplayFormat.readZigZag(in);
+                    ReplayFormat.readZigZag(in);
+                }
+                repeatsLeft = arg;
+                return;
+            }
+            if (kind == ReplayFormat.KIND_CHECKSUM) {
+                verify(in.readInt());
+            } else if (kind == ReplayFormat.KIND_EVENT && arg == ReplayFormat.EVENT_VIEW_SIZE) {
+                readViewSize();
+            } else {
+                throw new IOException("Unexpected record " + kind + "/" + arg + " at tick " + ticks);
+            }
+        }
+    }
+
+    private void readViewSize() throws IOException {
+        viewWidth = in.readFloat();
+        viewHeight = in.readFloat();
+        applyViewSize();
+    }
+
+    private void applyViewSize() {
+        if (context != null) {
+            context.viewport.setWorldSize(viewWidth, viewHeight);
+        }
+    }
+
+    private void verify(int expected) {
+        if (context == null) {
+            return;
+        }
+        if (WorldChecksum.compute(context) == expected) {
+            checksumsVerified++;
+            return;
+        }
+        checksumMismatches++;
+        if (firstDesyncTick < 0) {
+            firstDesyncTick = ticks;
+            Gdx.app.error("ReplayPlayer", "Desync at tick " + ticks + " (level " + context.currentLevel + ")");
+        }
+    }
+
+    private int peekHead() throws IOException {
+        if (nextHead == NO_HEAD) {
+            nextHead = ReplayFormat.readVarInt(in);
+        }
+        return nextHead;
+    }
+
+    private void consumeHead() {
+        nextHead = NO_HEAD;
+    }
+
+    private void truncated(IOException e) {
+        if (e instanceof EOFException) {
+            Gdx.app.error("ReplayPlayer", "Replay ends without end marker after " + ticks + " ticks");
+        } else {
+            Gdx.app.error("ReplayPlayer", "Corrupt replay " + file.path(), e);
+        }
+        finish();
+    }
+
+    private void finish() {
+        finished = true;
+        close();
+    }
+
+    private void close() {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // Read-only stream
+        }
+        in = null;
+    }
+
+    // ==================== RESULTS ====================
+
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /** True once every recorded step has been played */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /** Steps played so far */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /** Step count stored in the end marker, or -1 if not reached */
+    public long getRecordedTicks() {
+        return recordedTicks;
+    }
+
+    public int getChecksumsVerified() {
+        return checksumsVerified;
+    }
+
+    public int getChecksumMismatches() {
+        return checksumMismatches;
+    }
+
+    /** First step whose checksum did not match, or -1 if in sync */
+    public long getFirstDesyncTick() {
+        return firstDesyncTick;
+    }
+
+    /**
+     * @return One-line playback summary
+     */
+    public String describeResult() {
+        String sync = checksumMismatches == 0
+            ? "in sync (" + checksumsVerified + " checksums)"
+            : "DESYNC at tick " + firstDesyncTick + " (" + checksumMismatches + " of "
+              + (checksumsVerified + checksumMismatches) + " checksums differ)";
+        return ticks + "/" + recordedTicks + " ticks, " + sync;
+    }
+}
@@ -0,0 +1,248 @@
+package com.labubushooter.frontend.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.InputFrame;
+import com.labubushooter.frontend.input.InputSource;
+
+/**
+ * Records every simulation step's input to a replay file.
+ *
+ * Wraps the real input source (Decorator Pattern): each polled frame is passed
+ * through to GameWorld and appended to the file. Aim is snapped to whole world
+ * pixels before it reaches the game, so the recorded value is exactly what
+ * the simulation saw. Out-of-band actions (debug level skips, boss kills) are
+ * recorded by GamePlayScreen through {@link #recordLevelLoad} and
+ * {@link #recordDebugKill}.
+ *
+ * Output goes through a buffered FileHandle stream and is flushed with every
+ * checksum, so a crash loses at most a few seconds of input. See ReplayFormat
+ * for the record layout.
+ */
+public class ReplayRecorder implements InputSource {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputSource delegate;
+    private final GameContext context;
+    private final FileHandle file;
+    private DataOutputStream out;
+
+    // Pending run of identical frames, written when the next frame differs
+    private int runFlags;
+    private int runDx;
+    private int runDy;
+    private int runLength;
+
+    // Last recorded aim and view size (deltas are relative to these)
+    private int aimX;
+    private int aimY;
+    private float viewWidth;
+    private float viewHeight;
+
+    private long ticks;
+
+    /**
+     * Opens the file and writes the header.
+     *
+     * @param delegate Source supplying the real input
+     * @param context Game context (view size and checksums)
+     * @param file Replay file to create
+     * @param header Starting state, see ReplaySession#captureHeader
+     * @throws GdxRuntimeException if the file cannot be written
+     */
+    public ReplayRecorder(InputSource delegate, GameContext context, FileHandle file, ReplayHeader header) {
+        this.delegate = delegate;
+        this.context = context;
+        this.file = file;
+        this.viewWidth = header.viewWidth;
+        this.viewHeight = header.viewHeight;
+
+        out = new DataOutputStream(new BufferedOutputStream(file.write(false), BUFFER_SIZE));
+        try {
+            header.write(out);
+        } catch (IOException e) {
+            fail(e);
+            throw new GdxRuntimeException("Cannot write replay " + file.path(), e);
+        }
+        Gdx.app.log("ReplayRecorder", "Recording to " + file.path());
+    }
+
+    // ==================== InputSource ====================
+
+    @Override
+    public void sampleFrame() {
+        delegate.sampleFrame();
+    }
+
+    @Override
+    public void poll(InputFrame frame) {
+        delegate.poll(frame);
+        if (frame.hasAim) {
+            frame.aimX = Math.round(frame.aimX);
+            frame.aimY = Math.round(frame.aimY);
+        }
+        if (out == null) {
+            return;
+        }
+
+        try {
+            recordViewSize();
+            if (ticks % ReplayFormat.CHECKSUM_INTERVAL == 0) {
+                flushRun();
+                writeHead(ReplayFormat.KIND_CHECKSUM, 0);
+                out.writeInt(WorldChecksum.compute(context));
+                out.flush();
+            }
+
+            appendFrame(frame);
+            ticks++;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    // ==================== EVENTS ====================
+
+    /**
+     * Records a level switch that did not come from reaching the exit.
+     * Call before loading the level.
+     *
+     * @param level Level about to be loaded
+     */
+    public void recordLevelLoad(int level) {
+        writeEvent(ReplayFormat.EVENT_LEVEL_LOAD, level);
+    }
+
+    /**
+     * Records a debug boss kill. Call before applying it.
+     */
+    public void recordDebugKill() {
+        writeEvent(ReplayFormat.EVENT_DEBUG_KILL, -1);
+    }
+
+    /**
+     * Writes the end marker and closes the file. Safe to call more than once.
+     */
+    public void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            flushRun();
+            writeHead(ReplayFormat.KIND_END, 0);
+            ReplayFormat.writeVarLong(out, ticks);
+            out.close();
+            Gdx.app.log("ReplayRecorder", "Saved " + ticks + " ticks (" + file.length() + " bytes) to " + file.path());
+        } catch (IOException e) {
+            Gdx.app.error("ReplayRecorder", "Failed to finish " + file.path(), e);
+        }
+        out = null;
+    }
+
+    /** Steps recorded so far */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public FileHandle getFile() {
+        return file;
+    }
+
+    // ==================== ENCODING ====================
+
+    private void appendFrame(InputFrame frame) throws IOException {
+        int flags = 0;
+        if (frame.moveLeft) flags |= ReplayFormat.FLAG_MOVE_LEFT;
+        if (frame.moveRight) flags |= ReplayFormat.FLAG_MOVE_RIGHT;
+        if (frame.jump) flags |= ReplayFormat.FLAG_JUMP;
+        if (frame.fireHeld) flags |= ReplayFormat.FLAG_FIRE_HELD;
+        if (frame.firePressed) flags |= ReplayFormat.FLAG_FIRE_PRESSED;
+        if (frame.reload) flags |= ReplayFormat.FLAG_RELOAD;
+        flags |= (frame.weaponSlot & 3) << ReplayFormat.WEAPON_SLOT_SHIFT;
+
+        int dx = 0;
+        int dy = 0;
+        if (frame.hasAim) {
+            flags |= ReplayFormat.FLAG_HAS_AIM;
+            int x = (int) frame.aimX;
+            int y = (int) frame.aimY;
+            dx = x - aimX;
+            dy = y - aimY;
+            aimX = x;
+            aimY = y;
+        }
+
+        // A repeat has the same flags and an unchanged aim
+        if (runLength > 0 && flags == runFlags && dx == 0 && dy == 0) {
+            runLength++;
+            return;
+        }
+
+        flushRun();
+        runFlags = flags;
+        runDx = dx;
+        runDy = dy;
+        runLength = 1;
+    }
+
+    private void flushRun() throws IOException {
+        if (runLength == 0) {
+            return;
+        }
+        writeHead(ReplayFormat.KIND_FRAME, runLength - 1);
+        ReplayFormat.writeVarInt(out, runFlags);
+        ReplayFormat.writeZigZag(out, runDx);
+        ReplayFormat.writeZigZag(out, runDy);
+        runLength = 0;
+    }
+
+    private void writeEvent(int type, int level) {
+        if (out == null) {
+            return;
+        }
+        try {
+            recordViewSize();
+            flushRun();
+            writeHead(ReplayFormat.KIND_EVENT, type);
+            if (type == ReplayFormat.EVENT_LEVEL_LOAD) {
+                ReplayFormat.writeVarInt(out, level);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void recordViewSize() throws IOException {
+        float width = context.viewport.getWorldWidth();
+        float height = context.viewport.getWorldHeight();
+        if (width != viewWidth || height != viewHeight) {
+            viewWidth = width;
+            viewHeight = height;
+            flushRun();
+            writeHead(ReplayFormat.KIND_EVENT, ReplayFormat.EVENT_VIEW_SIZE);
+            out.writeFloat(width);
+            out.writeFloat(height);
+        }
+    }
+
+    private void writeHead(int kind, int arg) throws IOException {
+        ReplayFormat.writeVarInt(out, (arg << 2) | kind);
+    }
+
+    private void fail(IOException e) {
+        Gdx.app.error("ReplayRecorder", "Recording stopped: " + file.path(), e);
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Already failing
+        }
+        out = null;
+    }
+}
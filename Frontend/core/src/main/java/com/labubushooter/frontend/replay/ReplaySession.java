@@ -0,0 +1,117 @@
+package com.labubushooter.frontend.replay;
+
+import java.util.function.IntConsumer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.patterns.ShootingStrategy;
+import com.labubushooter.frontend.systems.spawner.EnemySpawnerFactory;
+
+/**
+ * Puts the world into a reproducible state at the start of a recording or replay.
+ *
+ * Recorder and replayer both go through {@link #start}, so every source of
+ * randomness (GameContext.random, MathUtils.random, the enemy spawners) is
+ * seeded the same way and every timer restarts from the same clock value.
+ */
+public final class ReplaySession {
+
+    /** Keeps the MathUtils stream distinct from GameContext.random for the same seed */
+    private static final long MATH_UTILS_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private ReplaySession() {
+        // Static utility
+    }
+
+    /**
+     * Snapshots the carried-over player state for a new recording.
+     *
+     * @param context Game context
+     * @param level Level the recording starts on
+     * @param seed Session seed
+     * @return Header describing the recording's starting state
+     */
+    public static ReplayHeader captureHeader(GameContext context, int level, long seed) {
+        ReplayHeader header = new ReplayHeader();
+        header.stepHz = context.simulationClock.getStepHz();
+        header.seed = seed;
+        header.level = level;
+        header.viewWidth = context.viewport.getWorldWidth();
+        header.viewHeight = context.viewport.getWorldHeight();
+        header.clockNanos = GameClock.nanoTime();
+        header.playerHealth = context.player.health;
+        header.coinScore = context.coinScore;
+        header.weaponSlot = weaponSlotOf(context, context.player.getWeapon());
+        header.pistolMag = context.pistolStrategy.getCurrentMag();
+        header.pistolAmmo = context.pistolStrategy.getTotalAmmo();
+        header.mac10Mag = context.mac10Strategy.getCurrentMag();
+        header.mac10Ammo = context.mac10Strategy.getTotalAmmo();
+        header.recordedAtMillis = System.currentTimeMillis();
+        return header;
+    }
+
+    /**
+     * Seeds all random sources, restores the header state and loads the level.
+     *
+     * @param context Game context
+     * @param header Starting state
+     * @param levelLoader Loads a level (Main.loadLevel or LevelLoader.loadLevel)
+     */
+    public static void start(GameContext context, ReplayHeader header, IntConsumer levelLoader) {
+        // Time and randomness
+        GameClock.restore(header.clockNanos);
+        context.random.setSeed(header.seed);
+        MathUtils.random.setSeed(header.seed ^ MATH_UTILS_SEED_MIX);
+        EnemySpawnerFactory spawners = EnemySpawnerFactory.getInstance();
+        spawners.reseedAllSpawners(header.seed);
+
+        context.viewport.setWorldSize(header.viewWidth, header.viewHeight);
+
+        // Player and weapons
+        context.resetPlayer();
+        context.player.health = header.playerHealth;
+        context.coinScore = header.coinScore;
+        context.pistolStrategy.restoreAmmo(header.pistolMag, header.pistolAmmo);
+        context.mac10Strategy.restoreAmmo(header.mac10Mag, header.mac10Ammo);
+        context.pistolStrategy.resetCooldown();
+        context.mac10Strategy.resetCooldown();
+        context.unarmedStrategy.resetCooldown();
+        context.player.setWeapon(weaponForSlot(context, header.weaponSlot));
+
+        // World: drop leftovers (pickups survive level loads), then load
+        context.gameWorld.clearAllEntities();
+        levelLoader.accept(header.level);
+        spawners.resetAllSpawners();
+
+        Gdx.app.log("ReplaySession", "Session started: " + header);
+    }
+
+    /**
+     * @return New session seed
+     */
+    public static long newSeed() {
+        return System.nanoTime() ^ System.currentTimeMillis() << 20;
+    }
+
+    // ==================== WEAPON SLOTS ====================
+
+    static int weaponSlotOf(GameContext context, ShootingStrategy weapon) {
+        if (weapon == context.mac10Strategy) {
+            return 2;
+        }
+        if (weapon == context.unarmedStrategy) {
+            return 3;
+        }
+        return 1;
+    }
+
+    static ShootingStrategy weaponForSlot(GameContext context, int slot) {
+        switch (slot) {
+            case 2: return context.mac10Strategy;
+            case 3: return context.unarmedStrategy;
+            default: return context.pistolStrategy;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.labubushooter.frontend.replay;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.BossEnemy;
+import com.labubushooter.frontend.objects.CommonEnemy;
+import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.patterns.ShootingStrategy;
+
+/**
+ * Hash of the simulation state a replay must reproduce.
+ *
+ * Covers the clock, the player, weapons, enemies, bosses, projectiles and the
+ * MathUtils random state. Recorder and player compute it at the same point of
+ * the same tick; the first mismatch marks where a replay desynchronized.
+ */
+public final class WorldChecksum {
+
+    private WorldChecksum() {
+        // Static utility
+    }
+
+    /**
+     * @param context Game context to hash
+     * @return Checksum of the current simulation state
+     */
+    public static int compute(GameContext context) {
+        int h = mix(17, GameClock.nanoTime());
+        h = mix(h, context.currentLevel);
+        if (MathUtils.random instanceof RandomXS128) {
+            h = mix(h, ((RandomXS128) MathUtils.random).getState(0));
+        }
+
+        Player player = context.player;
+        h = mix(h, player.bounds.x);
+        h = mix(h, player.bounds.y);
+        h = mix(h, player.velY);
+        h = mix(h, player.health);
+
+        ShootingStrategy weapon = player.getWeapon();
+        if (weapon != null) {
+            h = mix(h, weapon.getCurrentMag());
+            h = mix(h, weapon.getTotalAmmo());
+        }
+
+        h = mix(h, context.activeEnemies.size);
+        for (CommonEnemy enemy : context.activeEnemies) {
+            h = mix(h, enemy.bounds.x);
+            h = mix(h, enemy.bounds.y);
+            h = mix(h, enemy.health);
+        }
+
+        h = mixBoss(h, context.miniBoss);
+        h = mixBoss(h, context.boss);
+
+        h = mixProjectiles(h, context.playerProjectiles);
+        h = mixProjectiles(h, context.enemyProjectiles);
+
+        h = mix(h, context.activeCoins.size);
+        if (context.activePickups != null) {
+            h = mix(h, context.activePickups.size);
+        }
+        return h;
+    }
+
+    private static int mixBoss(int h, BossEnemy boss) {
+        if (boss == null) {
+            return mix(h, 0);
+        }
+        h = mix(h, boss.bounds.x);
+        h = mix(h, boss.bounds.y);
+        return mix(h, boss.health);
+    }
+
+    private static int mixProjectiles(int h, ProjectileStore store) {
+        int count = store.size();
+        h = mix(h, count);
+        for (int i = 0; i < count; i++) {
+            h = mix(h, store.x[i]);
+            h = mix(h, store.y[i]);
+        }
+        return h;
+    }
+
+    private static int mix(int h, float value) {
+        return mix(h, Float.floatToIntBits(value));
+    }
+
+    private static int mix(int h, long value) {
+        return mix(mix(h, (int) value), (int) (value >>> 32));
+    }
+
+    private static int mix(int h, int value) {
+        return 31 * h + value;
+    }
+}
@@ -2,7 +2,7 @@ package com.labubushooter.frontend.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
@@ -159,7 +159,7 @@ public abstract class BaseScreen implements Screen {
      */
     protected void drawButton(String text, Rectangle button) {
         boolean hover = isButtonHovered(button);
-        Texture btnTex = hover ? context.buttonHoverTex : context.buttonTex;
+        TextureRegion btnTex = hover ? context.buttonHoverTex : context.buttonTex;
         
         context.batch.draw(btnTex, button.x, button.y, button.width, button.height);
         
@@ -3,21 +3,19 @@ package com.labubushooter.frontend.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.labubushooter.frontend.GameState;
+import com.labubushooter.frontend.core.FixedTimestep;
 import com.labubushooter.frontend.core.GameContext;
-import com.labubushooter.frontend.objects.Bullet;
-import com.labubushooter.frontend.objects.Coin;
-import com.labubushooter.frontend.objects.CommonEnemy;
-import com.labubushooter.frontend.objects.EnemyBullet;
-import com.labubushooter.frontend.objects.Ground;
-import com.labubushooter.frontend.objects.Pickup;
-import com.labubushooter.frontend.objects.Platform;
 import com.labubushooter.frontend.objects.Player;
 import com.labubushooter.frontend.patterns.ShootingStrategy;
-import com.labubushooter.frontend.patterns.weapons.UnarmedStrategy;
+import com.labubushooter.frontend.replay.ReplayPlayer;
+import com.labubushooter.frontend.services.FrameProfiler;
+import com.labubushooter.frontend.services.RenderQueue;
+import com.labubushooter.frontend.services.StaticLevelCache;
+import com.labubushooter.frontend.systems.GameWorld;
 
 /**
  * Main gameplay screen.
@@ -40,8 +38,32 @@ public class GamePlayScreen extends BaseScreen {
         void restartGame();
     }
 
+    private static final String MAC10_UNLOCK_TEXT = "Mac 10 Acquired! (in level 4) Press 2 to Equip";
+
     private GamePlayCallback callback;
     private boolean needsLevelLoad = true;
+    private boolean replayDone = false;
+
+    // HUD text is rebuilt in place every frame so rendering does not allocate
+    private final StringBuilder healthText = new StringBuilder(16);
+    private final StringBuilder coinText = new StringBuilder(16);
+    private final StringBuilder ammoText = new StringBuilder(48);
+    private final GlyphLayout unlockLayout = new GlyphLayout();
+
+    // Applies actions recorded between steps while a replay drives the game
+    private final ReplayPlayer.Listener replayListener = new ReplayPlayer.Listener() {
+        @Override
+        public void onLevelLoad(int level) {
+            if (callback != null) {
+                callback.loadLevel(level);
+            }
+        }
+
+        @Override
+        public void onDebugKill() {
+            context.gameWorld.debugKillBosses();
+        }
+    };
 
     public GamePlayScreen(GameContext context) {
         super(context);
@@ -72,6 +94,10 @@ public class GamePlayScreen extends BaseScreen {
     public void handleInput(float delta) {
         // Check if player is dead
         if (context.player.isDead()) {
+            if (context.replayPlayer != null) {
+                finishReplay();
+                return;
+            }
             transitionTo(GameState.GAME_OVER);
             Gdx.app.log("Game", "GAME OVER");
             return;
@@ -84,86 +110,76 @@ public class GamePlayScreen extends BaseScreen {
             return;
         }
 
+        // Debug keys are part of the recording, so a replay ignores the live ones
+        if (context.replayPlayer == null) {
+            handleDebugKeys();
+        }
+
+        // --- GAMEPLAY INPUT ---
+        // Movement, jumping, shooting and weapon keys are read per simulation
+        // step by GameWorld; sample this frame's presses so none are dropped
+        if (context.inputSource != null) {
+            context.inputSource.sampleFrame();
+        }
+    }
+
+    private void handleDebugKeys() {
         // --- SECRET LEVEL SKIP ---
         if (Gdx.input.isKeyJustPressed(Input.Keys.F3) && callback != null) {
+            if (context.replayRecorder != null) {
+                context.replayRecorder.recordLevelLoad(3);
+            }
             callback.loadLevel(3);
             Gdx.app.log("Debug", "Skipped to Level 3 (Mini Boss)");
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.F5) && callback != null) {
+            if (context.replayRecorder != null) {
+                context.replayRecorder.recordLevelLoad(5);
+            }
             callback.loadLevel(5);
             Gdx.app.log("Debug", "Skipped to Level 5 (Final Boss)");
         }
 
         // --- DEBUG: INSTA-KILL BOSS ---
         if (Gdx.input.isKeyJustPressed(Input.Keys.K)) {
-            if (context.currentLevel == 3 && context.miniBoss != null && !context.miniBoss.isDead()) {
-                context.miniBoss.takeDamage(999999f);
-                Gdx.app.log("Debug", "Mini Boss instantly killed!");
-            }
-            if (context.currentLevel == 5 && context.boss != null && !context.boss.isDead()) {
-                context.boss.takeDamage(999999f);
-                Gdx.app.log("Debug", "Final Boss instantly killed!");
+            if (context.replayRecorder != null) {
+                context.replayRecorder.recordDebugKill();
             }
+            context.gameWorld.debugKillBosses();
         }
+    }
 
-        // --- WEAPON SWITCHING ---
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
-            context.player.setWeapon(context.pistolStrategy);
-            Gdx.app.log("WeaponSystem", "Pistol Equipped");
-        }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
-            if (context.currentLevel >= 4) {
-                context.player.setWeapon(context.mac10Strategy);
-                Gdx.app.log("WeaponSystem", "Mac-10 Equipped");
-            } else {
-                Gdx.app.log("WeaponSystem", "Mac-10 Locked (Level 4+)");
-            }
-        }
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
-            if (context.unarmedStrategy == null) {
-                context.unarmedStrategy = new UnarmedStrategy();
+    @Override
+    public void update(float delta) {
+        // Run the simulation in fixed steps; rendering interpolates the remainder
+        FixedTimestep clock = context.simulationClock;
+        int steps = clock.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            // A replay applies recorded debug actions before the step they preceded
+            ReplayPlayer replay = context.replayPlayer;
+            if (replay != null) {
+                if (!replayDone) {
+                    replay.processEvents(replayListener);
+                }
+                if (replayDone || replay.isFinished()) {
+                    finishReplay();
+                    break;
+                }
             }
-            context.player.setWeapon(context.unarmedStrategy);
-            Gdx.app.log("WeaponSystem", "Unarmed");
-        }
 
-        // --- RELOAD ---
-        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            ShootingStrategy weapon = context.player.getWeapon();
-            if (weapon != null) {
-                weapon.reload();
+            // Delegate all entity updates to GameWorld
+            if (context.gameWorld != null) {
+                context.gameWorld.captureInterpolationState();
+                context.gameWorld.update(clock.getStepSeconds());
             }
-        }
-
-        // --- JUMP ---
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            context.player.jump();
-        }
 
-        // --- MOUSE SHOOTING ---
-        ShootingStrategy currentWeapon = context.player.getWeapon();
-        if (currentWeapon != null) {
-            if (currentWeapon.isAutomatic()) {
-                if (Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
-                    context.player.shoot(context.activeBullets, context.bulletPool, context.bulletTex);
-                }
-            } else {
-                if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
-                    context.player.shoot(context.activeBullets, context.bulletPool, context.bulletTex);
-                }
+            // Check Level Exit (stop stepping once the level changed or we left the screen)
+            int level = context.currentLevel;
+            checkLevelExit();
+            if (nextState != null || context.currentLevel != level) {
+                break;
             }
         }
-    }
-
-    @Override
-    public void update(float delta) {
-        // Delegate all entity updates to GameWorld
-        if (context.gameWorld != null) {
-            context.gameWorld.update(delta);
-        }
-
-        // Check Level Exit
-        checkLevelExit();
 
         // --- CAMERA FOLLOW LOGIC ---
         updateCamera();
@@ -172,6 +188,10 @@ public class GamePlayScreen extends BaseScreen {
     private void checkLevelExit() {
         if (context.gameWorld != null && context.gameWorld.isAtLevelExit()) {
             if (context.gameWorld.isFinalLevel()) {
+                if (context.replayPlayer != null) {
+                    finishReplay();
+                    return;
+                }
                 // Level 5 completed - trigger victory!
                 if (callback != null) {
                     callback.saveProgress();
@@ -187,23 +207,29 @@ public class GamePlayScreen extends BaseScreen {
         }
     }
 
-    private void updateCamera() {
-        float halfViewport = context.viewport.getWorldWidth() / 2;
-        float levelMid = context.currentLevelWidth / 2;
-
-        if (context.viewport.getWorldWidth() >= context.currentLevelWidth) {
-            context.camera.position.x = levelMid;
-        } else {
-            float targetX = context.player.bounds.x + context.player.bounds.width / 2;
-            context.camera.position.x = MathUtils.clamp(targetX, halfViewport,
-                                                         context.currentLevelWidth - halfViewport);
+    private void finishReplay() {
+        if (!replayDone) {
+            replayDone = true;
+            Gdx.app.log("Replay", "Finished: " + context.replayPlayer.describeResult());
+            Gdx.app.exit();
         }
+    }
 
+    private void updateCamera() {
+        // Follow the interpolated player so camera and sprite move together
+        float playerX = context.player.renderPosition.lerpX(context.player.bounds,
+                                                            context.simulationClock.getAlpha());
+        float targetX = playerX + context.player.bounds.width / 2;
+        context.camera.position.x = GameWorld.followCameraX(targetX, context.viewport.getWorldWidth(),
+                                                            context.currentLevelWidth);
         context.camera.update();
     }
 
     @Override
     public void render(float delta) {
+        FrameProfiler profiler = context.profiler;
+        profiler.beginSection(FrameProfiler.SECTION_RENDER_SCENERY);
+
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -222,17 +248,7 @@ public class GamePlayScreen extends BaseScreen {
             );
         }
 
-        // Draw grounds
-        for (Ground g : context.grounds) {
-            g.draw(context.batch);
-        }
-
-        // Draw platforms
-        for (Platform p : context.platforms) {
-            p.draw(context.batch);
-        }
-
-        // Draw exit door (conditional for boss levels)
+        // Exit door only shows once the level's boss is defeated
         boolean bossDefeated = true;
         if (context.currentLevel == 3 && context.miniBoss != null) {
             bossDefeated = context.miniBoss.isDead();
@@ -241,57 +257,94 @@ public class GamePlayScreen extends BaseScreen {
             bossDefeated = context.boss.isDead();
         }
 
-        if (bossDefeated) {
-            context.batch.draw(context.exitTex, context.currentLevelWidth - 80, 100, 45, 150);
+        // Static scenery was baked at level load and is drawn in one call
+        StaticLevelCache scenery = context.staticLevelCache;
+        boolean sceneryBaked = scenery != null && scenery.isBuilt();
+        if (sceneryBaked) {
+            context.batch.end();
+            scenery.draw(context.camera.combined, bossDefeated);
+            context.batch.begin();
+        }
+
+        // Queue the world (off-screen draws are culled), then draw it sorted
+        // by layer and texture in one pass
+        profiler.beginSection(FrameProfiler.SECTION_RENDER_QUEUE);
+        RenderQueue queue = context.renderQueue;
+        queue.begin(context.camera);
+
+        if (!sceneryBaked) {
+            queue.setLayer(RenderQueue.LAYER_TERRAIN);
+            for (int i = 0; i < context.grounds.size; i++) {
+                context.grounds.get(i).draw(queue);
+            }
+            for (int i = 0; i < context.platforms.size; i++) {
+                context.platforms.get(i).draw(queue);
+            }
+            if (bossDefeated) {
+                queue.setLayer(RenderQueue.LAYER_PROPS);
+                queue.draw(context.exitTex, context.currentLevelWidth - 80, 100, 45, 150);
+            }
+        }
+
+        // Draw moving entities between the last two simulation steps
+        float alpha = context.simulationClock.getAlpha();
+        if (context.gameWorld != null) {
+            context.gameWorld.applyInterpolation(alpha);
         }
 
         // Draw enemies
-        for (CommonEnemy enemy : context.activeEnemies) {
-            enemy.draw(context.batch);
+        queue.setLayer(RenderQueue.LAYER_ENEMIES);
+        for (int i = 0; i < context.activeEnemies.size; i++) {
+            context.activeEnemies.get(i).draw(queue);
         }
 
         // Draw bullets
-        for (Bullet b : context.activeBullets) {
-            b.draw(context.batch, context.bulletTex);
-        }
+        queue.setLayer(RenderQueue.LAYER_PLAYER_BULLETS);
+        context.playerProjectiles.draw(queue, context.bulletTex, alpha);
 
         // Draw pickups
         if (context.activePickups != null) {
-            for (Pickup p : context.activePickups) {
-                p.draw(context.batch);
+            queue.setLayer(RenderQueue.LAYER_PICKUPS);
+            for (int i = 0; i < context.activePickups.size; i++) {
+                context.activePickups.get(i).draw(queue);
             }
         }
 
-        // Draw player
-        context.player.draw(context.batch);
+        // Draw player (its weapon goes on LAYER_WEAPON)
+        queue.setLayer(RenderQueue.LAYER_PLAYER);
+        context.player.draw(queue);
 
         // Draw bosses
+        queue.setLayer(RenderQueue.LAYER_BOSSES);
         if (context.miniBoss != null && !context.miniBoss.isDead()) {
-            context.miniBoss.draw(context.batch);
+            context.miniBoss.draw(queue);
         }
         if (context.boss != null && !context.boss.isDead()) {
-            context.boss.draw(context.batch);
+            context.boss.draw(queue);
         }
 
         // Draw enemy bullets
-        for (EnemyBullet eb : context.activeEnemyBullets) {
-            eb.draw(context.batch, delta);
-        }
+        queue.setLayer(RenderQueue.LAYER_ENEMY_BULLETS);
+        context.enemyProjectiles.draw(queue, null, alpha);
 
-        context.batch.end();
+        // Draw coins (pre-rendered sprite, same pass as everything else)
+        queue.setLayer(RenderQueue.LAYER_COINS);
+        for (int i = 0; i < context.activeCoins.size; i++) {
+            context.activeCoins.get(i).draw(queue, context.coinTex);
+        }
 
-        // RENDER COINS WITH SHAPERENDERER
-        context.shapeRenderer.setProjectionMatrix(context.camera.combined);
-        context.shapeRenderer.begin(com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType.Filled);
-        for (Coin coin : context.activeCoins) {
-            coin.renderShape(context.shapeRenderer);
+        if (context.gameWorld != null) {
+            context.gameWorld.restoreInterpolation();
         }
-        context.shapeRenderer.end();
 
-        // RENDER UI
-        context.batch.begin();
+        profiler.beginSection(FrameProfiler.SECTION_RENDER_FLUSH);
+        queue.flush(context.batch);
+
+        // RENDER UI (same batch and projection)
+        profiler.beginSection(FrameProfiler.SECTION_RENDER_UI);
         renderUI();
         context.batch.end();
+        profiler.endSection();
     }
 
     private void renderUI() {
@@ -301,7 +354,8 @@ public class GamePlayScreen extends BaseScreen {
             float rightEdge = context.camera.position.x + context.viewport.getWorldWidth() / 2 - 10;
             context.batch.draw(context.debugTex, leftEdge, 0);
             context.batch.draw(context.debugTex, rightEdge, 0);
-        } else {
+        } else if (context.staticLevelCache == null || !context.staticLevelCache.isBuilt()) {
+            // Otherwise baked into the level's StaticLevelCache
             context.batch.draw(context.debugTex, 0, 0);
             context.batch.draw(context.debugTex, context.currentLevelWidth - 10, 0);
         }
@@ -309,17 +363,19 @@ public class GamePlayScreen extends BaseScreen {
         // Level indicator - Single icon with level number and colored background
         float levelIndicatorX = context.camera.position.x - context.viewport.getWorldWidth() / 2 + 20;
         float levelIndicatorY = context.camera.position.y + context.viewport.getWorldHeight() / 2 - 60;
-        Texture levelIndicatorTex = context.getLevelIndicatorTexture(context.currentLevel);
+        TextureRegion levelIndicatorTex = context.getLevelIndicatorTexture(context.currentLevel);
         context.batch.draw(levelIndicatorTex, levelIndicatorX, levelIndicatorY, 50, 50);
 
         // Draw Health Bar
-        String healthText = "HP: " + (int) context.player.health + "/" + (int) Player.MAX_HEALTH;
+        healthText.setLength(0);
+        healthText.append("HP: ").append((int) context.player.health).append('/').append((int) Player.MAX_HEALTH);
         float healthX = context.camera.position.x - context.viewport.getWorldWidth() / 2 + 20;
         float healthY = context.camera.position.y + context.viewport.getWorldHeight() / 2 - 90;
         context.smallFont.draw(context.batch, healthText, healthX, healthY);
 
         // Draw Coin Score
-        String coinText = "Coins: " + context.coinScore;
+        coinText.setLength(0);
+        coinText.append("Coins: ").append(context.coinScore);
         float coinX = context.camera.position.x - context.viewport.getWorldWidth() / 2 + 20;
         float coinY = healthY - 30;
         context.smallFont.draw(context.batch, coinText, coinX, coinY);
@@ -327,14 +383,15 @@ public class GamePlayScreen extends BaseScreen {
         // Draw Ammo Info
         ShootingStrategy weapon = context.player.getWeapon();
         if (weapon != null) {
-            String ammoText;
+            ammoText.setLength(0);
             if (weapon.getName().equals("Unarmed")) {
-                ammoText = "Unarmed";
+                ammoText.append("Unarmed");
             } else {
-                ammoText = weapon.getName() + ": " + weapon.getCurrentMag() + "/" + weapon.getMaxMag() +
-                           " (" + weapon.getTotalAmmo() + ")";
+                ammoText.append(weapon.getName()).append(": ")
+                        .append(weapon.getCurrentMag()).append('/').append(weapon.getMaxMag())
+                        .append(" (").append(weapon.getTotalAmmo()).append(')');
                 if (weapon.isReloading()) {
-                    ammoText += " RELOADING...";
+                    ammoText.append(" RELOADING...");
                 }
             }
             float ammoX = context.camera.position.x - context.viewport.getWorldWidth() / 2 + 20;
@@ -344,11 +401,10 @@ public class GamePlayScreen extends BaseScreen {
 
         // Draw Mac10 Unlock Message
         if (context.showMac10UnlockMessage) {
-            String unlockText = "Mac 10 Acquired! (in level 4) Press 2 to Equip";
-            GlyphLayout layout = new GlyphLayout(context.font, unlockText);
-            float textX = context.camera.position.x - layout.width / 2;
-            float textY = context.camera.position.y + layout.height / 2;
-            context.font.draw(context.batch, unlockText, textX, textY);
+            unlockLayout.setText(context.font, MAC10_UNLOCK_TEXT);
+            float textX = context.camera.position.x - unlockLayout.width / 2;
+            float textY = context.camera.position.y + unlockLayout.height / 2;
+            context.font.draw(context.batch, unlockLayout, textX, textY);
         }
     }
 
@@ -1,12 +1,17 @@
 package com.labubushooter.frontend.screens;
 
 import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.services.AssetManager;
 
 /**
- * Simple loading screen shown during API calls.
+ * Simple loading screen shown during API calls and while game assets
+ * are still loading. Shows a progress bar while AssetManager is loading.
  */
 public class LoadingScreen extends BaseScreen {
     
+    private static final float BAR_WIDTH = 400f;
+    private static final float BAR_HEIGHT = 16f;
+    
     private float dotTimer = 0f;
     private int dotCount = 0;
     
@@ -44,6 +49,22 @@ public class LoadingScreen extends BaseScreen {
         
         drawCenteredText(loadingText.toString(), GameContext.VIEWPORT_HEIGHT / 2, true);
         
+        AssetManager assets = AssetManager.getInstance();
+        if (!assets.isLoaded()) {
+            drawProgressBar(assets.getProgress());
+        }
+        
         context.batch.end();
     }
+    
+    private void drawProgressBar(float progress) {
+        float x = getCenterX() - BAR_WIDTH / 2;
+        float y = GameContext.VIEWPORT_HEIGHT / 2 - 80f;
+        
+        context.batch.setColor(0.3f, 0.3f, 0.3f, 1f);
+        context.batch.draw(context.buttonTex, x, y, BAR_WIDTH, BAR_HEIGHT);
+        context.batch.setColor(1f, 0.85f, 0.2f, 1f);
+        context.batch.draw(context.buttonTex, x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        context.batch.setColor(1, 1, 1, 1);
+    }
 }
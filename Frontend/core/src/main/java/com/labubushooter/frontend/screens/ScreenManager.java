@@ -6,6 +6,7 @@ import java.util.Map;
 import com.badlogic.gdx.Gdx;
 import com.labubushooter.frontend.GameState;
 import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.services.TraceRecorder;
 
 /**
  * Manages screen transitions and lifecycle.
@@ -18,6 +19,7 @@ public class ScreenManager {
     private Screen currentScreen;
     private GameState currentState;
     private GamePlayScreen gamePlayScreen;
+    private GameState stateAfterLoading; // requested while assets were still loading
     
     public ScreenManager(GameContext context) {
         this.context = context;
@@ -48,8 +50,14 @@ public class ScreenManager {
     
     /**
      * Set the current screen by game state.
+     * Gameplay needs the sprites: asking for it before they are loaded
+     * shows the asset loading screen first and switches once loading is done.
      */
     public void setScreen(GameState state) {
+        if (state == GameState.PLAYING && !context.assetsLoaded) {
+            stateAfterLoading = state;
+            state = GameState.LOADING_ASSETS;
+        }
         if (currentScreen != null) {
             currentScreen.hide();
         }
@@ -91,15 +99,25 @@ public class ScreenManager {
      */
     public void render(float delta) {
         if (currentScreen == null) return;
+        if (currentState == GameState.LOADING_ASSETS && context.assetsLoaded) {
+            setScreen(stateAfterLoading);
+        }
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.begin("ScreenManager.render");
         
         // Handle input
         currentScreen.handleInput(delta);
         
         // Update
+        trace.begin("Screen.update");
         currentScreen.update(delta);
+        trace.end("Screen.update");
         
         // Render
+        trace.begin("Screen.render");
         currentScreen.render(delta);
+        trace.end("Screen.render");
+        trace.end("ScreenManager.render");
         
         // Check for state transition AFTER all screen processing
         GameState nextState = currentScreen.getNextState();
@@ -1,20 +1,51 @@
 package com.labubushooter.frontend.services;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.labubushooter.frontend.objects.Coin;
 
 /**
  * Centralized asset management with lazy loading and automatic disposal.
  *
+ * Sprites are served as TextureRegions so most of a frame is drawn from a
+ * couple of textures without flushing the SpriteBatch:
+ * - File sprites come from the atlas built by the Gradle packTextures task
+ *   (atlas/sprites.atlas). Without it (e.g. before the first pack) each
+ *   sprite falls back to its own texture, wrapped in a region.
+ * - Generated color textures are packed at startup onto one shared page.
+ * - Backgrounds are too large to pack and stay standalone textures.
+ *
+ * Loading is split so the first frame does not wait for the PNGs:
+ * {@link #startLoading()} builds what the menus need (generated textures
+ * and fonts) and hands every image file to a pool of decoder threads.
+ * {@link #update(int)}, called once per frame on the GL thread, uploads
+ * decoded Pixmaps as textures until its time budget is used up, and
+ * {@link #getProgress()} reports how far along that is.
+ * {@link #initialize()} does all of it synchronously.
+ *
  * Design Patterns:
  * - Singleton: Single point of asset access across the application
  * - Lazy Loading: Assets loaded on first request or explicit initialization
@@ -31,11 +62,28 @@ public class AssetManager implements Disposable {
 
     // ==================== ASSET CACHES ====================
     private final Map<String, Texture> textureCache;
-    private final Map<String, Texture> generatedTextureCache;
+    private final Map<String, TextureRegion> regionCache;
     private final Map<String, BitmapFont> fontCache;
 
+    // Atlas pages (sprites may be null if the atlas has not been packed)
+    private TextureAtlas spriteAtlas;
+    private TextureAtlas generatedAtlas;
+
+    /** Atlas written by the packTextures Gradle task */
+    public static final String SPRITE_ATLAS = "atlas/sprites.atlas";
+    private static final int GENERATED_PAGE_SIZE = 1024;
+    private static final int MAX_DECODER_THREADS = 4;
+
     // Loading state
-    private boolean initialized = false;
+    private boolean initialized = false; // menu assets ready
+    private boolean loaded = false;      // file textures uploaded too
+
+    // Background decoding and time-sliced upload
+    private ExecutorService decoder;
+    private final List<PendingTexture> pending = new ArrayList<>();
+    private final List<String[]> atlasSprites = new ArrayList<>(); // {key, region name}
+    private TextureAtlas.TextureAtlasData atlasData;
+    private int uploadIndex;
 
     // ==================== TEXTURE KEYS (File-based) ====================
     public static final String PLAYER = "player";
@@ -94,12 +142,13 @@ public class AssetManager implements Disposable {
     public static final String LEVEL_INDICATOR_4 = "level_indicator_4";
     public static final String LEVEL_INDICATOR_5 = "level_indicator_5";
     public static final String ENEMY_BULLET = "enemy_bullet";
-    public static final String FLASH_WHITE = "flash_white";
-    public static final String FLASH_RED = "flash_red";
-    public static final String FLASH_YELLOW = "flash_yellow";
     public static final String BUTTON = "button";
     public static final String BUTTON_HOVER = "button_hover";
     public static final String TRANSPARENT = "transparent";
+    public static final String HEALTH_BAR_BG = "health_bar_bg";
+    public static final String HEALTH_BAR_BORDER = "health_bar_border";
+    public static final String HEALTH_BAR_FILL = "health_bar_fill";
+    public static final String COIN = "coin";
 
     // ==================== PICKUP TEXTURE KEYS (File-based) ====================
     // Weapon-specific ammo pickups - each ammo type has its own distinct visual
@@ -117,7 +166,7 @@ public class AssetManager implements Disposable {
 
     private AssetManager() {
         textureCache = new HashMap<>();
-        generatedTextureCache = new HashMap<>();
+        regionCache = new HashMap<>();
         fontCache = new HashMap<>();
     }
 
@@ -137,163 +186,421 @@ public class AssetManager implements Disposable {
     // ==================== INITIALIZATION ====================
 
     /**
-     * Initialize all game assets.
-     * Call once at game start in Main.create().
-     * Loads all textures and fonts into cache.
+     * Initialize all game assets synchronously: {@link #startLoading()}
+     * followed by {@link #finishLoading()}.
      */
     public void initialize() {
+        startLoading();
+        finishLoading();
+    }
+
+    /**
+     * Builds the assets the menus need (generated textures and fonts) and
+     * starts decoding every image file on background threads. Call once at
+     * game start in Main.create(), then {@link #update(int)} every frame.
+     */
+    public void startLoading() {
         if (initialized) {
             Gdx.app.log("AssetManager", "Already initialized, skipping");
             return;
         }
 
         Gdx.app.log("AssetManager", "Initializing assets...");
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.begin("AssetManager.startLoading");
 
-        // Load file-based textures
-        loadFileTextures();
+        // Decode sprites (atlas pages) and standalone textures in the background
+        queueFileTextures();
 
-        // Generate procedural color textures
+        // Generate procedural color textures onto one atlas page
         generateColorTextures();
 
         // Load fonts
         loadFonts();
 
         initialized = true;
-        Gdx.app.log("AssetManager", "Assets initialized successfully. " +
-                   "Textures: " + (textureCache.size() + generatedTextureCache.size()) +
-                   ", Fonts: " + fontCache.size());
+        trace.end("AssetManager.startLoading");
+        Gdx.app.log("AssetManager", "Menu assets ready, decoding " + pending.size() + " image(s) in the background");
+    }
+
+    /**
+     * Uploads decoded images as textures until the time budget is used up.
+     * Call once per frame on the GL thread while loading. At least one
+     * image is uploaded per call if one is ready, so loading always
+     * progresses.
+     *
+     * @param budgetMillis Milliseconds this call may spend uploading
+     * @return true once every texture is loaded
+     */
+    public boolean update(int budgetMillis) {
+        if (loaded) {
+            return true;
+        }
+        long deadline = System.nanoTime() + budgetMillis * 1000000L;
+        while (uploadIndex < pending.size()) {
+            if (!pending.get(uploadIndex).pixmap.isDone()) {
+                return false;
+            }
+            uploadNext();
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        if (uploadIndex < pending.size()) {
+            return false;
+        }
+        completeLoading();
+        return true;
+    }
+
+    /**
+     * Blocks until every texture is loaded.
+     */
+    public void finishLoading() {
+        while (uploadIndex < pending.size()) {
+            uploadNext();
+        }
+        completeLoading();
+    }
+
+    /**
+     * Fraction of the image files loaded so far (0 to 1).
+     */
+    public float getProgress() {
+        if (loaded || pending.isEmpty()) {
+            return initialized ? 1f : 0f;
+        }
+        return uploadIndex / (float) pending.size();
     }
 
     // ==================== TEXTURE LOADING ====================
 
+    /** An image file being decoded on a worker thread */
+    private static class PendingTexture {
+        final String key; // texture key, or null for an atlas page
+        final String filename;
+        final boolean sprite;
+        final TextureAtlas.TextureAtlasData.Page page;
+        final Future<Pixmap> pixmap;
+
+        PendingTexture(String key, String filename, boolean sprite,
+                       TextureAtlas.TextureAtlasData.Page page, Future<Pixmap> pixmap) {
+            this.key = key;
+            this.filename = filename;
+            this.sprite = sprite;
+            this.page = page;
+            this.pixmap = pixmap;
+        }
+    }
+
     /**
-     * Load all file-based textures.
-     * Uses Nearest filtering for pixel art style.
+     * Queue all file-based sprites and textures for decoding.
+     * Sprites come from the packed atlas when present.
      */
-    private void loadFileTextures() {
-        loadTexture(PLAYER, "player.png");
-        loadTexture(PLAYER_WALK_FRAME1, "player_walk_frame1.png");
-        loadTexture(PLAYER_WALK_FRAME2, "player_walk_frame2.png");
-        loadTexture(PLAYER_CROUCH, "player_crouch.png");
-        loadTexture(PLATFORM, "ground.png");
-        loadTexture(GROUND_BASE, "ground_base.png");
-        loadTexture(EXIT_DOOR, "door.png");
-        loadTexture(BULLET, "bullet.png");
-        loadTexture(ENEMY, "enemy.png");
-        loadTexture(ENEMY_FRAME1, "enemyframe1.png");
-        loadTexture(ENEMY_FRAME2, "enemyframe2.png");
-        loadTexture(MINI_BOSS_WALK_FRAME1, "miniboss_walk_frame1.png");
-        loadTexture(MINI_BOSS_WALK_FRAME2, "miniboss_walk_frame2.png");
-        loadTexture(MINI_BOSS_CROUCH, "miniboss_crouch.png");
-        loadTexture(MINI_BOSS_DASHPREP, "miniboss_dashprep.png");
-        loadTexture(MINI_BOSS_DASH, "miniboss_dash.png");
-        loadTexture(BOSS, "boss.png");
+    private void queueFileTextures() {
+        int threads = MathUtils.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, MAX_DECODER_THREADS);
+        AtomicInteger threadCount = new AtomicInteger();
+        decoder = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "AssetDecoder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        FileHandle atlasFile = Gdx.files.internal(SPRITE_ATLAS);
+        if (atlasFile.exists()) {
+            atlasData = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(), false);
+            for (TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+                queue(null, page.textureFile, false, page);
+            }
+        } else {
+            Gdx.app.log("AssetManager", "No sprite atlas (run the packTextures task), loading sprites one by one");
+        }
+
+        queueSprite(PLAYER, "player.png");
+        queueSprite(PLAYER_WALK_FRAME1, "player_walk_frame1.png");
+        queueSprite(PLAYER_WALK_FRAME2, "player_walk_frame2.png");
+        queueSprite(PLAYER_CROUCH, "player_crouch.png");
+        queueSprite(PLATFORM, "ground.png");
+        queueSprite(GROUND_BASE, "ground_base.png");
+        queueSprite(EXIT_DOOR, "door.png");
+        queueSprite(BULLET, "bullet.png");
+        queueSprite(ENEMY, "enemy.png");
+        queueSprite(ENEMY_FRAME1, "enemyframe1.png");
+        queueSprite(ENEMY_FRAME2, "enemyframe2.png");
+        queueSprite(MINI_BOSS_WALK_FRAME1, "miniboss_walk_frame1.png");
+        queueSprite(MINI_BOSS_WALK_FRAME2, "miniboss_walk_frame2.png");
+        queueSprite(MINI_BOSS_CROUCH, "miniboss_crouch.png");
+        queueSprite(MINI_BOSS_DASHPREP, "miniboss_dashprep.png");
+        queueSprite(MINI_BOSS_DASH, "miniboss_dash.png");
+        queueSprite(BOSS, "boss.png");
         
         // Load boss animation textures - Phase 1
-        loadTexture(BOSS_PHASE1_WALK1, "boss_phase1_walk1.png");
-        loadTexture(BOSS_PHASE1_WALK2, "boss_phase1_walk2.png");
-        loadTexture(BOSS_PHASE1_JUMP, "boss_phase1_jump.png");
-        loadTexture(BOSS_PHASE1_BIGATTACK, "boss_phase1_bigattack.png");
+        queueSprite(BOSS_PHASE1_WALK1, "boss_phase1_walk1.png");
+        queueSprite(BOSS_PHASE1_WALK2, "boss_phase1_walk2.png");
+        queueSprite(BOSS_PHASE1_JUMP, "boss_phase1_jump.png");
+        queueSprite(BOSS_PHASE1_BIGATTACK, "boss_phase1_bigattack.png");
         
         // Load boss animation textures - Phase 2
-        loadTexture(BOSS_PHASE2_WALK1, "boss_phase2_walk1.png");
-        loadTexture(BOSS_PHASE2_WALK2, "boss_phase2_walk2.png");
-        loadTexture(BOSS_PHASE2_JUMP, "boss_phase2_jump.png");
-        loadTexture(BOSS_PHASE2_BIGATTACK, "boss_phase2_bigattack.png");
+        queueSprite(BOSS_PHASE2_WALK1, "boss_phase2_walk1.png");
+        queueSprite(BOSS_PHASE2_WALK2, "boss_phase2_walk2.png");
+        queueSprite(BOSS_PHASE2_JUMP, "boss_phase2_jump.png");
+        queueSprite(BOSS_PHASE2_BIGATTACK, "boss_phase2_bigattack.png");
         
         // Load boss animation textures - Phase 3
-        loadTexture(BOSS_PHASE3_WALK1, "boss_phase3_walk1.png");
-        loadTexture(BOSS_PHASE3_WALK2, "boss_phase3_walk2.png");
-        loadTexture(BOSS_PHASE3_JUMP, "boss_phase3_jump.png");
-        loadTexture(BOSS_PHASE3_BIGATTACK, "boss_phase3_bigattack.png");
+        queueSprite(BOSS_PHASE3_WALK1, "boss_phase3_walk1.png");
+        queueSprite(BOSS_PHASE3_WALK2, "boss_phase3_walk2.png");
+        queueSprite(BOSS_PHASE3_JUMP, "boss_phase3_jump.png");
+        queueSprite(BOSS_PHASE3_BIGATTACK, "boss_phase3_bigattack.png");
         
         // Load boss bullet textures
-        loadTexture(BOSS_PHASE1_BULLET, "boss_phase1_bullet.png");
-        loadTexture(BOSS_PHASE23_BULLET, "boss_phase23_bullet.png");
-        loadTexture(BOSS_BIG_BULLET, "boss_big_bullet.png");
-        loadTexture(PISTOL, "pistol.png");
-        loadTexture(MAC10, "mac10.png");
-        loadTexture(BACKGROUND_LEVEL1, "bglevel1.png");
-        loadTexture(BACKGROUND_LEVEL2_TO_4, "bglevel2to4.png");
-        loadTexture(BACKGROUND_LEVEL5, "bglevel5.png");
+        queueSprite(BOSS_PHASE1_BULLET, "boss_phase1_bullet.png");
+        queueSprite(BOSS_PHASE23_BULLET, "boss_phase23_bullet.png");
+        queueSprite(BOSS_BIG_BULLET, "boss_big_bullet.png");
+        queueSprite(PISTOL, "pistol.png");
+        queueSprite(MAC10, "mac10.png");
+
+        // Backgrounds are drawn on their own and are not packed
+        queueTexture(BACKGROUND_LEVEL1, "bglevel1.png");
+        queueTexture(BACKGROUND_LEVEL2_TO_4, "bglevel2to4.png");
+        queueTexture(BACKGROUND_LEVEL5, "bglevel5.png");
 
         // Load pickup textures - weapon-specific ammo visuals
         // Each ammo type has a distinct texture for visual clarity:
         // - AMMO_9MM uses ammopack_pistol.png (pistol ammo)
         // - AMMO_45CAL uses ammopack_mac10.png (Mac10 SMG ammo)
         // - HEALTH_POTION uses healthpotion.png (unchanged)
-        loadTexture(HEALTH_POTION, "healthpotion.png");
-        loadTexture(AMMO_9MM, "ammopack_pistol.png");
-        loadTexture(AMMO_45CAL, "ammopack_mac10.png");
+        queueSprite(HEALTH_POTION, "healthpotion.png");
+        queueSprite(AMMO_9MM, "ammopack_pistol.png");
+        queueSprite(AMMO_45CAL, "ammopack_mac10.png");
     }
 
     /**
-     * Load a texture from file with nearest filtering.
+     * Register a sprite. Atlas regions are named after the source file
+     * without its extension and are looked up once the atlas is uploaded;
+     * sprites missing from the atlas are decoded from their own file.
+     *
+     * @param key Asset key for retrieval
+     * @param filename Source file path relative to assets folder
+     */
+    private void queueSprite(String key, String filename) {
+        if (atlasData != null) {
+            String regionName = filename.substring(0, filename.lastIndexOf('.'));
+            if (atlasHasRegion(regionName)) {
+                atlasSprites.add(new String[] {key, regionName});
+                return;
+            }
+            Gdx.app.error("AssetManager", "Sprite missing from atlas, loading it separately: " + filename);
+        }
+        queue(key, Gdx.files.internal(filename), true, null);
+    }
+
+    /**
+     * Queue a standalone texture for decoding.
      *
      * @param key Asset key for retrieval
      * @param filename File path relative to assets folder
      */
-    private void loadTexture(String key, String filename) {
+    private void queueTexture(String key, String filename) {
+        queue(key, Gdx.files.internal(filename), false, null);
+    }
+
+    private void queue(String key, FileHandle file, boolean sprite, TextureAtlas.TextureAtlasData.Page page) {
+        Future<Pixmap> pixmap = decoder.submit(() -> new Pixmap(file));
+        pending.add(new PendingTexture(key, file.path(), sprite, page, pixmap));
+    }
+
+    private boolean atlasHasRegion(String name) {
+        for (TextureAtlas.TextureAtlasData.Region region : atlasData.getRegions()) {
+            if (region.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Upload the next decoded image (waiting for its decode if needed).
+     * Standalone textures get nearest filtering; atlas pages take their
+     * settings from the atlas file when the atlas is built.
+     */
+    private void uploadNext() {
+        PendingTexture next = pending.get(uploadIndex++);
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.begin("AssetManager.upload");
+        Pixmap pixmap = null;
         try {
-            Texture texture = new Texture(Gdx.files.internal(filename));
-            texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            textureCache.put(key, texture);
-            Gdx.app.log("AssetManager", "Loaded texture: " + filename);
-        } catch (Exception e) {
-            Gdx.app.error("AssetManager", "Failed to load texture: " + filename, e);
+            pixmap = next.pixmap.get();
+            if (next.page != null && atlasData == null) {
+                return; // another page failed and the atlas was dropped
+            }
+            if (next.page != null) {
+                next.page.texture = new Texture(pixmap, next.page.format, next.page.useMipMaps);
+            } else {
+                Texture texture = new Texture(pixmap);
+                texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+                textureCache.put(next.key, texture);
+                if (next.sprite) {
+                    regionCache.put(next.key, new TextureRegion(texture));
+                }
+            }
+            Gdx.app.log("AssetManager", "Loaded texture: " + next.filename);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Gdx.app.error("AssetManager", "Interrupted while loading: " + next.filename);
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            Gdx.app.error("AssetManager", "Failed to load texture: " + next.filename, cause);
+            if (next.page != null) {
+                abandonAtlas();
+            }
+        } finally {
+            if (pixmap != null) {
+                pixmap.dispose();
+            }
+            trace.end("AssetManager.upload");
         }
     }
 
     /**
-     * Generate all procedural color textures.
+     * An atlas page failed to load: drop the atlas and queue its sprites
+     * as individual files instead.
+     */
+    private void abandonAtlas() {
+        if (atlasData == null) {
+            return;
+        }
+        for (TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+            if (page.texture != null) {
+                page.texture.dispose();
+                page.texture = null;
+            }
+        }
+        atlasData = null;
+        for (String[] sprite : atlasSprites) {
+            queue(sprite[0], Gdx.files.internal(sprite[1] + ".png"), true, null);
+        }
+        atlasSprites.clear();
+    }
+
+    /** Builds the sprite atlas from its uploaded pages and stops the decoders */
+    private void completeLoading() {
+        if (loaded) {
+            return;
+        }
+        if (atlasData != null) {
+            spriteAtlas = new TextureAtlas(atlasData);
+            atlasData = null;
+            for (String[] sprite : atlasSprites) {
+                regionCache.put(sprite[0], spriteAtlas.findRegion(sprite[1]));
+            }
+            Gdx.app.log("AssetManager", "Loaded sprite atlas: " + spriteAtlas.getTextures().size + " page(s)");
+        }
+        atlasSprites.clear();
+        pending.clear();
+        uploadIndex = 0;
+        decoder.shutdown();
+        decoder = null;
+
+        loaded = true;
+        Gdx.app.log("AssetManager", "Assets initialized successfully. " +
+                   "Regions: " + regionCache.size() + ", Textures: " + getTextureCount() +
+                   ", Fonts: " + fontCache.size());
+    }
+
+    /**
+     * Generate all procedural color textures and pack them onto one page.
      */
     private void generateColorTextures() {
-        generatedTextureCache.put(DEBUG_LINE, createColorTexture(10, 600, Color.RED));
-        generatedTextureCache.put(LEVEL_INDICATOR, createColorTexture(30, 30, Color.YELLOW));
+        // Padding with duplicated borders keeps stretched 1x1 regions from bleeding
+        PixmapPacker packer = new PixmapPacker(GENERATED_PAGE_SIZE, GENERATED_PAGE_SIZE,
+            Pixmap.Format.RGBA8888, 2, true);
+
+        pack(packer, DEBUG_LINE, createColorPixmap(10, 600, Color.RED));
+        pack(packer, LEVEL_INDICATOR, createColorPixmap(30, 30, Color.YELLOW));
 
         // Level indicator textures with colored background and number
-        generatedTextureCache.put(LEVEL_INDICATOR_1, createLevelIndicatorTexture(1));
-        generatedTextureCache.put(LEVEL_INDICATOR_2, createLevelIndicatorTexture(2));
-        generatedTextureCache.put(LEVEL_INDICATOR_3, createLevelIndicatorTexture(3));
-        generatedTextureCache.put(LEVEL_INDICATOR_4, createLevelIndicatorTexture(4));
-        generatedTextureCache.put(LEVEL_INDICATOR_5, createLevelIndicatorTexture(5));
+        pack(packer, LEVEL_INDICATOR_1, createLevelIndicatorPixmap(1));
+        pack(packer, LEVEL_INDICATOR_2, createLevelIndicatorPixmap(2));
+        pack(packer, LEVEL_INDICATOR_3, createLevelIndicatorPixmap(3));
+        pack(packer, LEVEL_INDICATOR_4, createLevelIndicatorPixmap(4));
+        pack(packer, LEVEL_INDICATOR_5, createLevelIndicatorPixmap(5));
+
+        pack(packer, ENEMY_BULLET, createColorPixmap(8, 8, Color.ORANGE));
+        pack(packer, BUTTON, createColorPixmap(500, 80, new Color(0.7f, 0.7f, 0.7f, 1f)));
+        pack(packer, BUTTON_HOVER, createColorPixmap(500, 80, new Color(0.9f, 0.9f, 0.9f, 1f)));
+        pack(packer, TRANSPARENT, createColorPixmap(1, 1, new Color(0, 0, 0, 0)));
+
+        // Boss health bar
+        pack(packer, HEALTH_BAR_BG, createColorPixmap(1, 1, new Color(0f, 0f, 0f, 0.7f)));
+        pack(packer, HEALTH_BAR_BORDER, createColorPixmap(1, 1, Color.WHITE));
+        pack(packer, HEALTH_BAR_FILL, createColorPixmap(1, 1, Color.GREEN));
+
+        // Coin (drawn at its native size, so no filtering softens the edge)
+        pack(packer, COIN, createCirclePixmap((int) Coin.WIDTH, Color.GOLD));
+
+        generatedAtlas = packer.generateTextureAtlas(TextureFilter.Nearest, TextureFilter.Nearest, false);
+        packer.dispose();
+        for (TextureAtlas.AtlasRegion region : generatedAtlas.getRegions()) {
+            // PixmapPacker splits a trailing "_N" off the name into the region index
+            String key = region.index < 0 ? region.name : region.name + "_" + region.index;
+            regionCache.put(key, region);
+        }
 
-        generatedTextureCache.put(ENEMY_BULLET, createColorTexture(8, 8, Color.ORANGE));
-        generatedTextureCache.put(FLASH_WHITE, createColorTexture(60, 90, Color.WHITE));
-        generatedTextureCache.put(FLASH_RED, createColorTexture(60, 100, Color.RED));
-        generatedTextureCache.put(FLASH_YELLOW, createColorTexture(60, 90, Color.YELLOW));
-        generatedTextureCache.put(BUTTON, createColorTexture(500, 80, new Color(0.7f, 0.7f, 0.7f, 1f)));
-        generatedTextureCache.put(BUTTON_HOVER, createColorTexture(500, 80, new Color(0.9f, 0.9f, 0.9f, 1f)));
-        generatedTextureCache.put(TRANSPARENT, createColorTexture(1, 1, new Color(0, 0, 0, 0)));
+        Gdx.app.log("AssetManager", "Generated " + generatedAtlas.getRegions().size + " color textures on "
+            + generatedAtlas.getTextures().size + " page(s)");
+    }
 
-        Gdx.app.log("AssetManager", "Generated " + generatedTextureCache.size() + " color textures");
+    private static void pack(PixmapPacker packer, String key, Pixmap pixmap) {
+        packer.pack(key, pixmap);
+        pixmap.dispose();
     }
 
     /**
-     * Create a solid color texture.
+     * Create a solid color pixmap.
      *
-     * @param width Texture width in pixels
-     * @param height Texture height in pixels
+     * @param width Pixmap width in pixels
+     * @param height Pixmap height in pixels
      * @param color Fill color
-     * @return Generated texture
+     * @return Generated pixmap (caller disposes)
      */
-    public Texture createColorTexture(int width, int height, Color color) {
+    private static Pixmap createColorPixmap(int width, int height, Color color) {
         Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
         pixmap.setColor(color);
         pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+        return pixmap;
     }
 
     /**
-     * Creates a level indicator texture with colored circle background and level number.
+     * Create an anti-aliased filled circle pixmap: each edge pixel's alpha is
+     * the fraction of it covered by the circle.
+     *
+     * @param diameter Pixmap width and height in pixels
+     * @param color Fill color
+     * @return Generated pixmap (caller disposes)
+     */
+    private static Pixmap createCirclePixmap(int diameter, Color color) {
+        Pixmap pixmap = new Pixmap(diameter, diameter, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        float radius = diameter / 2f;
+        for (int y = 0; y < diameter; y++) {
+            for (int x = 0; x < diameter; x++) {
+                float dx = x + 0.5f - radius;
+                float dy = y + 0.5f - radius;
+                float coverage = MathUtils.clamp(radius - (float) Math.sqrt(dx * dx + dy * dy) + 0.5f, 0f, 1f);
+                pixmap.drawPixel(x, y, Color.rgba8888(color.r, color.g, color.b, color.a * coverage));
+            }
+        }
+        return pixmap;
+    }
+
+    /**
+     * Creates a level indicator pixmap with colored circle background and level number.
      * Colors: Level 1,2,4 = Yellow (#fce803), Level 3 = Green (#379624), Level 5 = Purple (#882dc7)
      *
      * @param level The level number (1-5)
-     * @return Texture with circle and number
+     * @return Pixmap with circle and number (caller disposes)
      */
-    private Texture createLevelIndicatorTexture(int level) {
+    private Pixmap createLevelIndicatorPixmap(int level) {
         int size = 50; // Circle diameter
         Pixmap pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
 
@@ -333,10 +640,7 @@ public class AssetManager implements Disposable {
         // Draw number in black
         pixmap.setColor(Color.BLACK);
         drawDigit(pixmap, level, centerX, centerY);
-
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+        return pixmap;
     }
 
     /**
@@ -444,13 +748,14 @@ public class AssetManager implements Disposable {
 
     /**
      * Load and configure fonts.
-     * Uses FreeTypeFontGenerator to create high-resolution bitmap fonts.
+     * High-resolution bitmap fonts generated from the custom font by
+     * FreeType, loaded from FontCache after the first launch.
      */
     private void loadFonts() {
-        FreeTypeFontGenerator generator = null;
+        FontCache bakedFonts = null;
         try {
             // Try to load the custom font
-            generator = new FreeTypeFontGenerator(Gdx.files.internal("game_default_font.otf"));
+            bakedFonts = new FontCache(Gdx.files.internal("game_default_font.otf"));
             FreeTypeFontParameter parameter = new FreeTypeFontParameter();
 
             // Configure default font (Large)
@@ -464,7 +769,7 @@ public class AssetManager implements Disposable {
             parameter.shadowOffsetY = 3;
             parameter.shadowColor = new Color(0, 0, 0, 0.5f);
 
-            BitmapFont defaultFont = generator.generateFont(parameter);
+            BitmapFont defaultFont = bakedFonts.get(FONT_DEFAULT, parameter);
             // Scale down for display if needed, but keep high res texture
             defaultFont.getData().setScale(0.5f);
             fontCache.put(FONT_DEFAULT, defaultFont);
@@ -475,7 +780,7 @@ public class AssetManager implements Disposable {
             parameter.shadowOffsetX = 1;
             parameter.shadowOffsetY = 1;
 
-            BitmapFont smallFont = generator.generateFont(parameter);
+            BitmapFont smallFont = bakedFonts.get(FONT_SMALL, parameter);
             // Scale down for display
             smallFont.getData().setScale(0.8f);
             fontCache.put(FONT_SMALL, smallFont);
@@ -494,8 +799,8 @@ public class AssetManager implements Disposable {
             smallFont.getData().setScale(1.2f);
             fontCache.put(FONT_SMALL, smallFont);
         } finally {
-            if (generator != null) {
-                generator.dispose();
+            if (bakedFonts != null) {
+                bakedFonts.dispose();
             }
         }
 
@@ -505,32 +810,45 @@ public class AssetManager implements Disposable {
     // ==================== GETTERS ====================
 
     /**
-     * Get a texture by key.
-     * Checks both file-loaded and generated textures.
+     * Get a sprite or generated texture region by key.
+     * Regions from the same atlas page share one texture, so drawing them
+     * back to back does not flush the SpriteBatch.
      *
      * @param key Texture key constant (e.g., AssetManager.PLAYER)
-     * @return Texture or null if not found
+     * @return TextureRegion or null if not found
      */
-    public Texture getTexture(String key) {
+    public TextureRegion getRegion(String key) {
         if (!initialized) {
             Gdx.app.error("AssetManager", "Assets not initialized! Call initialize() first.");
             return null;
         }
 
-        // Check file textures first
-        Texture texture = textureCache.get(key);
-        if (texture != null) {
-            return texture;
+        TextureRegion region = regionCache.get(key);
+        if (region == null) {
+            Gdx.app.error("AssetManager", "Texture region not found: " + key);
         }
+        return region;
+    }
 
-        // Check generated textures
-        texture = generatedTextureCache.get(key);
-        if (texture != null) {
-            return texture;
+    /**
+     * Get a standalone texture by key.
+     * Only backgrounds are standalone (plus sprites when no atlas was packed);
+     * use {@link #getRegion(String)} for sprites.
+     *
+     * @param key Texture key constant (e.g., AssetManager.BACKGROUND_LEVEL1)
+     * @return Texture or null if not found
+     */
+    public Texture getTexture(String key) {
+        if (!initialized) {
+            Gdx.app.error("AssetManager", "Assets not initialized! Call initialize() first.");
+            return null;
         }
 
-        Gdx.app.error("AssetManager", "Texture not found: " + key);
-        return null;
+        Texture texture = textureCache.get(key);
+        if (texture == null) {
+            Gdx.app.error("AssetManager", "Texture not found: " + key);
+        }
+        return texture;
     }
 
     /**
@@ -573,21 +891,37 @@ public class AssetManager implements Disposable {
     // ==================== STATE QUERIES ====================
 
     /**
-     * Check if assets have been initialized.
+     * Check if the menu assets (generated textures and fonts) are ready.
      *
-     * @return true if initialize() has been called
+     * @return true once startLoading() or initialize() has been called
      */
     public boolean isInitialized() {
         return initialized;
     }
 
     /**
-     * Get total number of cached textures.
+     * Check if every texture, file-based ones included, is loaded.
+     *
+     * @return true once update() has returned true or initialize() has finished
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Get total number of GPU textures (standalone textures plus atlas pages).
      *
      * @return Total texture count
      */
     public int getTextureCount() {
-        return textureCache.size() + generatedTextureCache.size();
+        int count = textureCache.size();
+        if (spriteAtlas != null) {
+            count += spriteAtlas.getTextures().size;
+        }
+        if (generatedAtlas != null) {
+            count += generatedAtlas.getTextures().size;
+        }
+        return count;
     }
 
     /**
@@ -609,6 +943,26 @@ public class AssetManager implements Disposable {
     public void dispose() {
         Gdx.app.log("AssetManager", "Disposing assets...");
 
+        // Stop decoding and free whatever was not uploaded yet
+        if (decoder != null) {
+            decoder.shutdownNow();
+            decoder = null;
+        }
+        for (int i = uploadIndex; i < pending.size(); i++) {
+            disposeDecoded(pending.get(i).pixmap);
+        }
+        pending.clear();
+        uploadIndex = 0;
+        atlasSprites.clear();
+        if (atlasData != null) {
+            for (TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+                if (page.texture != null) {
+                    page.texture.dispose();
+                }
+            }
+            atlasData = null;
+        }
+
         // Dispose file textures
         for (Texture texture : textureCache.values()) {
             if (texture != null) {
@@ -617,13 +971,16 @@ public class AssetManager implements Disposable {
         }
         textureCache.clear();
 
-        // Dispose generated textures
-        for (Texture texture : generatedTextureCache.values()) {
-            if (texture != null) {
-                texture.dispose();
-            }
+        // Dispose atlas pages
+        if (spriteAtlas != null) {
+            spriteAtlas.dispose();
+            spriteAtlas = null;
+        }
+        if (generatedAtlas != null) {
+            generatedAtlas.dispose();
+            generatedAtlas = null;
         }
-        generatedTextureCache.clear();
+        regionCache.clear();
 
         // Dispose fonts
         for (BitmapFont font : fontCache.values()) {
@@ -634,9 +991,21 @@ public class AssetManager implements Disposable {
         fontCache.clear();
 
         initialized = false;
+        loaded = false;
         Gdx.app.log("AssetManager", "Assets disposed successfully");
     }
 
+    private static void disposeDecoded(Future<Pixmap> pixmap) {
+        if (!pixmap.isDone() || pixmap.isCancelled()) {
+            return;
+        }
+        try {
+            pixmap.get().dispose();
+        } catch (InterruptedException | ExecutionException e) {
+            // Never decoded; nothing to free
+        }
+    }
+
     /**
      * Reset singleton instance (for testing or full restart).
      */
@@ -0,0 +1,252 @@
+package com.labubushooter.frontend.services;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Disk cache of BitmapFonts generated from a FreeType font.
+ *
+ * FreeType rasterizes every glyph of a font at each launch. Instead, the
+ * first launch writes the generated font as a BMFont file (.fnt) plus its
+ * page PNGs, and later launches load those directly, without loading the
+ * FreeType natives at all.
+ *
+ * Entries are keyed by a hash of the font file and of everything in the
+ * FreeTypeFontParameter that affects the pixels (size, charset, border,
+ * shadow, colors), so editing the font or the parameters regenerates the
+ * font on the next launch. A missing or unreadable entry is generated
+ * again.
+ *
+ * Cache location: fontcache/ in the working directory, or the directory
+ * given by -Dlabubu.fontCacheDir=<dir>.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only generates, stores and loads cached fonts
+ */
+public class FontCache {
+
+    private static final String CACHE_DIR_PROPERTY = "labubu.fontCacheDir";
+    private static final String DEFAULT_CACHE_DIR = "fontcache";
+
+    /** Bump when the file layout written here changes */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int PAGE_SIZE = 1024;
+
+    private final FileHandle fontFile;
+    private final FileHandle cacheDir;
+    private final String fontHash;
+    private FreeTypeFontGenerator generator; // created on the first cache miss
+
+    /**
+     * @param fontFile TrueType/OpenType font the fonts are generated from
+     */
+    public FontCache(FileHandle fontFile) {
+        this.fontFile = fontFile;
+        this.cacheDir = Gdx.files.local(System.getProperty(CACHE_DIR_PROPERTY, DEFAULT_CACHE_DIR));
+        this.fontHash = crcHex(fontFile.readBytes());
+    }
+
+    /**
+     * Loads a font from the cache, generating and caching it on a miss.
+     *
+     * @param name Short name used in the cache file names
+     * @param parameter Generation settings; part of the cache key
+     * @return The font (caller disposes)
+     */
+    public BitmapFont get(String name, FreeTypeFontParameter parameter) {
+        String base = name + "-" + parameter.size + "-" + fontHash + "-" + parameterHash(parameter);
+        FileHandle fnt = cacheDir.child(base + ".fnt");
+
+        if (fnt.exists()) {
+            BitmapFont font = load(fnt, parameter);
+            if (font != null) {
+                Gdx.app.log("FontCache", "Loaded cached font: " + fnt.name());
+                return font;
+            }
+        }
+
+        BitmapFont generated = generate(base, parameter);
+        if (!fnt.exists()) {
+            return generated; // could not be cached; use it as generated
+        }
+        // Later launches load the cached copy, so this one does too
+        BitmapFont font = load(fnt, parameter);
+        if (font == null) {
+            return generated;
+        }
+        generated.dispose();
+        Gdx.app.log("FontCache", "Generated and cached font: " + fnt.name());
+        return font;
+    }
+
+    private BitmapFont load(FileHandle fnt, FreeTypeFontParameter parameter) {
+        try {
+            BitmapFont font = new BitmapFont(fnt);
+            for (int i = 0; i < font.getRegions().size; i++) {
+                font.getRegions().get(i).getTexture().setFilter(parameter.minFilter, parameter.magFilter);
+            }
+            return font;
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("FontCache", "Cached font unreadable, regenerating: " + fnt.name(), e);
+            fnt.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Releases the FreeType generator if a miss created one.
+     */
+    public void dispose() {
+        if (generator != null) {
+            generator.dispose();
+            generator = null;
+        }
+    }
+
+    // ==================== GENERATION ====================
+
+    private BitmapFont generate(String base, FreeTypeFontParameter parameter) {
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(fontFile);
+        }
+
+        // Own the packer so the finished pages can be written out
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        PixmapPacker previousPacker = parameter.packer;
+        parameter.packer = packer;
+        try {
+            BitmapFont font = generator.generateFont(parameter);
+            // The pages belong to our packer; let the font free them
+            font.setOwnsTexture(true);
+            try {
+                write(base, font.getData(), packer);
+            } catch (IOException | GdxRuntimeException e) {
+                Gdx.app.error("FontCache", "Could not write font cache: " + base, e);
+            }
+            return font;
+        } finally {
+            parameter.packer = previousPacker;
+        }
+    }
+
+    /**
+     * Writes the pages, then the .fnt (written last, so an interrupted
+     * write leaves no .fnt and is regenerated next time).
+     */
+    private void write(String base, BitmapFontData data, PixmapPacker packer) throws IOException {
+        cacheDir.mkdirs();
+        int pages = packer.getPages().size;
+        String[] pageFiles = new String[pages];
+        for (int i = 0; i < pages; i++) {
+            pageFiles[i] = base + "_" + i + ".png";
+            PixmapIO.writePNG(cacheDir.child(pageFiles[i]), packer.getPages().get(i).getPixmap());
+        }
+
+        FileHandle temp = cacheDir.child(base + ".fnt.tmp");
+        try (Writer out = temp.writer(false, "UTF-8")) {
+            writeFnt(out, data, pageFiles);
+        }
+        temp.moveTo(cacheDir.child(base + ".fnt"));
+    }
+
+    /**
+     * BMFont text format, in the form BitmapFontData reads back: y offsets
+     * are measured down from the line top, and base is ascent + capHeight.
+     * A trailing metrics line keeps FreeType's exact font metrics.
+     */
+    private static void writeFnt(Writer out, BitmapFontData data, String[] pageFiles) throws IOException {
+        out.write("info face=\"cached\" size=0 bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding="
+            + (int) data.padTop + "," + (int) data.padRight + "," + (int) data.padBottom + "," + (int) data.padLeft
+            + " spacing=0,0 outline=0\n");
+        out.write("common lineHeight=" + Math.round(data.lineHeight)
+            + " base=" + Math.round(data.ascent + data.capHeight)
+            + " scaleW=" + PAGE_SIZE + " scaleH=" + PAGE_SIZE + " pages=" + pageFiles.length + " packed=0\n");
+        for (int i = 0; i < pageFiles.length; i++) {
+            out.write("page id=" + i + " file=\"" + pageFiles[i] + "\"\n");
+        }
+
+        Array<Glyph> glyphs = new Array<>();
+        for (Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (Glyph glyph : page) {
+                if (glyph != null) glyphs.add(glyph);
+            }
+        }
+
+        out.write("chars count=" + glyphs.size + "\n");
+        for (Glyph glyph : glyphs) {
+            out.write("char id=" + glyph.id + " x=" + glyph.srcX + " y=" + glyph.srcY
+                + " width=" + glyph.width + " height=" + glyph.height
+                + " xoffset=" + glyph.xoffset + " yoffset=" + -(glyph.height + glyph.yoffset)
+                + " xadvance=" + glyph.xadvance + " page=" + glyph.page + " chnl=0\n");
+        }
+
+        StringBuilder kernings = new StringBuilder();
+        int kerningCount = 0;
+        for (Glyph first : glyphs) {
+            if (first.kerning == null) continue;
+            for (Glyph second : glyphs) {
+                int amount = first.getKerning((char) second.id);
+                if (amount != 0) {
+                    kernings.append("kerning first=").append(first.id).append(" second=").append(second.id)
+                        .append(" amount=").append(amount).append('\n');
+                    kerningCount++;
+                }
+            }
+        }
+        // Always present: the loader only reads the metrics line after it
+        out.write("kernings count=" + kerningCount + "\n");
+        out.write(kernings.toString());
+
+        // The loader would otherwise re-derive these from the glyph boxes
+        out.write("metrics ascent=" + data.ascent + " descent=" + data.descent + " down=" + data.down
+            + " capHeight=" + data.capHeight + " lineHeight=" + data.lineHeight
+            + " spaceXAdvance=" + data.spaceXadvance + " xHeight=" + data.xHeight + "\n");
+    }
+
+    // ==================== CACHE KEY ====================
+
+    private static String parameterHash(FreeTypeFontParameter p) {
+        StringBuilder key = new StringBuilder(256);
+        key.append(FORMAT_VERSION)
+            .append('|').append(p.size).append('|').append(p.mono).append('|').append(p.hinting)
+            .append('|').append(colorKey(p.color)).append('|').append(p.gamma)
+            .append('|').append(p.renderCount).append('|').append(p.borderWidth)
+            .append('|').append(colorKey(p.borderColor)).append('|').append(p.borderStraight)
+            .append('|').append(p.borderGamma).append('|').append(p.shadowOffsetX)
+            .append('|').append(p.shadowOffsetY).append('|').append(colorKey(p.shadowColor))
+            .append('|').append(p.spaceX).append('|').append(p.spaceY)
+            .append('|').append(p.padTop).append('|').append(p.padLeft)
+            .append('|').append(p.padBottom).append('|').append(p.padRight)
+            .append('|').append(p.kerning).append('|').append(p.flip)
+            .append('|').append(p.characters);
+        return crcHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String colorKey(Color color) {
+        return color == null ? "-" : color.toString();
+    }
+
+    private static String crcHex(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return String.format("%08x", crc.getValue());
+    }
+}
@@ -0,0 +1,346 @@
+package com.labubushooter.frontend.services;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Frame timing, per-section CPU timings and GL counters for the profiler
+ * overlay (see ProfilerOverlay).
+ *
+ * Frame intervals go into a rolling window from which p50/p95/p99 are read.
+ * Code inside a frame is split into named sections: {@link #beginSection}
+ * closes the running section and opens the next, so a sequence of
+ * subsystem calls needs one line per subsystem. Sections that run several
+ * times per frame (one per simulation step) are summed, then smoothed over
+ * frames for display. GL draw calls, texture binds and shader switches come
+ * from libGDX's GLProfiler, which is only installed while profiling.
+ *
+ * Sections are also recorded as spans while TraceRecorder is recording,
+ * so the same instrumentation feeds the live overlay and offline traces.
+ *
+ * While neither is on every method returns after two field checks, so the
+ * instrumentation can stay in the game loop.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only measures; ProfilerOverlay draws the numbers
+ */
+public class FrameProfiler {
+
+    // ==================== SECTIONS ====================
+
+    // GameWorld.update
+    public static final int SECTION_PLAYER = 0;
+    public static final int SECTION_BOSSES = 1;
+    public static final int SECTION_ENEMY_BULLETS = 2;
+    public static final int SECTION_SPAWNING = 3;
+    public static final int SECTION_ENEMIES = 4;
+    public static final int SECTION_COLLISIONS = 5;
+    public static final int SECTION_COINS = 6;
+    public static final int SECTION_BULLETS = 7;
+    // GamePlayScreen.render
+    public static final int SECTION_RENDER_SCENERY = 8;
+    public static final int SECTION_RENDER_QUEUE = 9;
+    public static final int SECTION_RENDER_FLUSH = 10;
+    public static final int SECTION_RENDER_UI = 11;
+    public static final int SECTION_COUNT = 12;
+
+    /** Number of leading sections that belong to GameWorld.update */
+    public static final int UPDATE_SECTION_COUNT = 8;
+
+    private static final String[] SECTION_NAMES = {
+        "player", "bosses", "enemy bullets", "spawning", "enemies", "collisions", "coins", "bullets",
+        "scenery", "queue", "flush", "ui"
+    };
+
+    private static final int NO_SECTION = -1;
+
+    // ==================== SETTINGS ====================
+
+    /** Frames in the percentile window (about four seconds at 60 fps) */
+    private static final int WINDOW_SIZE = 256;
+
+    /** Weight of the newest frame in the smoothed section times */
+    private static final float SMOOTHING = 0.05f;
+
+    /** GC and heap are sampled this often; the MXBean calls are not free */
+    private static final long MEMORY_SAMPLE_INTERVAL = 500000000L; // 0.5 seconds
+
+    private boolean enabled;
+    private final TraceRecorder trace = TraceRecorder.getInstance();
+    private boolean sectionTraced; // the running section opened a trace span
+
+    // Frame intervals in milliseconds, rolling
+    private final float[] frameTimes = new float[WINDOW_SIZE];
+    private final float[] sortedFrameTimes = new float[WINDOW_SIZE];
+    private int frameIndex;
+    private int frameSamples;
+    private boolean percentilesDirty;
+    private float p50, p95, p99;
+
+    // CPU time of the frame (beginFrame to endFrame)
+    private long frameStartNanos;
+    private float cpuFrameMs;
+
+    // Sections
+    private final long[] sectionNanos = new long[SECTION_COUNT];
+    private final float[] sectionMs = new float[SECTION_COUNT];
+    private int currentSection = NO_SECTION;
+    private long sectionStartNanos;
+
+    // GL counters of the last frame
+    private GLProfiler glProfiler;
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int glCalls;
+
+    // Memory
+    private List<GarbageCollectorMXBean> gcBeans;
+    private long nextMemorySample;
+    private long gcCount;
+    private long gcTimeMs;
+    private long heapUsed;
+    private long heapMax;
+
+    // ==================== ENABLE ====================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops profiling. Enabling installs the GLProfiler (needs a
+     * graphics backend) and clears the previous measurements.
+     */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            frameIndex = 0;
+            frameSamples = 0;
+            percentilesDirty = true;
+            Arrays.fill(sectionNanos, 0L);
+            Arrays.fill(sectionMs, 0f);
+            nextMemorySample = 0;
+            if (Gdx.graphics != null && Gdx.gl != null) {
+                if (glProfiler == null) {
+                    glProfiler = new GLProfiler(Gdx.graphics);
+                }
+                glProfiler.enable();
+            }
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    // ==================== FRAME ====================
+
+    /**
+     * Call at the start of a frame, before anything is updated or drawn.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        frameStartNanos = System.nanoTime();
+        if (glProfiler != null) {
+            glProfiler.reset();
+        }
+    }
+
+    /**
+     * Call once the frame has been drawn (before drawing the overlay, so
+     * the overlay's own GL calls are not counted).
+     *
+     * @param delta Frame interval in seconds
+     */
+    public void endFrame(float delta) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        endSection();
+        cpuFrameMs = (now - frameStartNanos) / 1000000f;
+
+        frameTimes[frameIndex] = delta * 1000f;
+        frameIndex = (frameIndex + 1) % WINDOW_SIZE;
+        if (frameSamples < WINDOW_SIZE) {
+            frameSamples++;
+        }
+        percentilesDirty = true;
+
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            float ms = sectionNanos[i] / 1000000f;
+            sectionMs[i] += (ms - sectionMs[i]) * SMOOTHING;
+            sectionNanos[i] = 0L;
+        }
+
+        if (glProfiler != null) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            shaderSwitches = glProfiler.getShaderSwitches();
+            glCalls = glProfiler.getCalls();
+        }
+
+        if (now >= nextMemorySample) {
+            sampleMemory();
+            nextMemorySample = now + MEMORY_SAMPLE_INTERVAL;
+        }
+    }
+
+    private void sampleMemory() {
+        if (gcBeans == null) {
+            gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        }
+        long count = 0;
+        long time = 0;
+        for (int i = 0; i < gcBeans.size(); i++) {
+            GarbageCollectorMXBean bean = gcBeans.get(i);
+            count += Math.max(0L, bean.getCollectionCount());
+            time += Math.max(0L, bean.getCollectionTime());
+        }
+        gcCount = count;
+        gcTimeMs = time;
+        Runtime runtime = Runtime.getRuntime();
+        heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        heapMax = runtime.maxMemory();
+    }
+
+    // ==================== SECTIONS ====================
+
+    /**
+     * Ends the running section (if any) and starts timing the given one.
+     *
+     * @param section One of the SECTION_* constants
+     */
+    public void beginSection(int section) {
+        boolean tracing = trace.isRecording();
+        if (!enabled && !tracing) {
+            return;
+        }
+        long now = System.nanoTime();
+        closeSection(now);
+        currentSection = section;
+        sectionStartNanos = now;
+        if (tracing) {
+            trace.begin(SECTION_NAMES[section], now);
+            sectionTraced = true;
+        }
+    }
+
+    /**
+     * Ends the running section without starting another.
+     */
+    public void endSection() {
+        if (currentSection == NO_SECTION) {
+            return;
+        }
+        closeSection(System.nanoTime());
+        currentSection = NO_SECTION;
+    }
+
+    private void closeSection(long now) {
+        if (currentSection == NO_SECTION) {
+            return;
+        }
+        sectionNanos[currentSection] += now - sectionStartNanos;
+        if (sectionTraced) {
+            trace.end(SECTION_NAMES[currentSection], now);
+            sectionTraced = false;
+        }
+    }
+
+    // ==================== RESULTS ====================
+
+    public static String getSectionName(int section) {
+        return SECTION_NAMES[section];
+    }
+
+    /** Smoothed CPU milliseconds per frame spent in a section */
+    public float getSectionMs(int section) {
+        return sectionMs[section];
+    }
+
+    /** Frame interval percentile in milliseconds over the rolling window */
+    public float getFrameTimeP50() {
+        updatePercentiles();
+        return p50;
+    }
+
+    public float getFrameTimeP95() {
+        updatePercentiles();
+        return p95;
+    }
+
+    public float getFrameTimeP99() {
+        updatePercentiles();
+        return p99;
+    }
+
+    private void updatePercentiles() {
+        if (!percentilesDirty) {
+            return;
+        }
+        percentilesDirty = false;
+        if (frameSamples == 0) {
+            p50 = p95 = p99 = 0f;
+            return;
+        }
+        System.arraycopy(frameTimes, 0, sortedFrameTimes, 0, frameSamples);
+        Arrays.sort(sortedFrameTimes, 0, frameSamples);
+        p50 = percentile(0.50f);
+        p95 = percentile(0.95f);
+        p99 = percentile(0.99f);
+    }
+
+    private float percentile(float fraction) {
+        int index = (int) Math.ceil(fraction * frameSamples) - 1;
+        return sortedFrameTimes[Math.max(0, Math.min(index, frameSamples - 1))];
+    }
+
+    /** CPU milliseconds of the last frame, update and render included */
+    public float getCpuFrameMs() {
+        return cpuFrameMs;
+    }
+
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    public int getShaderSwitches() {
+        return shaderSwitches;
+    }
+
+    public int getGlCalls() {
+        return glCalls;
+    }
+
+    /** Collections since JVM start, all collectors */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /** Milliseconds spent collecting since JVM start, all collectors */
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    public long getHeapMax() {
+        return heapMax;
+    }
+}
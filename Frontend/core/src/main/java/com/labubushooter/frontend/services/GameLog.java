@@ -0,0 +1,270 @@
+package com.labubushooter.frontend.services;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Levelled, structured logging for hot paths.
+ *
+ * Gdx.app.log with string concatenation formats (and allocates) on every
+ * call, even when nobody reads the output. GameLog instead records an event
+ * code ({@link LogEvent}) and up to four numbers, plus one optional object
+ * reference such as an enum constant, into a preallocated ring buffer.
+ * Recording is a handful of array stores. A background thread formats the
+ * new events every 100 ms and prints the ones the runtime log level
+ * (Gdx.app.getLogLevel) lets through; {@link #flush()} does the same
+ * synchronously, e.g. before exit.
+ *
+ * {@link #COMPILED_LEVEL} is a compile-time constant: calls above it are
+ * dead code the compiler removes, so a release build can drop debug events
+ * entirely by lowering it.
+ *
+ * The ring has a single writer, the thread that records first (the game
+ * loop). Events from other threads are formatted and printed immediately.
+ * If the formatter falls a whole ring behind, the oldest events are
+ * dropped and the count is reported.
+ */
+public final class GameLog {
+
+    /** Most verbose level compiled in (an Application.LOG_* constant) */
+    public static final int COMPILED_LEVEL = Application.LOG_DEBUG;
+
+    private static final int CAPACITY = 4096; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_ARGS = 4;
+    private static final long FORMAT_INTERVAL_MS = 100;
+
+    // ==================== RING BUFFER ====================
+
+    private static final LogEvent[] events = new LogEvent[CAPACITY];
+    private static final byte[] levels = new byte[CAPACITY];
+    private static final byte[] argCounts = new byte[CAPACITY];
+    private static final Object[] refs = new Object[CAPACITY];
+    private static final double[] args = new double[CAPACITY * MAX_ARGS];
+
+    // Events published so far; written only by the writer thread
+    private static final AtomicLong head = new AtomicLong();
+    private static long written;
+
+    // Formatter state, guarded by GameLog.class
+    private static long tail;
+    private static long dropped;
+    private static final StringBuilder line = new StringBuilder(128);
+
+    private static volatile Thread writerThread;
+    private static Thread formatter;
+
+    private GameLog() {
+        // Static facade
+    }
+
+    // ==================== RECORDING ====================
+
+    public static void debug(LogEvent event) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, null, 0, 0, 0, 0, 0);
+        }
+    }
+
+    public static void debug(LogEvent event, double a) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, null, 1, a, 0, 0, 0);
+        }
+    }
+
+    public static void debug(LogEvent event, double a, double b) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, null, 2, a, b, 0, 0);
+        }
+    }
+
+    public static void debug(LogEvent event, double a, double b, double c) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, null, 3, a, b, c, 0);
+        }
+    }
+
+    public static void debug(LogEvent event, double a, double b, double c, double d) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, null, 4, a, b, c, d);
+        }
+    }
+
+    /** Debug event whose first placeholder is an object (e.g. an enum constant) */
+    public static void debug(LogEvent event, Object ref, double a, double b) {
+        if (COMPILED_LEVEL >= Application.LOG_DEBUG) {
+            record(Application.LOG_DEBUG, event, ref, 2, a, b, 0, 0);
+        }
+    }
+
+    public static void info(LogEvent event) {
+        if (COMPILED_LEVEL >= Application.LOG_INFO) {
+            record(Application.LOG_INFO, event, null, 0, 0, 0, 0, 0);
+        }
+    }
+
+    public static void info(LogEvent event, double a) {
+        if (COMPILED_LEVEL >= Application.LOG_INFO) {
+            record(Application.LOG_INFO, event, null, 1, a, 0, 0, 0);
+        }
+    }
+
+    public static void error(LogEvent event) {
+        if (COMPILED_LEVEL >= Application.LOG_ERROR) {
+            record(Application.LOG_ERROR, event, null, 0, 0, 0, 0, 0);
+        }
+    }
+
+    private static void record(int level, LogEvent event, Object ref, int argCount,
+                               double a, double b, double c, double d) {
+        Thread current = Thread.currentThread();
+        if (current != writerThread && !claimWriter(current)) {
+            printNow(level, event, ref, argCount, a, b, c, d);
+            return;
+        }
+        long n = written;
+        int i = (int) (n & MASK);
+        events[i] = event;
+        levels[i] = (byte) level;
+        refs[i] = ref;
+        argCounts[i] = (byte) argCount;
+        int base = i * MAX_ARGS;
+        args[base] = a;
+        args[base + 1] = b;
+        args[base + 2] = c;
+        args[base + 3] = d;
+        written = n + 1;
+        head.lazySet(n + 1); // publish after the slot is complete
+    }
+
+    /** The first recording thread becomes the ring's writer and starts the formatter */
+    private static synchronized boolean claimWriter(Thread current) {
+        if (writerThread == null) {
+            writerThread = current;
+            formatter = new Thread(GameLog::formatLoop, "GameLogFormatter");
+            formatter.setDaemon(true);
+            formatter.start();
+        }
+        return writerThread == current;
+    }
+
+    // ==================== FORMATTING ====================
+
+    /**
+     * Formats and prints every event recorded so far. Safe to call from any
+     * thread; the background formatter does this periodically.
+     */
+    public static void flush() {
+        synchronized (GameLog.class) {
+            drain();
+        }
+    }
+
+    private static void formatLoop() {
+        while (true) {
+            flush();
+            try {
+                Thread.sleep(FORMAT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // Caller holds the GameLog.class lock
+    private static void drain() {
+        long available = head.get();
+        while (tail < available) {
+            if (available - tail > CAPACITY) {
+                // The writer lapped us; skip what was overwritten
+                dropped += available - tail - CAPACITY;
+                tail = available - CAPACITY;
+            }
+            int i = (int) (tail & MASK);
+            LogEvent event = events[i];
+            int level = levels[i];
+            Object ref = refs[i];
+            int argCount = argCounts[i];
+            int base = i * MAX_ARGS;
+            double a = args[base];
+            double b = args[base + 1];
+            double c = args[base + 2];
+            double d = args[base + 3];
+
+            // The slot is reused by event tail + CAPACITY; discard if that began
+            VarHandle.loadLoadFence();
+            available = head.get();
+            if (available - tail >= CAPACITY) {
+                dropped++;
+                tail++;
+                continue;
+            }
+            tail++;
+
+            if (dropped > 0) {
+                if (Gdx.app != null) {
+                    Gdx.app.log("GameLog", dropped + " events dropped");
+                }
+                dropped = 0;
+            }
+            if (Gdx.app != null && level <= Gdx.app.getLogLevel()) {
+                line.setLength(0);
+                format(line, event, ref, argCount, a, b, c, d);
+                print(level, event.tag, line.toString());
+            }
+        }
+    }
+
+    private static void printNow(int level, LogEvent event, Object ref, int argCount,
+                                 double a, double b, double c, double d) {
+        if (Gdx.app == null || level > Gdx.app.getLogLevel()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(64);
+        format(text, event, ref, argCount, a, b, c, d);
+        print(level, event.tag, text.toString());
+    }
+
+    private static void print(int level, String tag, String message) {
+        if (level == Application.LOG_ERROR) {
+            Gdx.app.error(tag, message);
+        } else if (level == Application.LOG_DEBUG) {
+            Gdx.app.debug(tag, message);
+        } else {
+            Gdx.app.log(tag, message);
+        }
+    }
+
+    /** Fills the template's "{}" placeholders: the object first, then the numbers */
+    static void format(StringBuilder out, LogEvent event, Object ref, int argCount,
+                       double a, double b, double c, double d) {
+        String template = event.template;
+        int next = ref != null ? -1 : 0;
+        int start = 0;
+        int at;
+        while ((at = template.indexOf("{}", start)) >= 0) {
+            out.append(template, start, at);
+            if (next == -1) {
+                out.append(ref);
+            } else if (next < argCount) {
+                appendNumber(out, next == 0 ? a : next == 1 ? b : next == 2 ? c : d);
+            } else {
+                out.append("{}");
+            }
+            next++;
+            start = at + 2;
+        }
+        out.append(template, start, template.length());
+    }
+
+    private static void appendNumber(StringBuilder out, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append((float) value);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.labubushooter.frontend.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Draws many sprites of one texture as instances of a single unit quad
+ * (GL30 instanced rendering).
+ *
+ * Each sprite is one row of 14 floats (position, origin, size, scale,
+ * rotation, UVs, packed tint) in a primitive array. On flush the rows are
+ * uploaded in one buffer update and drawn with one instanced draw call;
+ * the vertex shader does the scale/rotate/translate that SpriteBatch does
+ * on the CPU for every vertex. Per-sprite CPU cost is writing 14 floats,
+ * so projectile counts in the tens of thousands stay cheap.
+ *
+ * Only available when the backend exposes GL30 ({@link #isSupported()});
+ * RenderQueue keeps drawing through SpriteBatch otherwise. Output matches
+ * SpriteBatch.draw(region, x, y, originX, originY, width, height, scaleX,
+ * scaleY, rotation), including mirroring with negative sizes, and flash
+ * sprites are decoded the same way as by TintFlashShader.
+ *
+ * Usage:
+ * <pre>
+ * renderer.begin(projection);
+ * renderer.draw(texture, u, v, u2, v2, x, y, ...);   // flushes on texture change
+ * renderer.end();
+ * </pre>
+ */
+public class InstancedSpriteRenderer implements Disposable {
+
+    /** Floats per instance row */
+    public static final int INSTANCE_FLOATS = 14;
+
+    private static final int DEFAULT_MAX_INSTANCES = 16384;
+
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec2 a_corner;\n"
+        + "attribute vec4 i_position; // x, y, originX, originY\n"
+        + "attribute vec4 i_size;     // width, height, scaleX, scaleY\n"
+        + "attribute float i_rotation; // degrees\n"
+        + "attribute vec4 i_uv;       // u, v, u2, v2\n"
+        + "attribute vec4 i_color;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "varying float v_flash;\n"
+        + "\n"
+        + "void main()\n"
+        + "{\n"
+        + "   vec2 local = (a_corner * i_size.xy - i_position.zw) * i_size.zw;\n"
+        + "   float angle = radians(i_rotation);\n"
+        + "   float c = cos(angle);\n"
+        + "   float s = sin(angle);\n"
+        + "   vec2 world = i_position.xy + i_position.zw\n"
+        + "              + vec2(local.x * c - local.y * s, local.x * s + local.y * c);\n"
+        + "   vec2 texCoord = vec2(mix(i_uv.x, i_uv.z, a_corner.x), mix(i_uv.w, i_uv.y, a_corner.y));\n"
+        + TintFlashShader.DECODE_FLASH
+        + "   v_color = i_color;\n"
+        + "   v_color.a = v_color.a * (255.0/254.0);\n"
+        + "   gl_Position = u_projTrans * vec4(world, 0.0, 1.0);\n"
+        + "}\n";
+
+    private final Mesh mesh;
+    private final ShaderProgram shader;
+    private final float[] instances;
+    private final int maxInstances;
+
+    private final Matrix4 projection = new Matrix4();
+    private Texture texture;
+    private int count;
+    private boolean drawing;
+
+    // Counters since the last resetCounters()
+    private int instancesDrawn;
+    private int drawCalls;
+
+    /**
+     * @return Whether the current backend can run this renderer
+     */
+    public static boolean isSupported() {
+        return Gdx.gl30 != null;
+    }
+
+    public InstancedSpriteRenderer() {
+        this(DEFAULT_MAX_INSTANCES);
+    }
+
+    /**
+     * @param maxInstances Instances per draw call (more are split into several calls)
+     * @throws GdxRuntimeException if GL30 is unavailable or the shader does not compile
+     */
+    public InstancedSpriteRenderer(int maxInstances) {
+        if (!isSupported()) {
+            throw new GdxRuntimeException("Instanced rendering needs GL30");
+        }
+        this.maxInstances = maxInstances;
+        this.instances = new float[maxInstances * INSTANCE_FLOATS];
+
+        shader = new ShaderProgram(VERTEX_SHADER, TintFlashShader.FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            String log = shader.getLog();
+            shader.dispose();
+            throw new GdxRuntimeException("Error compiling instanced sprite shader: " + log);
+        }
+
+        // Unit quad; every instance scales and places it
+        mesh = new Mesh(true, 4, 6, new VertexAttribute(Usage.Generic, 2, "a_corner"));
+        mesh.setVertices(new float[] { 0f, 0f, 1f, 0f, 1f, 1f, 0f, 1f });
+        mesh.setIndices(new short[] { 0, 1, 2, 2, 3, 0 });
+        mesh.enableInstancedRendering(false, maxInstances,
+            new VertexAttribute(Usage.Generic, 4, "i_position"),
+            new VertexAttribute(Usage.Generic, 4, "i_size"),
+            new VertexAttribute(Usage.Generic, 1, "i_rotation"),
+            new VertexAttribute(Usage.Generic, 4, "i_uv"),
+            new VertexAttribute(Usage.ColorPacked, 4, GL20.GL_UNSIGNED_BYTE, true, "i_color"));
+    }
+
+    // ==================== DRAWING ====================
+
+    /**
+     * @param projection Projection-view matrix to draw with (copied)
+     */
+    public void begin(Matrix4 projection) {
+        if (drawing) {
+            throw new IllegalStateException("InstancedSpriteRenderer.end must be called before begin.");
+        }
+        this.projection.set(projection);
+        count = 0;
+        texture = null;
+        drawing = true;
+    }
+
+    /**
+     * Adds one sprite. Arguments match SpriteBatch.draw with a region given
+     * as texture plus UVs, and a packed colour.
+     */
+    public void draw(Texture texture, float u, float v, float u2, float v2,
+                     float x, float y, float originX, float originY,
+                     float width, float height, float scaleX, float scaleY,
+                     float rotation, float packedColor) {
+        if (!drawing) {
+            throw new IllegalStateException("InstancedSpriteRenderer.begin must be called before draw.");
+        }
+        if (texture != this.texture) {
+            flush();
+            this.texture = texture;
+        } else if (count == maxInstances) {
+            flush();
+        }
+
+        float[] rows = instances;
+        int i = count * INSTANCE_FLOATS;
+        rows[i] = x;
+        rows[i + 1] = y;
+        rows[i + 2] = originX;
+        rows[i + 3] = originY;
+        rows[i + 4] = width;
+        rows[i + 5] = height;
+        rows[i + 6] = scaleX;
+        rows[i + 7] = scaleY;
+        rows[i + 8] = rotation;
+        rows[i + 9] = u;
+        rows[i + 10] = v;
+        rows[i + 11] = u2;
+        rows[i + 12] = v2;
+        rows[i + 13] = packedColor;
+        count++;
+    }
+
+    /**
+     * Uploads the pending instances and draws them in one call.
+     */
+    public void flush() {
+        if (count == 0) {
+            return;
+        }
+        mesh.setInstanceData(instances, 0, count * INSTANCE_FLOATS);
+
+        Gdx.gl.glDepthMask(false);
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        texture.bind(0);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", projection);
+        shader.setUniformi("u_texture", 0);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+
+        instancesDrawn += count;
+        drawCalls++;
+        count = 0;
+    }
+
+    public void end() {
+        if (!drawing) {
+            throw new IllegalStateException("InstancedSpriteRenderer.begin must be called before end.");
+        }
+        flush();
+        Gdx.gl.glDepthMask(true);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        texture = null;
+        drawing = false;
+    }
+
+    // ==================== COUNTERS ====================
+
+    /** Instances drawn since the last resetCounters() */
+    public int getInstancesDrawn() {
+        return instancesDrawn;
+    }
+
+    /** Instanced draw calls since the last resetCounters() */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    public void resetCounters() {
+        instancesDrawn = 0;
+        drawCalls = 0;
+    }
+
+    @Override
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
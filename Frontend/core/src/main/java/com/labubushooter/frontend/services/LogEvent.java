@@ -0,0 +1,78 @@
+package com.labubushooter.frontend.services;
+
+/**
+ * Structured log events recorded by GameLog.
+ *
+ * Each event has a tag and a message template; "{}" placeholders are
+ * filled, in order, with the optional object argument and then the
+ * numeric arguments passed to GameLog. Call sites pass primitives only,
+ * so recording an event never builds a string.
+ */
+public enum LogEvent {
+
+    // Combat (CollisionSystem)
+    ENEMY_HIT("Combat", "Enemy hit! Health: {}"),
+    MINI_BOSS_HIT("Combat", "Mini Boss hit! Health: {}"),
+    BOSS_HIT("Combat", "Boss hit! Health: {}"),
+    PLAYER_HIT_BY_BULLET("Combat", "Player hit by enemy bullet!"),
+
+    // Coins and pickups
+    COIN_COLLECTED("Coin", "Collected!"),
+    COIN_TOTAL("Coin", "Total: {}"),
+    PICKUP_9MM("Pickup", "Collected 9mm Ammo (+3)"),
+    PICKUP_45CAL("Pickup", "Collected .45 Cal Ammo (+5)"),
+    PICKUP_HEALTH("Pickup", "Collected Health Potion (+5 HP)"),
+    PICKUP_SPAWNED("Pickup", "Spawned {} at {}, {}"),
+
+    // Player
+    PLAYER_HEALTH("Player", "Health: {}"),
+    PLAYER_HEALTH_ADDED("Player", "Health added: {}. Current: {}"),
+    PLAYER_REGEN("Player", "Health regenerated: {}"),
+    WEAPON_PISTOL("WeaponSystem", "Pistol Equipped"),
+    WEAPON_MAC10("WeaponSystem", "Mac-10 Equipped"),
+    WEAPON_MAC10_LOCKED("WeaponSystem", "Mac-10 Locked (Level 4+)"),
+    WEAPON_UNARMED("WeaponSystem", "Unarmed"),
+    PISTOL_RELOADING("Pistol", "Reloading..."),
+    PISTOL_AMMO_ADDED("Pistol", "Added {} ammo. Total: {}"),
+    PISTOL_RELOADED("Pistol", "Reload complete. Mag: {}, Total: {}"),
+    MAC10_RELOADING("Mac10", "Reloading..."),
+    MAC10_AMMO_ADDED("Mac10", "Added {} ammo. Total: {}"),
+    MAC10_RELOADED("Mac10", "Reload complete. Mag: {}, Total: {}"),
+
+    // Common enemies
+    ENEMY_SPAWNED("Enemy", "Spawned at level {} - HP: {}, Damage: {}, Speed: {}"),
+    ENEMY_KILLED("Enemy", "Enemy killed!"),
+    SPAWNER_INITIAL_SPAWN("EnemySpawner", "Initial spawn at X: {}"),
+    SPAWNER_SPAWN("EnemySpawner", "Spawned at X: {} | Active: {}/{}"),
+
+    // Bosses
+    MINI_BOSS_DEFEATED("GameWorld", "Mini Boss defeated! Message timer started."),
+    MINI_BOSS_DASH_WARNING("MiniBoss", "Warning! Preparing dash..."),
+    MINI_BOSS_DASH("MiniBoss", "DASH!"),
+    MINI_BOSS_STUNNED("MiniBoss", "Stunned after dash"),
+    MINI_BOSS_SUPERJUMP_COUNTDOWN("MiniBoss", "Player above! Superjump countdown: {}s"),
+    MINI_BOSS_SUPERJUMP_WARNING("MiniBoss", "Superjump Warning! Charging up..."),
+    MINI_BOSS_SUPERJUMP_CANCELLED("MiniBoss", "Player moved away, superjump cancelled"),
+    MINI_BOSS_SUPERJUMP("MiniBoss", "SUPER JUMP EXECUTED!"),
+    MINI_BOSS_HIT_PLAYER("MiniBoss", "Hit player for {} damage"),
+    BOSS_PHASE_2("Boss", "PHASE 2 - Spread Attack!"),
+    BOSS_PHASE_3("Boss", "PHASE 3 - Fan Barrage!"),
+    BOSS_SINGLE_SHOT("Boss", "Single shot!"),
+    BOSS_SPREAD_ATTACK("Boss", "Spread attack!"),
+    BOSS_FAN_BARRAGE("Boss", "Fan barrage!"),
+    BOSS_UPWARD_COUNTDOWN("Boss", "Player above! Upward shot countdown: {}s"),
+    BOSS_UPWARD_WARNING("Boss", "Upward Shot Warning! Charging..."),
+    BOSS_UPWARD_CANCELLED("Boss", "Player moved away, upward shot cancelled"),
+    BOSS_UPWARD_SHOT("Boss", "BIG UPWARD SHOT EXECUTED!"),
+    BOSS_UPWARD_RECOVERED("Boss", "Recovered from upward shot exhaustion"),
+    BOSS_BIG_BULLET("Boss", "Fired BIG bullet upward with {} damage!"),
+    BOSS_HIT_PLAYER("Boss", "Hit player for {} damage");
+
+    public final String tag;
+    public final String template;
+
+    LogEvent(String tag, String template) {
+        this.tag = tag;
+        this.template = template;
+    }
+}
@@ -115,13 +115,14 @@ public class PlayerApiService {
         Gdx.app.log("PlayerAPI", "URL: " + BASE_URL + "/login");
         Gdx.app.log("PlayerAPI", "Body: " + jsonBody);
 
+        final long sentAt = System.nanoTime();
         Gdx.net.sendHttpRequest(request, new Net.HttpResponseListener() {
             @Override
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
                 final int statusCode = httpResponse.getStatus().getStatusCode();
                 final String responseStr = httpResponse.getResultAsString();
 
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.login", sentAt, () -> {
                     Gdx.app.log("PlayerAPI", "Response status: " + statusCode);
                     Gdx.app.log("PlayerAPI", "Response body: " + responseStr);
 
@@ -180,21 +181,21 @@ public class PlayerApiService {
                         Gdx.app.error("PlayerAPI", "Raw response: " + responseStr);
                         callback.onFailure("Failed to parse server response: " + e.getMessage());
                     }
-                });
+                }));
             }
 
             @Override
             public void failed(Throwable t) {
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.login", sentAt, () -> {
                     Gdx.app.error("PlayerAPI", "Login failed: " + t.getMessage());
                     Gdx.app.error("PlayerAPI", "Make sure backend is running on " + BASE_URL);
                     callback.onFailure("Gagal koneksi ke server. Pastikan backend running!");
-                });
+                }));
             }
 
             @Override
             public void cancelled() {
-                Gdx.app.postRunnable(() -> callback.onFailure("Request cancelled"));
+                Gdx.app.postRunnable(traced("PlayerApiService.login", sentAt, () -> callback.onFailure("Request cancelled")));
             }
         });
     }
@@ -216,11 +217,12 @@ public class PlayerApiService {
         Gdx.app.log("PlayerAPI", "Saving progress - Stage: " + lastStage + ", Coins: " + coinsCollected);
         Gdx.app.log("PlayerAPI", "Body: " + jsonBody);
 
+        final long sentAt = System.nanoTime();
         Gdx.net.sendHttpRequest(request, new Net.HttpResponseListener() {
             @Override
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
                 final int statusCode = httpResponse.getStatus().getStatusCode();
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.saveProgress", sentAt, () -> {
                     if (statusCode >= 200 && statusCode < 300) {
                         Gdx.app.log("PlayerAPI", "Progress saved successfully");
                         callback.onSuccess();
@@ -228,20 +230,20 @@ public class PlayerApiService {
                         Gdx.app.error("PlayerAPI", "Save failed with status: " + statusCode);
                         callback.onFailure("Save failed: HTTP " + statusCode);
                     }
-                });
+                }));
             }
 
             @Override
             public void failed(Throwable t) {
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.saveProgress", sentAt, () -> {
                     Gdx.app.error("PlayerAPI", "Save failed: " + t.getMessage());
                     callback.onFailure("Failed to save: " + t.getMessage());
-                });
+                }));
             }
 
             @Override
             public void cancelled() {
-                Gdx.app.postRunnable(() -> callback.onFailure("Request cancelled"));
+                Gdx.app.postRunnable(traced("PlayerApiService.saveProgress", sentAt, () -> callback.onFailure("Request cancelled")));
             }
         });
     }
@@ -259,11 +261,12 @@ public class PlayerApiService {
 
         Gdx.app.log("PlayerAPI", "Resetting progress for player: " + playerId);
 
+        final long sentAt = System.nanoTime();
         Gdx.net.sendHttpRequest(request, new Net.HttpResponseListener() {
             @Override
             public void handleHttpResponse(Net.HttpResponse httpResponse) {
                 final int statusCode = httpResponse.getStatus().getStatusCode();
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.resetProgress", sentAt, () -> {
                     if (statusCode >= 200 && statusCode < 300) {
                         Gdx.app.log("PlayerAPI", "Progress reset successfully");
                         callback.onSuccess();
@@ -271,24 +274,41 @@ public class PlayerApiService {
                         Gdx.app.error("PlayerAPI", "Reset failed with status: " + statusCode);
                         callback.onFailure("Reset failed: HTTP " + statusCode);
                     }
-                });
+                }));
             }
 
             @Override
             public void failed(Throwable t) {
-                Gdx.app.postRunnable(() -> {
+                Gdx.app.postRunnable(traced("PlayerApiService.resetProgress", sentAt, () -> {
                     Gdx.app.error("PlayerAPI", "Reset failed: " + t.getMessage());
                     callback.onFailure("Failed to reset: " + t.getMessage());
-                });
+                }));
             }
 
             @Override
             public void cancelled() {
-                Gdx.app.postRunnable(() -> callback.onFailure("Request cancelled"));
+                Gdx.app.postRunnable(traced("PlayerApiService.resetProgress", sentAt, () -> callback.onFailure("Request cancelled")));
             }
         });
     }
 
+    /**
+     * Wraps a response callback so the trace shows the request's round trip
+     * and the time the callback takes on the render thread.
+     */
+    private static Runnable traced(String span, long sentAt, Runnable callback) {
+        return () -> {
+            TraceRecorder trace = TraceRecorder.getInstance();
+            trace.complete(span, sentAt);
+            trace.begin(span);
+            try {
+                callback.run();
+            } finally {
+                trace.end(span);
+            }
+        };
+    }
+
     public static class PlayerData {
         public String playerId;
         public String username;
@@ -0,0 +1,153 @@
+package com.labubushooter.frontend.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.labubushooter.frontend.core.GameContext;
+
+/**
+ * Draws the FrameProfiler's numbers in the top-right corner of the window:
+ * frame time percentiles, CPU time per GameWorld and render section, GL
+ * counters, render queue counters, entity and pool counts, GC and heap.
+ *
+ * Drawn in window pixels on top of whatever screen is active. The text is
+ * rebuilt in place every frame, so showing the overlay does not allocate.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only presents profiler data
+ * - Dependency Inversion: Reads everything from GameContext
+ */
+public class ProfilerOverlay {
+
+    private static final float MARGIN = 10f;
+    private static final float PANEL_WIDTH = 300f;
+
+    private final Matrix4 screenProjection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(1024);
+
+    /**
+     * Draws the overlay. Call after the frame has been drawn, outside
+     * SpriteBatch begin/end.
+     */
+    public void draw(GameContext context) {
+        FrameProfiler profiler = context.profiler;
+        BitmapFont font = context.smallFont;
+        SpriteBatch batch = context.batch;
+        if (!profiler.isEnabled() || font == null || batch == null) {
+            return;
+        }
+
+        buildText(context, profiler);
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        screenProjection.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+
+        // Dim panel behind the text
+        int lines = countLines();
+        float panelHeight = lines * font.getLineHeight() + MARGIN * 2;
+        float panelX = width - PANEL_WIDTH - MARGIN;
+        float panelY = height - panelHeight - MARGIN;
+        TextureRegion panel = context.buttonTex;
+        if (panel != null) {
+            batch.setColor(0f, 0f, 0f, 0.6f);
+            batch.draw(panel, panelX, panelY, PANEL_WIDTH, panelHeight);
+            batch.setColor(Color.WHITE);
+        }
+
+        font.draw(batch, text, panelX + MARGIN, height - MARGIN * 2);
+        batch.end();
+    }
+
+    private void buildText(GameContext context, FrameProfiler profiler) {
+        StringBuilder t = text;
+        t.setLength(0);
+
+        t.append("frame p50 ");
+        appendMs(profiler.getFrameTimeP50());
+        t.append("  p95 ");
+        appendMs(profiler.getFrameTimeP95());
+        t.append("  p99 ");
+        appendMs(profiler.getFrameTimeP99());
+        t.append("\ncpu ");
+        appendMs(profiler.getCpuFrameMs());
+        t.append('\n');
+
+        t.append("update:\n");
+        for (int i = 0; i < FrameProfiler.UPDATE_SECTION_COUNT; i++) {
+            appendSection(profiler, i);
+        }
+        t.append("render:\n");
+        for (int i = FrameProfiler.UPDATE_SECTION_COUNT; i < FrameProfiler.SECTION_COUNT; i++) {
+            appendSection(profiler, i);
+        }
+
+        t.append("gl draws ").append(profiler.getDrawCalls())
+         .append("  binds ").append(profiler.getTextureBindings())
+         .append("  shaders ").append(profiler.getShaderSwitches())
+         .append("\ngl calls ").append(profiler.getGlCalls()).append('\n');
+
+        RenderQueue queue = context.renderQueue;
+        t.append("queue ").append(queue.getSubmittedCount())
+         .append("  culled ").append(queue.getCulledCount())
+         .append("  tex ").append(queue.getTextureSwitchCount())
+         .append("  inst ").append(queue.getInstancedCount()).append('\n');
+
+        t.append("enemies ");
+        appendPooled(context.activeEnemies == null ? 0 : context.activeEnemies.size, context.enemyPool);
+        t.append("\ncoins ");
+        appendPooled(context.activeCoins == null ? 0 : context.activeCoins.size, context.coinPool);
+        t.append("  pickups ");
+        appendPooled(context.activePickups == null ? 0 : context.activePickups.size, context.pickupPool);
+        t.append("\nbullets ").append(context.playerProjectiles == null ? 0 : context.playerProjectiles.size())
+         .append("  enemy bullets ").append(context.enemyProjectiles == null ? 0 : context.enemyProjectiles.size())
+         .append('\n');
+
+        t.append("gc ").append(profiler.getGcCount())
+         .append(" (").append(profiler.getGcTimeMs()).append(" ms)")
+         .append("  heap ").append(profiler.getHeapUsed() >> 20)
+         .append('/').append(profiler.getHeapMax() >> 20).append(" MB");
+    }
+
+    private void appendSection(FrameProfiler profiler, int section) {
+        text.append("  ").append(FrameProfiler.getSectionName(section)).append(' ');
+        appendMs(profiler.getSectionMs(section));
+        text.append('\n');
+    }
+
+    /** Active count and free objects left in the pool */
+    private void appendPooled(int active, Pool<?> pool) {
+        text.append(active);
+        if (pool != null) {
+            text.append(" (free ").append(pool.getFree()).append(')');
+        }
+    }
+
+    /** Appends milliseconds with two decimals without String.format */
+    private void appendMs(float ms) {
+        int hundredths = Math.round(ms * 100f);
+        text.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction).append(" ms");
+    }
+
+    private int countLines() {
+        int lines = 1;
+        for (int i = 0; i < text.length; i++) {
+            if (text.chars[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,476 @@
+package com.labubushooter.frontend.services;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Collects the world's sprite draws for one frame, culls them against the
+ * camera and replays them into a SpriteBatch sorted by layer and texture.
+ *
+ * Drawables call the SpriteBatch-like draw methods instead of drawing
+ * directly. A draw whose bounds miss the camera rectangle is dropped on
+ * submission, so the cost of a frame depends on what is on screen rather
+ * than on how wide the level is. Everything else is recorded as a command
+ * (layer, texture, UVs, transform, colour) and drawn by {@link #flush}.
+ *
+ * Layers keep the game's painter's order (terrain under enemies under the
+ * player...). Inside a layer commands are grouped by texture so the batch
+ * only switches textures once per texture instead of once per interleaved
+ * draw; commands with the same layer and texture keep submission order.
+ *
+ * Usage per frame:
+ * <pre>
+ * queue.begin(camera);
+ * queue.setLayer(RenderQueue.LAYER_TERRAIN);
+ * ground.draw(queue);
+ * ...
+ * queue.flush(batch);   // batch must be between begin() and end()
+ * </pre>
+ *
+ * Columns grow by doubling and are reused between frames, so a warmed-up
+ * queue does not allocate.
+ *
+ * Design Pattern: Command Pattern (recorded draw calls replayed in sorted order)
+ */
+public class RenderQueue {
+
+    // ==================== LAYERS ====================
+
+    /** Grounds and platforms */
+    public static final int LAYER_TERRAIN = 0;
+    /** Level props such as the exit door */
+    public static final int LAYER_PROPS = 1;
+    public static final int LAYER_ENEMIES = 2;
+    public static final int LAYER_PLAYER_BULLETS = 3;
+    public static final int LAYER_PICKUPS = 4;
+    public static final int LAYER_PLAYER = 5;
+    /** Held weapon, kept above the player body whatever its texture */
+    public static final int LAYER_WEAPON = 6;
+    /** Bosses and their health bars */
+    public static final int LAYER_BOSSES = 7;
+    public static final int LAYER_ENEMY_BULLETS = 8;
+    /** Coins, drawn over everything else in the world */
+    public static final int LAYER_COINS = 9;
+    public static final int LAYER_COUNT = 10;
+
+    // Texture slots per layer in the sort key; textures beyond this in one frame share slots
+    private static final int TEXTURE_SLOTS = 64;
+    private static final int DEFAULT_CAPACITY = 512;
+
+    // ==================== COMMAND COLUMNS ====================
+
+    private int[] key;
+    private Texture[] texture;
+    private float[] u;
+    private float[] v;
+    private float[] u2;
+    private float[] v2;
+    private float[] x;
+    private float[] y;
+    private float[] originX;
+    private float[] originY;
+    private float[] width;
+    private float[] height;
+    private float[] scaleX;
+    private float[] scaleY;
+    private float[] rotation;
+    private float[] color;
+    private int size;
+
+    // Sorting scratch
+    private int[] order;
+    private final int[] bucketStart = new int[LAYER_COUNT * TEXTURE_SLOTS + 1];
+
+    // Texture -> slot assignment for the current frame (first seen, first slot)
+    private final ObjectIntMap<Texture> textureSlots = new ObjectIntMap<>();
+
+    // Reused region for replaying commands
+    private final TextureRegion drawRegion = new TextureRegion();
+
+    // Optional GL30 path for homogeneous sprite layers (null = SpriteBatch only)
+    private InstancedSpriteRenderer instancedRenderer;
+    private final boolean[] instancedLayers = new boolean[LAYER_COUNT];
+
+    // Whether the batch draws with TintFlashShader (flashes fall back to tints otherwise)
+    private boolean flashShaderEnabled;
+
+    // ==================== FRAME STATE ====================
+
+    private int layer = LAYER_TERRAIN;
+    private float packedColor = Color.WHITE_FLOAT_BITS;
+    // TintFlashShader.FLASH_U_OFFSET while a flash is set, else 0
+    private float uOffset;
+
+    private float viewLeft;
+    private float viewBottom;
+    private float viewRight;
+    private float viewTop;
+
+    // Counters for the last (or current) frame
+    private int submittedCount;
+    private int culledCount;
+    private int textureSwitchCount;
+    private int instancedCount;
+
+    public RenderQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity Commands allocated up front
+     */
+    public RenderQueue(int initialCapacity) {
+        allocate(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * Routes the given layers through an instanced renderer instead of the
+     * SpriteBatch. Pass null to draw everything with the batch again.
+     *
+     * @param renderer Instanced renderer (owned by the caller), or null
+     * @param layers LAYER_* constants to instance
+     */
+    public void setInstancedRenderer(InstancedSpriteRenderer renderer, int... layers) {
+        instancedRenderer = renderer;
+        Arrays.fill(instancedLayers, false);
+        if (renderer != null) {
+            for (int layer : layers) {
+                instancedLayers[layer] = true;
+            }
+        }
+    }
+
+    /**
+     * Tells the queue the batch it flushes into uses TintFlashShader. Without
+     * it, setFlash approximates flashes with a plain tint.
+     */
+    public void setFlashShaderEnabled(boolean enabled) {
+        flashShaderEnabled = enabled;
+    }
+
+    // ==================== FRAME ====================
+
+    /**
+     * Starts a frame: clears the queue and culls against the camera's
+     * current view rectangle.
+     *
+     * @param camera Camera the frame will be drawn with (already updated)
+     */
+    public void begin(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        begin(camera.position.x - halfWidth, camera.position.y - halfHeight,
+              halfWidth * 2f, halfHeight * 2f);
+    }
+
+    /**
+     * Starts a frame culling against an explicit world rectangle.
+     */
+    public void begin(float viewX, float viewY, float viewWidth, float viewHeight) {
+        clear();
+        submittedCount = 0;
+        culledCount = 0;
+        layer = LAYER_TERRAIN;
+        packedColor = Color.WHITE_FLOAT_BITS;
+        uOffset = 0f;
+        viewLeft = viewX;
+        viewBottom = viewY;
+        viewRight = viewX + viewWidth;
+        viewTop = viewY + viewHeight;
+    }
+
+    /**
+     * Sets the layer of subsequent draws.
+     *
+     * @param layer One of the LAYER_* constants
+     */
+    public void setLayer(int layer) {
+        if (layer < 0 || layer >= LAYER_COUNT) {
+            throw new IllegalArgumentException("Invalid render layer: " + layer);
+        }
+        this.layer = layer;
+    }
+
+    public int getLayer() {
+        return layer;
+    }
+
+    /**
+     * Sets the tint of subsequent draws (like SpriteBatch.setColor).
+     */
+    public void setColor(float r, float g, float b, float a) {
+        packedColor = Color.toFloatBits(r, g, b, a);
+        uOffset = 0f;
+    }
+
+    /**
+     * Flashes subsequent draws towards a solid colour (see TintFlashShader).
+     * The flash replaces the tint until the next setColor call.
+     *
+     * @param amount 0 = unchanged sprite, 1 = solid colour silhouette
+     */
+    public void setFlash(float r, float g, float b, float amount) {
+        if (amount <= 0f) {
+            setColor(1f, 1f, 1f, 1f);
+            return;
+        }
+        amount = Math.min(amount, 1f);
+        if (!flashShaderEnabled) {
+            // Default shader can only multiply: tint towards the colour instead
+            setColor(1f + (r - 1f) * amount, 1f + (g - 1f) * amount, 1f + (b - 1f) * amount, 1f);
+            return;
+        }
+        packedColor = Color.toFloatBits(r, g, b, amount);
+        uOffset = TintFlashShader.FLASH_U_OFFSET;
+    }
+
+    // ==================== SUBMISSION ====================
+
+    /**
+     * Queues a region stretched over (x, y, width, height). A negative width
+     * or height mirrors the region, as with SpriteBatch.
+     */
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        float left = width < 0 ? x + width : x;
+        float bottom = height < 0 ? y + height : y;
+        if (!visible(left, bottom, left + Math.abs(width), bottom + Math.abs(height))) {
+            culledCount++;
+            return;
+        }
+        add(region, x, y, 0f, 0f, width, height, 1f, 1f, 0f);
+    }
+
+    /**
+     * Queues a scaled and rotated region (same arguments as the matching
+     * SpriteBatch.draw). Culling uses the circle the quad can sweep around
+     * its origin, so rotated draws are never culled while partly visible.
+     */
+    public void draw(TextureRegion region, float x, float y, float originX, float originY,
+                     float width, float height, float scaleX, float scaleY, float rotation) {
+        float centerX = x + originX;
+        float centerY = y + originY;
+        float reachX = Math.max(Math.abs(originX), Math.abs(width - originX)) * Math.abs(scaleX);
+        float reachY = Math.max(Math.abs(originY), Math.abs(height - originY)) * Math.abs(scaleY);
+        float radius = (float) Math.sqrt(reachX * reachX + reachY * reachY);
+        if (!visible(centerX - radius, centerY - radius, centerX + radius, centerY + radius)) {
+            culledCount++;
+            return;
+        }
+        add(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+    }
+
+    private boolean visible(float left, float bottom, float right, float top) {
+        return left < viewRight && right > viewLeft && bottom < viewTop && top > viewBottom;
+    }
+
+    private void add(TextureRegion region, float drawX, float drawY, float drawOriginX, float drawOriginY,
+                     float drawWidth, float drawHeight, float drawScaleX, float drawScaleY, float drawRotation) {
+        if (size == key.length) {
+            allocate(size * 2);
+        }
+        int i = size++;
+        Texture tex = region.getTexture();
+        key[i] = layer * TEXTURE_SLOTS + textureSlot(tex);
+        texture[i] = tex;
+        u[i] = region.getU() + uOffset;
+        v[i] = region.getV();
+        u2[i] = region.getU2() + uOffset;
+        v2[i] = region.getV2();
+        x[i] = drawX;
+        y[i] = drawY;
+        originX[i] = drawOriginX;
+        originY[i] = drawOriginY;
+        width[i] = drawWidth;
+        height[i] = drawHeight;
+        scaleX[i] = drawScaleX;
+        scaleY[i] = drawScaleY;
+        rotation[i] = drawRotation;
+        color[i] = packedColor;
+        submittedCount++;
+    }
+
+    private int textureSlot(Texture tex) {
+        int slot = textureSlots.get(tex, -1);
+        if (slot < 0) {
+            slot = textureSlots.size % TEXTURE_SLOTS;
+            textureSlots.put(tex, slot);
+        }
+        return slot;
+    }
+
+    // ==================== FLUSH ====================
+
+    /**
+     * Draws every queued command sorted by (layer, texture) and empties the
+     * queue. Restores the batch colour afterwards.
+     *
+     * With an instanced renderer set, runs of commands on instanced layers
+     * are drawn by it instead; the batch is ended around each such run so
+     * painter's order is preserved.
+     *
+     * @param batch SpriteBatch (must be between begin() and end())
+     */
+    public void flush(SpriteBatch batch) {
+        sort();
+
+        float batchColor = batch.getPackedColor();
+        float currentColor = batchColor;
+        Texture currentTexture = null;
+        boolean instancing = false;
+        textureSwitchCount = 0;
+        instancedCount = 0;
+
+        for (int n = 0; n < size; n++) {
+            int i = order[n];
+            if (texture[i] != currentTexture) {
+                currentTexture = texture[i];
+                textureSwitchCount++;
+            }
+
+            boolean instanced = instancedRenderer != null && instancedLayers[key[i] / TEXTURE_SLOTS];
+            if (instanced != instancing) {
+                if (instanced) {
+                    batch.end();
+                    instancedRenderer.begin(batch.getProjectionMatrix());
+                } else {
+                    instancedRenderer.end();
+                    batch.begin();
+                }
+                instancing = instanced;
+            }
+            if (instanced) {
+                instancedRenderer.draw(currentTexture, u[i], v[i], u2[i], v2[i], x[i], y[i],
+                    originX[i], originY[i], width[i], height[i], scaleX[i], scaleY[i],
+                    rotation[i], color[i]);
+                instancedCount++;
+                continue;
+            }
+
+            if (color[i] != currentColor) {
+                currentColor = color[i];
+                batch.setPackedColor(currentColor);
+            }
+            drawRegion.setTexture(currentTexture);
+            drawRegion.setRegion(u[i], v[i], u2[i], v2[i]);
+            batch.draw(drawRegion, x[i], y[i], originX[i], originY[i],
+                       width[i], height[i], scaleX[i], scaleY[i], rotation[i]);
+        }
+
+        if (instancing) {
+            instancedRenderer.end();
+            batch.begin();
+        }
+        if (currentColor != batchColor) {
+            batch.setPackedColor(batchColor);
+        }
+        clear();
+    }
+
+    /**
+     * Stable counting sort of the commands by key into {@link #order}.
+     * Keys are small (layer x texture slot), so this is linear and allocation-free.
+     */
+    private void sort() {
+        int[] start = bucketStart;
+        Arrays.fill(start, 0);
+        for (int i = 0; i < size; i++) {
+            start[key[i] + 1]++;
+        }
+        for (int b = 1; b < start.length; b++) {
+            start[b] += start[b - 1];
+        }
+        for (int i = 0; i < size; i++) {
+            order[start[key[i]]++] = i;
+        }
+    }
+
+    /**
+     * Drops every queued command without drawing (texture references and
+     * slot assignments are released so the queue does not keep disposed
+     * textures reachable, and the next frame starts again from slot 0).
+     */
+    public void clear() {
+        Arrays.fill(texture, 0, size, null);
+        textureSlots.clear();
+        size = 0;
+    }
+
+    // ==================== COUNTERS ====================
+
+    /** Commands queued since begin() (visible draws) */
+    public int getSubmittedCount() {
+        return submittedCount;
+    }
+
+    /** Draws dropped since begin() because they were off screen */
+    public int getCulledCount() {
+        return culledCount;
+    }
+
+    /** Texture changes during the last flush (a lower bound on batch flushes) */
+    public int getTextureSwitchCount() {
+        return textureSwitchCount;
+    }
+
+    /** Commands drawn by the instanced renderer during the last flush */
+    public int getInstancedCount() {
+        return instancedCount;
+    }
+
+    /** Commands currently waiting for flush() */
+    public int size() {
+        return size;
+    }
+
+    // ==================== STORAGE ====================
+
+    private void allocate(int capacity) {
+        key = grow(key, capacity);
+        order = new int[capacity];
+        texture = grow(texture, capacity);
+        u = grow(u, capacity);
+        v = grow(v, capacity);
+        u2 = grow(u2, capacity);
+        v2 = grow(v2, capacity);
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        originX = grow(originX, capacity);
+        originY = grow(originY, capacity);
+        width = grow(width, capacity);
+        height = grow(height, capacity);
+        scaleX = grow(scaleX, capacity);
+        scaleY = grow(scaleY, capacity);
+        rotation = grow(rotation, capacity);
+        color = grow(color, capacity);
+    }
+
+    private float[] grow(float[] column, int capacity) {
+        float[] grown = new float[capacity];
+        if (column != null) {
+            System.arraycopy(column, 0, grown, 0, size);
+        }
+        return grown;
+    }
+
+    private int[] grow(int[] column, int capacity) {
+        int[] grown = new int[capacity];
+        if (column != null) {
+            System.arraycopy(column, 0, grown, 0, size);
+        }
+        return grown;
+    }
+
+    private Texture[] grow(Texture[] column, int capacity) {
+        Texture[] grown = new Texture[capacity];
+        if (column != null) {
+            System.arraycopy(column, 0, grown, 0, size);
+        }
+        return grown;
+    }
+}
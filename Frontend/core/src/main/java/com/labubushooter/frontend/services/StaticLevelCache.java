@@ -0,0 +1,126 @@
+package com.labubushooter.frontend.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.objects.Ground;
+import com.labubushooter.frontend.objects.Platform;
+
+/**
+ * Level scenery baked into GPU-resident vertex buffers.
+ *
+ * Grounds, platforms, the level-edge debug markers and the exit door never
+ * move once a level is loaded, so their quads are written to a SpriteCache
+ * once per level load and drawn every frame with a single cached draw,
+ * without any per-frame vertex work on the CPU. The exit door is baked into
+ * its own cache so it can stay hidden until the level's boss is defeated.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only bakes and draws static level scenery
+ * - Dependency Inversion: Reads level content from GameContext
+ *
+ * Design Pattern: Flyweight (scenery vertices built once, drawn many times)
+ */
+public class StaticLevelCache implements Disposable {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // Markers and exit door added to the level's own geometry
+    private static final int EXTRA_SPRITES = 3;
+
+    private SpriteCache cache;
+    private int capacity;
+    private int sceneryCacheId = -1;
+    private int exitCacheId = -1;
+
+    public StaticLevelCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Sprites the cache can hold before it has to be recreated
+     */
+    public StaticLevelCache(int capacity) {
+        this.capacity = capacity;
+        this.cache = new SpriteCache(capacity, false);
+    }
+
+    /**
+     * Rebakes the scenery of the level currently loaded in the context.
+     * Call after every level load.
+     */
+    public void rebuild(GameContext context) {
+        int needed = context.grounds.size + context.platforms.size + EXTRA_SPRITES;
+        if (needed > capacity) {
+            // A SpriteCache cannot grow; replace it with one that fits
+            cache.dispose();
+            capacity = Math.max(needed, capacity * 2);
+            cache = new SpriteCache(capacity, false);
+        }
+
+        cache.clear();
+
+        cache.beginCache();
+        for (int i = 0; i < context.grounds.size; i++) {
+            Ground g = context.grounds.get(i);
+            cache.add(g.texture, g.bounds.x, g.bounds.y, g.bounds.width, g.bounds.height);
+        }
+        for (int i = 0; i < context.platforms.size; i++) {
+            Platform p = context.platforms.get(i);
+            cache.add(p.texture, p.bounds.x, p.bounds.y, p.bounds.width, p.bounds.height);
+        }
+        // Level-edge debug markers (level 5 draws camera-relative ones in the HUD instead)
+        if (context.currentLevel != 5 && context.debugTex != null) {
+            cache.add(context.debugTex, 0, 0);
+            cache.add(context.debugTex, context.currentLevelWidth - 10, 0);
+        }
+        sceneryCacheId = cache.endCache();
+
+        cache.beginCache();
+        if (context.exitTex != null) {
+            cache.add(context.exitTex, context.currentLevelWidth - 80, 100, 45, 150);
+        }
+        exitCacheId = cache.endCache();
+
+        Gdx.app.debug("StaticLevelCache", "Baked level " + context.currentLevel + ": "
+            + (needed - EXTRA_SPRITES) + " scenery sprites");
+    }
+
+    /** True once a level has been baked */
+    public boolean isBuilt() {
+        return sceneryCacheId >= 0;
+    }
+
+    /**
+     * Draws the baked scenery. Must be called outside SpriteBatch begin/end.
+     *
+     * @param projection Camera matrix to draw with
+     * @param drawExit Whether the exit door is open (boss defeated)
+     */
+    public void draw(Matrix4 projection, boolean drawExit) {
+        if (!isBuilt()) {
+            return;
+        }
+        // Unlike SpriteBatch, SpriteCache leaves blending to the caller
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(sceneryCacheId);
+        if (drawExit) {
+            cache.draw(exitCacheId);
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+        sceneryCacheId = -1;
+        exitCacheId = -1;
+    }
+}
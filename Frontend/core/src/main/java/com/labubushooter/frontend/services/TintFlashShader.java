@@ -0,0 +1,89 @@
+package com.labubushooter.frontend.services;
+
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * SpriteBatch shader that can also flash a sprite towards a solid colour.
+ *
+ * A sprite's vertex colour normally tints it, exactly like the default
+ * SpriteBatch shader. A sprite whose U coordinates are shifted by
+ * {@link #FLASH_U_OFFSET} is a flash instead: its vertex colour's RGB is
+ * the flash colour and its alpha the flash amount, and the texture is
+ * blended towards that colour while keeping its own alpha, so the flash
+ * follows the sprite's silhouette. Both kinds share one shader, one
+ * texture and one batch, so flashing never breaks a batch.
+ *
+ * RenderQueue.setFlash produces flash sprites; everything else draws
+ * unchanged.
+ */
+public final class TintFlashShader {
+
+    /**
+     * Added to U (and U2) to mark a flash sprite. Regions live in [0, 1],
+     * so anything at or above half of this offset is a flash.
+     */
+    public static final float FLASH_U_OFFSET = 2f;
+
+    /** Vertex part shared with InstancedSpriteRenderer: decodes the flash flag */
+    static final String DECODE_FLASH = ""
+        + "   v_flash = step(" + (FLASH_U_OFFSET / 2f) + ", texCoord.x);\n"
+        + "   v_texCoords = vec2(texCoord.x - v_flash * " + FLASH_U_OFFSET + ", texCoord.y);\n";
+
+    static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "#define LOWP lowp\n"
+        + "precision mediump float;\n"
+        + "#else\n"
+        + "#define LOWP \n"
+        + "#endif\n"
+        + "varying LOWP vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "varying float v_flash;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "void main()\n"
+        + "{\n"
+        + "  vec4 texel = texture2D(u_texture, v_texCoords);\n"
+        + "  vec4 tinted = v_color * texel;\n"
+        + "  vec4 flashed = vec4(mix(texel.rgb, v_color.rgb, v_color.a), texel.a);\n"
+        + "  gl_FragColor = mix(tinted, flashed, v_flash);\n"
+        + "}\n";
+
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "varying float v_flash;\n"
+        + "\n"
+        + "void main()\n"
+        + "{\n"
+        + "   vec2 texCoord = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + DECODE_FLASH
+        + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "   v_color.a = v_color.a * (255.0/254.0);\n"
+        + "   gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    private TintFlashShader() {
+        // Static factory
+    }
+
+    /**
+     * Compiles the shader for use as a SpriteBatch default shader
+     * (the caller owns and disposes it).
+     *
+     * @throws GdxRuntimeException if the shader does not compile
+     */
+    public static ShaderProgram create() {
+        ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            String log = shader.getLog();
+            shader.dispose();
+            throw new GdxRuntimeException("Error compiling tint/flash shader: " + log);
+        }
+        return shader;
+    }
+}
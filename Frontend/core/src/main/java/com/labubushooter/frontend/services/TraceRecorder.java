@@ -0,0 +1,310 @@
+package com.labubushooter.frontend.services;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Records begin/end spans of the game loop into a preallocated ring buffer
+ * and dumps them as Chrome Trace Event JSON, which chrome://tracing and
+ * ui.perfetto.dev open directly.
+ *
+ * Spans carry a name (a string constant, stored by reference) and a
+ * System.nanoTime stamp; the buffer keeps the newest events and silently
+ * overwrites the oldest. Only the render thread records: other threads'
+ * calls are ignored, so recording needs no locking.
+ *
+ * A dump copies the buffer and writes the JSON on a background thread.
+ * Dumps happen on the Right Ctrl + T hotkey (see DebugManager) and
+ * automatically after a frame slower than the slow-frame threshold, so a
+ * hitch can be inspected after the fact.
+ *
+ * Enable from launch with -Dlabubu.trace=true (captures asset loading), or
+ * at runtime with the hotkey. While not recording every call returns after
+ * one field check.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only records and exports trace events
+ *
+ * Design Pattern: Singleton Pattern
+ */
+public class TraceRecorder {
+
+    // -Dlabubu.trace=true records from startup; -Dlabubu.traceDir=<dir> sets
+    // where dumps go (default: traces/ in the working directory);
+    // -Dlabubu.traceSlowMs=<ms> sets the slow-frame threshold
+    private static final String TRACE_PROPERTY = "labubu.trace";
+    private static final String TRACE_DIR_PROPERTY = "labubu.traceDir";
+    private static final String SLOW_FRAME_PROPERTY = "labubu.traceSlowMs";
+
+    private static final String DEFAULT_TRACE_DIR = "traces";
+    private static final float DEFAULT_SLOW_FRAME_MS = 50f;
+
+    /** Events kept (a few seconds of gameplay with every span enabled) */
+    private static final int CAPACITY = 1 << 16;
+
+    /** Slow frames dump at most this often */
+    private static final long SLOW_DUMP_COOLDOWN = 5000000000L; // 5 seconds
+
+    private static final byte PHASE_BEGIN = 'B';
+    private static final byte PHASE_END = 'E';
+    private static final byte PHASE_COMPLETE = 'X';
+    private static final byte PHASE_INSTANT = 'i';
+
+    // ==================== SINGLETON INSTANCE ====================
+    private static TraceRecorder instance;
+
+    /**
+     * Gets the singleton instance of TraceRecorder.
+     *
+     * @return The TraceRecorder instance
+     */
+    public static TraceRecorder getInstance() {
+        if (instance == null) {
+            instance = new TraceRecorder();
+        }
+        return instance;
+    }
+
+    // ==================== RING BUFFER ====================
+
+    private final String[] names = new String[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+    private final long[] durations = new long[CAPACITY];
+    private final byte[] phases = new byte[CAPACITY];
+    private long written; // total events ever recorded; next slot is written % CAPACITY
+
+    // Copy handed to the writer thread
+    private final String[] dumpNames = new String[CAPACITY];
+    private final long[] dumpTimes = new long[CAPACITY];
+    private final long[] dumpDurations = new long[CAPACITY];
+    private final byte[] dumpPhases = new byte[CAPACITY];
+    private int dumpCount;
+
+    private final AtomicBoolean dumpInProgress = new AtomicBoolean();
+    private ExecutorService writer;
+
+    private final long originNanos = System.nanoTime();
+    private final String traceDir;
+    private final float slowFrameMs;
+    private Thread recordingThread;
+    private boolean recording;
+    private long nextSlowDump;
+
+    private TraceRecorder() {
+        traceDir = System.getProperty(TRACE_DIR_PROPERTY, DEFAULT_TRACE_DIR);
+        float slow = DEFAULT_SLOW_FRAME_MS;
+        String slowProperty = System.getProperty(SLOW_FRAME_PROPERTY);
+        if (slowProperty != null) {
+            try {
+                slow = Float.parseFloat(slowProperty);
+            } catch (NumberFormatException e) {
+                // Keep the default
+            }
+        }
+        slowFrameMs = slow;
+        if (Boolean.getBoolean(TRACE_PROPERTY)) {
+            start();
+        }
+    }
+
+    // ==================== RECORDING ====================
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts recording on the calling thread (the render thread).
+     */
+    public void start() {
+        recordingThread = Thread.currentThread();
+        written = 0;
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    /** Opens a span named by a string constant */
+    public void begin(String name) {
+        if (!recording) {
+            return;
+        }
+        record(name, PHASE_BEGIN, System.nanoTime(), 0L);
+    }
+
+    /** Closes the innermost open span */
+    public void end(String name) {
+        if (!recording) {
+            return;
+        }
+        record(name, PHASE_END, System.nanoTime(), 0L);
+    }
+
+    /** Same as begin/end with a timestamp the caller already took */
+    public void begin(String name, long nanos) {
+        if (recording) {
+            record(name, PHASE_BEGIN, nanos, 0L);
+        }
+    }
+
+    public void end(String name, long nanos) {
+        if (recording) {
+            record(name, PHASE_END, nanos, 0L);
+        }
+    }
+
+    /**
+     * Records a span that started earlier and ends now, e.g. a request
+     * sent on one frame and answered on another.
+     */
+    public void complete(String name, long startNanos) {
+        if (!recording) {
+            return;
+        }
+        long now = System.nanoTime();
+        record(name, PHASE_COMPLETE, startNanos, now - startNanos);
+    }
+
+    private void record(String name, byte phase, long nanos, long duration) {
+        if (Thread.currentThread() != recordingThread) {
+            return;
+        }
+        int i = (int) (written & (CAPACITY - 1));
+        names[i] = name;
+        phases[i] = phase;
+        times[i] = nanos;
+        durations[i] = duration;
+        written++;
+    }
+
+    /**
+     * Call once per frame, before the frame's spans. Dumps the buffer when
+     * the previous frame was slower than the threshold.
+     *
+     * @param delta Interval of the previous frame in seconds
+     */
+    public void checkSlowFrame(float delta) {
+        if (!recording || delta * 1000f < slowFrameMs) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now < nextSlowDump) {
+            return;
+        }
+        nextSlowDump = now + SLOW_DUMP_COOLDOWN;
+        record("slow frame", PHASE_INSTANT, now, 0L);
+        dump("slow");
+    }
+
+    // ==================== EXPORT ====================
+
+    /**
+     * Writes the buffered events to a new JSON file in the trace directory
+     * on a background thread. Skipped while a previous dump is writing.
+     *
+     * @param reason Short tag added to the file name
+     */
+    public void dump(String reason) {
+        if (written == 0) {
+            return;
+        }
+        if (!dumpInProgress.compareAndSet(false, true)) {
+            Gdx.app.log("TraceRecorder", "Previous trace still writing, dump skipped");
+            return;
+        }
+
+        // Copy oldest to newest so recording can continue meanwhile
+        int count = (int) Math.min(written, CAPACITY);
+        int start = (int) ((written - count) & (CAPACITY - 1));
+        for (int n = 0; n < count; n++) {
+            int i = (start + n) & (CAPACITY - 1);
+            dumpNames[n] = names[i];
+            dumpTimes[n] = times[i];
+            dumpDurations[n] = durations[i];
+            dumpPhases[n] = phases[i];
+        }
+        dumpCount = count;
+
+        String name = "trace-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date())
+            + "-" + reason + ".json";
+        final File file = new File(traceDir, name);
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "TraceWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        writer.execute(() -> {
+            try {
+                writeJson(file);
+                Gdx.app.log("TraceRecorder", "Wrote " + dumpCount + " events to " + file.getAbsolutePath());
+            } catch (IOException e) {
+                Gdx.app.error("TraceRecorder", "Trace dump failed: " + e.getMessage());
+            } finally {
+                dumpInProgress.set(false);
+            }
+        });
+    }
+
+    private void writeJson(File file) throws IOException {
+        File dir = file.getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir.getAbsolutePath());
+        }
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+            boolean first = true;
+            int depth = 0;
+            for (int n = 0; n < dumpCount; n++) {
+                byte phase = dumpPhases[n];
+                // Ends whose begin was overwritten by the ring would confuse viewers
+                if (phase == PHASE_END) {
+                    if (depth == 0) {
+                        continue;
+                    }
+                    depth--;
+                } else if (phase == PHASE_BEGIN) {
+                    depth++;
+                }
+                if (!first) {
+                    out.write(",\n");
+                }
+                first = false;
+                out.write("{\"name\":\"");
+                out.write(escape(dumpNames[n]));
+                out.write("\",\"ph\":\"");
+                out.write((char) phase);
+                out.write("\",\"pid\":1,\"tid\":1,\"ts\":");
+                out.write(Double.toString((dumpTimes[n] - originNanos) / 1000.0));
+                if (phase == PHASE_COMPLETE) {
+                    out.write(",\"dur\":");
+                    out.write(Double.toString(dumpDurations[n] / 1000.0));
+                } else if (phase == PHASE_INSTANT) {
+                    out.write(",\"s\":\"g\"");
+                }
+                out.write('}');
+            }
+            out.write("\n]}\n");
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
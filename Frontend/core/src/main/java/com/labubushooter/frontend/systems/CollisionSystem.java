@@ -1,19 +1,21 @@
 package com.labubushooter.frontend.systems;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Pool;
-import com.labubushooter.frontend.objects.Bullet;
 import com.labubushooter.frontend.objects.Coin;
 import com.labubushooter.frontend.objects.CommonEnemy;
-import com.labubushooter.frontend.objects.EnemyBullet;
 import com.labubushooter.frontend.objects.FinalBoss;
 import com.labubushooter.frontend.objects.MiniBossEnemy;
 import com.labubushooter.frontend.objects.Pickup;
 import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.objects.ProjectileStore;
 import com.labubushooter.frontend.patterns.ShootingStrategy;
 import com.labubushooter.frontend.patterns.weapons.Mac10Strategy;
 import com.labubushooter.frontend.patterns.weapons.PistolStrategy;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
 
 /**
  * Centralized collision detection system for handling all combat collisions.
@@ -49,78 +51,151 @@ public class CollisionSystem {
         return instance;
     }
 
-    // ==================== BULLET-ENEMY COLLISIONS ====================
+    // ==================== BROADPHASE ====================
+
+    // Cell size roughly matches a common enemy collider (60x90) so most
+    // enemies touch 1-4 cells and bullets (8x5) touch 1-2 cells.
+    private static final float BROADPHASE_CELL_SIZE = 96f;
+    // Bullets are culled off-screen, so they occupy about one viewport of cells
+    private static final int BROADPHASE_EXPECTED_CELLS = 128;
+    private static final int BROADPHASE_EXPECTED_BULLETS = 256;
+
+    private final SpatialHashGrid bulletGrid = new SpatialHashGrid(BROADPHASE_CELL_SIZE,
+        BROADPHASE_EXPECTED_CELLS, BROADPHASE_EXPECTED_BULLETS);
+    private final IntArray candidates = new IntArray(32);
+    private boolean[] consumed = new boolean[BROADPHASE_EXPECTED_BULLETS];
 
     /**
-     * Checks and handles collisions between player bullets and common enemies.
-     * Applies damage to enemies and removes bullets on contact.
+     * Rebuilds the bullet grid from the projectile store.
+     * Bullet ids are their row indices in the store.
+     */
+    private void rebuildBulletGrid(ProjectileStore bullets) {
+        bulletGrid.clear();
+        int count = bullets.size();
+        if (consumed.length < count) {
+            consumed = new boolean[Math.max(count, consumed.length * 2)];
+        }
+        final float[] x = bullets.x, y = bullets.y, w = bullets.w, h = bullets.h;
+        for (int i = 0; i < count; i++) {
+            consumed[i] = false;
+            bulletGrid.insert(i, x[i], y[i], w[i], h[i]);
+        }
+    }
+
+    /**
+     * Applies every not-yet-consumed bullet overlapping the collider to the target.
      *
-     * @param enemies Array of active enemies
-     * @param bullets Array of active player bullets
-     * @param bulletPool Pool to return freed bullets
+     * @return Total damage dealt by the overlapping bullets
      */
-    public void checkBulletEnemyCollisions(Array<CommonEnemy> enemies,
-                                           Array<Bullet> bullets,
-                                           Pool<Bullet> bulletPool) {
-        for (int i = enemies.size - 1; i >= 0; i--) {
-            CommonEnemy enemy = enemies.get(i);
-
-            for (int j = bullets.size - 1; j >= 0; j--) {
-                Bullet bullet = bullets.get(j);
-
-                if (enemy.collider.overlaps(bullet.bounds)) {
-                    enemy.takeDamage(bullet.damage);
-                    bullets.removeIndex(j);
-                    bulletPool.free(bullet);
-                    Gdx.app.log("Combat", "Enemy hit! Health: " + enemy.health);
-                    break;
-                }
+    private float resolveBulletHits(Rectangle collider, ProjectileStore bullets) {
+        float damage = 0f;
+        bulletGrid.query(collider, candidates);
+        for (int c = 0; c < candidates.size; c++) {
+            int j = candidates.items[c];
+            if (consumed[j]) {
+                continue;
+            }
+            if (bullets.overlaps(j, collider)) {
+                consumed[j] = true;
+                damage += bullets.damage[j];
             }
         }
+        return damage;
     }
 
-    // ==================== BULLET-BOSS COLLISIONS ====================
+    /**
+     * Removes consumed bullets. Iterates backwards so swap-removal only
+     * moves rows that have already been checked.
+     */
+    private void removeConsumedBullets(ProjectileStore bullets) {
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            if (consumed[i]) {
+                bullets.remove(i);
+            }
+        }
+    }
+
+    // ==================== BULLET-TARGET COLLISIONS ====================
 
     /**
-     * Checks and handles collisions between player bullets and boss enemies.
-     * Applies damage to bosses and removes bullets on contact.
+     * Checks and handles collisions between player bullets and every damageable target
+     * (common enemies, mini boss and final boss) using a uniform-grid broadphase.
+     *
+     * The grid is rebuilt once per call from the active bullets, then each target
+     * collider only tests bullets in the cells it touches. Every overlapping bullet
+     * is resolved in the same frame; a bullet is consumed by the first target it hits.
      *
+     * @param enemies Array of active enemies (can be null)
      * @param miniBoss Mini boss enemy (can be null)
      * @param finalBoss Final boss enemy (can be null)
-     * @param bullets Array of active player bullets
-     * @param bulletPool Pool to return freed bullets
+     * @param bullets Player projectile store
      */
-    public void checkBulletBossCollisions(MiniBossEnemy miniBoss, FinalBoss finalBoss,
-                                          Array<Bullet> bullets, Pool<Bullet> bulletPool) {
-        // Mini boss collision
-        if (miniBoss != null && !miniBoss.isDead()) {
-            for (int j = bullets.size - 1; j >= 0; j--) {
-                Bullet bullet = bullets.get(j);
-
-                if (bullet.bounds.overlaps(miniBoss.collider)) {
-                    miniBoss.takeDamage(bullet.damage);
-                    bullets.removeIndex(j);
-                    bulletPool.free(bullet);
-                    Gdx.app.log("Combat", "Mini Boss hit! Health: " + miniBoss.health);
-                    break;
+    public void checkBulletTargetCollisions(Array<CommonEnemy> enemies,
+                                            MiniBossEnemy miniBoss, FinalBoss finalBoss,
+                                            ProjectileStore bullets) {
+        if (bullets.size() == 0) {
+            return;
+        }
+        rebuildBulletGrid(bullets);
+        boolean anyHit = false;
+
+        if (enemies != null) {
+            for (int i = enemies.size - 1; i >= 0; i--) {
+                CommonEnemy enemy = enemies.get(i);
+                float damage = resolveBulletHits(enemy.collider, bullets);
+                if (damage > 0f) {
+                    enemy.takeDamage(damage);
+                    anyHit = true;
+                    GameLog.debug(LogEvent.ENEMY_HIT, enemy.health);
                 }
             }
         }
 
-        // Final boss collision
+        if (miniBoss != null && !miniBoss.isDead()) {
+            float damage = resolveBulletHits(miniBoss.collider, bullets);
+            if (damage > 0f) {
+                miniBoss.takeDamage(damage);
+                anyHit = true;
+                GameLog.debug(LogEvent.MINI_BOSS_HIT, miniBoss.health);
+            }
+        }
+
         if (finalBoss != null && !finalBoss.isDead()) {
-            for (int j = bullets.size - 1; j >= 0; j--) {
-                Bullet bullet = bullets.get(j);
-
-                if (bullet.bounds.overlaps(finalBoss.collider)) {
-                    finalBoss.takeDamage(bullet.damage);
-                    bullets.removeIndex(j);
-                    bulletPool.free(bullet);
-                    Gdx.app.log("Combat", "Boss hit! Health: " + finalBoss.health);
-                    break;
-                }
+            float damage = resolveBulletHits(finalBoss.collider, bullets);
+            if (damage > 0f) {
+                finalBoss.takeDamage(damage);
+                anyHit = true;
+                GameLog.debug(LogEvent.BOSS_HIT, finalBoss.health);
             }
         }
+
+        if (anyHit) {
+            removeConsumedBullets(bullets);
+        }
+    }
+
+    /**
+     * Checks and handles collisions between player bullets and common enemies.
+     * Applies damage to enemies and removes bullets on contact.
+     *
+     * @param enemies Array of active enemies
+     * @param bullets Player projectile store
+     */
+    public void checkBulletEnemyCollisions(Array<CommonEnemy> enemies, ProjectileStore bullets) {
+        checkBulletTargetCollisions(enemies, null, null, bullets);
+    }
+
+    /**
+     * Checks and handles collisions between player bullets and boss enemies.
+     * Applies damage to bosses and removes bullets on contact.
+     *
+     * @param miniBoss Mini boss enemy (can be null)
+     * @param finalBoss Final boss enemy (can be null)
+     * @param bullets Player projectile store
+     */
+    public void checkBulletBossCollisions(MiniBossEnemy miniBoss, FinalBoss finalBoss,
+                                          ProjectileStore bullets) {
+        checkBulletTargetCollisions(null, miniBoss, finalBoss, bullets);
     }
 
     // ==================== ENEMY BULLET-PLAYER COLLISIONS ====================
@@ -130,20 +205,14 @@ public class CollisionSystem {
      * Applies damage to player and removes bullets on contact.
      *
      * @param player The player entity
-     * @param enemyBullets Array of active enemy bullets
-     * @param enemyBulletPool Pool to return freed bullets
+     * @param enemyBullets Enemy projectile store
      */
-    public void checkEnemyBulletPlayerCollisions(Player player,
-                                                  Array<EnemyBullet> enemyBullets,
-                                                  Pool<EnemyBullet> enemyBulletPool) {
-        for (int i = enemyBullets.size - 1; i >= 0; i--) {
-            EnemyBullet eb = enemyBullets.get(i);
-
-            if (eb.bounds.overlaps(player.bounds)) {
-                player.takeDamage(eb.damage);
-                enemyBullets.removeIndex(i);
-                enemyBulletPool.free(eb);
-                Gdx.app.log("Combat", "Player hit by enemy bullet!");
+    public void checkEnemyBulletPlayerCollisions(Player player, ProjectileStore enemyBullets) {
+        for (int i = enemyBullets.size() - 1; i >= 0; i--) {
+            if (enemyBullets.overlaps(i, player.bounds)) {
+                player.takeDamage(enemyBullets.damage[i]);
+                enemyBullets.remove(i);
+                GameLog.debug(LogEvent.PLAYER_HIT_BY_BULLET);
             }
         }
     }
@@ -170,7 +239,7 @@ public class CollisionSystem {
                 coinsCollected++;
                 coins.removeIndex(i);
                 coinPool.free(coin);
-                Gdx.app.log("Coin", "Collected!");
+                GameLog.debug(LogEvent.COIN_COLLECTED);
             }
         }
 
@@ -188,18 +257,18 @@ public class CollisionSystem {
                     case AMMO_9MM:
                         if (pistolStrategy != null) {
                             pistolStrategy.addAmmo(3);
-                            Gdx.app.log("Pickup", "Collected 9mm Ammo (+3)");
+                            GameLog.debug(LogEvent.PICKUP_9MM);
                         }
                         break;
                     case AMMO_45CAL:
                         if (mac10Strategy != null) {
                             mac10Strategy.addAmmo(5);
-                            Gdx.app.log("Pickup", "Collected .45 Cal Ammo (+5)");
+                            GameLog.debug(LogEvent.PICKUP_45CAL);
                         }
                         break;
                     case HEALTH_POTION:
                         player.addHealth(5);
-                        Gdx.app.log("Pickup", "Collected Health Potion (+5 HP)");
+                        GameLog.debug(LogEvent.PICKUP_HEALTH);
                         break;
                 }
                 p.active = false;
@@ -1,21 +1,26 @@
 package com.labubushooter.frontend.systems;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
+import com.labubushooter.frontend.core.GameClock;
 import com.labubushooter.frontend.core.GameContext;
-import com.labubushooter.frontend.objects.Bullet;
+import com.labubushooter.frontend.input.InputFrame;
 import com.labubushooter.frontend.objects.Coin;
 import com.labubushooter.frontend.objects.CommonEnemy;
-import com.labubushooter.frontend.objects.EnemyBullet;
 import com.labubushooter.frontend.objects.FinalBoss;
 import com.labubushooter.frontend.objects.Ground;
 import com.labubushooter.frontend.objects.MiniBossEnemy;
 import com.labubushooter.frontend.objects.Pickup;
 import com.labubushooter.frontend.objects.Platform;
+import com.labubushooter.frontend.patterns.ShootingStrategy;
+import com.labubushooter.frontend.patterns.weapons.UnarmedStrategy;
+import com.labubushooter.frontend.services.FrameProfiler;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
+import com.labubushooter.frontend.services.TraceRecorder;
 import com.labubushooter.frontend.systems.spawner.EnemySpawnerFactory;
 import com.labubushooter.frontend.systems.spawner.IEnemySpawner;
 
@@ -39,16 +44,29 @@ public class GameWorld {
     private final GameContext context;
     private final PhysicsSystem physicsSystem;
     private final CollisionSystem collisionSystem;
+    private final ProjectileLifetimeSystem lifetimeSystem;
     private final EnemySpawnerFactory spawnerFactory;
 
     /** Current level's enemy spawner (Strategy Pattern) */
     private IEnemySpawner currentSpawner;
 
+    /** Player input for the current step, filled from context.inputSource */
+    private final InputFrame input = new InputFrame();
+
+    /**
+     * Camera-equivalent view that follows the player once per step.
+     * Spawning and culling use it instead of the render camera, whose
+     * position depends on frame timing and interpolation.
+     */
+    private final Rectangle simulationView = new Rectangle();
+
     // Pickup Spawning
     private long lastPickupSpawnTime;
     private long nextPickupSpawnDelay;
     private static final long MIN_PICKUP_DELAY = 5000000000L; // 5 seconds
     private static final long MAX_PICKUP_DELAY = 15000000000L; // 15 seconds
+    private static final int MAX_ACTIVE_PICKUPS = 5;
+    private static final int MAX_LEVEL_COINS = 25; // 5 spawn locations x up to 5 coins per line
 
     /**
      * Constructs a GameWorld with required dependencies.
@@ -59,6 +77,7 @@ public class GameWorld {
         this.context = context;
         this.physicsSystem = PhysicsSystem.getInstance();
         this.collisionSystem = CollisionSystem.getInstance();
+        this.lifetimeSystem = ProjectileLifetimeSystem.getInstance();
         this.spawnerFactory = EnemySpawnerFactory.getInstance();
 
         // Initialize pickup pools if not already done (Safety check)
@@ -71,6 +90,7 @@ public class GameWorld {
             };
             context.activePickups = new Array<>();
         }
+        preallocatePools();
 
         resetPickupTimer();
 
@@ -78,8 +98,25 @@ public class GameWorld {
         updateSpawner();
     }
 
+    /**
+     * Fills the entity pools up to the most entities a level can have active,
+     * so spawning during gameplay never has to allocate a new object.
+     */
+    private void preallocatePools() {
+        topUp(context.pickupPool, MAX_ACTIVE_PICKUPS);
+        topUp(context.coinPool, MAX_LEVEL_COINS);
+        topUp(context.enemyPool, spawnerFactory.getLargestEnemyCap());
+    }
+
+    private static void topUp(Pool<?> pool, int count) {
+        int missing = count - pool.getFree();
+        if (missing > 0) {
+            pool.fill(missing);
+        }
+    }
+
     private void resetPickupTimer() {
-        lastPickupSpawnTime = TimeUtils.nanoTime();
+        lastPickupSpawnTime = GameClock.nanoTime();
         nextPickupSpawnDelay = MIN_PICKUP_DELAY + (long)(MathUtils.random() * (MAX_PICKUP_DELAY - MIN_PICKUP_DELAY));
     }
 
@@ -93,34 +130,91 @@ public class GameWorld {
                    " | Active: " + currentSpawner.isActive());
     }
 
+    // ==================== SIMULATION VIEW ====================
+
+    /**
+     * Re-centers the simulation view on the player's current position.
+     * Called every step and by LevelLoader after placing the player.
+     */
+    public void updateSimulationView() {
+        float viewWidth = context.viewport.getWorldWidth();
+        float viewHeight = context.viewport.getWorldHeight();
+        float targetX = context.player.bounds.x + context.player.bounds.width / 2;
+        float centerX = followCameraX(targetX, viewWidth, context.currentLevelWidth);
+        simulationView.set(centerX - viewWidth / 2, 0, viewWidth, viewHeight);
+    }
+
+    /**
+     * Camera follow rule shared by the simulation view and the render camera:
+     * center on the target, clamped so the view stays inside the level.
+     *
+     * @param targetX World X to follow
+     * @param viewWidth View width in world units
+     * @param levelWidth Current level width
+     * @return Camera center X
+     */
+    public static float followCameraX(float targetX, float viewWidth, float levelWidth) {
+        if (viewWidth >= levelWidth) {
+            return levelWidth / 2;
+        }
+        float halfView = viewWidth / 2;
+        return MathUtils.clamp(targetX, halfView, levelWidth - halfView);
+    }
+
+    /**
+     * @return View rectangle used for spawning and culling this step
+     */
+    public Rectangle getSimulationView() {
+        return simulationView;
+    }
+
     // ==================== MAIN UPDATE ====================
 
     /**
-     * Updates all world entities for one frame.
+     * Advances all world entities by one simulation step.
      * Orchestrates physics, spawning, and entity lifecycle.
+     * Driven by GamePlayScreen with a fixed step (see FixedTimestep).
      *
-     * @param delta Time since last frame in seconds
+     * @param delta Step length in seconds
      */
     public void update(float delta) {
-        // Handle Weapon Switching
-        handleWeaponSwitching();
+        TraceRecorder trace = TraceRecorder.getInstance();
+        trace.begin("GameWorld.update");
+
+        // Advance simulation time for gameplay timers
+        GameClock.advance(delta);
+
+        FrameProfiler profiler = context.profiler;
+
+        // Read and apply this step's player input
+        profiler.beginSection(FrameProfiler.SECTION_PLAYER);
+        if (context.inputSource != null) {
+            context.inputSource.poll(input);
+        } else {
+            input.clear();
+        }
+        applyPlayerInput(input);
 
         // Update player physics
-        context.player.update(delta, context.platforms, context.grounds);
+        context.player.update(delta, context.levelGeometry, input);
+        updateSimulationView();
 
         // Update bosses
+        profiler.beginSection(FrameProfiler.SECTION_BOSSES);
         updateBosses(delta);
 
-        // Update enemy bullets (physics)
-        physicsSystem.updateEnemyBullets(
-            context.activeEnemyBullets,
-            context.enemyBulletPool,
+        // Update enemy bullets (physics + culling)
+        profiler.beginSection(FrameProfiler.SECTION_ENEMY_BULLETS);
+        physicsSystem.updateEnemyBullets(context.enemyProjectiles, delta);
+        lifetimeSystem.update(
+            context.enemyProjectiles,
             context.currentLevelWidth,
             context.viewport.getWorldHeight(),
-            delta
+            simulationView
         );
 
         // Handle enemy spawning via Strategy Pattern
+        profiler.beginSection(FrameProfiler.SECTION_SPAWNING);
         handleEnemySpawning();
 
         // Handle pickup spawning
@@ -129,22 +223,29 @@ public class GameWorld {
         updatePickups(delta);
 
         // Update enemies
+        profiler.beginSection(FrameProfiler.SECTION_ENEMIES);
         updateEnemies(delta);
 
         // Update and check collisions
+        profiler.beginSection(FrameProfiler.SECTION_COLLISIONS);
         checkAllCollisions();
 
         // Update coins
+        profiler.beginSection(FrameProfiler.SECTION_COINS);
         updateCoins(delta);
 
         // Update bullets (physics)
-        physicsSystem.updateBullets(
-            context.activeBullets,
-            context.platforms,
-            context.bulletPool,
+        profiler.beginSection(FrameProfiler.SECTION_BULLETS);
+        physicsSystem.updateBullets(context.playerProjectiles, context.levelGeometry, delta);
+
+        // Cull expired bullets (range, lifetime, off-screen)
+        lifetimeSystem.update(
+            context.playerProjectiles,
+            context.currentLevelWidth,
             context.viewport.getWorldHeight(),
-            delta
+            simulationView
         );
+        profiler.endSection();
 
         // Update Mac10 Unlock Message Timer
         if (context.mac10UnlockMessageTimer > 0) {
@@ -162,22 +263,113 @@ public class GameWorld {
                 context.showMac10UnlockMessage = false;
             }
         }
+        trace.end("GameWorld.update");
+    }
+
+    // ==================== RENDER INTERPOLATION ====================
+
+    /**
+     * Records current entity positions as the previous simulation state.
+     * Call once before each simulation step.
+     */
+    public void captureInterpolationState() {
+        context.player.renderPosition.capture(context.player.bounds);
+        for (int i = 0; i < context.activeEnemies.size; i++) {
+            CommonEnemy enemy = context.activeEnemies.get(i);
+            enemy.renderPosition.capture(enemy.collider);
+        }
+        if (context.miniBoss != null) {
+            context.miniBoss.renderPosition.capture(context.miniBoss.bounds);
+        }
+        if (context.boss != null) {
+            context.boss.renderPosition.capture(context.boss.bounds);
+        }
+        context.playerProjectiles.capturePrevious();
+        context.enemyProjectiles.capturePrevious();
     }
 
-    private void handleWeaponSwitching() {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
+    /**
+     * Moves moving entities to their interpolated render positions.
+     * Must be paired with {@link #restoreInterpolation()} after drawing.
+     * Projectiles interpolate inside ProjectileStore.draw instead.
+     *
+     * @param alpha Fraction of a step elapsed since the last simulation step
+     */
+    public void applyInterpolation(float alpha) {
+        context.player.renderPosition.apply(context.player.bounds, alpha);
+        for (int i = 0; i < context.activeEnemies.size; i++) {
+            CommonEnemy enemy = context.activeEnemies.get(i);
+            enemy.renderPosition.apply(enemy.collider, alpha);
+        }
+        if (context.miniBoss != null) {
+            context.miniBoss.renderPosition.apply(context.miniBoss.bounds, alpha);
+        }
+        if (context.boss != null) {
+            context.boss.renderPosition.apply(context.boss.bounds, alpha);
+        }
+    }
+
+    /**
+     * Restores simulated positions after {@link #applyInterpolation(float)}.
+     */
+    public void restoreInterpolation() {
+        context.player.renderPosition.restore(context.player.bounds);
+        for (int i = 0; i < context.activeEnemies.size; i++) {
+            CommonEnemy enemy = context.activeEnemies.get(i);
+            enemy.renderPosition.restore(enemy.collider);
+        }
+        if (context.miniBoss != null) {
+            context.miniBoss.renderPosition.restore(context.miniBoss.bounds);
+        }
+        if (context.boss != null) {
+            context.boss.renderPosition.restore(context.boss.bounds);
+        }
+    }
+
+    // ==================== PLAYER INPUT ====================
+
+    /**
+     * Applies weapon switching, reload, jump and shooting for this step.
+     *
+     * @param input Player input for this step
+     */
+    private void applyPlayerInput(InputFrame input) {
+        // --- WEAPON SWITCHING ---
+        if (input.weaponSlot == 1) {
             context.player.setWeapon(context.pistolStrategy);
-            Gdx.app.log("Weapon", "Switched to Pistol");
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
+            GameLog.debug(LogEvent.WEAPON_PISTOL);
+        } else if (input.weaponSlot == 2) {
             if (context.currentLevel >= 4) {
                 context.player.setWeapon(context.mac10Strategy);
-                Gdx.app.log("Weapon", "Switched to Mac10");
+                GameLog.debug(LogEvent.WEAPON_MAC10);
             } else {
-                Gdx.app.log("Weapon", "Mac10 locked! Must be acquired.");
+                GameLog.debug(LogEvent.WEAPON_MAC10_LOCKED);
+            }
+        } else if (input.weaponSlot == 3) {
+            if (context.unarmedStrategy == null) {
+                context.unarmedStrategy = new UnarmedStrategy();
             }
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
             context.player.setWeapon(context.unarmedStrategy);
-            Gdx.app.log("Weapon", "Switched to Unarmed");
+            GameLog.debug(LogEvent.WEAPON_UNARMED);
+        }
+
+        // --- RELOAD ---
+        ShootingStrategy weapon = context.player.getWeapon();
+        if (input.reload && weapon != null) {
+            weapon.reload();
+        }
+
+        // --- JUMP ---
+        if (input.jump) {
+            context.player.jump();
+        }
+
+        // --- SHOOTING ---
+        if (weapon != null) {
+            boolean fire = weapon.isAutomatic() ? input.fireHeld : input.firePressed;
+            if (fire) {
+                context.player.shoot(context.playerProjectiles, context.bulletTex);
+            }
         }
     }
 
@@ -196,19 +388,19 @@ public class GameWorld {
                 // Start 2 second timer for message
                 context.mac10UnlockMessageTimer = 2.0f;
                 context.mac10MessageTriggered = true; // Mark as triggered so we don't reset timer
-                Gdx.app.log("GameWorld", "Mini Boss defeated! Message timer started.");
+                GameLog.debug(LogEvent.MINI_BOSS_DEFEATED);
             }
 
             // Only update if alive
             if (!context.miniBoss.isDead()) {
-                context.miniBoss.update(delta, context.platforms, context.grounds, context.player);
+                context.miniBoss.update(delta, context.levelGeometry, context.player);
             }
         }
 
         // Final boss (Level 5)
         if (context.currentLevel == 5 && context.boss != null && !context.boss.isDead()) {
-            context.boss.update(delta, context.platforms, context.grounds, context.player,
-                               context.activeEnemyBullets, context.enemyBulletPool);
+            context.boss.update(delta, context.levelGeometry, context.player,
+                               context.enemyProjectiles);
         }
     }
 
@@ -236,22 +428,22 @@ public class GameWorld {
             context.player,
             context.currentLevel,
             context.currentLevelWidth,
-            context.camera.position.x,
-            context.viewport.getWorldWidth()
+            simulationView.x + simulationView.width / 2,
+            simulationView.width
         );
     }
 
     // ==================== PICKUP MANAGEMENT ====================
 
     private void handlePickupSpawning() {
-        if (TimeUtils.nanoTime() - lastPickupSpawnTime > nextPickupSpawnDelay) {
+        if (GameClock.nanoTime() - lastPickupSpawnTime > nextPickupSpawnDelay) {
             spawnRandomPickup();
             resetPickupTimer();
         }
     }
 
     private void spawnRandomPickup() {
-        if (context.activePickups.size >= 5) return; // Limit active pickups
+        if (context.activePickups.size >= MAX_ACTIVE_PICKUPS) return; // Limit active pickups
 
         float spawnX, spawnY;
 
@@ -273,7 +465,7 @@ public class GameWorld {
 
         Pickup p = context.pickupPool.obtain();
         Pickup.Type type;
-        com.badlogic.gdx.graphics.Texture tex;
+        com.badlogic.gdx.graphics.g2d.TextureRegion tex;
 
         int rand = MathUtils.random(100);
 
@@ -311,7 +503,7 @@ public class GameWorld {
 
         p.init(spawnX, spawnY, type, tex);
         context.activePickups.add(p);
-        Gdx.app.log("Pickup", "Spawned " + type + " at " + spawnX + ", " + spawnY);
+        GameLog.debug(LogEvent.PICKUP_SPAWNED, type, spawnX, spawnY);
     }
 
     /**
@@ -348,7 +540,7 @@ public class GameWorld {
     private void updateEnemies(float delta) {
         for (int i = context.activeEnemies.size - 1; i >= 0; i--) {
             CommonEnemy enemy = context.activeEnemies.get(i);
-            enemy.update(delta, context.platforms, context.grounds);
+            enemy.update(delta, context.levelGeometry);
 
             if (!enemy.isActive()) {
                 context.activeEnemies.removeIndex(i);
@@ -380,7 +572,7 @@ public class GameWorld {
         if (collected > 0) {
             context.coinScore += collected;
             context.coinsCollectedThisSession += collected;
-            Gdx.app.log("Coin", "Total: " + context.coinScore);
+            GameLog.debug(LogEvent.COIN_TOTAL, context.coinScore);
         }
     }
 
@@ -406,26 +598,18 @@ public class GameWorld {
      * Performs all collision checks for the current frame.
      */
     private void checkAllCollisions() {
-        // Bullet-enemy collisions
-        collisionSystem.checkBulletEnemyCollisions(
+        // Bullet-enemy and bullet-boss collisions (shared broadphase)
+        collisionSystem.checkBulletTargetCollisions(
             context.activeEnemies,
-            context.activeBullets,
-            context.bulletPool
-        );
-
-        // Bullet-boss collisions
-        collisionSystem.checkBulletBossCollisions(
             context.miniBoss,
             context.boss,
-            context.activeBullets,
-            context.bulletPool
+            context.playerProjectiles
         );
 
         // Enemy bullet-player collisions
         collisionSystem.checkEnemyBulletPlayerCollisions(
             context.player,
-            context.activeEnemyBullets,
-            context.enemyBulletPool
+            context.enemyProjectiles
         );
 
         // Pickup-player collisions
@@ -467,6 +651,20 @@ public class GameWorld {
         return context.currentLevel == 5;
     }
 
+    /**
+     * Debug cheat: kills the current level's boss (K key).
+     */
+    public void debugKillBosses() {
+        if (context.currentLevel == 3 && context.miniBoss != null && !context.miniBoss.isDead()) {
+            context.miniBoss.takeDamage(999999f);
+            Gdx.app.log("Debug", "Mini Boss instantly killed!");
+        }
+        if (context.currentLevel == 5 && context.boss != null && !context.boss.isDead()) {
+            context.boss.takeDamage(999999f);
+            Gdx.app.log("Debug", "Final Boss instantly killed!");
+        }
+    }
+
     // ==================== ENTITY CLEANUP ====================
 
     /**
@@ -481,16 +679,10 @@ public class GameWorld {
         context.activeEnemies.clear();
 
         // Clear bullets
-        for (Bullet bullet : context.activeBullets) {
-            context.bulletPool.free(bullet);
-        }
-        context.activeBullets.clear();
+        context.playerProjectiles.clear();
 
         // Clear enemy bullets
-        for (com.labubushooter.frontend.objects.EnemyBullet eb : context.activeEnemyBullets) {
-            context.enemyBulletPool.free(eb);
-        }
-        context.activeEnemyBullets.clear();
+        context.enemyProjectiles.clear();
 
         // Clear coins
         for (Coin coin : context.activeCoins) {
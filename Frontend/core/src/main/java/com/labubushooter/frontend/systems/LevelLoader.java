@@ -0,0 +1,175 @@
+package com.labubushooter.frontend.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.objects.Coin;
+import com.labubushooter.frontend.objects.CommonEnemy;
+import com.labubushooter.frontend.objects.FinalBoss;
+import com.labubushooter.frontend.objects.MiniBossEnemy;
+import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.patterns.LevelStrategy;
+
+/**
+ * Loads the gameplay state of a level into the GameContext: geometry,
+ * bosses, coins, initial enemies and player/camera placement.
+ *
+ * Presentation concerns (background texture and render strategy) stay with
+ * the caller, so the same loader serves the game and the headless runner.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only builds level world state
+ * - Open/Closed: Level content comes from LevelStrategy implementations
+ * - Dependency Inversion: Works against GameContext, not Main
+ */
+public class LevelLoader {
+
+    private final GameContext context;
+
+    /**
+     * @param context Game context to load levels into
+     */
+    public LevelLoader(GameContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Replaces the current level with the given one.
+     *
+     * @param level Level number (1-5)
+     * @return false if no LevelStrategy exists for the level
+     */
+    public boolean loadLevel(int level) {
+        LevelStrategy strategy = context.levelStrategies.get(level);
+        if (strategy == null) {
+            Gdx.app.error("LevelLoader", "Level " + level + " not found!");
+            return false;
+        }
+
+        context.currentLevel = level;
+
+        // Clear existing objects
+        context.platforms.clear();
+        context.grounds.clear();
+        context.playerProjectiles.clear();
+
+        for (CommonEnemy enemy : context.activeEnemies) {
+            context.enemyPool.free(enemy);
+        }
+        context.activeEnemies.clear();
+
+        context.enemyProjectiles.clear();
+
+        for (Coin coin : context.activeCoins) {
+            context.coinPool.free(coin);
+        }
+        context.activeCoins.clear();
+
+        // Spawn boss for levels 3 and 5
+        if (level == 3) {
+            context.miniBoss = new MiniBossEnemy(
+                context.miniBossWalkFrame1Tex, context.miniBossWalkFrame2Tex,
+                context.miniBossCrouchTex, context.miniBossDashPrepTex, context.miniBossDashTex);
+            context.miniBoss.init(strategy.getBossSpawnX(), strategy.getBossSpawnY());
+            context.boss = null;
+            Gdx.app.log("Level3", "Mini Boss spawned!");
+        } else if (level == 5) {
+            context.boss = new FinalBoss(context.bossTex, context.enemyBulletTex);
+            context.boss.init(strategy.getBossSpawnX(), strategy.getBossSpawnY());
+            context.miniBoss = null;
+            Gdx.app.log("Level5", "Final Boss spawned!");
+        } else {
+            context.miniBoss = null;
+            context.boss = null;
+        }
+
+        // Set level width
+        context.currentLevelWidth = strategy.getLevelWidth();
+        if (level == 5) {
+            context.currentLevelWidth = Math.max(context.currentLevelWidth, context.viewport.getWorldWidth());
+        }
+
+        // Load platforms and ground
+        strategy.loadPlatforms(context.platforms, context.platformTex);
+        strategy.loadGround(context.grounds, context.groundTex);
+        context.levelGeometry = LevelGeometryIndex.build(context.platforms, context.grounds);
+
+        // Position player
+        context.player.bounds.setPosition(strategy.getPlayerStartX(), strategy.getPlayerStartY());
+        Player.LEVEL_WIDTH = context.currentLevelWidth;
+
+        // Reset camera
+        context.camera.position.x = GameContext.VIEWPORT_WIDTH / 2;
+        context.camera.update();
+
+        // Spawn coins
+        setupCoinSpawnLocations(level);
+        spawnCoinsForLevel();
+
+        // Spawn initial enemies via GameWorld (uses Strategy Pattern)
+        if (context.gameWorld != null) {
+            context.gameWorld.updateSpawner();
+            context.gameWorld.updateSimulationView();
+            context.gameWorld.spawnInitialEnemies();
+            // Start the level without a stale interpolation state or leftover step time
+            context.gameWorld.captureInterpolationState();
+        }
+        context.simulationClock.reset();
+
+        Gdx.app.log("LevelLoader", "Loaded Level " + level + " | Width: " + context.currentLevelWidth);
+        return true;
+    }
+
+    // ==================== COIN PLACEMENT ====================
+
+    private void setupCoinSpawnLocations(int level) {
+        context.coinSpawnLocations = new Array<>();
+
+        final float PLATFORM_OFFSET = 30f;
+        final float GROUND_Y = 50f;
+        final float GROUND_HEIGHT = 50f;
+        final float PLATFORM_HEIGHT = 20f;
+        final float JUMP_OFFSET = 500f / 2.5f - 50f;
+
+        switch (level) {
+            case 1:
+                context.coinSpawnLocations.add(new float[]{600f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{900f, GROUND_Y + GROUND_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1300f, 300f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1700f, GROUND_Y + GROUND_HEIGHT + JUMP_OFFSET});
+                break;
+            case 2:
+                context.coinSpawnLocations.add(new float[]{650f, 150f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{950f, 250f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1300f, 350f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1650f, GROUND_Y + GROUND_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1900f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                break;
+            case 3:
+                context.coinSpawnLocations.add(new float[]{550f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1150f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                break;
+            case 4:
+                context.coinSpawnLocations.add(new float[]{750f, 300f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1050f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1400f, 350f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{1650f, 250f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{2000f, 180f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                break;
+            case 5:
+                context.coinSpawnLocations.add(new float[]{300f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{800f, 200f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                context.coinSpawnLocations.add(new float[]{550f, 330f + PLATFORM_HEIGHT + PLATFORM_OFFSET});
+                break;
+        }
+    }
+
+    private void spawnCoinsForLevel() {
+        for (float[] location : context.coinSpawnLocations) {
+            Array<Coin> spawnedCoins = context.coinPattern.spawn(context.coinPool, location[0], location[1]);
+            context.activeCoins.addAll(spawnedCoins);
+        }
+        Gdx.app.log("Coins", "Spawned " + context.activeCoins.size + " coins");
+    }
+}
@@ -1,9 +1,8 @@
 package com.labubushooter.frontend.systems;
 
-import com.badlogic.gdx.utils.Array;
-import com.labubushooter.frontend.objects.Bullet;
-import com.labubushooter.frontend.objects.EnemyBullet;
-import com.labubushooter.frontend.objects.Platform;
+import com.badlogic.gdx.math.Rectangle;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.objects.ProjectileStore;
 
 /**
  * Centralized physics system for handling movement and physics calculations.
@@ -92,64 +91,38 @@ public class PhysicsSystem {
     
     // ==================== BULLET PHYSICS ====================
     
+    // Reused AABB for platform queries (projectiles have no Rectangle of their own)
+    private final Rectangle bulletBounds = new Rectangle();
+
     /**
-     * Updates bullet physics and removes out-of-bounds bullets.
+     * Updates player bullet physics and removes bullets that hit a platform.
+     * Range, age and out-of-bounds culling is done by ProjectileLifetimeSystem.
      * 
-     * @param bullets Array of active bullets
-     * @param platforms Array of platforms for collision
-     * @param bulletPool Pool to return freed bullets
-     * @param viewportHeight Current viewport height
+     * @param bullets Player projectile store
+     * @param level Static level geometry index for platform collision
      * @param delta Time delta
      */
-    public void updateBullets(Array<Bullet> bullets, Array<Platform> platforms, 
-                              com.badlogic.gdx.utils.Pool<Bullet> bulletPool,
-                              float viewportHeight, float delta) {
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet b = bullets.get(i);
-            b.update(delta);
-            
-            boolean shouldRemove = false;
-            
+    public void updateBullets(ProjectileStore bullets, LevelGeometryIndex level, float delta) {
+        bullets.integrate(delta);
+
+        final float[] x = bullets.x, y = bullets.y, w = bullets.w, h = bullets.h;
+        for (int i = bullets.size() - 1; i >= 0; i--) {
             // Check collision with platforms
-            for (Platform p : platforms) {
-                if (b.bounds.overlaps(p.bounds)) {
-                    shouldRemove = true;
-                    break;
-                }
-            }
-            
-            // Check if bullet traveled too far vertically
-            if (!shouldRemove && b.isOutOfVerticalBounds(viewportHeight)) {
-                shouldRemove = true;
-            }
-            
-            if (shouldRemove) {
-                bullets.removeIndex(i);
-                bulletPool.free(b);
+            bulletBounds.set(x[i], y[i], w[i], h[i]);
+            if (level.overlapsAnyPlatform(bulletBounds)) {
+                bullets.remove(i);
             }
         }
     }
     
     /**
-     * Updates enemy bullet physics and removes out-of-bounds bullets.
+     * Updates enemy bullet physics.
+     * Range, age and out-of-bounds culling is done by ProjectileLifetimeSystem.
      * 
-     * @param enemyBullets Array of active enemy bullets
-     * @param enemyBulletPool Pool to return freed bullets
-     * @param levelWidth Current level width
-     * @param viewportHeight Current viewport height
+     * @param enemyBullets Enemy projectile store
      * @param delta Time delta
      */
-    public void updateEnemyBullets(Array<EnemyBullet> enemyBullets,
-                                   com.badlogic.gdx.utils.Pool<EnemyBullet> enemyBulletPool,
-                                   float levelWidth, float viewportHeight, float delta) {
-        for (int i = enemyBullets.size - 1; i >= 0; i--) {
-            EnemyBullet eb = enemyBullets.get(i);
-            eb.update(delta);
-            
-            if (eb.isOutOfBounds(levelWidth, viewportHeight)) {
-                enemyBullets.removeIndex(i);
-                enemyBulletPool.free(eb);
-            }
-        }
+    public void updateEnemyBullets(ProjectileStore enemyBullets, float delta) {
+        enemyBullets.integrate(delta);
     }
 }
@@ -0,0 +1,102 @@
+package com.labubushooter.frontend.systems;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.labubushooter.frontend.objects.ProjectileStore;
+
+/**
+ * Removes projectiles that have outlived their usefulness.
+ *
+ * A projectile is culled when any of the following holds:
+ * - it is older than its max age (per weapon / bullet type)
+ * - it has traveled farther than its max range from the spawn point
+ * - it has left the level bounds (plus a small margin)
+ * - it is far outside the view (plus a generous margin)
+ *
+ * Together with the hard cap enforced by ProjectileStore this keeps the number
+ * of live projectiles, and therefore the per-frame projectile cost, bounded.
+ *
+ * SOLID Principles Applied:
+ * - Single Responsibility: Only decides when projectiles expire
+ * - Open/Closed: Lifetime limits are data on each projectile, not code here
+ *
+ * Design Pattern: System Pattern (ECS-inspired)
+ */
+public class ProjectileLifetimeSystem {
+
+    /** Margin around the level before a projectile is considered gone */
+    public static final float LEVEL_MARGIN = 50f;
+
+    /** Margin around the view; projectiles beyond it can no longer matter */
+    public static final float CAMERA_MARGIN = 300f;
+
+    // ==================== SINGLETON INSTANCE ====================
+    private static ProjectileLifetimeSystem instance;
+
+    private ProjectileLifetimeSystem() {
+        // Private constructor for singleton
+    }
+
+    /**
+     * Gets the singleton instance of ProjectileLifetimeSystem.
+     *
+     * @return The ProjectileLifetimeSystem instance
+     */
+    public static ProjectileLifetimeSystem getInstance() {
+        if (instance == null) {
+            instance = new ProjectileLifetimeSystem();
+        }
+        return instance;
+    }
+
+    // ==================== CULLING ====================
+
+    /**
+     * Culls expired projectiles from the store.
+     *
+     * @param projectiles Projectile store to cull
+     * @param levelWidth Current level width
+     * @param levelHeight Playable height (viewport world height)
+     * @param view Simulation view in world units (see GameWorld#getSimulationView),
+     *             or null to skip view culling
+     * @return Number of projectiles removed
+     */
+    public int update(ProjectileStore projectiles, float levelWidth, float levelHeight,
+                      Rectangle view) {
+        // Cull region: level bounds, narrowed to the view when available
+        float minX = -LEVEL_MARGIN;
+        float maxX = levelWidth + LEVEL_MARGIN;
+        float minY = -LEVEL_MARGIN;
+        float maxY = levelHeight + LEVEL_MARGIN;
+        if (view != null) {
+            minX = Math.max(minX, view.x - CAMERA_MARGIN);
+            maxX = Math.min(maxX, view.x + view.width + CAMERA_MARGIN);
+            minY = Math.max(minY, view.y - CAMERA_MARGIN);
+            maxY = Math.min(maxY, view.y + view.height + CAMERA_MARGIN);
+        }
+
+        final float[] x = projectiles.x, y = projectiles.y, age = projectiles.age;
+        final float[] originX = projectiles.originX, originY = projectiles.originY;
+        final float[] maxAge = projectiles.maxAge, maxRange = projectiles.maxRange;
+
+        int removed = 0;
+        for (int i = projectiles.size() - 1; i >= 0; i--) {
+            boolean expired = x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY;
+
+            if (!expired && maxAge[i] > 0f && age[i] > maxAge[i]) {
+                expired = true;
+            }
+
+            if (!expired && maxRange[i] > 0f) {
+                float dx = x[i] - originX[i];
+                float dy = y[i] - originY[i];
+                expired = dx * dx + dy * dy > maxRange[i] * maxRange[i];
+            }
+
+            if (expired) {
+                projectiles.remove(i);
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,172 @@
+package com.labubushooter.frontend.systems;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash used as a collision broadphase.
+ *
+ * Entities are inserted by integer id (usually their index in an Array) and
+ * bucketed into every cell their AABB touches. A query returns each id whose
+ * cells are shared with the query rectangle exactly once, so the narrowphase
+ * only tests entities that are actually nearby.
+ *
+ * The grid is meant to be cleared and rebuilt every frame. Cell buckets are
+ * recycled between frames so a rebuild does not allocate once warmed up.
+ */
+public class SpatialHashGrid {
+
+    private final float invCellSize;
+    private final LongMap<IntArray> cells;
+    private final Array<IntArray> usedBuckets = new Array<>(false, 64);
+    private final Array<IntArray> freeBuckets = new Array<>(false, 64);
+
+    // Per-id stamp used to de-duplicate ids that span several cells
+    private int[] stamps = new int[64];
+    private int queryStamp = 0;
+
+    /**
+     * @param cellSize Width/height of a single cell in world units. Should be
+     *                 roughly the size of the larger entities being queried.
+     */
+    public SpatialHashGrid(float cellSize) {
+        this(cellSize, 0, 0);
+    }
+
+    /**
+     * Creates a grid whose storage is sized up front, so filling it up to the
+     * expected load never allocates, not even on the first frames.
+     *
+     * @param cellSize Width/height of a single cell in world units
+     * @param expectedCells Occupied cells to prepare buckets for
+     * @param expectedIds Largest id count to prepare de-duplication stamps for
+     */
+    public SpatialHashGrid(float cellSize, int expectedCells, int expectedIds) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.invCellSize = 1f / cellSize;
+        this.cells = new LongMap<>(Math.max(expectedCells, 32));
+        for (int i = 0; i < expectedCells; i++) {
+            freeBuckets.add(new IntArray(8));
+        }
+        ensureStampCapacity(expectedIds);
+    }
+
+    /**
+     * Removes every entry while keeping the bucket storage for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < usedBuckets.size; i++) {
+            IntArray bucket = usedBuckets.get(i);
+            bucket.clear();
+            freeBuckets.add(bucket);
+        }
+        usedBuckets.clear();
+        cells.clear();
+    }
+
+    /**
+     * Inserts an id into every cell overlapped by the given bounds.
+     *
+     * @param id Non-negative entity id
+     * @param bounds Entity AABB
+     */
+    public void insert(int id, Rectangle bounds) {
+        insert(id, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Inserts an id into every cell overlapped by the given AABB.
+     *
+     * @param id Non-negative entity id
+     * @param x Left edge
+     * @param y Bottom edge
+     * @param width AABB width
+     * @param height AABB height
+     */
+    public void insert(int id, float x, float y, float width, float height) {
+        ensureStampCapacity(id + 1);
+        int minX = cellCoord(x);
+        int minY = cellCoord(y);
+        int maxX = cellCoord(x + width);
+        int maxY = cellCoord(y + height);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                bucketFor(key(cx, cy)).add(id);
+            }
+        }
+    }
+
+    /**
+     * Collects the ids sharing at least one cell with the given bounds.
+     * Candidates still need an exact overlap test.
+     *
+     * @param bounds Query AABB
+     * @param out Receives candidate ids (cleared first)
+     * @return Number of candidates found
+     */
+    public int query(Rectangle bounds, IntArray out) {
+        out.clear();
+        if (++queryStamp == 0) {
+            // Stamp counter wrapped: reset so stale stamps cannot collide
+            Arrays.fill(stamps, 0);
+            queryStamp = 1;
+        }
+
+        int minX = cellCoord(bounds.x);
+        int minY = cellCoord(bounds.y);
+        int maxX = cellCoord(bounds.x + bounds.width);
+        int maxY = cellCoord(bounds.y + bounds.height);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                IntArray bucket = cells.get(key(cx, cy));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.size; i++) {
+                    int id = bucket.items[i];
+                    if (stamps[id] != queryStamp) {
+                        stamps[id] = queryStamp;
+                        out.add(id);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    // ==================== INTERNALS ====================
+
+    private int cellCoord(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private IntArray bucketFor(long key) {
+        IntArray bucket = cells.get(key);
+        if (bucket == null) {
+            bucket = freeBuckets.size > 0 ? freeBuckets.pop() : new IntArray(8);
+            cells.put(key, bucket);
+            usedBuckets.add(bucket);
+        }
+        return bucket;
+    }
+
+    private void ensureStampCapacity(int size) {
+        if (size > stamps.length) {
+            int[] grown = new int[Math.max(size, stamps.length * 2)];
+            System.arraycopy(stamps, 0, grown, 0, stamps.length);
+            stamps = grown;
+        }
+    }
+}
@@ -2,12 +2,13 @@ package com.labubushooter.frontend.systems.spawner;
 
 import java.util.Random;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.TimeUtils;
+import com.labubushooter.frontend.core.GameClock;
 import com.labubushooter.frontend.objects.CommonEnemy;
 import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.services.GameLog;
+import com.labubushooter.frontend.services.LogEvent;
 
 /**
  * Abstract base class for enemy spawners.
@@ -44,7 +45,7 @@ public abstract class BaseEnemySpawner implements IEnemySpawner {
     
     public BaseEnemySpawner() {
         this.random = new Random();
-        this.lastSpawnTime = TimeUtils.nanoTime();
+        this.lastSpawnTime = GameClock.nanoTime();
         this.nextSpawnDelay = calculateNextSpawnDelay();
     }
     
@@ -60,7 +61,7 @@ public abstract class BaseEnemySpawner implements IEnemySpawner {
             CommonEnemy enemy = enemyPool.obtain();
             enemy.init(spawnX, player, level);
             activeEnemies.add(enemy);
-            Gdx.app.log("EnemySpawner", "Initial spawn at X: " + spawnX);
+            GameLog.debug(LogEvent.SPAWNER_INITIAL_SPAWN, spawnX);
         }
     }
     
@@ -72,7 +73,7 @@ public abstract class BaseEnemySpawner implements IEnemySpawner {
         if (activeEnemies.size >= getMaxEnemies()) return false;
         
         // Check spawn timing
-        long currentTime = TimeUtils.nanoTime();
+        long currentTime = GameClock.nanoTime();
         if (currentTime - lastSpawnTime < nextSpawnDelay) return false;
         
         // Calculate spawn position
@@ -91,18 +92,22 @@ public abstract class BaseEnemySpawner implements IEnemySpawner {
         lastSpawnTime = currentTime;
         nextSpawnDelay = calculateNextSpawnDelay();
         
-        Gdx.app.log("EnemySpawner", "Spawned at X: " + spawnX + 
-                   " | Active: " + activeEnemies.size + "/" + getMaxEnemies());
+        GameLog.debug(LogEvent.SPAWNER_SPAWN, spawnX, activeEnemies.size, getMaxEnemies());
         
         return true;
     }
     
     @Override
     public void resetSpawnTimer() {
-        lastSpawnTime = TimeUtils.nanoTime();
+        lastSpawnTime = GameClock.nanoTime();
         nextSpawnDelay = calculateNextSpawnDelay();
     }
     
+    @Override
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+    
     // ==================== SPAWN POSITION CALCULATION ====================
     
     /**
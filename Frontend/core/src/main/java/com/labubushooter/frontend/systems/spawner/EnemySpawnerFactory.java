@@ -70,6 +70,20 @@ public class EnemySpawnerFactory {
         return spawner;
     }
     
+    /**
+     * Largest number of enemies any level keeps active at once.
+     * Used to size the enemy pool before gameplay starts.
+     *
+     * @return Maximum of getMaxEnemies() over all registered spawners
+     */
+    public int getLargestEnemyCap() {
+        int largest = 0;
+        for (IEnemySpawner spawner : spawnerCache.values()) {
+            largest = Math.max(largest, spawner.getMaxEnemies());
+        }
+        return largest;
+    }
+    
     /**
      * Reset all spawner timers.
      * Called when restarting game or changing levels.
@@ -92,6 +106,18 @@ public class EnemySpawnerFactory {
         }
     }
     
+    /**
+     * Reseed every spawner from one session seed.
+     * Each level gets its own derived seed so spawners stay independent.
+     * 
+     * @param seed Session seed (see replay.ReplaySession)
+     */
+    public void reseedAllSpawners(long seed) {
+        for (Map.Entry<Integer, IEnemySpawner> entry : spawnerCache.entrySet()) {
+            entry.getValue().setSeed(seed * 31L + entry.getKey());
+        }
+    }
+    
     /**
      * Check if a level has active enemy spawning.
      * 
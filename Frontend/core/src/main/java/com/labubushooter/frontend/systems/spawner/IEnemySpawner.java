@@ -89,4 +89,12 @@ public interface IEnemySpawner {
      * Reset spawn timer. Called when loading new level.
      */
     void resetSpawnTimer();
+    
+    /**
+     * Reseed the spawner's random source.
+     * Called when a recording or replay starts so spawn choices repeat.
+     * 
+     * @param seed New random seed
+     */
+    void setSeed(long seed);
 }
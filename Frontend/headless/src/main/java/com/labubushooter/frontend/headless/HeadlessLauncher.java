@@ -0,0 +1,99 @@
+package com.labubushooter.frontend.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.labubushooter.frontend.core.FixedTimestep;
+
+/**
+ * Command-line entry point for the headless simulation benchmark.
+ *
+ * Usage:
+ * <pre>
+ * HeadlessLauncher [--levels N] [--minutes M] [--hz HZ] [--seed S]
+ *                  [--input bot|walk|idle] [--verbose]
+ * HeadlessLauncher --record FILE [--minutes M] [--hz HZ] [--seed S] [--input ...]
+ * HeadlessLauncher --replay FILE
+ * </pre>
+ * Runs levels 1..N for M simulated minutes each, as fast as possible, and
+ * reports simulated ticks per second. No window or GL context is created.
+ * {@code --record} plays a single campaign of up to M minutes into a replay
+ * file; {@code --replay} plays one back and checks it stays in sync.
+ */
+public class HeadlessLauncher {
+
+    public static void main(String[] args) {
+        SimulationBenchmark.Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Never call render(); the benchmark runs its own loop in create()
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationBenchmark(options), configuration);
+    }
+
+    private static SimulationBenchmark.Options parse(String[] args) {
+        SimulationBenchmark.Options options = new SimulationBenchmark.Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--levels":
+                    options.levels = Integer.parseInt(value(args, ++i, arg));
+                    if (options.levels < 1 || options.levels > 5) {
+                        throw new IllegalArgumentException("--levels must be between 1 and 5");
+                    }
+                    break;
+                case "--minutes":
+                    options.minutes = Float.parseFloat(value(args, ++i, arg));
+                    break;
+                case "--hz":
+                    options.stepHz = Integer.parseInt(value(args, ++i, arg));
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(value(args, ++i, arg));
+                    break;
+                case "--input":
+                    options.input = value(args, ++i, arg);
+                    break;
+                case "--record":
+                    options.record = value(args, ++i, arg);
+                    break;
+                case "--replay":
+                    options.replay = value(args, ++i, arg);
+                    break;
+                case "--verbose":
+                    options.verbose = true;
+                    break;
+                case "--help":
+                    printUsage();
+                    System.exit(0);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static String value(String[] args, int i, String name) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + name);
+        }
+        return args[i];
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: HeadlessLauncher [--levels N] [--minutes M] [--hz HZ] [--seed S]"
+            + " [--input bot|walk|idle] [--verbose]");
+        System.err.println("       HeadlessLauncher --record FILE [--minutes M] [--hz HZ] [--seed S] [--input ...]");
+        System.err.println("       HeadlessLauncher --replay FILE");
+        System.err.println("  defaults: --levels 5 --minutes 1 --hz " + FixedTimestep.DEFAULT_STEP_HZ
+            + " --seed 1 --input bot");
+    }
+}
@@ -0,0 +1,264 @@
+package com.labubushooter.frontend.headless;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.viewport.ExtendViewport;
+import com.labubushooter.frontend.animation.PlayerAnimationStrategy;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.core.GameClock;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.InputSource;
+import com.labubushooter.frontend.objects.Coin;
+import com.labubushooter.frontend.objects.CommonEnemy;
+import com.labubushooter.frontend.objects.Player;
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.patterns.coins.LinePattern;
+import com.labubushooter.frontend.patterns.levels.Level1Strategy;
+import com.labubushooter.frontend.patterns.levels.Level2Strategy;
+import com.labubushooter.frontend.patterns.levels.Level3Strategy;
+import com.labubushooter.frontend.patterns.levels.Level4Strategy;
+import com.labubushooter.frontend.patterns.levels.Level5Strategy;
+import com.labubushooter.frontend.patterns.weapons.Mac10Strategy;
+import com.labubushooter.frontend.patterns.weapons.PistolStrategy;
+import com.labubushooter.frontend.patterns.weapons.UnarmedStrategy;
+import com.labubushooter.frontend.systems.GameWorld;
+import com.labubushooter.frontend.systems.LevelLoader;
+import com.labubushooter.frontend.systems.spawner.EnemySpawnerFactory;
+
+/**
+ * GameWorld wired up without a window, renderer or asset files.
+ *
+ * Builds a GameContext with the same pools, strategies and entities as Main,
+ * but every texture is a shared 1x1 stub and there is no SpriteBatch or font.
+ * The simulation is advanced one fixed step at a time by {@link #step()}.
+ *
+ * Must run on a libGDX application thread (e.g. inside HeadlessApplication)
+ * so Gdx.app and the native Pixmap/Matrix4 code are available.
+ */
+public class HeadlessSimulation {
+
+    private static final int MAX_PLAYER_PROJECTILES = 256;
+    private static final int MAX_ENEMY_PROJECTILES = 512;
+
+    private final GameContext context;
+    private final LevelLoader levelLoader;
+    private final float stepSeconds;
+
+    private long ticks = 0;
+    private int playerDeaths = 0;
+    private int levelExits = 0;
+
+    // Campaign mode: exits advance to the next level and nothing is revived
+    private boolean campaign = false;
+    private boolean victory = false;
+
+    /**
+     * @param input Input source driving the player
+     * @param stepHz Simulation steps per second
+     * @param seed Seed for GameContext.random, MathUtils.random and the enemy spawners
+     */
+    public HeadlessSimulation(InputSource input, int stepHz, long seed) {
+        StubGL.install();
+        GameClock.reset();
+        MathUtils.random.setSeed(seed);
+        EnemySpawnerFactory.getInstance().reseedAllSpawners(seed);
+
+        this.stepSeconds = 1f / stepHz;
+        this.context = createContext(input, stepHz, seed);
+        this.levelLoader = new LevelLoader(context);
+    }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Loads a level and resets the player.
+     *
+     * @param level Level number (1-5)
+     */
+    public void loadLevel(int level) {
+        context.clearGameObjects();
+        context.resetPlayer();
+        levelLoader.loadLevel(level);
+    }
+
+    /**
+     * Loads a level keeping the player's state, as reaching an exit does.
+     * Used as the level loader for ReplaySession.
+     *
+     * @param level Level number (1-5)
+     */
+    public void enterLevel(int level) {
+        levelLoader.loadLevel(level);
+    }
+
+    /**
+     * Switches between benchmark and campaign rules.
+     *
+     * Benchmark (default): dead players are revived and finished levels
+     * restarted, so a run can last any number of simulated minutes.
+     * Campaign: the same rules as GamePlayScreen, needed for recordings and
+     * replays. Exits load the next level; a dead player stays dead and the
+     * final exit ends the run (see {@link #isOver()}).
+     */
+    public void setCampaign(boolean campaign) {
+        this.campaign = campaign;
+    }
+
+    /**
+     * Advances the world by one fixed step.
+     */
+    public void step() {
+        context.gameWorld.update(stepSeconds);
+        ticks++;
+
+        if (campaign) {
+            if (context.gameWorld.isAtLevelExit()) {
+                levelExits++;
+                if (context.gameWorld.isFinalLevel()) {
+                    victory = true;
+                } else {
+                    levelLoader.loadLevel(context.currentLevel + 1);
+                }
+            }
+            return;
+        }
+
+        if (context.player.isDead()) {
+            playerDeaths++;
+            context.player.reset();
+        }
+        if (context.gameWorld.isAtLevelExit()) {
+            levelExits++;
+            levelLoader.loadLevel(context.currentLevel);
+        }
+    }
+
+    /**
+     * @return In campaign mode, true once the player died or finished the game
+     */
+    public boolean isOver() {
+        return victory || context.player.isDead();
+    }
+
+    public boolean isVictory() {
+        return victory;
+    }
+
+    // ==================== ACCESSORS ====================
+
+    public GameContext getContext() {
+        return context;
+    }
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /** Steps simulated since creation */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getPlayerDeaths() {
+        return playerDeaths;
+    }
+
+    public int getLevelExits() {
+        return levelExits;
+    }
+
+    // ==================== SETUP ====================
+
+    private GameContext createContext(InputSource input, int stepHz, long seed) {
+        GameContext ctx = new GameContext();
+
+        TextureRegion stub = createStubRegion();
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, GameContext.VIEWPORT_WIDTH, GameContext.VIEWPORT_HEIGHT);
+        ctx.camera = camera;
+        ctx.viewport = new ExtendViewport(GameContext.VIEWPORT_WIDTH, GameContext.VIEWPORT_HEIGHT, camera);
+        ctx.viewport.setWorldSize(GameContext.VIEWPORT_WIDTH, GameContext.VIEWPORT_HEIGHT);
+
+        // Textures (only sizes matter; nothing is drawn)
+        ctx.playerTex = stub;
+        ctx.platformTex = stub;
+        ctx.groundTex = stub;
+        ctx.bulletTex = stub;
+        ctx.exitTex = stub;
+        ctx.debugTex = stub;
+        ctx.enemyTex = stub;
+        ctx.bossTex = stub;
+        ctx.miniBossWalkFrame1Tex = stub;
+        ctx.miniBossWalkFrame2Tex = stub;
+        ctx.miniBossCrouchTex = stub;
+        ctx.miniBossDashPrepTex = stub;
+        ctx.miniBossDashTex = stub;
+        ctx.enemyBulletTex = stub;
+        ctx.coinTex = stub;
+        ctx.ammo9mmTex = stub;
+        ctx.ammo45CalTex = stub;
+        ctx.healthPotionTex = stub;
+
+        // Projectiles
+        ctx.playerProjectiles = new ProjectileStore(MAX_PLAYER_PROJECTILES, MAX_PLAYER_PROJECTILES);
+        ctx.enemyProjectiles = new ProjectileStore(MAX_ENEMY_PROJECTILES, MAX_ENEMY_PROJECTILES);
+
+        // Pools
+        ctx.enemyPool = new Pool<CommonEnemy>() {
+            @Override
+            protected CommonEnemy newObject() {
+                return new CommonEnemy(stub, stub);
+            }
+        };
+        ctx.activeEnemies = new Array<>();
+        ctx.coinPool = new Pool<Coin>() {
+            @Override
+            protected Coin newObject() {
+                return new Coin();
+            }
+        };
+        ctx.activeCoins = new Array<>();
+
+        // Patterns & strategies
+        ctx.coinPattern = new LinePattern();
+        ctx.pistolStrategy = new PistolStrategy(stub);
+        ctx.mac10Strategy = new Mac10Strategy(stub);
+        ctx.unarmedStrategy = new UnarmedStrategy();
+        ctx.levelStrategies = new HashMap<>();
+        ctx.levelStrategies.put(1, new Level1Strategy());
+        ctx.levelStrategies.put(2, new Level2Strategy());
+        ctx.levelStrategies.put(3, new Level3Strategy());
+        ctx.levelStrategies.put(4, new Level4Strategy());
+        ctx.levelStrategies.put(5, new Level5Strategy());
+
+        // Player
+        Player player = new Player(stub);
+        player.setAnimationStrategy(new PlayerAnimationStrategy(stub, stub, stub, stub));
+        player.setWeapon(ctx.pistolStrategy);
+        ctx.player = player;
+        ctx.platforms = new Array<>();
+        ctx.grounds = new Array<>();
+
+        ctx.random = new Random(seed);
+        ctx.inputSource = input;
+        ctx.simulationClock = new FixedTimestep(stepHz, FixedTimestep.DEFAULT_MAX_SUB_STEPS);
+        ctx.gameWorld = new GameWorld(ctx);
+        return ctx;
+    }
+
+    private static TextureRegion createStubRegion() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return new TextureRegion(texture);
+    }
+}
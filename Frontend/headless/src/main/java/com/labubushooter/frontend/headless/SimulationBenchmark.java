@@ -0,0 +1,209 @@
+package com.labubushooter.frontend.headless;
+
+import java.io.File;
+import java.util.Locale;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.BotInputSource;
+import com.labubushooter.frontend.input.InputFrame;
+import com.labubushooter.frontend.input.InputSource;
+import com.labubushooter.frontend.input.ScriptedInputSource;
+import com.labubushooter.frontend.replay.ReplayHeader;
+import com.labubushooter.frontend.replay.ReplayPlayer;
+import com.labubushooter.frontend.replay.ReplayRecorder;
+import com.labubushooter.frontend.replay.ReplaySession;
+
+/**
+ * Runs the simulation for a fixed amount of simulated time per level and
+ * prints simulated ticks per second, then exits the application.
+ *
+ * With {@code --record} it instead plays one campaign (level 1 onwards, until
+ * death, victory or the time limit) and saves it as a replay; with
+ * {@code --replay} it plays a recorded session back and reports whether the
+ * world stayed in sync with the recording.
+ */
+public class SimulationBenchmark extends ApplicationAdapter {
+
+    /** Command-line options */
+    public static class Options {
+        public int levels = 5;
+        public float minutes = 1f;
+        public int stepHz = FixedTimestep.DEFAULT_STEP_HZ;
+        public long seed = 1L;
+        public String input = "bot";
+        public boolean verbose = false;
+        /** Replay file to write, or null */
+        public String record;
+        /** Replay file to play back, or null */
+        public String replay;
+    }
+
+    private final Options options;
+
+    public SimulationBenchmark(Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        Gdx.app.setLogLevel(options.verbose ? Application.LOG_DEBUG : Application.LOG_NONE);
+        try {
+            run();
+        } finally {
+            Gdx.app.exit();
+        }
+    }
+
+    private void run() {
+        if (options.replay != null) {
+            runReplay();
+        } else if (options.record != null) {
+            runRecording();
+        } else {
+            runBenchmark();
+        }
+    }
+
+    private void runBenchmark() {
+        // The bot needs the context, so the simulation is built before the input is attached
+        HeadlessSimulation simulation = new HeadlessSimulation(null, options.stepHz, options.seed);
+        simulation.getContext().inputSource = createInput(simulation);
+
+        long ticksPerLevel = (long) Math.ceil(options.minutes * 60f * options.stepHz);
+        System.out.printf(Locale.ROOT, "Simulating levels 1-%d, %.2f min each at %d Hz (%d ticks/level), input=%s, seed=%d%n",
+            options.levels, options.minutes, options.stepHz, ticksPerLevel, options.input, options.seed);
+
+        long totalTicks = 0;
+        long totalNanos = 0;
+        for (int level = 1; level <= options.levels; level++) {
+            simulation.loadLevel(level);
+            int deathsBefore = simulation.getPlayerDeaths();
+            int exitsBefore = simulation.getLevelExits();
+
+            long start = System.nanoTime();
+            for (long t = 0; t < ticksPerLevel; t++) {
+                simulation.step();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            totalTicks += ticksPerLevel;
+            totalNanos += elapsed;
+            System.out.printf(Locale.ROOT,
+                "level %d: %,d ticks in %.1f ms = %,.0f ticks/s (%.0fx real time) | deaths %d, exits %d%n",
+                level, ticksPerLevel, elapsed / 1e6, ticksPerSecond(ticksPerLevel, elapsed),
+                ticksPerSecond(ticksPerLevel, elapsed) / options.stepHz,
+                simulation.getPlayerDeaths() - deathsBefore, simulation.getLevelExits() - exitsBefore);
+        }
+
+        System.out.printf(Locale.ROOT, "total: %,d ticks in %.1f ms = %,.0f ticks/s%n",
+            totalTicks, totalNanos / 1e6, ticksPerSecond(totalTicks, totalNanos));
+    }
+
+    private void runRecording() {
+        HeadlessSimulation simulation = new HeadlessSimulation(null, options.stepHz, options.seed);
+        GameContext context = simulation.getContext();
+        simulation.setCampaign(true);
+
+        FileHandle file = file(options.record);
+        ReplayHeader header = ReplaySession.captureHeader(context, 1, options.seed);
+        ReplayRecorder recorder = new ReplayRecorder(createInput(simulation), context, file, header);
+        context.replayRecorder = recorder;
+        context.inputSource = recorder;
+        ReplaySession.start(context, header, simulation::enterLevel);
+
+        long maxTicks = (long) Math.ceil(options.minutes * 60f * options.stepHz);
+        System.out.printf(Locale.ROOT, "Recording up to %.2f min at %d Hz, input=%s, seed=%d%n",
+            options.minutes, options.stepHz, options.input, options.seed);
+
+        long start = System.nanoTime();
+        while (simulation.getTicks() < maxTicks && !simulation.isOver()) {
+            simulation.step();
+        }
+        long elapsed = System.nanoTime() - start;
+        recorder.close();
+
+        long ticks = recorder.getTicks();
+        long bytes = file.length();
+        double minutes = ticks / (60.0 * options.stepHz);
+        System.out.printf(Locale.ROOT, "recorded %,d ticks (%.2f min, reached level %d, %s) in %.1f ms%n",
+            ticks, minutes, context.currentLevel,
+            simulation.isVictory() ? "victory" : context.player.isDead() ? "died" : "time limit",
+            elapsed / 1e6);
+        System.out.printf(Locale.ROOT, "%s: %,d bytes = %.2f bytes/tick, ~%,.0f bytes per 30 min%n",
+            file.path(), bytes, (double) bytes / Math.max(1, ticks),
+            minutes > 0 ? bytes / minutes * 30 : 0);
+    }
+
+    private void runReplay() {
+        ReplayPlayer replay = new ReplayPlayer(file(options.replay));
+        ReplayHeader header = replay.getHeader();
+        HeadlessSimulation simulation = new HeadlessSimulation(replay, header.stepHz, header.seed);
+        GameContext context = simulation.getContext();
+        simulation.setCampaign(true);
+        replay.attach(context);
+        ReplaySession.start(context, header, simulation::enterLevel);
+
+        ReplayPlayer.Listener listener = new ReplayPlayer.Listener() {
+            @Override
+            public void onLevelLoad(int level) {
+                simulation.enterLevel(level);
+            }
+
+            @Override
+            public void onDebugKill() {
+                context.gameWorld.debugKillBosses();
+            }
+        };
+
+        System.out.println("Replaying " + options.replay + ": " + header);
+        long start = System.nanoTime();
+        while (true) {
+            replay.processEvents(listener);
+            if (replay.isFinished() || simulation.isVictory()) {
+                break;
+            }
+            simulation.step();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf(Locale.ROOT, "%s | %.1f ms = %,.0f ticks/s | level %d, player %s%n",
+            replay.describeResult(), elapsed / 1e6, ticksPerSecond(replay.getTicks(), elapsed),
+            context.currentLevel, context.player.isDead() ? "dead" : "alive");
+        if (replay.getChecksumMismatches() > 0) {
+            System.err.println("Replay desynchronized at tick " + replay.getFirstDesyncTick());
+        }
+    }
+
+    private static FileHandle file(String path) {
+        return Gdx.files.absolute(new File(path).getAbsolutePath());
+    }
+
+    private InputSource createInput(HeadlessSimulation simulation) {
+        switch (options.input) {
+            case "bot":
+                return new BotInputSource(simulation.getContext(), options.seed);
+            case "walk": {
+                // Run right while shooting ahead, jumping every second
+                InputFrame run = new InputFrame();
+                run.moveRight = true;
+                run.fireHeld = true;
+                run.firePressed = true;
+                run.jump = true;
+                return new ScriptedInputSource(true).add(run, options.stepHz);
+            }
+            case "idle":
+                return new ScriptedInputSource(false);
+            default:
+                throw new IllegalArgumentException("Unknown input: " + options.input);
+        }
+    }
+
+    private static double ticksPerSecond(long ticks, long nanos) {
+        return nanos > 0 ? ticks * 1e9 / nanos : 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.labubushooter.frontend.headless;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * No-op OpenGL stub for the headless backend.
+ *
+ * The headless backend leaves Gdx.gl unset, but entities create Textures
+ * (e.g. BossEnemy health bar pixels) while the simulation never draws.
+ * Every GL call becomes a no-op returning zero, false or null, so textures
+ * can be constructed with valid sizes and no GPU.
+ */
+final class StubGL {
+
+    private StubGL() {
+    }
+
+    /**
+     * Installs the stub as Gdx.gl / Gdx.gl20 if no GL is present.
+     */
+    static void install() {
+        if (Gdx.gl != null) {
+            return;
+        }
+        InvocationHandler handler = (proxy, method, args) -> {
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) return false;
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            if (type == float.class) return 0f;
+            if (type == double.class) return 0d;
+            if (type == String.class) return "";
+            return null;
+        };
+        GL20 gl = (GL20) Proxy.newProxyInstance(
+            GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, handler);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+}
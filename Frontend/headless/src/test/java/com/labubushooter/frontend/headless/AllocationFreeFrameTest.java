@@ -0,0 +1,125 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.input.BotInputSource;
+import com.labubushooter.frontend.systems.GameWorld;
+
+/**
+ * Steady-state gameplay frames must not allocate.
+ *
+ * Each level is played by the bot twice with the same seed. The first pass
+ * loads every class and fills every pool the session needs; the second pass
+ * measures the bytes the test thread allocates per frame (interpolation
+ * capture, one simulation step, render interpolation) and must see none.
+ * Frames in which the player died or a level was (re)loaded are skipped,
+ * since those rebuild the level on purpose.
+ *
+ * Runs at the default INFO log level, so a log call that builds a string in
+ * the game loop fails the test as well. The Gradle test task keeps the JVM
+ * on C1 (see headless/build.gradle): C2 deoptimization can put bytes on the
+ * counter that no game code allocated.
+ */
+public class AllocationFreeFrameTest {
+
+    private static final long SEED = 7L;
+    private static final int STEP_HZ = FixedTimestep.DEFAULT_STEP_HZ;
+    private static final int FRAMES_PER_LEVEL = 2 * 60 * STEP_HZ; // 2 simulated minutes
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeClass
+    public static void startHeadless() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("Thread allocation counters unavailable",
+            bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+    }
+
+    @Test
+    public void level1FramesDoNotAllocate() {
+        assertNoFrameAllocations(1);
+    }
+
+    @Test
+    public void level2FramesDoNotAllocate() {
+        assertNoFrameAllocations(2);
+    }
+
+    @Test
+    public void level3FramesDoNotAllocate() {
+        assertNoFrameAllocations(3);
+    }
+
+    @Test
+    public void level4FramesDoNotAllocate() {
+        assertNoFrameAllocations(4);
+    }
+
+    @Test
+    public void level5FramesDoNotAllocate() {
+        assertNoFrameAllocations(5);
+    }
+
+    private void assertNoFrameAllocations(int level) {
+        play(level, false);
+        long[] result = play(level, true);
+        assertEquals("Bytes allocated during steady-state frames on level " + level
+            + " (first allocating frame: " + result[1] + ")", 0L, result[0]);
+    }
+
+    /**
+     * Plays one level with the bot.
+     *
+     * @param measure Whether to count allocated bytes
+     * @return {bytes allocated in counted frames, first allocating frame or -1}
+     */
+    private long[] play(int level, boolean measure) {
+        HeadlessSimulation simulation = new HeadlessSimulation(null, STEP_HZ, SEED);
+        simulation.getContext().inputSource = new BotInputSource(simulation.getContext(), SEED);
+        simulation.loadLevel(level);
+        GameWorld world = simulation.getContext().gameWorld;
+
+        long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        long firstAllocatingFrame = -1;
+        for (int frame = 0; frame < FRAMES_PER_LEVEL; frame++) {
+            int deaths = simulation.getPlayerDeaths();
+            int exits = simulation.getLevelExits();
+
+            long before = measure ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+            world.captureInterpolationState();
+            simulation.step();
+            world.applyInterpolation(0.5f);
+            world.restoreInterpolation();
+            long bytes = measure ? threadBean.getThreadAllocatedBytes(threadId) - before : 0;
+
+            boolean reloaded = simulation.getPlayerDeaths() != deaths
+                || simulation.getLevelExits() != exits;
+            if (bytes > 0 && !reloaded) {
+                allocated += bytes;
+                if (firstAllocatingFrame < 0) {
+                    firstAllocatingFrame = frame;
+                }
+            }
+        }
+        return new long[] { allocated, firstAllocatingFrame };
+    }
+}
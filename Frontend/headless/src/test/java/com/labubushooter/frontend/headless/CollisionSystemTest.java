@@ -0,0 +1,113 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.objects.CommonEnemy;
+import com.labubushooter.frontend.objects.FinalBoss;
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.systems.CollisionSystem;
+
+/**
+ * Player bullets against targets through the SpatialHashGrid broadphase.
+ *
+ * Collider positions are chosen to straddle broadphase cell edges (cells are
+ * 96 units wide), so both bullets and targets are bucketed into several cells.
+ */
+public class CollisionSystemTest {
+
+    private static final float CELL = 96f;
+
+    @BeforeClass
+    public static void startHeadless() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+    }
+
+    private static FinalBoss spawnBoss() {
+        HeadlessSimulation simulation = new HeadlessSimulation(null, FixedTimestep.DEFAULT_STEP_HZ, 7L);
+        simulation.loadLevel(5);
+        FinalBoss boss = simulation.getContext().boss;
+        assertNotNull(boss);
+        // 48x80 collider over cells (2..3, 2..3)
+        boss.collider.setPosition(3 * CELL - 20f, 3 * CELL - 40f);
+        return boss;
+    }
+
+    private static CommonEnemy spawnEnemy(float x, float y) {
+        CommonEnemy enemy = new CommonEnemy(new TextureRegion(), new TextureRegion());
+        enemy.init(x, null, 4);
+        enemy.collider.setPosition(x, y);
+        return enemy;
+    }
+
+    private static void spawnBullet(ProjectileStore bullets, float x, float y, float damage) {
+        bullets.spawnPlayerBullet(x, y, 1f, 0f, 0f, damage, null, 0f, 0f);
+    }
+
+    @Test
+    public void overlappingBulletsBothHitBossInOneFrame() {
+        FinalBoss boss = spawnBoss();
+        float health = boss.health;
+        ProjectileStore bullets = new ProjectileStore(8, 256);
+        // Same spot, straddling the cell edge the boss collider also crosses
+        spawnBullet(bullets, 3 * CELL - 4f, 3 * CELL - 2f, 3f);
+        spawnBullet(bullets, 3 * CELL - 4f, 3 * CELL - 2f, 4f);
+        // Misses the boss
+        spawnBullet(bullets, 10 * CELL, 3 * CELL, 5f);
+
+        CollisionSystem.getInstance().checkBulletTargetCollisions(null, null, boss, bullets);
+
+        assertEquals(health - 7f, boss.health, 0f);
+        assertEquals(1, bullets.size());
+        assertEquals(5f, bullets.damage[0], 0f);
+    }
+
+    @Test
+    public void multiCellEnemyTakesEachBulletOnce() {
+        // 60x90 collider over cells (0..1, 0..1)
+        CommonEnemy enemy = spawnEnemy(CELL - 30f, CELL - 45f);
+        float health = enemy.health;
+        Array<CommonEnemy> enemies = new Array<>();
+        enemies.add(enemy);
+        ProjectileStore bullets = new ProjectileStore(8, 256);
+        // In all four of the enemy's cells at once
+        spawnBullet(bullets, CELL - 4f, CELL - 2f, 3f);
+
+        CollisionSystem.getInstance().checkBulletTargetCollisions(enemies, null, null, bullets);
+
+        assertEquals(health - 3f, enemy.health, 0f);
+        assertEquals(0, bullets.size());
+    }
+
+    @Test
+    public void bulletIsConsumedByOneTargetOnly() {
+        FinalBoss boss = spawnBoss();
+        float bossHealth = boss.health;
+        // Overlaps the boss collider across the same cell edges
+        CommonEnemy enemy = spawnEnemy(3 * CELL - 30f, 3 * CELL - 45f);
+        float enemyHealth = enemy.health;
+        Array<CommonEnemy> enemies = new Array<>();
+        enemies.add(enemy);
+        ProjectileStore bullets = new ProjectileStore(8, 256);
+        spawnBullet(bullets, 3 * CELL - 4f, 3 * CELL - 2f, 3f);
+
+        CollisionSystem.getInstance().checkBulletTargetCollisions(enemies, null, boss, bullets);
+
+        // Enemies are resolved before the bosses
+        assertEquals(enemyHealth - 3f, enemy.health, 0f);
+        assertEquals(bossHealth, boss.health, 0f);
+        assertEquals(0, bullets.size());
+    }
+}
@@ -0,0 +1,163 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.labubushooter.frontend.core.LevelGeometryIndex;
+import com.labubushooter.frontend.objects.Ground;
+import com.labubushooter.frontend.objects.Platform;
+
+/**
+ * LevelGeometryIndex must answer exactly like the linear scans it replaced,
+ * including their level order.
+ *
+ * Layouts and queries are random but snapped to a 16 unit grid, so edges
+ * regularly touch, platforms tie in height and spans land on column borders.
+ */
+public class LevelGeometryIndexTest {
+
+    private static final int LAYOUTS = 50;
+    private static final int QUERIES = 400;
+    private static final float LEVEL_WIDTH = 3000f;
+
+    private final Random random = new Random(7);
+
+    private float snapped(float max) {
+        return 16f * random.nextInt((int) (max / 16f) + 1);
+    }
+
+    private Array<Platform> randomPlatforms() {
+        Array<Platform> platforms = new Array<>();
+        for (int n = random.nextInt(40); n > 0; n--) {
+            // Mostly short ledges, sometimes wider than several columns
+            float width = random.nextInt(5) == 0 ? snapped(900f) + 16f : snapped(200f) + 16f;
+            platforms.add(new Platform(snapped(LEVEL_WIDTH), snapped(600f), width, 16f, null));
+        }
+        return platforms;
+    }
+
+    private Array<Ground> randomGrounds() {
+        Array<Ground> grounds = new Array<>();
+        float x = snapped(200f);
+        while (x < LEVEL_WIDTH) {
+            float width = snapped(800f) + 16f;
+            grounds.add(new Ground(x, 0f, width, 50f + snapped(50f), null));
+            // Leave pits between segments now and then
+            x += width + (random.nextBoolean() ? 0f : snapped(200f));
+        }
+        return grounds;
+    }
+
+    /** Query ranges also reach past both level ends */
+    private Rectangle randomBox() {
+        return new Rectangle(snapped(LEVEL_WIDTH + 800f) - 400f, snapped(700f) - 50f,
+            snapped(300f), snapped(200f));
+    }
+
+    @Test
+    public void aabbQueriesMatchLinearScan() {
+        Array<Platform> platformHits = new Array<>();
+        Array<Ground> groundHits = new Array<>();
+        for (int layout = 0; layout < LAYOUTS; layout++) {
+            Array<Platform> platforms = randomPlatforms();
+            Array<Ground> grounds = randomGrounds();
+            LevelGeometryIndex index = LevelGeometryIndex.build(platforms, grounds);
+            for (int q = 0; q < QUERIES; q++) {
+                Rectangle box = randomBox();
+
+                Array<Platform> expectedPlatforms = new Array<>();
+                for (Platform p : platforms) {
+                    if (box.overlaps(p.bounds)) {
+                        expectedPlatforms.add(p);
+                    }
+                }
+                Array<Ground> expectedGrounds = new Array<>();
+                for (Ground g : grounds) {
+                    if (box.overlaps(g.bounds)) {
+                        expectedGrounds.add(g);
+                    }
+                }
+
+                assertEquals(expectedPlatforms.size, index.platformsOverlapping(box, platformHits));
+                assertEquals(expectedPlatforms, platformHits);
+                assertEquals(expectedGrounds.size, index.groundsOverlapping(box, groundHits));
+                assertEquals(expectedGrounds, groundHits);
+                assertEquals(expectedPlatforms.size > 0, index.overlapsAnyPlatform(box));
+            }
+        }
+    }
+
+    @Test
+    public void xRangeQueryMatchesLinearScan() {
+        Array<Platform> hits = new Array<>();
+        for (int layout = 0; layout < LAYOUTS; layout++) {
+            Array<Platform> platforms = randomPlatforms();
+            LevelGeometryIndex index = LevelGeometryIndex.build(platforms, randomGrounds());
+            for (int q = 0; q < QUERIES; q++) {
+                float minX = snapped(LEVEL_WIDTH + 800f) - 400f;
+                float maxX = minX + snapped(400f);
+
+                Array<Platform> expected = new Array<>();
+                for (Platform p : platforms) {
+                    if (p.bounds.x <= maxX && p.bounds.x + p.bounds.width >= minX) {
+                        expected.add(p);
+                    }
+                }
+
+                assertEquals(expected.size, index.platformsInXRange(minX, maxX, hits));
+                assertEquals(expected, hits);
+            }
+        }
+    }
+
+    @Test
+    public void nearestPlatformAboveMatchesLinearScan() {
+        for (int layout = 0; layout < LAYOUTS; layout++) {
+            Array<Platform> platforms = randomPlatforms();
+            LevelGeometryIndex index = LevelGeometryIndex.build(platforms, randomGrounds());
+            for (int q = 0; q < QUERIES; q++) {
+                float x = snapped(LEVEL_WIDTH + 800f) - 400f;
+                float y = snapped(600f);
+                float maxDy = snapped(300f) + 16f;
+                float xMargin = snapped(64f);
+
+                // First lowest match in level order, as the old scan kept it
+                Platform expected = null;
+                for (Platform p : platforms) {
+                    float gap = p.bounds.y - y;
+                    if (gap > 0f && gap < maxDy
+                            && x > p.bounds.x - xMargin && x < p.bounds.x + p.bounds.width + xMargin
+                            && (expected == null || p.bounds.y < expected.bounds.y)) {
+                        expected = p;
+                    }
+                }
+
+                assertSame(expected, index.nearestPlatformAbove(x, y, maxDy, xMargin));
+            }
+        }
+    }
+
+    @Test
+    public void emptyLevelFindsNothing() {
+        Rectangle box = new Rectangle(-100f, -100f, 5000f, 5000f);
+        Array<Platform> platformHits = new Array<>();
+        Array<Ground> groundHits = new Array<>();
+        for (LevelGeometryIndex index : new LevelGeometryIndex[] {
+                LevelGeometryIndex.EMPTY,
+                LevelGeometryIndex.build(new Array<Platform>(), new Array<Ground>()) }) {
+            assertEquals(0, index.platformsOverlapping(box, platformHits));
+            assertEquals(0, index.groundsOverlapping(box, groundHits));
+            assertEquals(0, index.platformsInXRange(-100f, 5000f, platformHits));
+            assertFalse(index.overlapsAnyPlatform(box));
+            assertNull(index.nearestPlatformAbove(0f, 0f, 1000f, 100f));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.labubushooter.frontend.objects.ProjectileStore;
+import com.labubushooter.frontend.systems.ProjectileLifetimeSystem;
+
+/**
+ * Per-weapon lifetime culling and the global projectile cap.
+ *
+ * Each projectile carries its spawn number in the damage column, so a test
+ * can tell exactly which projectiles are still alive.
+ */
+public class ProjectileLifetimeSystemTest {
+
+    private static final float STEP = 1f / 60f;
+
+    // Same limits as PistolStrategy and Mac10Strategy
+    private static final float PISTOL_RANGE = 1200f;
+    private static final float PISTOL_LIFETIME = 2.0f;
+    private static final float MAC10_RANGE = 900f;
+    private static final float MAC10_LIFETIME = 1.5f;
+
+    // Same caps as Main and HeadlessSimulation
+    private static final int MAX_PLAYER_PROJECTILES = 256;
+    private static final int MAX_ENEMY_PROJECTILES = 512;
+
+    // Large enough that level bounds never cull anything here
+    private static final float LEVEL_SIZE = 100000f;
+
+    private static int spawn(ProjectileStore store, int id, float speed, float range, float lifetime) {
+        return store.spawnPlayerBullet(LEVEL_SIZE / 2, LEVEL_SIZE / 2, 1f, 0f, speed, id, null,
+            range, lifetime);
+    }
+
+    private static TreeSet<Integer> liveIds(ProjectileStore store) {
+        TreeSet<Integer> ids = new TreeSet<>();
+        for (int i = 0; i < store.size(); i++) {
+            assertTrue(ids.add((int) store.damage[i]));
+        }
+        return ids;
+    }
+
+    private static void run(ProjectileStore store, float seconds) {
+        ProjectileLifetimeSystem lifetime = ProjectileLifetimeSystem.getInstance();
+        for (int n = Math.round(seconds / STEP); n > 0; n--) {
+            store.integrate(STEP);
+            lifetime.update(store, LEVEL_SIZE, LEVEL_SIZE, null);
+        }
+    }
+
+    @Test
+    public void cullsByEachWeaponsAgeAndRange() {
+        ProjectileStore store = new ProjectileStore(8, MAX_PLAYER_PROJECTILES);
+        // Slow bullets can only expire by age, fast ones reach their range first
+        spawn(store, 0, 10f, PISTOL_RANGE, PISTOL_LIFETIME);
+        spawn(store, 1, 10f, MAC10_RANGE, MAC10_LIFETIME);
+        spawn(store, 2, 1000f, PISTOL_RANGE, PISTOL_LIFETIME);
+        spawn(store, 3, 1000f, MAC10_RANGE, MAC10_LIFETIME);
+
+        run(store, 0.85f);
+        assertEquals(ids(0, 1, 2, 3), liveIds(store));
+        // 950 units travelled, past the Mac10 range but not the pistol's
+        run(store, 0.1f);
+        assertEquals(ids(0, 1, 2), liveIds(store));
+        // 1250 units travelled
+        run(store, 0.3f);
+        assertEquals(ids(0, 1), liveIds(store));
+        // Age 1.6 s
+        run(store, 0.35f);
+        assertEquals(ids(0), liveIds(store));
+        // Age 2.1 s
+        run(store, 0.5f);
+        assertEquals(ids(), liveIds(store));
+    }
+
+    @Test
+    public void capEvictsEarliestSpawnAndReusesStorage() {
+        ProjectileStore store = new ProjectileStore(16, MAX_PLAYER_PROJECTILES);
+        int next = 0;
+        while (store.size() < MAX_PLAYER_PROJECTILES) {
+            spawn(store, next++, 0f, MAC10_RANGE, MAC10_LIFETIME);
+        }
+        float[] xs = store.x;
+        assertEquals(MAX_PLAYER_PROJECTILES, xs.length);
+
+        // Free the two oldest and a few in the middle, then refill without evicting
+        for (int id : new int[] { 0, 1, 100, 101, 200 }) {
+            for (int i = 0; i < store.size(); i++) {
+                if (store.damage[i] == id) {
+                    store.remove(i);
+                    break;
+                }
+            }
+        }
+        for (int n = 0; n < 5; n++) {
+            spawn(store, next++, 0f, MAC10_RANGE, MAC10_LIFETIME);
+        }
+        assertEquals(0, store.getEvictedCount());
+
+        // Every further shot evicts the earliest spawn still alive
+        TreeSet<Integer> expected = liveIds(store);
+        for (int n = 0; n < 3 * MAX_PLAYER_PROJECTILES; n++) {
+            spawn(store, next, 0f, MAC10_RANGE, MAC10_LIFETIME);
+            expected.pollFirst();
+            expected.add(next++);
+            assertEquals(expected, liveIds(store));
+            assertEquals(MAX_PLAYER_PROJECTILES, store.size());
+        }
+        assertEquals(3 * MAX_PLAYER_PROJECTILES, store.getEvictedCount());
+        assertSame("evicted rows are reused, the store never grows", xs, store.x);
+    }
+
+    @Test
+    public void capEvictionMatchesSpawnOrderUnderChurn() {
+        ProjectileStore store = new ProjectileStore(64, MAX_ENEMY_PROJECTILES);
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int id = 0; id < 20 * MAX_ENEMY_PROJECTILES; id++) {
+            if (store.size() == MAX_ENEMY_PROJECTILES) {
+                expected.pollFirst();
+            }
+            store.spawn(ProjectileStore.TYPE_ENEMY, 0f, 0f, 0f, 0f, 1f, 1f, id, null, 0f, 0f);
+            expected.add(id);
+            // Cull a random projectile now and then, like expiry or a hit would
+            if (random.nextInt(3) == 0) {
+                int i = random.nextInt(store.size());
+                expected.remove((int) store.damage[i]);
+                store.remove(i);
+            }
+            assertEquals(expected, liveIds(store));
+        }
+        assertTrue(store.getEvictedCount() > 0);
+        assertEquals(MAX_ENEMY_PROJECTILES, store.x.length);
+    }
+
+    private static TreeSet<Integer> ids(int... values) {
+        TreeSet<Integer> ids = new TreeSet<>();
+        for (int v : values) {
+            ids.add(v);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,111 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.labubushooter.frontend.objects.ProjectileStore;
+
+/**
+ * ProjectileStore keeps one projectile per row across parallel columns.
+ * Swap-remove and growth copy every column by hand, so these tests give each
+ * projectile a distinct value in every column and check that the columns
+ * still agree row by row afterwards.
+ */
+public class ProjectileStoreTest {
+
+    private static final int COUNT = 40;
+
+    private final TextureRegion[] textures = new TextureRegion[COUNT];
+
+    private ProjectileStore spawnAll(int initialCapacity) {
+        ProjectileStore store = new ProjectileStore(initialCapacity, 1024);
+        for (int id = 0; id < COUNT; id++) {
+            textures[id] = new TextureRegion();
+            int i = store.spawn(id, id, id + 0.25f, id + 1f, id + 2f, id + 3f, id + 4f, id + 5f,
+                textures[id], id + 6f, id + 7f);
+            store.setLifetime(i, id + 8f, id + 9f);
+            store.age[i] = id + 10f;
+        }
+        return store;
+    }
+
+    /** Checks every live row is intact and returns the ids present */
+    private Set<Integer> assertRowsAligned(ProjectileStore store) {
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < store.size(); i++) {
+            int id = store.type[i];
+            assertTrue("duplicate row for id " + id, ids.add(id));
+            assertEquals(id, store.x[i], 0f);
+            assertEquals(id + 0.25f, store.y[i], 0f);
+            assertEquals(id, store.prevX[i], 0f);
+            assertEquals(id + 0.25f, store.prevY[i], 0f);
+            assertEquals(id, store.originX[i], 0f);
+            assertEquals(id + 0.25f, store.originY[i], 0f);
+            assertEquals(id + 1f, store.vx[i], 0f);
+            assertEquals(id + 2f, store.vy[i], 0f);
+            assertEquals(id + 3f, store.w[i], 0f);
+            assertEquals(id + 4f, store.h[i], 0f);
+            assertEquals(id + 5f, store.damage[i], 0f);
+            assertEquals(id + 6f, store.rotation[i], 0f);
+            assertEquals(id + 7f, store.spin[i], 0f);
+            assertEquals(id + 8f, store.maxAge[i], 0f);
+            assertEquals(id + 9f, store.maxRange[i], 0f);
+            assertEquals(id + 10f, store.age[i], 0f);
+            assertSame(textures[id], store.texture[i]);
+        }
+        return ids;
+    }
+
+    @Test
+    public void growingKeepsColumnsAligned() {
+        ProjectileStore store = spawnAll(2);
+        assertEquals(COUNT, store.size());
+        assertEquals(COUNT, assertRowsAligned(store).size());
+    }
+
+    @Test
+    public void removingFromTheMiddleKeepsColumnsAligned() {
+        ProjectileStore store = spawnAll(2);
+        Set<Integer> removed = new HashSet<>();
+        for (int n = 0; n < 10; n++) {
+            int i = store.size() / 2;
+            removed.add(store.type[i]);
+            store.remove(i);
+        }
+        // Last row too, which takes the no-swap path
+        removed.add(store.type[store.size() - 1]);
+        store.remove(store.size() - 1);
+
+        Set<Integer> ids = assertRowsAligned(store);
+        assertEquals(COUNT - removed.size(), ids.size());
+        for (int id : removed) {
+            assertFalse(ids.contains(id));
+        }
+        // Freed rows do not keep textures reachable
+        for (int i = store.size(); i < store.texture.length; i++) {
+            assertNull(store.texture[i]);
+        }
+    }
+
+    @Test
+    public void rotationWrapsInBothDirections() {
+        ProjectileStore store = new ProjectileStore(4, 4);
+        store.spawn(ProjectileStore.TYPE_BOSS, 0, 0, 0, 0, 1, 1, 1, null, 10f, -720f);
+        store.spawn(ProjectileStore.TYPE_BOSS, 0, 0, 0, 0, 1, 1, 1, null, 350f, 720f);
+        for (int step = 0; step < 600; step++) {
+            store.integrate(1f / 60f);
+            for (int i = 0; i < store.size(); i++) {
+                assertTrue("rotation " + store.rotation[i], store.rotation[i] >= 0f && store.rotation[i] < 360f);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.labubushooter.frontend.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.labubushooter.frontend.core.FixedTimestep;
+import com.labubushooter.frontend.core.GameContext;
+import com.labubushooter.frontend.input.BotInputSource;
+import com.labubushooter.frontend.replay.ReplayHeader;
+import com.labubushooter.frontend.replay.ReplayPlayer;
+import com.labubushooter.frontend.replay.ReplayRecorder;
+import com.labubushooter.frontend.replay.ReplaySession;
+import com.labubushooter.frontend.replay.WorldChecksum;
+
+/**
+ * A recorded session must replay to the same world.
+ *
+ * The bot plays a campaign into a replay file; a fresh simulation then plays
+ * the file back. Every checksum the recorder wrote must match, and the world
+ * after the last tick must hash the same on both sides. Bot aim moves in both
+ * directions, so frames exercise the varint and zigzag encodings.
+ */
+public class ReplayRoundTripTest {
+
+    private static final long SEED = 7L;
+    private static final int STEP_HZ = FixedTimestep.DEFAULT_STEP_HZ;
+    private static final int TICKS = 60 * STEP_HZ; // 1 simulated minute
+    // Same as ReplayFormat.CHECKSUM_INTERVAL
+    private static final int CHECKSUM_INTERVAL = 600;
+
+    @BeforeClass
+    public static void startHeadless() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, configuration);
+    }
+
+    @Test
+    public void level1ReplaysInSync() throws IOException {
+        assertRoundTrip(1, -1);
+    }
+
+    @Test
+    public void debugLevelSkipReplaysInSync() throws IOException {
+        // Level load event halfway, into the mini boss level
+        assertRoundTrip(2, 3);
+    }
+
+    @Test
+    public void finalBossReplaysInSync() throws IOException {
+        assertRoundTrip(5, -1);
+    }
+
+    /**
+     * @param level Level the recording starts on
+     * @param skipTo Level loaded through a recorded event halfway, or -1
+     */
+    private void assertRoundTrip(int level, int skipTo) throws IOException {
+        File temp = File.createTempFile("roundtrip", ".lbr");
+        temp.deleteOnExit();
+        FileHandle file = Gdx.files.absolute(temp.getAbsolutePath());
+
+        long[] recorded = record(file, level, skipTo);
+        long[] replayed = replay(file);
+
+        assertEquals("ticks", recorded[0], replayed[0]);
+        assertEquals("recorded tick count", recorded[0], replayed[3]);
+        assertEquals("checksum mismatches (first desync at " + replayed[4] + ")", 0L, replayed[2]);
+        assertEquals("checksums verified", (recorded[0] + CHECKSUM_INTERVAL - 1) / CHECKSUM_INTERVAL, replayed[1]);
+        assertEquals("final world checksum", recorded[1], replayed[5]);
+    }
+
+    /** @return {ticks, final checksum} */
+    private long[] record(FileHandle file, int level, int skipTo) {
+        HeadlessSimulation simulation = new HeadlessSimulation(null, STEP_HZ, SEED);
+        GameContext context = simulation.getContext();
+        simulation.setCampaign(true);
+
+        ReplayHeader header = ReplaySession.captureHeader(context, level, SEED);
+        // Keep the bot alive for the whole minute, boss fight included
+        header.playerHealth = 1000f;
+        ReplayRecorder recorder = new ReplayRecorder(new BotInputSource(context, SEED), context, file, header);
+        context.replayRecorder = recorder;
+        context.inputSource = recorder;
+        ReplaySession.start(context, header, simulation::enterLevel);
+
+        while (simulation.getTicks() < TICKS && !simulation.isOver()) {
+            if (skipTo > 0 && simulation.getTicks() == TICKS / 2) {
+                recorder.recordLevelLoad(skipTo);
+                simulation.enterLevel(skipTo);
+            }
+            simulation.step();
+        }
+        recorder.close();
+        assertTrue("recording too short to compare", recorder.getTicks() > STEP_HZ);
+        return new long[] { recorder.getTicks(), WorldChecksum.compute(context) };
+    }
+
+    /** @return {ticks, checksums verified, mismatches, recorded ticks, first desync, final checksum} */
+    private long[] replay(FileHandle file) {
+        ReplayPlayer replay = new ReplayPlayer(file);
+        ReplayHeader header = replay.getHeader();
+        HeadlessSimulation simulation = new HeadlessSimulation(replay, header.stepHz, header.seed);
+        GameContext context = simulation.getContext();
+        simulation.setCampaign(true);
+        replay.attach(context);
+        ReplaySession.start(context, header, simulation::enterLevel);
+
+        ReplayPlayer.Listener listener = new ReplayPlayer.Listener() {
+            @Override
+            public void onLevelLoad(int level) {
+                simulation.enterLevel(level);
+            }
+
+            @Override
+            public void onDebugKill() {
+                context.gameWorld.debugKillBosses();
+            }
+        };
+        while (true) {
+            replay.processEvents(listener);
+            if (replay.isFinished() || simulation.isVictory()) {
+                break;
+            }
+            simulation.step();
+        }
+        return new long[] { replay.getTicks(), replay.getChecksumsVerified(), replay.getChecksumMismatches(),
+            replay.getRecordedTicks(), replay.getFirstDesyncTick(), WorldChecksum.compute(context) };
+    }
+}
@@ -0,0 +1,89 @@
+package com.labubushooter.frontend.replay;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Varint and zigzag encodings at their byte-length boundaries and extremes.
+ * Lives in the replay package because ReplayFormat is package-private.
+ */
+public class ReplayFormatTest {
+
+    private static final int[] INTS = {
+        0, 1, -1, 63, -64, 64, -65, 127, 128, 8191, -8192, 16383, 16384,
+        (1 << 21) - 1, 1 << 21, (1 << 28) - 1, 1 << 28, Integer.MAX_VALUE, Integer.MIN_VALUE
+    };
+
+    private static final long[] LONGS = {
+        0L, 1L, 127L, 128L, (1L << 35) - 1, 1L << 35, (1L << 56) - 1, 1L << 56,
+        Long.MAX_VALUE, Long.MIN_VALUE, -1L
+    };
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+
+    private DataInputStream input() {
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    public void varIntRoundTrips() throws IOException {
+        for (int value : INTS) {
+            ReplayFormat.writeVarInt(out, value);
+        }
+        DataInputStream in = input();
+        for (int value : INTS) {
+            assertEquals(value, ReplayFormat.readVarInt(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void varLongRoundTrips() throws IOException {
+        for (long value : LONGS) {
+            ReplayFormat.writeVarLong(out, value);
+        }
+        DataInputStream in = input();
+        for (long value : LONGS) {
+            assertEquals(value, ReplayFormat.readVarLong(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void zigZagRoundTrips() throws IOException {
+        for (int value : INTS) {
+            ReplayFormat.writeZigZag(out, value);
+        }
+        DataInputStream in = input();
+        for (int value : INTS) {
+            assertEquals(value, ReplayFormat.readZigZag(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void smallAimDeltasTakeOneByte() throws IOException {
+        for (int delta = -64; delta <= 63; delta++) {
+            bytes.reset();
+            ReplayFormat.writeZigZag(out, delta);
+            assertEquals("delta " + delta, 1, bytes.size());
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void truncatedVarIntFails() throws IOException {
+        ReplayFormat.writeVarInt(out, 1 << 21);
+        byte[] data = bytes.toByteArray();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 1));
+        ReplayFormat.readVarInt(in);
+    }
+}
@@ -2,10 +2,13 @@ package com.labubushooter.frontend.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.labubushooter.frontend.Main;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    private static final String GL30_PROPERTY = "labubu.gl30";
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired())
             return; // This handles macOS support and helps on Windows.
@@ -37,6 +40,20 @@ public class Lwjgl3Launcher {
         //// cause screen tearing.
 
         configuration.setWindowedMode(1066, 600); // 16:9 aspect ratio
+
+        //// The game runs on the default GL 2.0 context and draws everything with
+        //// SpriteBatch. Run with -Dlabubu.gl30=true to request an OpenGL 3.2 core
+        //// context instead, which lets the renderer draw projectiles, coins and
+        //// pickups with instancing (see InstancedSpriteRenderer). Opt-in because
+        //// window creation fails outright on drivers without a 3.2 core profile.
+        if (Boolean.getBoolean(GL30_PROPERTY)) {
+            configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.GL30, 3, 2);
+            // Core profile shaders need a version header; these defines let the
+            // GLSL 1.x shaders of libGDX and the game compile unchanged
+            ShaderProgram.prependVertexCode = "#version 150\n#define varying out\n#define attribute in\n";
+            ShaderProgram.prependFragmentCode = "#version 150\n#define varying in\n#define texture2D texture\n"
+                + "#define gl_FragColor fragColor\nout vec4 fragColor;\n";
+        }
         //// You can change these files; they are in lwjgl3/src/main/resources/ .
         //// They can also be loaded from the root of assets/ .
         // configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png",